@@ -0,0 +1,45 @@
+package com.iws_manager.iws_manager_api.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caffeine-backed cache manager for reference data and other derived,
+ * rarely changing lookups.
+ * <p>
+ * Caches are created up front from {@link CacheNames#ALL_CACHES} so that
+ * Actuator binds hit/miss/eviction metrics ({@code cache.gets},
+ * {@code cache.evictions}) for every one of them at startup. The manager is
+ * transaction-aware: evictions triggered inside a write transaction are
+ * applied only after commit, so a concurrent read cannot re-cache stale rows.
+ * Security caches use their own, shorter specification, commission tier
+ * tables a larger one, and the project count a short-lived one.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${app.cache.reference-data.spec:maximumSize=1000,expireAfterWrite=12h,recordStats}") String spec,
+            @Value("${app.cache.security.spec:maximumSize=1000,expireAfterWrite=10m,recordStats}") String securitySpec,
+            @Value("${app.cache.commission-tiers.spec:maximumSize=50000,expireAfterAccess=12h,recordStats}") String commissionTiersSpec,
+            @Value("${app.cache.project-count.spec:maximumSize=1,expireAfterWrite=30s,recordStats}") String projectCountSpec) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheSpecification(spec);
+        caffeineCacheManager.setCacheNames(CacheNames.ALL_CACHES);
+        for (String cacheName : CacheNames.SECURITY_CACHES) {
+            caffeineCacheManager.registerCustomCache(cacheName, Caffeine.from(securitySpec).build());
+        }
+        caffeineCacheManager.registerCustomCache(CacheNames.COMMISSION_TIERS,
+                Caffeine.from(commissionTiersSpec).build());
+        caffeineCacheManager.registerCustomCache(CacheNames.PROJECT_COUNT, Caffeine.from(projectCountSpec).build());
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -0,0 +1,76 @@
+package com.iws_manager.iws_manager_api.config;
+
+import java.util.List;
+
+/**
+ * Names of the in-process caches.
+ * Reference (master) data caches store the {@code findAll} list under a
+ * fixed key and single entities under their id; any write to the entity
+ * clears the whole cache.
+ */
+public final class CacheNames {
+
+    public static final String ABSENCE_TYPES = "absenceTypes";
+    public static final String APPROVAL_STATUSES = "approvalStatuses";
+    public static final String BRANCHES = "branches";
+    public static final String COMPANY_TYPES = "companyTypes";
+    public static final String CONTRACT_STATUSES = "contractStatuses";
+    public static final String COST_TYPES = "costTypes";
+    public static final String COUNTRIES = "countries";
+    public static final String INVOICE_TYPES = "invoiceTypes";
+    public static final String PAY_CONDITIONS = "payConditions";
+    public static final String PROJECT_STATUSES = "projectStatuses";
+    public static final String REMINDER_LEVELS = "reminderLevels";
+    public static final String SALUTATIONS = "salutations";
+    public static final String STATES = "states";
+    public static final String TITLES = "titles";
+    public static final String VATS = "vats";
+    public static final String VAT_RATES = "vatRates";
+
+    /** Compiled {@code HolidayCalendar}s keyed by {@code year:stateId}. */
+    public static final String HOLIDAY_CALENDARS = "holidayCalendars";
+
+    /**
+     * Sorted employee name lookups ({@code EmployeeNameList}) keyed by
+     * customer id; any employee write clears the whole cache.
+     */
+    public static final String EMPLOYEE_NAMES = "employeeNames";
+
+    /**
+     * Compiled {@code CommissionTierTable}s keyed by {@code order:id} or
+     * {@code contract:id}. Held with {@code app.cache.commission-tiers.spec},
+     * sized for one entry per order.
+     */
+    public static final String COMMISSION_TIERS = "commissionTiers";
+
+    /**
+     * Total project count under {@link #ALL}. Held with
+     * {@code app.cache.project-count.spec}, whose short expiry covers rows
+     * written outside the services.
+     */
+    public static final String PROJECT_COUNT = "projectCount";
+
+    /**
+     * Authentication data keyed by username. Held with the shorter
+     * {@code app.cache.security.spec} so that changes made outside the
+     * services still show up within minutes.
+     */
+    public static final String USER_ACCOUNTS = "userAccounts";
+
+    /** Compiled {@code FunctionRights} of a role keyed by role id. */
+    public static final String ROLE_PERMISSIONS = "rolePermissions";
+
+    /** Cache key used for the ordered {@code findAll} list. */
+    public static final String ALL = "'all'";
+
+    public static final List<String> ALL_CACHES = List.of(
+            ABSENCE_TYPES, APPROVAL_STATUSES, BRANCHES, COMPANY_TYPES, CONTRACT_STATUSES, COST_TYPES,
+            COUNTRIES, INVOICE_TYPES, PAY_CONDITIONS, PROJECT_STATUSES, REMINDER_LEVELS, SALUTATIONS,
+            STATES, TITLES, VATS, VAT_RATES, HOLIDAY_CALENDARS, EMPLOYEE_NAMES);
+
+    public static final List<String> SECURITY_CACHES = List.of(USER_ACCOUNTS, ROLE_PERMISSIONS);
+
+    private CacheNames() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+}
@@ -0,0 +1,28 @@
+package com.iws_manager.iws_manager_api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.iws_manager.iws_manager_api.repositories.EntityVersionRepository;
+import com.iws_manager.iws_manager_api.web.ConditionalGet;
+import com.iws_manager.iws_manager_api.web.ConditionalGetInterceptor;
+
+/**
+ * Registers the interceptor that answers {@link ConditionalGet} endpoints
+ * with {@code 304 Not Modified} when the client's ETag is still current.
+ */
+@Configuration
+public class ConditionalGetConfig implements WebMvcConfigurer {
+
+    private final EntityVersionRepository entityVersionRepository;
+
+    public ConditionalGetConfig(EntityVersionRepository entityVersionRepository) {
+        this.entityVersionRepository = entityVersionRepository;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConditionalGetInterceptor(entityVersionRepository)).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,153 @@
+package com.iws_manager.iws_manager_api.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.iws_manager.iws_manager_api.datasource.ReadOnlyRoutingDataSource;
+import com.iws_manager.iws_manager_api.datasource.RecentWriteTracker;
+import com.iws_manager.iws_manager_api.datasource.ReplicaLagMonitor;
+import com.iws_manager.iws_manager_api.datasource.WriteTrackingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Two HikariCP pools on the {@code spring.datasource.*} connection: one for
+ * read-write transactions and one for {@code @Transactional(readOnly = true)}
+ * ones, so long report and export queries queue for their own connections
+ * and cannot starve logins and CRUD writes.
+ * <p>
+ * The {@link LazyConnectionDataSourceProxy} fetches the physical connection
+ * on the first statement, after the transaction manager has marked it read
+ * only, and takes it from the read-only pool in that case. Both pools start
+ * from {@code app.datasource.hikari.*} and are then customized with
+ * {@code app.datasource.read-write.*} and {@code app.datasource.read-only.*};
+ * their size defaults to {@code cpu-count * 2 + 1}. Being beans, both pools
+ * report {@code hikaricp.*} metrics tagged with their pool name.
+ * <p>
+ * Setting {@code app.datasource.replica.jdbc-url} (plus {@code username} and
+ * {@code password} if they differ) adds a third pool on a read replica.
+ * Read-only transactions then go to the replica while its lag is within
+ * {@code app.datasource.replica-lag.max}, and to the read-only pool on the
+ * primary otherwise. After each committed transaction of this node that ran
+ * DML on the primary they also stay there for
+ * {@code replica-lag.max + replica-lag.check-interval}, so caches evicted by
+ * the write are refilled with data that contains it.
+ * <p>
+ * The lookups behind login and permission checks are short but must never
+ * wait for a connection, so their services are read-write on purpose: they
+ * use the read-write pool, which report queries cannot exhaust, instead of
+ * queueing behind exports on the read-only one.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    static final String SHARED_PREFIX = "app.datasource.hikari";
+    static final String READ_WRITE_PREFIX = "app.datasource.read-write";
+    static final String READ_ONLY_PREFIX = "app.datasource.read-only";
+    static final String REPLICA_PREFIX = "app.datasource.replica";
+    static final String CPU_COUNT_PROPERTY = "app.datasource.cpu-count";
+
+    @Bean
+    public HikariDataSource readWriteDataSource(DataSourceProperties properties, Environment environment) {
+        return pool(properties, environment, READ_WRITE_PREFIX, "iws-rw");
+    }
+
+    @Bean
+    public HikariDataSource readOnlyDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = pool(properties, environment, READ_ONLY_PREFIX, "iws-ro");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = REPLICA_PREFIX + ".jdbc-url")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = pool(properties, environment, REPLICA_PREFIX, "iws-replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = REPLICA_PREFIX + ".jdbc-url")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${app.datasource.replica-lag.query:SHOW SLAVE STATUS}") String lagQuery,
+            @Value("${app.datasource.replica-lag.column:Seconds_Behind_Master}") String lagColumn,
+            @Value("${app.datasource.replica-lag.max:5s}") Duration maxLag,
+            @Value("${app.datasource.replica-lag.check-interval:5s}") Duration checkInterval) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(new JdbcTemplate(replicaDataSource), lagQuery, lagColumn,
+                maxLag, meterRegistry);
+        monitor.start(checkInterval);
+        return monitor;
+    }
+
+    /**
+     * Registered with the transaction manager as a
+     * {@code TransactionExecutionListener} by Spring Boot.
+     */
+    @Bean
+    @ConditionalOnProperty(name = REPLICA_PREFIX + ".jdbc-url")
+    public RecentWriteTracker recentWriteTracker(
+            @Value("${app.datasource.replica-lag.max:5s}") Duration maxLag,
+            @Value("${app.datasource.replica-lag.check-interval:5s}") Duration checkInterval) {
+        return new RecentWriteTracker(maxLag.plus(checkInterval));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("readWriteDataSource") DataSource readWriteDataSource,
+            @Qualifier("readOnlyDataSource") DataSource readOnlyDataSource,
+            @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+            ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+            ObjectProvider<RecentWriteTracker> recentWriteTracker, MeterRegistry meterRegistry) {
+        DataSource replica = replicaDataSource.getIfAvailable();
+        if (replica != null) {
+            RecentWriteTracker tracker = recentWriteTracker.getObject();
+            LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                    new WriteTrackingDataSource(readWriteDataSource, tracker));
+            dataSource.setReadOnlyDataSource(new ReadOnlyRoutingDataSource(replica, readOnlyDataSource,
+                    replicaLagMonitor.getObject(), tracker, meterRegistry));
+            return dataSource;
+        }
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(readWriteDataSource);
+        dataSource.setReadOnlyDataSource(readOnlyDataSource);
+        return dataSource;
+    }
+
+    static HikariDataSource pool(DataSourceProperties properties, Environment environment, String prefix,
+            String poolName) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder binder = Binder.get(environment);
+        int cpuCount = binder.bind(CPU_COUNT_PROPERTY, Integer.class)
+                .orElse(Runtime.getRuntime().availableProcessors());
+        dataSource.setPoolName(poolName);
+        dataSource.setMaximumPoolSize(defaultPoolSize(cpuCount));
+        binder.bind(SHARED_PREFIX, Bindable.ofInstance(dataSource));
+        binder.bind(prefix, Bindable.ofInstance(dataSource));
+        return dataSource;
+    }
+
+    /**
+     * HikariCP's sizing rule of thumb: two connections per core keep the
+     * database busy while others wait on I/O; more only add contention.
+     */
+    static int defaultPoolSize(int cpuCount) {
+        return Math.max(1, cpuCount) * 2 + 1;
+    }
+}
@@ -0,0 +1,24 @@
+package com.iws_manager.iws_manager_api.config;
+
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+import com.iws_manager.iws_manager_api.web.EntityResponse;
+import com.iws_manager.iws_manager_api.web.EntityResponseFetchProfile;
+
+/**
+ * Applies the fetch profile of {@link EntityResponse} handlers to the
+ * entity managers the JPA transaction manager opens. Open-session-in-view
+ * is disabled, so everything a response serializes has to be loaded before
+ * the service transaction commits.
+ */
+@Configuration
+public class EntityResponseConfig {
+
+    @Bean
+    public TransactionManagerCustomizer<JpaTransactionManager> entityResponseFetchProfileCustomizer() {
+        return transactionManager -> transactionManager.setEntityManagerInitializer(new EntityResponseFetchProfile());
+    }
+}
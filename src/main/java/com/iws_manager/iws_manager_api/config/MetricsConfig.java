@@ -0,0 +1,55 @@
+package com.iws_manager.iws_manager_api.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.iws_manager.iws_manager_api.metrics.QueryCountFilter;
+import com.iws_manager.iws_manager_api.metrics.QueryCountingStatementInspector;
+import com.iws_manager.iws_manager_api.metrics.RepositoryRowCountPostProcessor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Application-specific metrics on top of what Actuator binds by itself
+ * (HTTP server requests, repository invocation timers, HikariCP pool,
+ * Hibernate statistics and caches): SQL statements per request with an
+ * N+1 warning, and rows returned per repository method.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public static RepositoryRowCountPostProcessor repositoryRowCountPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RepositoryRowCountPostProcessor(meterRegistry);
+    }
+
+    @Bean
+    public QueryCountingStatementInspector queryCountingStatementInspector() {
+        return new QueryCountingStatementInspector();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingHibernateCustomizer(
+            QueryCountingStatementInspector statementInspector) {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                statementInspector);
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(
+            QueryCountingStatementInspector statementInspector, MeterRegistry meterRegistry,
+            @Value("${app.metrics.query-count.warn-threshold:50}") long warnThreshold) {
+        FilterRegistrationBean<QueryCountFilter> registration = new FilterRegistrationBean<>(
+                new QueryCountFilter(statementInspector, meterRegistry, warnThreshold));
+        // Outside the security filter chain so that queries made during authentication are counted too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
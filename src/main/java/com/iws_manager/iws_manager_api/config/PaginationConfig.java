@@ -0,0 +1,14 @@
+package com.iws_manager.iws_manager_api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.web.config.EnableSpringDataWebSupport;
+
+/**
+ * Serializes {@code Page} responses through Spring Data's stable PagedModel
+ * DTO ({@code content} plus a {@code page} metadata block) instead of the
+ * internal PageImpl structure.
+ */
+@Configuration
+@EnableSpringDataWebSupport(pageSerializationMode = EnableSpringDataWebSupport.PageSerializationMode.VIA_DTO)
+public class PaginationConfig {
+}
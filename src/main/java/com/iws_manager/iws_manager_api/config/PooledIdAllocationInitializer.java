@@ -0,0 +1,100 @@
+package com.iws_manager.iws_manager_api.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.iws_manager.iws_manager_api.models.base.BaseEntity;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Prepares the {@code id_allocation} table used by the opt-in
+ * {@code pooled-ids} profile (see {@code META-INF/orm-pooled-ids.xml}).
+ * <p>
+ * Existing rows were numbered by AUTO_INCREMENT, so before the first insert
+ * the shared counter is raised above the highest id of every entity table
+ * plus one allocation block. The update only ever moves the counter forward,
+ * which keeps it safe to run on every startup and on several nodes.
+ */
+@Component
+@Profile(PooledIdAllocationInitializer.PROFILE)
+public class PooledIdAllocationInitializer {
+
+    public static final String PROFILE = "pooled-ids";
+    static final String TABLE = "id_allocation";
+    static final String SEGMENT = "global";
+    static final int ALLOCATION_SIZE = 50;
+
+    private static final Logger logger = LoggerFactory.getLogger(PooledIdAllocationInitializer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    public PooledIdAllocationInitializer(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this(new JdbcTemplate(dataSource), entityManagerFactory);
+    }
+
+    PooledIdAllocationInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    public void seedIdAllocation() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE
+                + " (segment VARCHAR(255) NOT NULL PRIMARY KEY, next_val BIGINT)");
+
+        long maxId = 0;
+        for (String[] tableAndColumn : entityIdColumns()) {
+            Long tableMax = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(" + quote(tableAndColumn[1]) + "), 0) FROM " + quote(tableAndColumn[0]),
+                    Long.class);
+            maxId = Math.max(maxId, tableMax != null ? tableMax : 0);
+        }
+
+        long floor = maxId + ALLOCATION_SIZE + 1;
+        jdbcTemplate.update("INSERT INTO " + TABLE + " (segment, next_val) VALUES (?, ?) "
+                + "ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val))", SEGMENT, floor);
+        logger.info("Pooled id allocation enabled, ids start above {}", maxId);
+    }
+
+    /**
+     * Quotes a mapped table or column name with backticks. Names that are
+     * already quoted in the mapping, such as {@code `order`}, keep their
+     * single pair.
+     */
+    static String quote(String identifier) {
+        String name = identifier;
+        if (name.length() > 1 && (name.startsWith("`") && name.endsWith("`")
+                || name.startsWith("\"") && name.endsWith("\""))) {
+            name = name.substring(1, name.length() - 1);
+        }
+        return "`" + name + "`";
+    }
+
+    private List<String[]> entityIdColumns() {
+        List<String[]> result = new ArrayList<>();
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel()
+                .forEachEntityDescriptor(persister -> {
+                    if (persister instanceof AbstractEntityPersister entityPersister
+                            && BaseEntity.class.isAssignableFrom(persister.getMappedClass())) {
+                        result.add(new String[] { entityPersister.getTableName(),
+                                entityPersister.getIdentifierColumnNames()[0] });
+                    }
+                });
+        return result;
+    }
+}
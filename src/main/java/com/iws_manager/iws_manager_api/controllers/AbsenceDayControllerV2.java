@@ -171,16 +171,16 @@ public class AbsenceDayControllerV2 {
         return new ResponseEntity<>(countDTOs, HttpStatus.OK);
     }
 
+    /**
+     * Creates absences in bulk and reports the outcome of every row.
+     * Returns 201 when all rows were created and 207 when some were rejected.
+     */
     @PostMapping("/bulk")
-    @ResponseStatus(HttpStatus.CREATED)
-    public ResponseEntity<List<AbsenceDayDetailDTO>> createBulk(
+    public ResponseEntity<AbsenceDayBulkResultDTO> createBulk(
             @Valid @RequestBody List<AbsenceDayRequestDTO> requestDTOs) {
 
-        var createdAbsences = absenceDayService.createBulkFromDTO(requestDTOs);
-        var responseDTOs = createdAbsences.stream()
-                .map(absenceDayMapper::toDetailDTO)
-                .toList();
-
-        return new ResponseEntity<>(responseDTOs, HttpStatus.CREATED);
+        var result = absenceDayService.createBulkFromDTO(requestDTOs);
+        var status = result.failed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return new ResponseEntity<>(result, status);
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.iws_manager.iws_manager_api.controllers;
 
 import com.iws_manager.iws_manager_api.models.BasicContract;
 import com.iws_manager.iws_manager_api.services.interfaces.BasicContractService;
+import com.iws_manager.iws_manager_api.web.EntityResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -24,6 +25,7 @@ import java.time.LocalDate;
 import org.springframework.web.bind.annotation.RequestParam;
 
 
+@EntityResponse
 @RestController
 @RequestMapping("/api/v1/basiccontracts")
 public class BasicContractController {
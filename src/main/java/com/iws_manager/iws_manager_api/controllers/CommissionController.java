@@ -0,0 +1,63 @@
+package com.iws_manager.iws_manager_api.controllers;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.iws_manager.iws_manager_api.dtos.commission.CommissionResultDTO;
+import com.iws_manager.iws_manager_api.dtos.commission.CommissionTierTable;
+import com.iws_manager.iws_manager_api.services.interfaces.CommissionEngineService;
+
+/**
+ * Server-side commission calculation over the order and basic contract
+ * commission tiers.
+ */
+@RestController
+@RequestMapping("/api/v1/commissions")
+public class CommissionController {
+
+    private final CommissionEngineService commissionEngineService;
+
+    @Autowired
+    public CommissionController(CommissionEngineService commissionEngineService) {
+        this.commissionEngineService = commissionEngineService;
+    }
+
+    @GetMapping("/orders/{orderId}")
+    public ResponseEntity<CommissionResultDTO> calculateForOrder(@PathVariable Long orderId) {
+        return ResponseEntity.ok(commissionEngineService.calculateForOrder(orderId));
+    }
+
+    @GetMapping("/orders/{orderId}/tiers")
+    public ResponseEntity<List<CommissionTierTable.Tier>> getOrderTiers(@PathVariable Long orderId) {
+        return ResponseEntity.ok(commissionEngineService.getOrderTiers(orderId).getTiers());
+    }
+
+    /**
+     * Calculates the commissions of all given orders in one call.
+     */
+    @PostMapping("/orders/calculate")
+    public ResponseEntity<List<CommissionResultDTO>> calculateForOrders(@RequestBody List<Long> orderIds) {
+        return ResponseEntity.ok(commissionEngineService.calculateForOrders(orderIds));
+    }
+
+    @GetMapping("/basic-contracts/{basicContractId}")
+    public ResponseEntity<CommissionResultDTO> calculateForBasicContract(@PathVariable Long basicContractId,
+            @RequestParam BigDecimal orderValue) {
+        return ResponseEntity.ok(commissionEngineService.calculateForBasicContract(basicContractId, orderValue));
+    }
+
+    @GetMapping("/basic-contracts/{basicContractId}/tiers")
+    public ResponseEntity<List<CommissionTierTable.Tier>> getBasicContractTiers(@PathVariable Long basicContractId) {
+        return ResponseEntity.ok(commissionEngineService.getBasicContractTiers(basicContractId).getTiers());
+    }
+}
@@ -2,6 +2,7 @@ package com.iws_manager.iws_manager_api.controllers;
 
 import com.iws_manager.iws_manager_api.models.ContractOrderCommission;
 import com.iws_manager.iws_manager_api.services.interfaces.ContractOrderCommissionService;
+import com.iws_manager.iws_manager_api.web.EntityResponse;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -25,6 +26,7 @@ import org.springframework.web.bind.annotation.RestController;
  * REST controller for managing ContractOrderCommission entities.
  * Provides endpoints for CRUD operations and various query operations.
  */
+@EntityResponse
 @RestController
 @RequestMapping("/api/v1/contract-order-commissions")
 public class ContractOrderCommissionController {
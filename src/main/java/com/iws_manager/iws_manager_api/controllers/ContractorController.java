@@ -2,6 +2,7 @@ package com.iws_manager.iws_manager_api.controllers;
 
 import com.iws_manager.iws_manager_api.models.Contractor;
 import com.iws_manager.iws_manager_api.services.interfaces.ContractorService;
+import com.iws_manager.iws_manager_api.web.EntityResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +20,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+@EntityResponse
 @RestController
 @RequestMapping("/api/v1/contractors")
 public class ContractorController {
@@ -4,6 +4,7 @@ import com.iws_manager.iws_manager_api.models.Customer;
 import com.iws_manager.iws_manager_api.models.ContactPerson;
 
 import com.iws_manager.iws_manager_api.services.interfaces.CustomerService;
+import com.iws_manager.iws_manager_api.web.EntityResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +23,7 @@ import java.util.Optional;
  * @RestController Indicates that this class handles HTTP requests and returns JSON responses
  * @RequestMapping Base path for all endpoints in this controller
  */
+@EntityResponse
 @RestController
 @RequestMapping("/api/v1/customers")
 public class CustomerController {
@@ -5,6 +5,7 @@ import java.time.LocalDate;
 
 import com.iws_manager.iws_manager_api.models.Debt;
 import com.iws_manager.iws_manager_api.services.interfaces.DebtService;
+import com.iws_manager.iws_manager_api.web.EntityResponse;
 
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,6 +27,7 @@ import java.util.Map;
 
 import org.springframework.format.annotation.DateTimeFormat;
 
+@EntityResponse
 @RestController
 @RequestMapping("/api/v1/debts")
 public class DebtController {
@@ -2,12 +2,14 @@ package com.iws_manager.iws_manager_api.controllers;
 
 import com.iws_manager.iws_manager_api.models.Employee;
 import com.iws_manager.iws_manager_api.services.interfaces.EmployeeService;
+import com.iws_manager.iws_manager_api.web.EntityResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+@EntityResponse
 @RestController
 @RequestMapping("/api/v1/employees")
 public class EmployeeController {
@@ -2,6 +2,7 @@ package com.iws_manager.iws_manager_api.controllers;
 
 import com.iws_manager.iws_manager_api.models.EmployeeIws;
 import com.iws_manager.iws_manager_api.services.interfaces.EmployeeIwsService;
+import com.iws_manager.iws_manager_api.web.EntityResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.*;
 import java.time.LocalDate;
 import java.util.List;
 
+@EntityResponse
 @RestController
 @RequestMapping("/api/v1/employeesiws")
 public class EmployeeIwsController {
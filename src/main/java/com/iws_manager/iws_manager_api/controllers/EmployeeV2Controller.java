@@ -1,8 +1,16 @@
 package com.iws_manager.iws_manager_api.controllers;
 
 import com.iws_manager.iws_manager_api.dtos.employee.*;
+import com.iws_manager.iws_manager_api.models.Customer;
+import com.iws_manager.iws_manager_api.models.Employee;
+import com.iws_manager.iws_manager_api.models.EmployeeCategory;
+import com.iws_manager.iws_manager_api.models.QualificationFZ;
+import com.iws_manager.iws_manager_api.models.Salutation;
+import com.iws_manager.iws_manager_api.models.Title;
 import com.iws_manager.iws_manager_api.services.interfaces.EmployeeServiceV2;
+import com.iws_manager.iws_manager_api.web.ConditionalGet;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -34,6 +42,8 @@ public class EmployeeV2Controller {
     }
 
     @GetMapping("/{id}")
+    @ConditionalGet(value = { Employee.class, Customer.class, QualificationFZ.class, Salutation.class, Title.class,
+            EmployeeCategory.class }, idVariable = "id")
     public ResponseEntity<EmployeeDetailDTO> findById(@PathVariable Long id) {
         return employeeService.findById(id)
                 .map(ResponseEntity::ok)
@@ -41,6 +51,7 @@ public class EmployeeV2Controller {
     }
 
     @GetMapping
+    @ConditionalGet({ Employee.class, Customer.class, QualificationFZ.class, EmployeeCategory.class })
     public ResponseEntity<List<EmployeeDTO>> findAll() {
         return ResponseEntity.ok(employeeService.findAll());
     }
@@ -115,9 +126,22 @@ public class EmployeeV2Controller {
         }
     }
 
+    /**
+     * Served from the name cache with an ETag; Spring answers a matching
+     * {@code If-None-Match} with 304 and no body.
+     */
     @GetMapping("/customer/{customerId}/sort-by-fullname")
     public ResponseEntity<List<EmployeeNameDTO>> getEmployeesByCustomerSortedByFullname(@PathVariable Long customerId) {
-        List<EmployeeNameDTO> employees = employeeService.getEmployeesByCustomerSortedByName(customerId);
+        EmployeeNameList employees = employeeService.getEmployeeNameListByCustomer(customerId);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(employees.eTag())
+                .body(employees.employees());
+    }
+
+    @GetMapping("/project/{projectId}/sort-by-fullname")
+    public ResponseEntity<List<EmployeeNameDTO>> getEmployeesByProjectSortedByFullname(@PathVariable Long projectId) {
+        List<EmployeeNameDTO> employees = employeeService.getEmployeesByProjectSortedByName(projectId);
         return ResponseEntity.ok(employees);
     }
 }
\ No newline at end of file
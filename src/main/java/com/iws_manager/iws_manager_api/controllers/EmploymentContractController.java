@@ -2,6 +2,7 @@ package com.iws_manager.iws_manager_api.controllers;
 
 import com.iws_manager.iws_manager_api.models.EmploymentContract;
 import com.iws_manager.iws_manager_api.services.interfaces.EmploymentContractService;
+import com.iws_manager.iws_manager_api.web.EntityResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +21,7 @@ import java.util.Map;
  * @RestController Indicates that this class handles HTTP requests and returns JSON responses
  * @RequestMapping Base path for all endpoints in this controller
  */
+@EntityResponse
 @RestController
 @RequestMapping("/api/v1/employment-contracts")
 public class EmploymentContractController {
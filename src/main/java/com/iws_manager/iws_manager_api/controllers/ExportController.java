@@ -0,0 +1,109 @@
+package com.iws_manager.iws_manager_api.controllers;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.iws_manager.iws_manager_api.dtos.debt.DebtExportCriteria;
+import com.iws_manager.iws_manager_api.dtos.invoice.InvoiceSearchCriteria;
+import com.iws_manager.iws_manager_api.export.ExportFormat;
+import com.iws_manager.iws_manager_api.services.interfaces.ExportService;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Streaming CSV/XLSX exports of invoices, debts, orders and project costs,
+ * e.g. {@code /api/v1/invoices/export?format=xlsx&customerId=5}.
+ * <p>
+ * Filters are the same as those of the corresponding list and search
+ * endpoints; {@code format} defaults to CSV. Rows are written to the
+ * response as they are read, so the response has no content length.
+ */
+@RestController
+public class ExportController {
+
+    private static final String INVOICES_EXPORT = "/api/v1/invoices/export";
+    private static final String DEBTS_EXPORT = "/api/v1/debts/export";
+    private static final String ORDERS_EXPORT = "/api/v1/orders/export";
+    private static final String PROJECT_COSTS_EXPORT = "/api/v1/project-costs/export";
+
+    private final ExportService exportService;
+
+    @Autowired
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @GetMapping(INVOICES_EXPORT)
+    public void exportInvoices(@ModelAttribute InvoiceSearchCriteria criteria,
+            @RequestParam(required = false) String format, HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = prepare(response, format, "invoices");
+        try {
+            exportService.exportInvoices(criteria, exportFormat, response.getOutputStream());
+        } catch (IllegalArgumentException e) {
+            throw resetFor(response, e);
+        }
+    }
+
+    @GetMapping(DEBTS_EXPORT)
+    public void exportDebts(@ModelAttribute DebtExportCriteria criteria,
+            @RequestParam(required = false) String format, HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = prepare(response, format, "debts");
+        try {
+            exportService.exportDebts(criteria, exportFormat, response.getOutputStream());
+        } catch (IllegalArgumentException e) {
+            throw resetFor(response, e);
+        }
+    }
+
+    @GetMapping(ORDERS_EXPORT)
+    public void exportOrders(@RequestParam(required = false) Long customerId,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) String format, HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = prepare(response, format, "orders");
+        try {
+            exportService.exportOrders(customerId, projectId, exportFormat, response.getOutputStream());
+        } catch (IllegalArgumentException e) {
+            throw resetFor(response, e);
+        }
+    }
+
+    @GetMapping(PROJECT_COSTS_EXPORT)
+    public void exportProjectCosts(@RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long projectPeriodId,
+            @RequestParam(required = false) Byte approveOrPlan,
+            @RequestParam(required = false) String format, HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = prepare(response, format, "project-costs");
+        try {
+            exportService.exportProjectCosts(projectId, projectPeriodId, approveOrPlan, exportFormat,
+                    response.getOutputStream());
+        } catch (IllegalArgumentException e) {
+            throw resetFor(response, e);
+        }
+    }
+
+    private static ExportFormat prepare(HttpServletResponse response, String format, String baseName) {
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        response.setContentType(exportFormat.contentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(exportFormat.fileName(baseName)).build().toString());
+        return exportFormat;
+    }
+
+    /**
+     * Validation fails before the first byte is written; dropping the export
+     * headers lets the exception handler answer with its usual JSON body.
+     */
+    private static IllegalArgumentException resetFor(HttpServletResponse response, IllegalArgumentException e) {
+        if (!response.isCommitted()) {
+            response.reset();
+        }
+        return e;
+    }
+}
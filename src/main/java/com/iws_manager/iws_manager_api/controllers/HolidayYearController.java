@@ -4,6 +4,7 @@ import java.time.LocalDate;
 
 import com.iws_manager.iws_manager_api.models.HolidayYear;
 import com.iws_manager.iws_manager_api.services.interfaces.HolidayYearService;
+import com.iws_manager.iws_manager_api.web.EntityResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -22,6 +23,7 @@ import java.util.List;
 
 import org.springframework.web.bind.annotation.RequestParam;
 
+@EntityResponse
 @RestController
 @RequestMapping("/api/v1/holiday-year")
 public class HolidayYearController {
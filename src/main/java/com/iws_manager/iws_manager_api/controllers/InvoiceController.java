@@ -1,7 +1,10 @@
 package com.iws_manager.iws_manager_api.controllers;
 
+import com.iws_manager.iws_manager_api.dtos.invoice.InvoiceListItemDTO;
+import com.iws_manager.iws_manager_api.dtos.invoice.InvoiceSearchCriteria;
 import com.iws_manager.iws_manager_api.models.Invoice;
 import com.iws_manager.iws_manager_api.services.interfaces.InvoiceService;
+import com.iws_manager.iws_manager_api.web.EntityResponse;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -9,11 +12,15 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -23,6 +30,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+@EntityResponse
 @RestController
 @RequestMapping("/api/v1/invoices")
 public class InvoiceController {
@@ -403,4 +411,32 @@ public class InvoiceController {
         List<Invoice> invoices = invoiceService.getByCustomerIdOrderByInvoiceNoAsc(customerId);
         return new ResponseEntity<>(invoices, HttpStatus.OK);
     }
-}
\ No newline at end of file
+
+    // LIST PROJECTIONS - lightweight rows for grids
+    @GetMapping("/list")
+    public ResponseEntity<List<InvoiceListItemDTO>> getAllListItems() {
+        List<InvoiceListItemDTO> invoices = invoiceService.findAllListItems();
+        return new ResponseEntity<>(invoices, HttpStatus.OK);
+    }
+
+    @GetMapping("/list/by-customer/{customerId}")
+    public ResponseEntity<List<InvoiceListItemDTO>> getListItemsByCustomerId(@PathVariable Long customerId) {
+        List<InvoiceListItemDTO> invoices = invoiceService.getListItemsByCustomerId(customerId);
+        return new ResponseEntity<>(invoices, HttpStatus.OK);
+    }
+
+    @GetMapping("/list/by-order/{orderId}")
+    public ResponseEntity<List<InvoiceListItemDTO>> getListItemsByOrderId(@PathVariable Long orderId) {
+        List<InvoiceListItemDTO> invoices = invoiceService.getListItemsByOrderId(orderId);
+        return new ResponseEntity<>(invoices, HttpStatus.OK);
+    }
+
+    // SEARCH - e.g. /search?customerId=5&amountOpenMin=0.01&payDeadlineTo=2025-06-30&sort=payDeadline,asc
+    @GetMapping("/search")
+    public ResponseEntity<Page<InvoiceListItemDTO>> search(
+            @ModelAttribute InvoiceSearchCriteria criteria,
+            @PageableDefault(size = 50, sort = "invoiceNo") Pageable pageable) {
+        Page<InvoiceListItemDTO> invoices = invoiceService.search(criteria, pageable);
+        return new ResponseEntity<>(invoices, HttpStatus.OK);
+    }
+}
@@ -1,6 +1,7 @@
 package com.iws_manager.iws_manager_api.controllers;
 
 import com.iws_manager.iws_manager_api.models.IwsCommission;
+import com.iws_manager.iws_manager_api.services.interfaces.CommissionTemplateService;
 import com.iws_manager.iws_manager_api.services.interfaces.IwsCommissionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -24,10 +26,13 @@ import java.util.Map;
 @RequestMapping("/api/v1/iws-commissions")
 public class IwsCommissionController {
     private final IwsCommissionService iwsCommissionService;
+    private final CommissionTemplateService commissionTemplateService;
 
     @Autowired
-    public IwsCommissionController(IwsCommissionService iwsCommissionService) {
+    public IwsCommissionController(IwsCommissionService iwsCommissionService,
+            CommissionTemplateService commissionTemplateService) {
         this.iwsCommissionService = iwsCommissionService;
+        this.commissionTemplateService = commissionTemplateService;
     }
 
     @PostMapping
@@ -76,6 +81,27 @@ public class IwsCommissionController {
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
+    /**
+     * Re-clones the current IWS tiers into the given basic contracts, or into
+     * all of them with {@code ?all=true}. Exactly one of the two is required.
+     */
+    @PostMapping("/reclone")
+    public ResponseEntity<?> recloneBasicContracts(
+            @RequestParam(defaultValue = "false") boolean all,
+            @RequestBody(required = false) List<Long> basicContractIds) {
+        boolean hasIds = basicContractIds != null && !basicContractIds.isEmpty();
+        if (all == hasIds) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Send either basic contract ids or all=true");
+            return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+        }
+
+        int created = all
+                ? commissionTemplateService.recloneAllBasicContracts()
+                : commissionTemplateService.recloneBasicContracts(basicContractIds);
+        return new ResponseEntity<>(Map.of("created", created), HttpStatus.OK);
+    }
+
     @GetMapping("/fromOrderValue/min/{value}")
     public ResponseEntity<List<IwsCommission>> getByFromOrderValueLessThanEqual(@PathVariable BigDecimal value) {
         List<IwsCommission> results = iwsCommissionService.findByFromOrderValueLessThanEqual(value);
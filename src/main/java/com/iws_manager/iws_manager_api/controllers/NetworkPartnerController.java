@@ -2,6 +2,7 @@ package com.iws_manager.iws_manager_api.controllers;
 
 import com.iws_manager.iws_manager_api.models.NetworkPartner;
 import com.iws_manager.iws_manager_api.services.interfaces.NetworkPartnerService;
+import com.iws_manager.iws_manager_api.web.EntityResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +21,7 @@ import java.util.Optional;
  * @RestController Indicates that this class handles HTTP requests and returns JSON responses
  * @RequestMapping Base path for all endpoints in this controller
  */
+@EntityResponse
 @RestController
 @RequestMapping("/api/v1/network-partners")
 public class NetworkPartnerController {
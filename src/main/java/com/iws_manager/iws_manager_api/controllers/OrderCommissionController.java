@@ -2,6 +2,7 @@ package com.iws_manager.iws_manager_api.controllers;
 
 import com.iws_manager.iws_manager_api.models.OrderCommission;
 import com.iws_manager.iws_manager_api.services.interfaces.OrderCommissionService;
+import com.iws_manager.iws_manager_api.web.EntityResponse;
 
 import java.math.BigDecimal;
 
@@ -25,6 +26,7 @@ import java.util.Map;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.RequestParam;
 
+@EntityResponse
 @RestController
 @RequestMapping("/api/v1/ordercommissions")
 public class OrderCommissionController {
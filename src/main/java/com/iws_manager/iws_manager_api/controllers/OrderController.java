@@ -20,9 +20,12 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.iws_manager.iws_manager_api.dtos.order.OrderListItemDTO;
 import com.iws_manager.iws_manager_api.models.Order;
 import com.iws_manager.iws_manager_api.services.interfaces.OrderService;
+import com.iws_manager.iws_manager_api.web.EntityResponse;
 
+@EntityResponse
 @RestController
 @RequestMapping("/api/v1/orders")
 public class OrderController {
@@ -341,4 +344,22 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    // LIST PROJECTIONS - lightweight rows for grids
+    @GetMapping("/list")
+    public ResponseEntity<List<OrderListItemDTO>> getAllListItems() {
+        List<OrderListItemDTO> orders = orderService.findAllListItems();
+        return new ResponseEntity<>(orders, HttpStatus.OK);
+    }
+
+    @GetMapping("/list/by-customer/{customerId}")
+    public ResponseEntity<List<OrderListItemDTO>> getListItemsByCustomerId(@PathVariable Long customerId) {
+        List<OrderListItemDTO> orders = orderService.getListItemsByCustomerId(customerId);
+        return new ResponseEntity<>(orders, HttpStatus.OK);
+    }
+
+    @GetMapping("/list/by-project/{projectId}")
+    public ResponseEntity<List<OrderListItemDTO>> getListItemsByProjectId(@PathVariable Long projectId) {
+        List<OrderListItemDTO> orders = orderService.getListItemsByProjectId(projectId);
+        return new ResponseEntity<>(orders, HttpStatus.OK);
+    }
 }
@@ -0,0 +1,157 @@
+package com.iws_manager.iws_manager_api.controllers;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.iws_manager.iws_manager_api.dtos.pdf.PdfDocumentInfo;
+import com.iws_manager.iws_manager_api.dtos.pdf.PdfDocumentType;
+import com.iws_manager.iws_manager_api.services.interfaces.PdfDocumentService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Streaming download/upload of order and invoice PDFs.
+ * <p>
+ * Downloads honour {@code If-None-Match} (304), single byte ranges
+ * ({@code Range}/{@code If-Range}, 206/416) and copy the BLOB straight to the
+ * response. Uploads take the raw PDF as the request body and stream it into
+ * the database.
+ */
+@RestController
+public class PdfDocumentController {
+
+    private static final String ORDER_APPROVAL_PDF = "/api/v1/orders/{id}/approval-pdf";
+    private static final String ORDER_CONTRACT_PDF = "/api/v1/orders/{id}/contract-pdf";
+    private static final String INVOICE_PDF = "/api/v1/invoices/{id}/pdf";
+
+    private final PdfDocumentService pdfDocumentService;
+
+    @Autowired
+    public PdfDocumentController(PdfDocumentService pdfDocumentService) {
+        this.pdfDocumentService = pdfDocumentService;
+    }
+
+    @GetMapping(ORDER_APPROVAL_PDF)
+    public void downloadOrderApprovalPdf(@PathVariable Long id, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        download(PdfDocumentType.ORDER_APPROVAL, id, request, response);
+    }
+
+    @GetMapping(ORDER_CONTRACT_PDF)
+    public void downloadOrderContractPdf(@PathVariable Long id, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        download(PdfDocumentType.ORDER_CONTRACT, id, request, response);
+    }
+
+    @GetMapping(INVOICE_PDF)
+    public void downloadInvoicePdf(@PathVariable Long id, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        download(PdfDocumentType.INVOICE, id, request, response);
+    }
+
+    @PutMapping(path = ORDER_APPROVAL_PDF, consumes = { MediaType.APPLICATION_PDF_VALUE,
+            MediaType.APPLICATION_OCTET_STREAM_VALUE })
+    public ResponseEntity<PdfDocumentInfo> uploadOrderApprovalPdf(@PathVariable Long id,
+            HttpServletRequest request) throws IOException {
+        return upload(PdfDocumentType.ORDER_APPROVAL, id, request);
+    }
+
+    @PutMapping(path = ORDER_CONTRACT_PDF, consumes = { MediaType.APPLICATION_PDF_VALUE,
+            MediaType.APPLICATION_OCTET_STREAM_VALUE })
+    public ResponseEntity<PdfDocumentInfo> uploadOrderContractPdf(@PathVariable Long id,
+            HttpServletRequest request) throws IOException {
+        return upload(PdfDocumentType.ORDER_CONTRACT, id, request);
+    }
+
+    @PutMapping(path = INVOICE_PDF, consumes = { MediaType.APPLICATION_PDF_VALUE,
+            MediaType.APPLICATION_OCTET_STREAM_VALUE })
+    public ResponseEntity<PdfDocumentInfo> uploadInvoicePdf(@PathVariable Long id,
+            HttpServletRequest request) throws IOException {
+        return upload(PdfDocumentType.INVOICE, id, request);
+    }
+
+    @DeleteMapping(ORDER_APPROVAL_PDF)
+    public ResponseEntity<Void> deleteOrderApprovalPdf(@PathVariable Long id) {
+        pdfDocumentService.delete(PdfDocumentType.ORDER_APPROVAL, id);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @DeleteMapping(ORDER_CONTRACT_PDF)
+    public ResponseEntity<Void> deleteOrderContractPdf(@PathVariable Long id) {
+        pdfDocumentService.delete(PdfDocumentType.ORDER_CONTRACT, id);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @DeleteMapping(INVOICE_PDF)
+    public ResponseEntity<Void> deleteInvoicePdf(@PathVariable Long id) {
+        pdfDocumentService.delete(PdfDocumentType.INVOICE, id);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    private void download(PdfDocumentType type, Long id, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        pdfDocumentService.download(type, id, (info, content) -> write(type, id, info, content, request, response));
+    }
+
+    private void write(PdfDocumentType type, Long id, PdfDocumentInfo info, PdfDocumentService.Content content,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String eTag = info.eTag();
+        if (new ServletWebRequest(request, response).checkNotModified(eTag)) {
+            return;
+        }
+
+        long length = info.length();
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+
+        if (rangeHeader != null && length > 0 && (ifRange == null || ifRange.equals(eTag))) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                    response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+        }
+
+        long contentLength = end - start + 1;
+        response.setContentType(MediaType.APPLICATION_PDF_VALUE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.inline().filename(type.fileName(id)).build().toString());
+        response.setContentLengthLong(contentLength);
+        if (contentLength > 0) {
+            content.copyTo(start, contentLength, response.getOutputStream());
+        }
+    }
+
+    private ResponseEntity<PdfDocumentInfo> upload(PdfDocumentType type, Long id, HttpServletRequest request)
+            throws IOException {
+        PdfDocumentInfo info = pdfDocumentService.store(type, id, request.getInputStream(),
+                request.getContentLengthLong());
+        return ResponseEntity.ok().eTag(info.eTag()).body(info);
+    }
+}
@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 
 import com.iws_manager.iws_manager_api.models.Project;
 import com.iws_manager.iws_manager_api.services.interfaces.ProjectService;
+import com.iws_manager.iws_manager_api.web.EntityResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -26,6 +27,7 @@ import java.time.LocalDate;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.RequestParam;
 
+@EntityResponse
 @RestController
 @RequestMapping("/api/v1/projects")
 public class ProjectController {
@@ -1,9 +1,22 @@
 package com.iws_manager.iws_manager_api.controllers;
 
-import com.iws_manager.iws_manager_api.dtos.project.ProjectResponseDTO;
+import com.iws_manager.iws_manager_api.dtos.project.ProjectPageDTO;
 import com.iws_manager.iws_manager_api.dtos.project.ProjectRequestDTO;
+import com.iws_manager.iws_manager_api.dtos.project.ProjectResponseDTO;
+import com.iws_manager.iws_manager_api.dtos.project.ProjectSortField;
+import com.iws_manager.iws_manager_api.dtos.project.ProjectSummaryDTO;
+import com.iws_manager.iws_manager_api.models.Customer;
+import com.iws_manager.iws_manager_api.models.EmployeeIws;
+import com.iws_manager.iws_manager_api.models.FundingProgram;
+import com.iws_manager.iws_manager_api.models.Network;
+import com.iws_manager.iws_manager_api.models.Order;
+import com.iws_manager.iws_manager_api.models.Project;
+import com.iws_manager.iws_manager_api.models.ProjectStatus;
+import com.iws_manager.iws_manager_api.models.Promoter;
 import com.iws_manager.iws_manager_api.services.interfaces.ProjectServiceV2;
+import com.iws_manager.iws_manager_api.web.ConditionalGet;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -32,6 +45,8 @@ public class ProjectControllerV2 {
     }
 
     @GetMapping("/{id}")
+    @ConditionalGet(value = { Project.class, Customer.class, EmployeeIws.class, Order.class, Network.class,
+            FundingProgram.class, Promoter.class, ProjectStatus.class }, idVariable = "id")
     public ResponseEntity<ProjectResponseDTO> getById(@PathVariable Long id) {
         return projectServiceV2.findById(id)
                 .map(project -> new ResponseEntity<>(project, HttpStatus.OK))
@@ -39,11 +54,36 @@ public class ProjectControllerV2 {
     }
 
     @GetMapping
+    @ConditionalGet({ Project.class, Customer.class, EmployeeIws.class, Order.class, Network.class,
+            FundingProgram.class, Promoter.class, ProjectStatus.class })
     public ResponseEntity<List<ProjectResponseDTO>> getAll() {
         List<ProjectResponseDTO> projects = projectServiceV2.findAll();
         return new ResponseEntity<>(projects, HttpStatus.OK);
     }
 
+    @GetMapping("/summary")
+    @ConditionalGet({ Project.class, Customer.class, ProjectStatus.class })
+    public ResponseEntity<List<ProjectSummaryDTO>> getAllSummaries() {
+        return new ResponseEntity<>(projectServiceV2.findAllSummaries(), HttpStatus.OK);
+    }
+
+    @GetMapping("/page")
+    @ConditionalGet({ Project.class, Customer.class, EmployeeIws.class, Order.class, Network.class,
+            FundingProgram.class, Promoter.class, ProjectStatus.class })
+    public ResponseEntity<ProjectPageDTO> getPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "PROJECT_LABEL") ProjectSortField sortBy,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction) {
+        ProjectPageDTO page = projectServiceV2.findPage(cursor, size, sortBy, direction);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    @GetMapping("/count")
+    public ResponseEntity<Long> count() {
+        return new ResponseEntity<>(projectServiceV2.countAll(), HttpStatus.OK);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ProjectResponseDTO> update(@PathVariable Long id,
             @RequestBody ProjectRequestDTO projectDetails) {
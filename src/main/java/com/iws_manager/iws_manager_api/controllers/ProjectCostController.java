@@ -1,9 +1,15 @@
 package com.iws_manager.iws_manager_api.controllers;
 
+import com.iws_manager.iws_manager_api.dtos.projectcost.ProjectCostBulkResultDTO;
+import com.iws_manager.iws_manager_api.dtos.projectcost.ProjectCostEntryDTO;
 import com.iws_manager.iws_manager_api.models.ProjectCost;
 import com.iws_manager.iws_manager_api.services.interfaces.ProjectCostService;
+import com.iws_manager.iws_manager_api.web.EntityResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -14,6 +20,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Optional;
 
+@EntityResponse
 @RestController
 @RequestMapping("/api/v1/project-costs")
 public class ProjectCostController {
@@ -331,6 +338,31 @@ public class ProjectCostController {
         return new ResponseEntity<>(projectCosts, HttpStatus.OK);
     }
 
+    @GetMapping("/costs-greater-than/page")
+    public ResponseEntity<Page<ProjectCost>> getByCostsGreaterThanPaged(
+            @RequestParam BigDecimal amount,
+            @PageableDefault(size = 50, sort = "costs") Pageable pageable) {
+        Page<ProjectCost> projectCosts = projectCostService.getByCostsGreaterThan(amount, pageable);
+        return new ResponseEntity<>(projectCosts, HttpStatus.OK);
+    }
+
+    @GetMapping("/costs-less-than/page")
+    public ResponseEntity<Page<ProjectCost>> getByCostsLessThanPaged(
+            @RequestParam BigDecimal amount,
+            @PageableDefault(size = 50, sort = "costs") Pageable pageable) {
+        Page<ProjectCost> projectCosts = projectCostService.getByCostsLessThan(amount, pageable);
+        return new ResponseEntity<>(projectCosts, HttpStatus.OK);
+    }
+
+    @GetMapping("/costs-between/page")
+    public ResponseEntity<Page<ProjectCost>> getByCostsBetweenPaged(
+            @RequestParam BigDecimal minAmount,
+            @RequestParam BigDecimal maxAmount,
+            @PageableDefault(size = 50, sort = "costs") Pageable pageable) {
+        Page<ProjectCost> projectCosts = projectCostService.getByCostsBetween(minAmount, maxAmount, pageable);
+        return new ResponseEntity<>(projectCosts, HttpStatus.OK);
+    }
+
     // Validation and business logic
 
     @PostMapping("/validate")
@@ -369,6 +401,42 @@ public class ProjectCostController {
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
+    // Set-based bulk operations; each runs in one transaction and reports affected rows
+
+    @PutMapping("/bulk/by-project/{projectId}")
+    public ResponseEntity<ProjectCostBulkResultDTO> replaceProjectCosts(@PathVariable Long projectId,
+            @RequestBody List<ProjectCostEntryDTO> entries) {
+        ProjectCostBulkResultDTO result = projectCostService.replaceProjectCosts(projectId, entries);
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
+    @PutMapping("/bulk/by-project/{projectId}/by-period/{projectPeriodId}")
+    public ResponseEntity<ProjectCostBulkResultDTO> replacePeriodCosts(@PathVariable Long projectId,
+            @PathVariable Long projectPeriodId,
+            @RequestBody List<ProjectCostEntryDTO> entries) {
+        ProjectCostBulkResultDTO result = projectCostService.replacePeriodCosts(projectId, projectPeriodId, entries);
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
+    @PatchMapping("/bulk/by-project/{projectId}/matrix")
+    public ResponseEntity<ProjectCostBulkResultDTO> upsertCostMatrix(@PathVariable Long projectId,
+            @RequestBody List<ProjectCostEntryDTO> entries) {
+        ProjectCostBulkResultDTO result = projectCostService.upsertCostMatrix(projectId, entries);
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
+    @DeleteMapping("/bulk/by-project/{projectId}")
+    public ResponseEntity<ProjectCostBulkResultDTO> deleteAllByProjectId(@PathVariable Long projectId) {
+        ProjectCostBulkResultDTO result = projectCostService.deleteAllByProjectId(projectId);
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
+    @DeleteMapping("/bulk/by-period/{projectPeriodId}")
+    public ResponseEntity<ProjectCostBulkResultDTO> deleteAllByProjectPeriodId(@PathVariable Long projectPeriodId) {
+        ProjectCostBulkResultDTO result = projectCostService.deleteAllByProjectPeriodId(projectPeriodId);
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
     // Utility methods
 
     @GetMapping("/max-id")
@@ -0,0 +1,29 @@
+package com.iws_manager.iws_manager_api.controllers;
+
+import com.iws_manager.iws_manager_api.dtos.project.ProjectFinancialSummaryDTO;
+import com.iws_manager.iws_manager_api.services.interfaces.ProjectFinancialSummaryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v2/projects")
+public class ProjectFinancialSummaryController {
+
+    private final ProjectFinancialSummaryService projectFinancialSummaryService;
+
+    @Autowired
+    public ProjectFinancialSummaryController(ProjectFinancialSummaryService projectFinancialSummaryService) {
+        this.projectFinancialSummaryService = projectFinancialSummaryService;
+    }
+
+    @GetMapping("/{projectId}/financial-summary")
+    public ResponseEntity<ProjectFinancialSummaryDTO> getSummary(@PathVariable Long projectId) {
+        ProjectFinancialSummaryDTO summary = projectFinancialSummaryService.getSummaryByProject(projectId);
+        return new ResponseEntity<>(summary, HttpStatus.OK);
+    }
+}
@@ -2,6 +2,7 @@ package com.iws_manager.iws_manager_api.controllers;
 
 import com.iws_manager.iws_manager_api.models.ProjectPeriod;
 import com.iws_manager.iws_manager_api.services.interfaces.ProjectPeriodService;
+import com.iws_manager.iws_manager_api.web.EntityResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
 
+@EntityResponse
 @RestController
 @RequestMapping("/api/v1/project-periods")
 public class ProjectPeriodController {
@@ -4,6 +4,7 @@ import com.iws_manager.iws_manager_api.dtos.publicholiday.SimpleHolidayDTO;
 import com.iws_manager.iws_manager_api.models.PublicHoliday;
 import com.iws_manager.iws_manager_api.models.State;
 import com.iws_manager.iws_manager_api.services.interfaces.PublicHolidayServiceV2;
+import com.iws_manager.iws_manager_api.web.EntityResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
@@ -26,6 +27,7 @@ public class PublicHolidayControllerV2 {
 
     // ========== ENDPOINTS V1 (MIGRADOS - MISMOS QUE V1) ==========
 
+    @EntityResponse
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public ResponseEntity<?> createPublicHoliday(@RequestBody PublicHoliday publicHoliday) {
@@ -33,6 +35,7 @@ public class PublicHolidayControllerV2 {
         return new ResponseEntity<>(createdPublicHoliday, HttpStatus.CREATED);
     }
 
+    @EntityResponse
     @GetMapping("/{id}")
     public ResponseEntity<PublicHoliday> getPublicHolidayById(@PathVariable Long id) {
         return publicHolidayServiceV2.findById(id)
@@ -40,12 +43,14 @@ public class PublicHolidayControllerV2 {
                 .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
+    @EntityResponse
     @GetMapping
     public ResponseEntity<List<PublicHoliday>> getAllByOrderBySequenceNo() {
         List<PublicHoliday> publicHolidays = publicHolidayServiceV2.findAllByOrderBySequenceNo();
         return new ResponseEntity<>(publicHolidays, HttpStatus.OK);
     }
 
+    @EntityResponse
     @PutMapping("/{id}")
     public ResponseEntity<PublicHoliday> updatePublicHoliday(
             @PathVariable Long id,
@@ -77,12 +82,14 @@ public class PublicHolidayControllerV2 {
         publicHolidayServiceV2.saveStateSelections(id, selectedStates);
     }
 
+    @EntityResponse
     @GetMapping("/by-name-asc")
     public ResponseEntity<List<PublicHoliday>> getAll() {
         List<PublicHoliday> publicHolidays = publicHolidayServiceV2.findAll();
         return new ResponseEntity<>(publicHolidays, HttpStatus.OK);
     }
 
+    @EntityResponse
     @GetMapping("/by-sequenceno-desc")
     public ResponseEntity<List<PublicHoliday>> getAllByOrderBySequenceNoDesc() {
         List<PublicHoliday> publicHolidays = publicHolidayServiceV2.findAllByOrderBySequenceNoDesc();
@@ -179,4 +186,29 @@ public class PublicHolidayControllerV2 {
         List<SimpleHolidayDTO> weekends = publicHolidayServiceV2.getWeekendsInRange(startDate, endDate);
         return ResponseEntity.ok(weekends);
     }
-}
\ No newline at end of file
+
+    /**
+     * V2 Endpoint: Indica si una fecha es feriado en el estado indicado
+     * GET /api/v2/holidays/is-holiday?date=2024-10-03&stateId=1
+     */
+    @GetMapping("/is-holiday")
+    public ResponseEntity<Boolean> isHoliday(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) Long stateId) {
+
+        return ResponseEntity.ok(publicHolidayServiceV2.isHoliday(date, stateId));
+    }
+
+    /**
+     * V2 Endpoint: Cuenta los días laborables (lunes a viernes sin feriado) en un rango
+     * GET /api/v2/holidays/working-days?startDate=2024-01-01&endDate=2024-12-31&stateId=1
+     */
+    @GetMapping("/working-days")
+    public ResponseEntity<Long> countWorkingDays(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long stateId) {
+
+        return ResponseEntity.ok(publicHolidayServiceV2.countWorkingDays(startDate, endDate, stateId));
+    }
+}
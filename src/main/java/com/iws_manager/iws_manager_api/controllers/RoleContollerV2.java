@@ -6,6 +6,7 @@ import com.iws_manager.iws_manager_api.mappers.RoleMapper;
 import com.iws_manager.iws_manager_api.models.Role;
 import com.iws_manager.iws_manager_api.models.User;
 import com.iws_manager.iws_manager_api.services.interfaces.RoleServiceV2;
+import com.iws_manager.iws_manager_api.web.EntityResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -69,6 +70,7 @@ public class RoleContollerV2 {
         return ResponseEntity.noContent().build();
     }
 
+    @EntityResponse
     @GetMapping("/{id}/users")
     public ResponseEntity<List<User>> getUsersByRole(@PathVariable Long id) {
         return ResponseEntity.ok(roleService.getUsersByRoleId(id));
@@ -3,6 +3,7 @@ package com.iws_manager.iws_manager_api.controllers;
 import com.iws_manager.iws_manager_api.models.Role;
 import com.iws_manager.iws_manager_api.models.User;
 import com.iws_manager.iws_manager_api.services.interfaces.RoleService;
+import com.iws_manager.iws_manager_api.web.EntityResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -19,6 +20,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+@EntityResponse
 @RestController
 @RequestMapping("/api/v1/roles")
 public class RoleController {
@@ -1,7 +1,10 @@
 package com.iws_manager.iws_manager_api.controllers;
 
+import com.iws_manager.iws_manager_api.dtos.role.RoleRightMatrixDTO;
+import com.iws_manager.iws_manager_api.dtos.role.RoleRightMatrixResultDTO;
 import com.iws_manager.iws_manager_api.models.RoleRight;
 import com.iws_manager.iws_manager_api.services.interfaces.RoleRightService;
+import com.iws_manager.iws_manager_api.web.EntityResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +22,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+@EntityResponse
 @RestController
 @RequestMapping("/api/v1/rolerights")
 public class RoleRightController {
@@ -92,4 +96,9 @@ public class RoleRightController {
         List<RoleRight> saved = roleRightService.saveAll(rights);
         return ResponseEntity.ok(saved);
     }
+
+    @PutMapping("/matrix")
+    public ResponseEntity<RoleRightMatrixResultDTO> saveMatrix(@RequestBody RoleRightMatrixDTO matrix) {
+        return ResponseEntity.ok(roleRightService.saveMatrix(matrix));
+    }
 }
@@ -21,7 +21,9 @@ import java.util.List;
 import java.util.Map;
 
 import com.iws_manager.iws_manager_api.models.SubcontractProject;
+import com.iws_manager.iws_manager_api.web.EntityResponse;
 
+@EntityResponse
 @RestController
 @RequestMapping("/api/v1/subcontracts")
 public class SubcontractController {
@@ -108,4 +110,26 @@ public class SubcontractController {
         List<SubcontractProject> projects = subcontractService.recalculateSubcontractProjects(id);
         return new ResponseEntity<>(projects, HttpStatus.OK);
     }
+
+    @PostMapping("/customer/{customerId}/recalculate-subcontractproject")
+    public ResponseEntity<Map<String, Integer>> recalculateByCustomerId(@PathVariable Long customerId) {
+        int updated = subcontractService.recalculateByCustomerId(customerId);
+        return ResponseEntity.ok(Map.of("updated", updated));
+    }
+
+    @PostMapping("/projectcostcenter/{projectcostcenterId}/recalculate-subcontractproject")
+    public ResponseEntity<Map<String, Integer>> recalculateByProjectCostCenterId(
+            @PathVariable Long projectcostcenterId) {
+        int updated = subcontractService.recalculateByProjectCostCenterId(projectcostcenterId);
+        return ResponseEntity.ok(Map.of("updated", updated));
+    }
+
+    /**
+     * Year-end recalculation of every subcontract.
+     */
+    @PostMapping("/recalculate-subcontractproject")
+    public ResponseEntity<Map<String, Integer>> recalculateAll() {
+        int updated = subcontractService.recalculateAll();
+        return ResponseEntity.ok(Map.of("updated", updated));
+    }
 }
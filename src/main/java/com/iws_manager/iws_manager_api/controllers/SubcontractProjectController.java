@@ -5,6 +5,7 @@ import java.time.LocalDate;
 
 import com.iws_manager.iws_manager_api.models.SubcontractProject;
 import com.iws_manager.iws_manager_api.services.interfaces.SubcontractProjectService;
+import com.iws_manager.iws_manager_api.web.EntityResponse;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,6 +25,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+@EntityResponse
 @RestController
 @RequestMapping("/api/v1/subcontractproject")
 public class SubcontractProjectController {
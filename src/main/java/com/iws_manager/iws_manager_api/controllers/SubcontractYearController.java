@@ -4,6 +4,7 @@ import java.time.LocalDate;
 
 import com.iws_manager.iws_manager_api.models.SubcontractYear;
 import com.iws_manager.iws_manager_api.services.interfaces.SubcontractYearService;
+import com.iws_manager.iws_manager_api.web.EntityResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -22,6 +23,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+@EntityResponse
 @RestController
 @RequestMapping("/api/v1/subcontractyear")
 public class SubcontractYearController {
@@ -0,0 +1,61 @@
+package com.iws_manager.iws_manager_api.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Target for read-only connections: the read replica while
+ * {@link ReplicaLagMonitor} considers it usable and no write of this node is
+ * recent enough per {@link RecentWriteTracker} to be missing there, otherwise
+ * the primary.
+ * <p>
+ * Every routing decision is counted as {@code datasource.routes} with the tag
+ * {@code route} = {@code replica} or {@code primary}, so a falling replica
+ * share shows how often reads fell back.
+ */
+public class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String METRIC_NAME = "datasource.routes";
+    static final String REPLICA = "replica";
+    static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final RecentWriteTracker recentWriteTracker;
+    private final Counter replicaRoutes;
+    private final Counter primaryRoutes;
+
+    public ReadOnlyRoutingDataSource(DataSource replica, DataSource primary, ReplicaLagMonitor replicaLagMonitor,
+            RecentWriteTracker recentWriteTracker, MeterRegistry meterRegistry) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.recentWriteTracker = recentWriteTracker;
+        this.replicaRoutes = route(meterRegistry, REPLICA);
+        this.primaryRoutes = route(meterRegistry, PRIMARY);
+        setTargetDataSources(Map.of(REPLICA, replica, PRIMARY, primary));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaLagMonitor.isReplicaUsable() && !recentWriteTracker.isWithinWindow()) {
+            replicaRoutes.increment();
+            return REPLICA;
+        }
+        primaryRoutes.increment();
+        return PRIMARY;
+    }
+
+    private static Counter route(MeterRegistry meterRegistry, String route) {
+        return Counter.builder(METRIC_NAME)
+                .description("Read-only connections handed out per target database")
+                .tag("route", route)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,120 @@
+package com.iws_manager.iws_manager_api.datasource;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.LongSupplier;
+
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * Remembers when this node last committed a transaction that wrote, so that
+ * read-only transactions can stay on the primary until the replica has
+ * caught up.
+ * <p>
+ * Writes evict caches and ETags after commit; without the window the next
+ * read-only transaction could refill them from a replica that has not
+ * replayed the write yet and keep the stale data for the whole cache TTL.
+ * <p>
+ * Many readers and every login run in read-write transactions, so being
+ * read-write does not count as a write. {@link WriteTrackingDataSource}
+ * calls {@link #markWrite()} when a DML statement is prepared on the primary;
+ * the mark is kept per transaction on the current thread and only counts
+ * once that transaction commits.
+ */
+public class RecentWriteTracker implements TransactionExecutionListener {
+
+    private final long windowNanos;
+    private final LongSupplier clock;
+    private final ThreadLocal<Deque<Frame>> transactions = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private volatile long lastWrite;
+    private volatile boolean written;
+
+    /** One physical transaction on the current thread. */
+    private static final class Frame {
+        private final TransactionExecution transaction;
+        private boolean wrote;
+
+        private Frame(TransactionExecution transaction) {
+            this.transaction = transaction;
+        }
+    }
+
+    public RecentWriteTracker(Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    RecentWriteTracker(Duration window, LongSupplier clock) {
+        this.windowNanos = window.toNanos();
+        this.clock = clock;
+    }
+
+    @Override
+    public void beforeBegin(TransactionExecution transaction) {
+        if (transaction.isNewTransaction()) {
+            transactions.get().push(new Frame(transaction));
+        }
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure != null) {
+            pop(transaction);
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (pop(transaction) && commitFailure == null) {
+            recordWrite();
+        }
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        pop(transaction);
+    }
+
+    /**
+     * Notes a write on the current thread: it counts when the surrounding
+     * transaction commits, or right away outside of a transaction.
+     */
+    public void markWrite() {
+        Frame current = transactions.get().peek();
+        if (current != null) {
+            current.wrote = true;
+        } else {
+            transactions.remove();
+            recordWrite();
+        }
+    }
+
+    /**
+     * Whether a write committed within the window, i.e. the replica may not
+     * show it yet.
+     */
+    public boolean isWithinWindow() {
+        return written && clock.getAsLong() - lastWrite < windowNanos;
+    }
+
+    private void recordWrite() {
+        lastWrite = clock.getAsLong();
+        written = true;
+    }
+
+    /** Removes the frame of {@code transaction} and returns whether it wrote. */
+    private boolean pop(TransactionExecution transaction) {
+        Deque<Frame> frames = transactions.get();
+        Frame current = frames.peek();
+        if (current == null || current.transaction != transaction) {
+            return false;
+        }
+        frames.pop();
+        if (frames.isEmpty()) {
+            transactions.remove();
+        }
+        return current.wrote;
+    }
+}
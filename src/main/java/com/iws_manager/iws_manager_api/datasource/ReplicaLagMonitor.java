@@ -0,0 +1,100 @@
+package com.iws_manager.iws_manager_api.datasource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Polls the replication lag of the read replica and decides whether
+ * read-only transactions may use it.
+ * <p>
+ * The replica is usable while the last check succeeded and reported a lag of
+ * at most {@code maxLag}; a failed check, a stopped replication thread
+ * ({@code NULL} lag) or a missing status row make reads fall back to the
+ * primary until a later check succeeds. The lag is read from
+ * {@code lagColumn} of the first row of {@code lagQuery} ({@code SHOW SLAVE
+ * STATUS} on MariaDB), so stand-ins without replication can report a fixed
+ * value. The last measured lag is exposed as {@code datasource.replica.lag}.
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    static final String LAG_METRIC_NAME = "datasource.replica.lag";
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final Duration maxLag;
+    private final ScheduledExecutorService executor;
+
+    private volatile boolean usable;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(JdbcTemplate jdbcTemplate, String lagQuery, String lagColumn, Duration maxLag,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLag = maxLag;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder(LAG_METRIC_NAME, this, monitor -> monitor.lagSeconds)
+                .description("Replication lag of the read replica at the last check")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Checks the lag now and then every {@code interval} in the background.
+     */
+    public void start(Duration interval) {
+        executor.scheduleWithFixedDelay(this::check, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    void check() {
+        Double lag = null;
+        try {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(lagQuery);
+            if (!rows.isEmpty() && rows.get(0).get(lagColumn) instanceof Number number) {
+                lag = number.doubleValue();
+            }
+        } catch (DataAccessException e) {
+            log.debug("Replica lag check failed", e);
+        }
+        boolean nowUsable = lag != null && lag * 1000 <= maxLag.toMillis();
+        if (nowUsable != usable) {
+            if (nowUsable) {
+                log.info("Read replica usable again, lag {}s", lag);
+            } else {
+                log.warn("Read replica not usable (lag {}s, max {}s), routing reads to the primary", lag,
+                        maxLag.toSeconds());
+            }
+        }
+        lagSeconds = lag != null ? lag : Double.NaN;
+        usable = nowUsable;
+    }
+}
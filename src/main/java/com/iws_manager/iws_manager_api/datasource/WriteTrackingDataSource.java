@@ -0,0 +1,124 @@
+package com.iws_manager.iws_manager_api.datasource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Wraps the read-write pool and reports every DML statement to the
+ * {@link RecentWriteTracker}, so that only transactions that actually wrote
+ * keep reads on the primary. Statements are classified by their SQL when
+ * they are prepared (Hibernate, {@code JdbcTemplate}) or executed on a plain
+ * {@link Statement}; stored procedure calls count as writes.
+ */
+public class WriteTrackingDataSource extends DelegatingDataSource {
+
+    private static final String[] WRITE_KEYWORDS = { "insert", "update", "delete", "replace", "merge" };
+
+    private final RecentWriteTracker recentWriteTracker;
+
+    public WriteTrackingDataSource(DataSource targetDataSource, RecentWriteTracker recentWriteTracker) {
+        super(targetDataSource);
+        this.recentWriteTracker = recentWriteTracker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        return proxy(Connection.class, connection, (method, args) -> {
+            String name = method.getName();
+            if (name.equals("prepareCall")) {
+                recentWriteTracker.markWrite();
+            } else if (name.equals("prepareStatement") && isWrite(args[0])) {
+                recentWriteTracker.markWrite();
+            }
+        }, this::trackStatement);
+    }
+
+    private Object trackStatement(Object result) {
+        if (result instanceof Statement statement && !(result instanceof PreparedStatement)) {
+            return proxy(Statement.class, statement, (method, args) -> {
+                if (method.getName().startsWith("execute") || method.getName().equals("addBatch")) {
+                    if (args != null && args.length > 0 && isWrite(args[0])) {
+                        recentWriteTracker.markWrite();
+                    }
+                }
+            }, value -> value);
+        }
+        return result;
+    }
+
+    static boolean isWrite(Object sql) {
+        if (!(sql instanceof String text)) {
+            return false;
+        }
+        int start = skipCommentsAndWhitespace(text);
+        for (String keyword : WRITE_KEYWORDS) {
+            if (text.regionMatches(true, start, keyword, 0, keyword.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int skipCommentsAndWhitespace(String sql) {
+        int i = 0;
+        while (i < sql.length()) {
+            if (Character.isWhitespace(sql.charAt(i)) || sql.charAt(i) == '(') {
+                i++;
+            } else if (sql.startsWith("/*", i)) {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? sql.length() : end + 2;
+            } else if (sql.startsWith("--", i)) {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? sql.length() : end + 1;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    @FunctionalInterface
+    private interface Inspector {
+        void inspect(Method method, Object[] args);
+    }
+
+    @FunctionalInterface
+    private interface ResultWrapper {
+        Object wrap(Object result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Inspector inspector, ResultWrapper resultWrapper) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().equals("unwrap") && args != null && args[0] == type) {
+                return target;
+            }
+            inspector.inspect(method, args);
+            try {
+                return resultWrapper.wrap(method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler);
+    }
+}
@@ -0,0 +1,10 @@
+package com.iws_manager.iws_manager_api.dtos.absenceday;
+
+import java.util.List;
+
+public record AbsenceDayBulkResultDTO(
+    int requested,
+    int created,
+    int failed,
+    List<AbsenceDayBulkRowResultDTO> rows
+) {}
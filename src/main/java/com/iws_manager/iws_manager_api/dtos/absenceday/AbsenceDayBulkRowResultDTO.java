@@ -0,0 +1,34 @@
+package com.iws_manager.iws_manager_api.dtos.absenceday;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDate;
+
+/**
+ * Outcome of a single row of a bulk absence import. {@code index} is the
+ * zero-based position of the row in the request; {@code error} is set only
+ * when the row was rejected.
+ */
+public record AbsenceDayBulkRowResultDTO(
+    int index,
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate absenceDate,
+    Long employeeId,
+    Long absenceTypeId,
+    boolean created,
+    Long absenceDayId,
+    String error
+) {
+
+    public static AbsenceDayBulkRowResultDTO created(int index, AbsenceDayRequestDTO dto, Long absenceDayId) {
+        return new AbsenceDayBulkRowResultDTO(index, dto.absenceDate(), dto.employee().id(),
+                dto.absenceType().id(), true, absenceDayId, null);
+    }
+
+    public static AbsenceDayBulkRowResultDTO failed(int index, AbsenceDayRequestDTO dto, String error) {
+        return new AbsenceDayBulkRowResultDTO(index,
+                dto != null ? dto.absenceDate() : null,
+                dto != null && dto.employee() != null ? dto.employee().id() : null,
+                dto != null && dto.absenceType() != null ? dto.absenceType().id() : null,
+                false, null, error);
+    }
+}
@@ -0,0 +1,17 @@
+package com.iws_manager.iws_manager_api.dtos.commission;
+
+import java.math.BigDecimal;
+
+/**
+ * Commission of one order value. {@code orderId} is {@code null} for
+ * calculations against a basic contract only; {@code commission} is
+ * {@code null} when no tier and no fixed percentage applies.
+ */
+public record CommissionResultDTO(
+        Long orderId,
+        Long basicContractId,
+        BigDecimal orderValue,
+        BigDecimal fromOrderValue,
+        BigDecimal rate,
+        BigDecimal commission) {
+}
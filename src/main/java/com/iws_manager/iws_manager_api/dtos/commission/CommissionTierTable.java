@@ -0,0 +1,137 @@
+package com.iws_manager.iws_manager_api.dtos.commission;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Precompiled, immutable commission tier table of one order or basic
+ * contract.
+ * <p>
+ * Tiers are sorted by their lower bound ({@code fromOrderValue}) and the
+ * bounds kept in a plain array, so the tier of an order value is found by
+ * binary search instead of a scan or a database query. A tier applies from
+ * its lower bound up to the next tier's; order values below the first tier
+ * earn no tiered commission. {@code commission} is a percentage and
+ * {@code minCommission} an absolute amount.
+ */
+public final class CommissionTierTable {
+
+    public static final CommissionTierTable EMPTY = new CommissionTierTable(new Tier[0]);
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final Tier[] tiers;
+    private final BigDecimal[] lowerBounds;
+
+    public record Tier(BigDecimal fromOrderValue, BigDecimal commission, BigDecimal minCommission) {
+    }
+
+    private CommissionTierTable(Tier[] tiers) {
+        this.tiers = tiers;
+        this.lowerBounds = new BigDecimal[tiers.length];
+        for (int i = 0; i < tiers.length; i++) {
+            lowerBounds[i] = tiers[i].fromOrderValue();
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public boolean isEmpty() {
+        return tiers.length == 0;
+    }
+
+    public List<Tier> getTiers() {
+        return List.of(tiers);
+    }
+
+    /**
+     * @return the tier the order value falls into, or {@code null} if it is
+     *         below the first tier
+     */
+    public Tier find(BigDecimal orderValue) {
+        if (orderValue == null) {
+            return null;
+        }
+        int index = Arrays.binarySearch(lowerBounds, orderValue);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        return index >= 0 ? tiers[index] : null;
+    }
+
+    /**
+     * Commission of the order value: its tier's percentage, but at least the
+     * tier's minimum, rounded to cents.
+     *
+     * @return the commission, or {@code null} if no tier applies
+     */
+    public BigDecimal calculate(BigDecimal orderValue) {
+        return calculate(orderValue, null, null);
+    }
+
+    /**
+     * Like {@link #calculate(BigDecimal)}, with the order's own settings: a
+     * fixed percentage replaces the tier's and a maximum caps the result.
+     * Either may be {@code null}.
+     */
+    public BigDecimal calculate(BigDecimal orderValue, BigDecimal fixCommission, BigDecimal maxCommission) {
+        if (orderValue == null) {
+            return null;
+        }
+        Tier tier = find(orderValue);
+        BigDecimal rate = fixCommission != null ? fixCommission : tier != null ? tier.commission() : null;
+        if (rate == null) {
+            return null;
+        }
+        BigDecimal commission = orderValue.multiply(rate).divide(HUNDRED, 2, RoundingMode.HALF_UP);
+        if (tier != null && tier.minCommission() != null) {
+            commission = commission.max(tier.minCommission());
+        }
+        if (maxCommission != null) {
+            commission = commission.min(maxCommission);
+        }
+        return commission;
+    }
+
+    /**
+     * Collects tier rows before the table is compiled. A missing lower bound
+     * counts as zero; of several tiers with the same bound the last one added
+     * wins.
+     */
+    public static final class Builder {
+
+        private final List<Tier> tiers = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder add(BigDecimal fromOrderValue, BigDecimal commission, BigDecimal minCommission) {
+            tiers.add(new Tier(fromOrderValue != null ? fromOrderValue : BigDecimal.ZERO, commission, minCommission));
+            return this;
+        }
+
+        public CommissionTierTable build() {
+            if (tiers.isEmpty()) {
+                return EMPTY;
+            }
+            List<Tier> sorted = new ArrayList<>(tiers);
+            sorted.sort(Comparator.comparing(Tier::fromOrderValue));
+            List<Tier> distinct = new ArrayList<>(sorted.size());
+            for (Tier tier : sorted) {
+                int last = distinct.size() - 1;
+                if (last >= 0 && distinct.get(last).fromOrderValue().compareTo(tier.fromOrderValue()) == 0) {
+                    distinct.set(last, tier);
+                } else {
+                    distinct.add(tier);
+                }
+            }
+            return new CommissionTierTable(distinct.toArray(Tier[]::new));
+        }
+    }
+}
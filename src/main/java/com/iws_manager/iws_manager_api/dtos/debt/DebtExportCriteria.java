@@ -0,0 +1,28 @@
+package com.iws_manager.iws_manager_api.dtos.debt;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+/**
+ * Optional filters of the debt export, matching the existing debt finders.
+ * Every non-null value adds one predicate; the date range is inclusive.
+ */
+public record DebtExportCriteria(
+    Long customerId,
+    Long projectId,
+    Long orderId,
+    Long promoterId,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo
+) {
+
+    /**
+     * @throws IllegalArgumentException if {@code dateFrom} is after {@code dateTo}
+     */
+    public void validate() {
+        if (dateFrom != null && dateTo != null && dateFrom.isAfter(dateTo)) {
+            throw new IllegalArgumentException("Invalid date range: " + dateFrom + " is after " + dateTo);
+        }
+    }
+}
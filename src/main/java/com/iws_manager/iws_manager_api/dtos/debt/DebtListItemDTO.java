@@ -0,0 +1,31 @@
+package com.iws_manager.iws_manager_api.dtos.debt;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Flat debt row for lists and exports, selected column by column through a
+ * JPQL constructor expression instead of loading the debt entity graph.
+ */
+public record DebtListItemDTO(
+    Long id,
+    Integer debtNo,
+    String debtTitle,
+    LocalDate date,
+    LocalDate billingStart,
+    LocalDate billingEnd,
+    BigDecimal netAmount,
+    BigDecimal taxAmount,
+    BigDecimal grossAmount,
+    BigDecimal payedAmount,
+    BigDecimal openAmount,
+    LocalDate lastPaymentDate,
+    Long customerId,
+    String customerName,
+    Long orderId,
+    Integer orderNo,
+    Long projectId,
+    String projectLabel,
+    Integer version
+) {
+}
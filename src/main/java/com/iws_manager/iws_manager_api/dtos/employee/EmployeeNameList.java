@@ -0,0 +1,20 @@
+package com.iws_manager.iws_manager_api.dtos.employee;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.util.DigestUtils;
+
+/**
+ * Cached name lookup of one customer's employees, with a strong ETag over
+ * its content so that unchanged dropdowns are answered with
+ * {@code 304 Not Modified}.
+ */
+public record EmployeeNameList(List<EmployeeNameDTO> employees, String eTag) {
+
+    public static EmployeeNameList of(Long customerId, List<EmployeeNameDTO> employees) {
+        List<EmployeeNameDTO> copy = List.copyOf(employees);
+        String hash = DigestUtils.md5DigestAsHex(copy.toString().getBytes(StandardCharsets.UTF_8));
+        return new EmployeeNameList(copy, "\"employees-" + customerId + "-" + hash + "\"");
+    }
+}
@@ -0,0 +1,32 @@
+package com.iws_manager.iws_manager_api.dtos.invoice;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Flat invoice row for list screens, selected column by column through a
+ * JPQL constructor expression instead of loading the invoice entity graph.
+ */
+public record InvoiceListItemDTO(
+    Long id,
+    Integer invoiceNo,
+    String invoiceTitle,
+    LocalDate invoiceDate,
+    LocalDate payDeadline,
+    LocalDate paymentDate,
+    BigDecimal amountNet,
+    BigDecimal amountTax,
+    BigDecimal amountGross,
+    BigDecimal amountPaid,
+    BigDecimal amountOpen,
+    Short isCancellation,
+    Long customerId,
+    String customerName,
+    Long orderId,
+    Integer orderNo,
+    String orderTitle,
+    String invoiceType,
+    String biller,
+    Integer version
+) {
+}
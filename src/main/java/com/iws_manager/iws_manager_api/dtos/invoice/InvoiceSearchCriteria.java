@@ -0,0 +1,72 @@
+package com.iws_manager.iws_manager_api.dtos.invoice;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+/**
+ * Optional filters of the invoice search. Every non-null value adds one
+ * predicate and all predicates are combined with AND. Ranges are inclusive
+ * and may be open on either side; text filters match a substring.
+ */
+public record InvoiceSearchCriteria(
+    Long customerId,
+    Long billerId,
+    Long orderId,
+    Long vatId,
+    Long invoiceTypeId,
+    Long networkId,
+    Long payConditionId,
+    Long cancelledInvoiceId,
+    Short isCancellation,
+
+    Integer invoiceNoFrom,
+    Integer invoiceNoTo,
+    BigDecimal amountGrossMin,
+    BigDecimal amountGrossMax,
+    BigDecimal amountNetMin,
+    BigDecimal amountNetMax,
+    BigDecimal amountOpenMin,
+    BigDecimal amountOpenMax,
+    BigDecimal amountPaidMin,
+    BigDecimal amountPaidMax,
+    BigDecimal amountTaxMin,
+    BigDecimal amountTaxMax,
+    BigDecimal taxRateMin,
+    BigDecimal taxRateMax,
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate invoiceDateFrom,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate invoiceDateTo,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate payDeadlineFrom,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate payDeadlineTo,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate paymentDateFrom,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate paymentDateTo,
+
+    String invoiceTitle,
+    String comment,
+    String note
+) {
+
+    /**
+     * @throws IllegalArgumentException if the lower bound of a range is above its upper bound
+     */
+    public void validate() {
+        checkRange("invoiceNo", invoiceNoFrom, invoiceNoTo);
+        checkRange("amountGross", amountGrossMin, amountGrossMax);
+        checkRange("amountNet", amountNetMin, amountNetMax);
+        checkRange("amountOpen", amountOpenMin, amountOpenMax);
+        checkRange("amountPaid", amountPaidMin, amountPaidMax);
+        checkRange("amountTax", amountTaxMin, amountTaxMax);
+        checkRange("taxRate", taxRateMin, taxRateMax);
+        checkRange("invoiceDate", invoiceDateFrom, invoiceDateTo);
+        checkRange("payDeadline", payDeadlineFrom, payDeadlineTo);
+        checkRange("paymentDate", paymentDateFrom, paymentDateTo);
+    }
+
+    private static <T extends Comparable<? super T>> void checkRange(String field, T from, T to) {
+        if (from != null && to != null && from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("Invalid " + field + " range: " + from + " is greater than " + to);
+        }
+    }
+}
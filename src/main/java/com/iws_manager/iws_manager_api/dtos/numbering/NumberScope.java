@@ -0,0 +1,44 @@
+package com.iws_manager.iws_manager_api.dtos.numbering;
+
+/**
+ * Business number sequences handed out by the number allocation service.
+ * <p>
+ * Global scopes have a single counter; keyed scopes have one counter per
+ * customer or project. The default block size is how many numbers a node
+ * reserves per database round trip and can be overridden with
+ * {@code app.numbers.block-size.<property>}. Keyed scopes default to one
+ * number per block, so a restart does not skip the unused rest of a block;
+ * numbers are still not gapless, since a number reserved by a transaction
+ * that rolls back is never handed out again.
+ */
+public enum NumberScope {
+    EMPLOYEE_IWS_NO("employee-iws-no", false, 10),
+    CUSTOMER_EMPLOYEE_NO("customer-employee-no", true, 1),
+    PUBLIC_HOLIDAY_SEQUENCE("public-holiday-sequence", false, 10),
+    PROJECT_PERIOD_NO("project-period-no", true, 1);
+
+    /** Counter key used for global scopes. */
+    public static final long GLOBAL_KEY = 0L;
+
+    private final String property;
+    private final boolean keyed;
+    private final int defaultBlockSize;
+
+    NumberScope(String property, boolean keyed, int defaultBlockSize) {
+        this.property = property;
+        this.keyed = keyed;
+        this.defaultBlockSize = defaultBlockSize;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public boolean keyed() {
+        return keyed;
+    }
+
+    public int defaultBlockSize() {
+        return defaultBlockSize;
+    }
+}
@@ -0,0 +1,29 @@
+package com.iws_manager.iws_manager_api.dtos.order;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Flat order row for list screens, selected column by column through a
+ * JPQL constructor expression instead of loading the order entity graph.
+ */
+public record OrderListItemDTO(
+    Long id,
+    Integer orderNo,
+    String orderLabel,
+    String orderTitle,
+    String acronym,
+    LocalDate orderDate,
+    LocalDate approvalDate,
+    LocalDate signatureDate,
+    BigDecimal orderValue,
+    Long customerId,
+    String customerName,
+    Long projectId,
+    String projectLabel,
+    String orderType,
+    String approvalStatus,
+    String contractStatus,
+    Integer version
+) {
+}
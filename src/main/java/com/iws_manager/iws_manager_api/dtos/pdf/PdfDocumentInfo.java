@@ -0,0 +1,21 @@
+package com.iws_manager.iws_manager_api.dtos.pdf;
+
+/**
+ * Metadata of a stored PDF, read without loading its content.
+ * {@code length} is {@code null} when no PDF is stored.
+ */
+public record PdfDocumentInfo(
+    PdfDocumentType type,
+    Long ownerId,
+    Integer version,
+    Long length
+) {
+
+    public boolean present() {
+        return length != null;
+    }
+
+    public String eTag() {
+        return type.eTag(ownerId, version);
+    }
+}
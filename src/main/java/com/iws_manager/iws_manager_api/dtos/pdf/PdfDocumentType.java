@@ -0,0 +1,30 @@
+package com.iws_manager.iws_manager_api.dtos.pdf;
+
+/**
+ * PDF attachments that can be streamed through the PDF endpoints.
+ */
+public enum PdfDocumentType {
+    ORDER_APPROVAL("order", "approval"),
+    ORDER_CONTRACT("order", "contract"),
+    INVOICE("invoice", "invoice");
+
+    private final String owner;
+    private final String kind;
+
+    PdfDocumentType(String owner, String kind) {
+        this.owner = owner;
+        this.kind = kind;
+    }
+
+    public String fileName(Long ownerId) {
+        return owner + "-" + ownerId + "-" + kind + ".pdf";
+    }
+
+    /**
+     * Strong ETag derived from the owner's optimistic-lock version, which is
+     * incremented whenever the PDF is replaced or removed.
+     */
+    public String eTag(Long ownerId, Integer version) {
+        return "\"" + owner + "-" + kind + "-" + ownerId + "-" + version + "\"";
+    }
+}
@@ -0,0 +1,10 @@
+package com.iws_manager.iws_manager_api.dtos.project;
+
+import java.math.BigDecimal;
+
+public record PeriodCostSummaryDTO(
+        Long projectPeriodId,
+        BigDecimal totalCosts,
+        BigDecimal approvedCosts,
+        BigDecimal plannedCosts) {
+}
@@ -0,0 +1,31 @@
+package com.iws_manager.iws_manager_api.dtos.project;
+
+import com.iws_manager.iws_manager_api.models.Project;
+
+/**
+ * How much of a project's association graph a query loads.
+ * <ul>
+ * <li>{@code SHALLOW}: customer and status (3 tables), for
+ * {@link ProjectSummaryDTO}</li>
+ * <li>{@code MEDIUM}: every direct association (11 tables), for
+ * {@link ProjectResponseDTO}; the {@code findMediumBy...} finders load this
+ * plan</li>
+ * <li>{@code DEEP}: also the customer and promoter lookups (16 tables), for
+ * serializing the entity; the other derived finders load this plan</li>
+ * </ul>
+ */
+public enum ProjectFetchProfile {
+    SHALLOW(Project.SHALLOW_GRAPH),
+    MEDIUM(Project.MEDIUM_GRAPH),
+    DEEP(Project.DEEP_GRAPH);
+
+    private final String graphName;
+
+    ProjectFetchProfile(String graphName) {
+        this.graphName = graphName;
+    }
+
+    public String graphName() {
+        return graphName;
+    }
+}
@@ -0,0 +1,16 @@
+package com.iws_manager.iws_manager_api.dtos.project;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record ProjectFinancialSummaryDTO(
+        Long projectId,
+        BigDecimal totalCosts,
+        BigDecimal totalApprovedCosts,
+        BigDecimal totalPlannedCosts,
+        List<PeriodCostSummaryDTO> periods,
+        Long employeeCount,
+        BigDecimal totalEmployeeCost,
+        BigDecimal totalPlannedHours,
+        BigDecimal averageHourlyRate) {
+}
@@ -0,0 +1,15 @@
+package com.iws_manager.iws_manager_api.dtos.project;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated project listing.
+ * {@code nextCursor} is opaque and must be passed back unchanged to fetch the
+ * following page; it is {@code null} when there are no more rows.
+ */
+public record ProjectPageDTO(
+        List<ProjectResponseDTO> content,
+        int size,
+        boolean hasNext,
+        String nextCursor) {
+}
@@ -0,0 +1,10 @@
+package com.iws_manager.iws_manager_api.dtos.project;
+
+/**
+ * Sort keys supported by the keyset-paginated project listing.
+ * Every key is combined with the project id as tie-breaker.
+ */
+public enum ProjectSortField {
+    PROJECT_LABEL,
+    PROJECT_NAME
+}
@@ -0,0 +1,22 @@
+package com.iws_manager.iws_manager_api.dtos.project;
+
+import java.time.LocalDate;
+
+import com.iws_manager.iws_manager_api.dtos.shared.CustomerInfoDTO;
+import com.iws_manager.iws_manager_api.dtos.shared.ProjectStatusBasicDTO;
+
+/**
+ * Project list row with customer and status only, loaded with the shallow
+ * fetch plan. Use {@link ProjectResponseDTO} for the full project.
+ */
+public record ProjectSummaryDTO(
+        Long id,
+        Integer version,
+        String projectLabel,
+        String projectName,
+        String title,
+        LocalDate startDate,
+        LocalDate endDate,
+        CustomerInfoDTO customer,
+        ProjectStatusBasicDTO status) {
+}
@@ -0,0 +1,18 @@
+package com.iws_manager.iws_manager_api.dtos.projectcost;
+
+/**
+ * Affected-row counts of a bulk project cost operation. {@code unchanged}
+ * counts existing costs an upsert left as they were.
+ */
+public record ProjectCostBulkResultDTO(
+    int requested,
+    int inserted,
+    int updated,
+    int unchanged,
+    int deleted
+) {
+
+    public static ProjectCostBulkResultDTO deleted(int deleted) {
+        return new ProjectCostBulkResultDTO(0, 0, 0, 0, deleted);
+    }
+}
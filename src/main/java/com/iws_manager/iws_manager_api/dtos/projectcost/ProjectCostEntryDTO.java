@@ -0,0 +1,13 @@
+package com.iws_manager.iws_manager_api.dtos.projectcost;
+
+import java.math.BigDecimal;
+
+/**
+ * One cell of a project's cost matrix: the cost of a period ({@code 0} for
+ * the project totals) and type (1 = approved, 2 = planned).
+ */
+public record ProjectCostEntryDTO(
+    Long projectPeriodId,
+    Byte approveOrPlan,
+    BigDecimal costs
+) {}
@@ -0,0 +1,19 @@
+package com.iws_manager.iws_manager_api.dtos.projectcost;
+
+import java.math.BigDecimal;
+
+/**
+ * Flat project cost row for exports, selected through a JPQL constructor
+ * expression instead of loading project and period entities.
+ */
+public record ProjectCostListItemDTO(
+    Long id,
+    Long projectId,
+    String projectLabel,
+    Long projectPeriodId,
+    String periodNo,
+    Byte approveOrPlan,
+    BigDecimal costs,
+    Integer version
+) {
+}
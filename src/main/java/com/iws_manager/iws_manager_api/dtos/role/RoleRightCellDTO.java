@@ -0,0 +1,11 @@
+package com.iws_manager.iws_manager_api.dtos.role;
+
+/**
+ * One cell of a role-rights matrix; a {@code null} access right removes the
+ * stored right.
+ */
+public record RoleRightCellDTO(
+        Long systemFunctionId,
+        Integer accessRight
+) {
+}
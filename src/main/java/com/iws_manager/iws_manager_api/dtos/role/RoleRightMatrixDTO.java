@@ -0,0 +1,13 @@
+package com.iws_manager.iws_manager_api.dtos.role;
+
+import java.util.List;
+
+/**
+ * Access rights of one role; system functions not listed keep their stored
+ * rights, so a matrix may cover a single module.
+ */
+public record RoleRightMatrixDTO(
+        Long roleId,
+        List<RoleRightCellDTO> rights
+) {
+}
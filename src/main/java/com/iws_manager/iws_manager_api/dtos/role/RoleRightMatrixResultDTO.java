@@ -0,0 +1,9 @@
+package com.iws_manager.iws_manager_api.dtos.role;
+
+public record RoleRightMatrixResultDTO(
+        Long roleId,
+        int inserted,
+        int updated,
+        int deleted
+) {
+}
@@ -0,0 +1,89 @@
+package com.iws_manager.iws_manager_api.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * RFC 4180 CSV for spreadsheet users with a German locale: UTF-8 with byte
+ * order mark, {@code ;} as separator, {@code ,} as decimal separator without
+ * grouping and CRLF line endings. Text starting with a formula character is
+ * prefixed with {@code '} so that spreadsheets do not evaluate it.
+ */
+public class CsvTableWriter implements TableWriter {
+
+    static final char SEPARATOR = ';';
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+    private final DecimalFormat decimalFormat;
+
+    public CsvTableWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.decimalFormat = new DecimalFormat("0", DecimalFormatSymbols.getInstance(Locale.GERMANY));
+        this.decimalFormat.setGroupingUsed(false);
+        this.decimalFormat.setMaximumFractionDigits(340);
+    }
+
+    @Override
+    public void writeHeader(List<String> headers) throws IOException {
+        writer.write('\uFEFF');
+        writeRow(headers.toArray());
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(SEPARATOR);
+            }
+            writeValue(values[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof BigDecimal decimal) {
+            decimalFormat.setMinimumFractionDigits(Math.max(decimal.scale(), 0));
+            writer.write(decimalFormat.format(decimal));
+        } else if (value instanceof Double || value instanceof Float) {
+            decimalFormat.setMinimumFractionDigits(0);
+            writer.write(decimalFormat.format(value));
+        } else if (value instanceof Number || value instanceof Boolean) {
+            writer.write(value.toString());
+        } else {
+            writeText(value.toString());
+        }
+    }
+
+    private void writeText(String text) throws IOException {
+        if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        boolean quote = text.indexOf(SEPARATOR) >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,22 @@
+package com.iws_manager.iws_manager_api.export;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Header and value accessor of one exported column.
+ */
+public record ExportColumn<T>(String header, Function<T, ?> value) {
+
+    public static <T> List<String> headers(List<ExportColumn<T>> columns) {
+        return columns.stream().map(ExportColumn::header).toList();
+    }
+
+    public static <T> Object[] values(List<ExportColumn<T>> columns, T row) {
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = columns.get(i).value().apply(row);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,23 @@
+package com.iws_manager.iws_manager_api.export;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes a table row by row into an output stream without buffering the
+ * rows. Supported values are {@code null}, strings, numbers, booleans and
+ * {@link java.time.LocalDate}; anything else is written as its
+ * {@code toString()}.
+ */
+public interface TableWriter {
+
+    void writeHeader(List<String> headers) throws IOException;
+
+    void writeRow(Object[] values) throws IOException;
+
+    /**
+     * Completes the document and flushes it; the underlying stream is left
+     * open for the servlet container to close.
+     */
+    void finish() throws IOException;
+}
@@ -1,6 +1,9 @@
 package com.iws_manager.iws_manager_api.mappers;
 
+import com.iws_manager.iws_manager_api.models.EmployeeIws;
+import com.iws_manager.iws_manager_api.models.Order;
 import com.iws_manager.iws_manager_api.models.Project;
+import com.iws_manager.iws_manager_api.models.Promoter;
 import com.iws_manager.iws_manager_api.dtos.shared.CustomerInfoDTO;
 import com.iws_manager.iws_manager_api.dtos.shared.EmployeeIwsBasicDTO;
 import com.iws_manager.iws_manager_api.dtos.shared.OrderBasicDTO;
@@ -9,6 +12,7 @@ import com.iws_manager.iws_manager_api.dtos.shared.FundingProgramBasicDTO;
 import com.iws_manager.iws_manager_api.dtos.shared.PromoterBasicDTO;
 import com.iws_manager.iws_manager_api.dtos.shared.ProjectStatusBasicDTO;
 import com.iws_manager.iws_manager_api.dtos.project.ProjectResponseDTO;
+import com.iws_manager.iws_manager_api.dtos.project.ProjectSummaryDTO;
 
 public class ProjectMapper {
 
@@ -60,68 +64,17 @@ public class ProjectMapper {
                 project.getStartDate(),
                 project.getTitle(),
                 // Customer
-                project.getCustomer() != null ? new CustomerInfoDTO(
-                        project.getCustomer().getId(),
-                        project.getCustomer().getCustomername1(),
-                        project.getCustomer().getCustomername2(),
-                        project.getCustomer().getCity()) : null,
+                toCustomerDTO(project),
                 // empiws20
-                project.getEmpiws20() != null ? new EmployeeIwsBasicDTO(
-                        project.getEmpiws20().getId(),
-                        project.getEmpiws20().getEmployeeLabel(),
-                        project.getEmpiws20().getEmployeeNo(),
-                        project.getEmpiws20().getFirstname(),
-                        project.getEmpiws20().getLastname(),
-                        project.getEmpiws20().getMail(),
-                        project.getEmpiws20().getStartDate(),
-                        project.getEmpiws20().getEndDate(),
-                        project.getEmpiws20().getActive()) : null,
+                toEmployeeIwsDTO(project.getEmpiws20()),
                 // empiws30
-                project.getEmpiws30() != null ? new EmployeeIwsBasicDTO(
-                        project.getEmpiws30().getId(),
-                        project.getEmpiws30().getEmployeeLabel(),
-                        project.getEmpiws30().getEmployeeNo(),
-                        project.getEmpiws30().getFirstname(),
-                        project.getEmpiws30().getLastname(),
-                        project.getEmpiws30().getMail(),
-                        project.getEmpiws30().getStartDate(),
-                        project.getEmpiws30().getEndDate(),
-                        project.getEmpiws30().getActive()) : null,
+                toEmployeeIwsDTO(project.getEmpiws30()),
                 // empiws50
-                project.getEmpiws50() != null ? new EmployeeIwsBasicDTO(
-                        project.getEmpiws50().getId(),
-                        project.getEmpiws50().getEmployeeLabel(),
-                        project.getEmpiws50().getEmployeeNo(),
-                        project.getEmpiws50().getFirstname(),
-                        project.getEmpiws50().getLastname(),
-                        project.getEmpiws50().getMail(),
-                        project.getEmpiws50().getStartDate(),
-                        project.getEmpiws50().getEndDate(),
-                        project.getEmpiws50().getActive()) : null,
+                toEmployeeIwsDTO(project.getEmpiws50()),
                 // orderFue
-                project.getOrderFue() != null ? new OrderBasicDTO(
-                        project.getOrderFue().getId(),
-                        project.getOrderFue().getAcronym(),
-                        project.getOrderFue().getApprovalDate(),
-                        project.getOrderFue().getOrderLabel(),
-                        project.getOrderFue().getOrderNo(),
-                        project.getOrderFue().getOrderTitle(),
-                        project.getOrderFue().getOrderValue(),
-                        project.getOrderFue().getIwsProvision(),
-                        project.getOrderFue().getOrderDate(),
-                        project.getOrderFue().getSignatureDate()) : null,
+                toOrderDTO(project.getOrderFue()),
                 // orderAdmin
-                project.getOrderAdmin() != null ? new OrderBasicDTO(
-                        project.getOrderAdmin().getId(),
-                        project.getOrderAdmin().getAcronym(),
-                        project.getOrderAdmin().getApprovalDate(),
-                        project.getOrderAdmin().getOrderLabel(),
-                        project.getOrderAdmin().getOrderNo(),
-                        project.getOrderAdmin().getOrderTitle(),
-                        project.getOrderAdmin().getOrderValue(),
-                        project.getOrderAdmin().getIwsProvision(),
-                        project.getOrderAdmin().getOrderDate(),
-                        project.getOrderAdmin().getSignatureDate()) : null,
+                toOrderDTO(project.getOrderAdmin()),
                 // network
                 project.getNetwork() != null ? new NetworkBasicDTO(
                         project.getNetwork().getId(),
@@ -131,18 +84,86 @@ public class ProjectMapper {
                         project.getFundingProgram().getId(),
                         project.getFundingProgram().getName()) : null,
                 // promoter
-                project.getPromoter() != null ? new PromoterBasicDTO(
-                        project.getPromoter().getId(),
-                        project.getPromoter().getPromoterName1(),
-                        project.getPromoter().getPromoterName2(),
-                        project.getPromoter().getProjectPromoter(),
-                        project.getPromoter().getPromoterNo(),
-                        project.getPromoter().getCity(),
-                        project.getPromoter().getStreet(),
-                        project.getPromoter().getZipCode()) : null,
+                toPromoterDTO(project.getPromoter()),
                 // status
-                project.getStatus() != null ? new ProjectStatusBasicDTO(
-                        project.getStatus().getId(),
-                        project.getStatus().getName()) : null);
+                toStatusDTO(project));
+    }
+
+    public static ProjectSummaryDTO toSummaryDTO(Project project) {
+        if (project == null)
+            return null;
+
+        return new ProjectSummaryDTO(
+                project.getId(),
+                project.getVersion(),
+                project.getProjectLabel(),
+                project.getProjectName(),
+                project.getTitle(),
+                project.getStartDate(),
+                project.getEndDate(),
+                toCustomerDTO(project),
+                toStatusDTO(project));
+    }
+
+    private static CustomerInfoDTO toCustomerDTO(Project project) {
+        return project.getCustomer() != null ? new CustomerInfoDTO(
+                project.getCustomer().getId(),
+                project.getCustomer().getCustomername1(),
+                project.getCustomer().getCustomername2(),
+                project.getCustomer().getCity()) : null;
+    }
+
+    private static ProjectStatusBasicDTO toStatusDTO(Project project) {
+        return project.getStatus() != null ? new ProjectStatusBasicDTO(
+                project.getStatus().getId(),
+                project.getStatus().getName()) : null;
+    }
+
+    private static EmployeeIwsBasicDTO toEmployeeIwsDTO(EmployeeIws employee) {
+        if (employee == null) {
+            return null;
+        }
+        return new EmployeeIwsBasicDTO(
+                employee.getId(),
+                employee.getEmployeeLabel(),
+                employee.getEmployeeNo(),
+                employee.getFirstname(),
+                employee.getLastname(),
+                employee.getMail(),
+                employee.getStartDate(),
+                employee.getEndDate(),
+                employee.getActive());
+    }
+
+    private static OrderBasicDTO toOrderDTO(Order order) {
+        if (order == null) {
+            return null;
+        }
+        return new OrderBasicDTO(
+                order.getId(),
+                order.getAcronym(),
+                order.getApprovalDate(),
+                order.getOrderLabel(),
+                order.getOrderNo(),
+                order.getOrderTitle(),
+                order.getOrderValue(),
+                order.getIwsProvision(),
+                order.getOrderDate(),
+                order.getSignatureDate());
+    }
+
+    private static PromoterBasicDTO toPromoterDTO(Promoter promoter) {
+        if (promoter == null) {
+            return null;
+        }
+        return new PromoterBasicDTO(
+                promoter.getId(),
+                promoter.getPromoterName1(),
+                promoter.getPromoterName2(),
+                promoter.getProjectPromoter(),
+                promoter.getPromoterNo(),
+                promoter.getCity(),
+                promoter.getStreet(),
+                promoter.getZipCode());
     }
 }
\ No newline at end of file
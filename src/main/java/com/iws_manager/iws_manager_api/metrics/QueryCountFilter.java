@@ -0,0 +1,68 @@
+package com.iws_manager.iws_manager_api.metrics;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Records the number of SQL statements executed per request as
+ * {@code http.server.requests.queries} (tagged like
+ * {@code http.server.requests}) and logs a warning when a single request
+ * exceeds the configured threshold, which usually points at an N+1 pattern.
+ */
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    static final String METRIC_NAME = "http.server.requests.queries";
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    private final QueryCountingStatementInspector statementInspector;
+    private final MeterRegistry meterRegistry;
+    private final long warnThreshold;
+
+    public QueryCountFilter(QueryCountingStatementInspector statementInspector, MeterRegistry meterRegistry,
+            long warnThreshold) {
+        this.statementInspector = statementInspector;
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        statementInspector.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long queries = statementInspector.stop();
+            String uri = uriPattern(request);
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("SQL statements executed per HTTP request")
+                    .baseUnit("queries")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(queries);
+
+            if (warnThreshold > 0 && queries > warnThreshold) {
+                logger.warn("{} {} executed {} SQL statements (threshold {}), check for N+1 queries",
+                        request.getMethod(), request.getRequestURI(), queries, warnThreshold);
+            }
+        }
+    }
+
+    private String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
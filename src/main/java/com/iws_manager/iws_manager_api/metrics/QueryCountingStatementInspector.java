@@ -0,0 +1,39 @@
+package com.iws_manager.iws_manager_api.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * <p>
+ * Counting only happens between {@link #start()} and {@link #stop()}, which
+ * {@link QueryCountFilter} calls around each HTTP request. The SQL itself is
+ * passed through unchanged.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient ThreadLocal<long[]> counter = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = counter.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    public void start() {
+        counter.set(new long[1]);
+    }
+
+    /**
+     * @return the statements counted since {@link #start()}, {@code 0} if counting was not started
+     */
+    public long stop() {
+        long[] count = counter.get();
+        counter.remove();
+        return count != null ? count[0] : 0;
+    }
+}
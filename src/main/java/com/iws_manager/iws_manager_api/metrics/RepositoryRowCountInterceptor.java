@@ -0,0 +1,77 @@
+package com.iws_manager.iws_manager_api.metrics;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.BaseStream;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Slice;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Records how many rows each repository query method returns as
+ * {@code spring.data.repository.rows}, tagged with repository and method.
+ * Latency of the same invocations is recorded by Spring Boot as
+ * {@code spring.data.repository.invocations}.
+ * <p>
+ * Collections, pages/slices, optionals and single entities are counted;
+ * scalar results (counts, {@code exists}, modifying queries), void methods
+ * and streams are not.
+ */
+public class RepositoryRowCountInterceptor implements MethodInterceptor {
+
+    static final String METRIC_NAME = "spring.data.repository.rows";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final String repository;
+
+    public RepositoryRowCountInterceptor(ObjectProvider<MeterRegistry> meterRegistry, Class<?> repositoryInterface) {
+        this.meterRegistry = meterRegistry;
+        this.repository = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        Class<?> returnType = invocation.getMethod().getReturnType();
+        long rows = returnType == void.class ? -1 : countRows(result);
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (rows >= 0 && registry != null) {
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("Rows returned per repository method invocation")
+                    .baseUnit("rows")
+                    .tag("repository", repository)
+                    .tag("method", invocation.getMethod().getName())
+                    .register(registry)
+                    .record(rows);
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of rows in the result, {@code -1} if it is not a row result
+     */
+    static long countRows(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Number || result instanceof Boolean || result instanceof CharSequence
+                || result instanceof BaseStream<?, ?> || result instanceof Iterable<?>) {
+            return -1;
+        }
+        return 1;
+    }
+}
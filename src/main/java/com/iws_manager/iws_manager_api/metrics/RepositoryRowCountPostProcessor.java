@@ -0,0 +1,33 @@
+package com.iws_manager.iws_manager_api.metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Adds a {@link RepositoryRowCountInterceptor} to every Spring Data
+ * repository proxy. Works the same way as Spring Boot's own repository
+ * invocation metrics, hooking into the repository factory beans before they
+ * create their proxies.
+ */
+public class RepositoryRowCountPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public RepositoryRowCountPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+            repositoryFactoryBean.addRepositoryFactoryCustomizer(repositoryFactory -> repositoryFactory
+                    .addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) -> proxyFactory
+                            .addAdvice(new RepositoryRowCountInterceptor(meterRegistry,
+                                    repositoryInformation.getRepositoryInterface()))));
+        }
+        return bean;
+    }
+}
@@ -1,5 +1,7 @@
 package com.iws_manager.iws_manager_api.models;
 
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import com.iws_manager.iws_manager_api.models.base.BaseEntity;
 
@@ -22,11 +24,13 @@ public class AbsenceDay extends BaseEntity{
     @Column(name = "absencedate")
     private LocalDate absenceDate;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "absencetypeid", referencedColumnName = "absencetypeid")
     private AbsenceType absenceType;
 
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employeeid", referencedColumnName = "employeeid")
     private Employee employee;
@@ -1,5 +1,7 @@
 package com.iws_manager.iws_manager_api.models;
 
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import com.iws_manager.iws_manager_api.models.base.BaseEntity;
 
@@ -28,6 +30,7 @@ public class BasicContract extends BaseEntity{
     @Column(name = "contractno", nullable =  true)
     private Integer contractNo;
     
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "contractstatusid", referencedColumnName = "contractstatusid")
     private ContractStatus contractStatus;
@@ -35,6 +38,7 @@ public class BasicContract extends BaseEntity{
     @Column(name = "contracttitle", nullable =  true, length = 255)
     private String contractTitle;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customerid", referencedColumnName = "customerid")
     private Customer customer;
@@ -42,10 +46,12 @@ public class BasicContract extends BaseEntity{
     @Column(name = "`date`", nullable =  true, columnDefinition = "DATE")
     private LocalDate date;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "fundingprogramid", referencedColumnName = "fundingprogramid")
     private FundingProgram fundingProgram;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employeeiwsid", referencedColumnName = "employeeiwsid")
     private EmployeeIws employeeIws;
@@ -1,5 +1,7 @@
 package com.iws_manager.iws_manager_api.models;
 
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import com.iws_manager.iws_manager_api.models.base.BaseEntity;
 
@@ -23,6 +25,7 @@ public class ContactPerson extends BaseEntity{
     /**
      * Customer to whom the contact person is linked.
      */
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customerid", referencedColumnName = "customerid")
     private Customer customer;
@@ -60,6 +63,7 @@ public class ContactPerson extends BaseEntity{
     /**
      * Salutation of the contact person (e.g., Dr., Eng.).
      */
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "salutationid",  referencedColumnName = "salutationid")
     private Salutation salutation;
@@ -67,6 +71,7 @@ public class ContactPerson extends BaseEntity{
     /**
      * Title of the contact person (e.g., Mr., Mrs.).
      */
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "titleid",  referencedColumnName = "titleid")
     private Title title;
@@ -2,6 +2,8 @@ package com.iws_manager.iws_manager_api.models;
 
 import java.math.BigDecimal;
 
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.iws_manager.iws_manager_api.models.base.BaseEntity;
@@ -23,6 +25,7 @@ public class ContractOrderCommission extends BaseEntity {
     @Column(name = "commission", nullable = true, columnDefinition = "DECIMAL(5,2)")
     private BigDecimal commission;
     
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "basiccontractid", referencedColumnName = "basiccontractid")
     private BasicContract basicContract;
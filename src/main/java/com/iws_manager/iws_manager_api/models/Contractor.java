@@ -1,5 +1,7 @@
 package com.iws_manager.iws_manager_api.models;
 
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.iws_manager.iws_manager_api.models.base.BaseEntity;
@@ -41,10 +43,12 @@ public class Contractor extends BaseEntity{
     @Column(name = "contractorno", length = 255)
     private String number;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "countryid", referencedColumnName = "countryid")
     private Country country;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customerid", referencedColumnName = "customerid")
     private Customer customer;
@@ -1,4 +1,6 @@
 package com.iws_manager.iws_manager_api.models;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import com.iws_manager.iws_manager_api.models.base.BaseEntity;
 
@@ -17,6 +19,7 @@ import lombok.*;
 @AttributeOverride(name = "id", column = @Column(name = "customerid"))
 public class Customer extends BaseEntity{
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "branchid", referencedColumnName = "branchid", nullable = true)
     private Branch branch;
@@ -24,10 +27,12 @@ public class Customer extends BaseEntity{
     @Column(name = "city", nullable = true, length = 255)
     private String city;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "companytypeid", referencedColumnName = "companytypeid", nullable = true)
     private CompanyType companytype;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "countryid", referencedColumnName = "countryid")
     private Country country;
@@ -71,6 +76,7 @@ public class Customer extends BaseEntity{
     @Column(name = "phone", nullable = true, length = 255)
     private String phone;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "stateid", referencedColumnName = "stateid", nullable = true)
     private State state;
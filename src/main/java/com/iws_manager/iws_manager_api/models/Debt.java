@@ -3,6 +3,8 @@ package com.iws_manager.iws_manager_api.models;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.iws_manager.iws_manager_api.models.base.BaseEntity;
@@ -16,11 +18,31 @@ import lombok.*;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@NamedEntityGraph(
+    name = Debt.DETAIL_GRAPH,
+    attributeNodes = {
+        @NamedAttributeNode(value = "customer", subgraph = "customer"),
+        @NamedAttributeNode("order"),
+        @NamedAttributeNode("project"),
+        @NamedAttributeNode("promoter")
+    },
+    subgraphs = {
+        @NamedSubgraph(name = "customer", attributeNodes = {
+            @NamedAttributeNode("branch"),
+            @NamedAttributeNode("companytype"),
+            @NamedAttributeNode("country"),
+            @NamedAttributeNode("state")
+        })
+    }
+)
 @EntityListeners(AuditingEntityListener.class)
 @Table(name = "debt")
 @AttributeOverride(name = "id", column = @Column(name = "debtid"))
 public class Debt extends BaseEntity{
 
+    /** Name of the fetch plan used by the debt endpoints. */
+    public static final String DETAIL_GRAPH = "Debt.detail";
+
     @Column(name = "billingend", nullable = true, columnDefinition = "DATE")
     private LocalDate billingEnd;
     
@@ -39,6 +61,7 @@ public class Debt extends BaseEntity{
     @Column(name = "confdatelevel2", nullable = true, columnDefinition = "DATE")
     private LocalDate confDateLevel2;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customerid", referencedColumnName = "customerid")
     private Customer customer;
@@ -97,6 +120,7 @@ public class Debt extends BaseEntity{
     @Column(name = "openamount", nullable = true, columnDefinition = "DECIMAL(10,2)")
     private BigDecimal openAmount;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "orderid", referencedColumnName = "orderid")
     private Order order;
@@ -110,6 +134,7 @@ public class Debt extends BaseEntity{
     @Column(name = "projectend", nullable = true, columnDefinition = "DATE")
     private LocalDate projectEnd;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "projectid", referencedColumnName = "projectid")
     private Project project;
@@ -117,6 +142,7 @@ public class Debt extends BaseEntity{
     @Column(name = "projectstart", nullable = true, columnDefinition = "DATE")
     private LocalDate projectStart;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "promoterid", referencedColumnName = "promoterid")
     private Promoter promoter;
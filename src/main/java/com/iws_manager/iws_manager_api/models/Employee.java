@@ -4,6 +4,8 @@ import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.iws_manager.iws_manager_api.models.base.BaseEntity;
@@ -42,6 +44,7 @@ public class Employee extends BaseEntity {
     @Column(name = "coentrepreneursince")
     private LocalDate coentrepreneursince;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customerid", referencedColumnName = "customerid")
     private Customer customer;
@@ -67,6 +70,7 @@ public class Employee extends BaseEntity {
     @Column(name = "phone", length = 255)
     private String phone;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "qualificationfzid", referencedColumnName = "qualificationfzid")
     private QualificationFZ qualificationFZ;
@@ -74,6 +78,7 @@ public class Employee extends BaseEntity {
     @Column(name = "qualificationkmui", length = 255)
     private String qualificationkmui;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "salutationid", referencedColumnName = "salutationid")
     private Salutation salutation;
@@ -84,10 +89,12 @@ public class Employee extends BaseEntity {
     @Column(name = "soleproprietorsince")
     private LocalDate soleproprietorsince;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "titleid", referencedColumnName = "titleid")
     private Title title;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employeecategoryid", referencedColumnName = "employeecategoryid")
     private EmployeeCategory employeeCategory;
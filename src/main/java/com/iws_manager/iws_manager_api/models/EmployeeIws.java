@@ -3,6 +3,8 @@ package com.iws_manager.iws_manager_api.models;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.iws_manager.iws_manager_api.models.base.BaseEntity;
@@ -46,12 +48,14 @@ public class EmployeeIws extends BaseEntity{
     @Column(name = "startdate", nullable = true, columnDefinition = "DATE")
     private LocalDate startDate;
     
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(
         name = "teamiwsid"
     )
     private TeamIws teamIws;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "userid", referencedColumnName = "userid")
     private User user;
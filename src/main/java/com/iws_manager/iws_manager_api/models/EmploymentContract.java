@@ -1,6 +1,8 @@
 package com.iws_manager.iws_manager_api.models;
 
 import java.time.LocalDate;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import com.iws_manager.iws_manager_api.models.base.BaseEntity;
 
@@ -24,6 +26,7 @@ public class EmploymentContract extends BaseEntity{
     /**
      * Customer to whom the contract is linked.
      */
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customerid", referencedColumnName = "customerid")
     private Customer customer;
@@ -31,6 +34,7 @@ public class EmploymentContract extends BaseEntity{
     /**
      * Customer to whom the contract is linked.
      */
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employeeid", referencedColumnName = "employeeid")
     private Employee employee;
@@ -1,5 +1,7 @@
 package com.iws_manager.iws_manager_api.models;
 
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import com.iws_manager.iws_manager_api.models.base.BaseEntity;
 
@@ -15,12 +17,55 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@NamedEntityGraph(
+    name = Invoice.DETAIL_GRAPH,
+    attributeNodes = {
+        @NamedAttributeNode("biller"),
+        @NamedAttributeNode("cancelledInvoice"),
+        @NamedAttributeNode(value = "customer", subgraph = "customer"),
+        @NamedAttributeNode("invoiceType"),
+        @NamedAttributeNode("network"),
+        @NamedAttributeNode(value = "order", subgraph = "order"),
+        @NamedAttributeNode("payCondition"),
+        @NamedAttributeNode("vat")
+    },
+    subgraphs = {
+        @NamedSubgraph(name = "customer", attributeNodes = {
+            @NamedAttributeNode("branch"),
+            @NamedAttributeNode("companytype"),
+            @NamedAttributeNode("country"),
+            @NamedAttributeNode("state")
+        }),
+        @NamedSubgraph(name = "order", attributeNodes = {
+            @NamedAttributeNode("approvalStatus"),
+            @NamedAttributeNode(value = "basiccontract", subgraph = "orderReference"),
+            @NamedAttributeNode(value = "contractor", subgraph = "orderReference"),
+            @NamedAttributeNode("contractStatus"),
+            @NamedAttributeNode("customer"),
+            @NamedAttributeNode("employeeIws"),
+            @NamedAttributeNode("fundingProgram"),
+            @NamedAttributeNode("orderType"),
+            @NamedAttributeNode(value = "project", subgraph = "project"),
+            @NamedAttributeNode("promoter")
+        }),
+        @NamedSubgraph(name = "orderReference", attributeNodes = {
+            @NamedAttributeNode("customer")
+        }),
+        @NamedSubgraph(name = "project", attributeNodes = {
+            @NamedAttributeNode("customer"),
+            @NamedAttributeNode("promoter")
+        })
+    }
+)
 //@EqualsAndHashCode(callSuper = true, exclude = {"biller", "cancelledInvoice", "customer", "invoiceType", "network", "order", "payCondition", "vat"})
 @EntityListeners(AuditingEntityListener.class)
 @Table(name = "invoice")
 @AttributeOverride(name = "id", column = @Column(name = "invoiceid"))
 public class Invoice extends BaseEntity {
 
+    /** Name of the fetch plan used by the invoice endpoints. */
+    public static final String DETAIL_GRAPH = "Invoice.detail";
+
     @Column(name = "amountgross", nullable = true, columnDefinition = "DECIMAL(10,2)")
     private BigDecimal amountGross;
 
@@ -36,10 +81,12 @@ public class Invoice extends BaseEntity {
     @Column(name = "amounttax", nullable = true, columnDefinition = "DECIMAL(10,2)")
     private BigDecimal amountTax;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "billerid", referencedColumnName = "billerid", nullable = true)
     private Biller biller;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "cancelledinvoiceid", referencedColumnName = "invoiceid", nullable = true)
     private Invoice cancelledInvoice;
@@ -47,6 +94,7 @@ public class Invoice extends BaseEntity {
     @Column(name = "comment", nullable = true, length = 255)
     private String comment;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customerid", referencedColumnName = "customerid", nullable = true)
     private Customer customer;
@@ -57,13 +105,10 @@ public class Invoice extends BaseEntity {
     @Column(name = "invoiceno", nullable = true)
     private Integer invoiceNo;
 
-    @Lob
-    @Column(name = "invoicepdf", nullable = true, columnDefinition = "BLOB")
-    private byte[] invoicePdf;
-
     @Column(name = "invoicetitle", nullable = true, length = 255)
     private String invoiceTitle;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "invoicetypeid", referencedColumnName = "invoicetypeid", nullable = true)
     private InvoiceType invoiceType;
@@ -71,6 +116,7 @@ public class Invoice extends BaseEntity {
     @Column(name = "iscancellation", nullable = true, columnDefinition = "SMALLINT")
     private Short isCancellation;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "networkid", referencedColumnName = "networkid", nullable = true)
     private Network network;
@@ -78,10 +124,12 @@ public class Invoice extends BaseEntity {
     @Column(name = "note", columnDefinition = "TEXT", nullable = true)
     private String note;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "orderid", referencedColumnName = "orderid", nullable = true)
     private Order order;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "payconditionid", referencedColumnName = "payconditionid", nullable = true)
     private PayCondition payCondition;
@@ -95,6 +143,7 @@ public class Invoice extends BaseEntity {
     @Column(name = "taxrate", nullable = true, columnDefinition = "DECIMAL(5,2)")
     private BigDecimal taxRate;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "vatid", referencedColumnName = "vatid", nullable = true)
     private Vat vat;
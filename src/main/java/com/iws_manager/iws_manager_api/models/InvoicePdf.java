@@ -0,0 +1,30 @@
+package com.iws_manager.iws_manager_api.models;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * PDF column of the {@code invoice} table, mapped apart from {@link Invoice}
+ * so that loading invoices never reads the BLOB. The mapping keeps the column
+ * in the schema; content is read and written as a stream through
+ * {@code PdfDocumentRepository}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "invoice")
+public class InvoicePdf {
+
+    @Id
+    @Column(name = "invoiceid")
+    private Long id;
+
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "invoicepdf", nullable = true, columnDefinition = "BLOB")
+    private byte[] invoicePdf;
+}
@@ -1,5 +1,7 @@
 package com.iws_manager.iws_manager_api.models;
 
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.iws_manager.iws_manager_api.models.base.BaseEntity;
@@ -21,6 +23,7 @@ public class NetworkPartner extends BaseEntity {
     @Column(name = "`comment`", length = 255, nullable = true)
     private String comment;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(
         name = "contactid",
@@ -30,6 +33,7 @@ public class NetworkPartner extends BaseEntity {
     )
     private ContactPerson contact;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(
         name = "partnerid",
@@ -39,6 +43,7 @@ public class NetworkPartner extends BaseEntity {
     )
     private Customer partner;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(
         name = "networkid",
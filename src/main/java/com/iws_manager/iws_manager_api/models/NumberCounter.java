@@ -0,0 +1,47 @@
+package com.iws_manager.iws_manager_api.models;
+
+import java.io.Serializable;
+
+import com.iws_manager.iws_manager_api.dtos.numbering.NumberScope;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Next free business number per {@link NumberScope} and scope key.
+ * This entity is mapped to the 'number_counter' table, so the schema is kept
+ * by Hibernate like every other table; the counters themselves are read and
+ * locked through {@code NumberCounterRepository}.
+ */
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "number_counter")
+@IdClass(NumberCounter.Key.class)
+public class NumberCounter {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", nullable = false, length = 50)
+    private NumberScope scope;
+
+    @Id
+    @Column(name = "scope_key", nullable = false)
+    private Long scopeKey;
+
+    @Column(name = "next_val", nullable = false)
+    private Long nextValue;
+
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private NumberScope scope;
+        private Long scopeKey;
+    }
+}
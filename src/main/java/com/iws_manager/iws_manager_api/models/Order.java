@@ -3,6 +3,8 @@ package com.iws_manager.iws_manager_api.models;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.iws_manager.iws_manager_api.models.base.BaseEntity;
@@ -16,25 +18,71 @@ import lombok.*;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@NamedEntityGraph(
+    name = Order.DETAIL_GRAPH,
+    attributeNodes = {
+        @NamedAttributeNode("approvalStatus"),
+        @NamedAttributeNode(value = "basiccontract", subgraph = "basiccontract"),
+        @NamedAttributeNode(value = "contractor", subgraph = "contractor"),
+        @NamedAttributeNode("contractStatus"),
+        @NamedAttributeNode(value = "customer", subgraph = "customer"),
+        @NamedAttributeNode(value = "employeeIws", subgraph = "employeeIws"),
+        @NamedAttributeNode("fundingProgram"),
+        @NamedAttributeNode("orderType"),
+        @NamedAttributeNode(value = "project", subgraph = "project"),
+        @NamedAttributeNode(value = "promoter", subgraph = "promoter")
+    },
+    subgraphs = {
+        @NamedSubgraph(name = "customer", attributeNodes = {
+            @NamedAttributeNode("branch"),
+            @NamedAttributeNode("companytype"),
+            @NamedAttributeNode("country"),
+            @NamedAttributeNode("state")
+        }),
+        @NamedSubgraph(name = "basiccontract", attributeNodes = {
+            @NamedAttributeNode("contractStatus"),
+            @NamedAttributeNode(value = "customer", subgraph = "customer"),
+            @NamedAttributeNode("employeeIws"),
+            @NamedAttributeNode("fundingProgram")
+        }),
+        @NamedSubgraph(name = "contractor", attributeNodes = {
+            @NamedAttributeNode("country"),
+            @NamedAttributeNode(value = "customer", subgraph = "customer")
+        }),
+        @NamedSubgraph(name = "employeeIws", attributeNodes = {
+            @NamedAttributeNode("teamIws"),
+            @NamedAttributeNode("user")
+        }),
+        @NamedSubgraph(name = "project", attributeNodes = {
+            @NamedAttributeNode("customer"),
+            @NamedAttributeNode("fundingProgram"),
+            @NamedAttributeNode("promoter")
+        }),
+        @NamedSubgraph(name = "promoter", attributeNodes = {
+            @NamedAttributeNode("country")
+        })
+    }
+)
 @EntityListeners(AuditingEntityListener.class)
 @Table(name = "`order`")
 @AttributeOverride(name = "id", column = @Column(name = "orderid"))
 public class Order extends BaseEntity{
 
+    /** Name of the fetch plan used by the order endpoints. */
+    public static final String DETAIL_GRAPH = "Order.detail";
+
     @Column(name = "acronym", nullable = true, length = 255)
     private String acronym;
     
     @Column(name = "approvaldate", nullable = true, columnDefinition = "DATE")
     private LocalDate approvalDate;
 
-    @Lob
-    @Column(name = "approvalpdf", nullable = true, columnDefinition = "BLOB")
-    private byte[] approvalPdf;
-    
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "approvalstatusid", referencedColumnName = "approvalstatusid")
     private ApprovalStatus approvalStatus;
     
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "basiccontractid", referencedColumnName = "basiccontractid")
     private BasicContract basiccontract;
@@ -45,22 +93,22 @@ public class Order extends BaseEntity{
     @Column(name = "contractdata2", nullable = true, length = 255)
     private String contractData2;
     
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "contractorid", referencedColumnName = "contractorid")
     private Contractor contractor;
     
-    @Lob
-    @Column(name = "contractpdf", nullable = true, columnDefinition = "BLOB")
-    private byte[] contractPdf;
-    
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "contractstatusid", referencedColumnName = "contractstatusid")
     private ContractStatus contractStatus;
     
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customerid", referencedColumnName = "customerid")
     private Customer customer;
     
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employeeiwsid", referencedColumnName = "employeeiwsid")
     private EmployeeIws employeeIws;
@@ -68,6 +116,7 @@ public class Order extends BaseEntity{
     @Column(name = "fixcommission", nullable = true, columnDefinition = "DECIMAL(5,2)")
     private BigDecimal fixCommission;
     
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "fundingprogramid", referencedColumnName = "fundingprogramid")
     private FundingProgram fundingProgram;
@@ -93,6 +142,7 @@ public class Order extends BaseEntity{
     @Column(name = "orderno", nullable = true)
     private Integer orderNo;
     
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(
         name = "ordertypeid", 
@@ -107,10 +157,12 @@ public class Order extends BaseEntity{
     @Column(name = "ordervalue", nullable = true, columnDefinition = "DECIMAL(10,2)")
     private BigDecimal orderValue;
     
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "projectid", referencedColumnName = "projectid")
     private Project project;
     
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "promoterid", referencedColumnName = "promoterid")
     private Promoter promoter;
@@ -2,6 +2,8 @@ package com.iws_manager.iws_manager_api.models;
 
 import java.math.BigDecimal;
 
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.iws_manager.iws_manager_api.models.base.BaseEntity;
@@ -29,6 +31,7 @@ public class OrderCommission extends BaseEntity{
     @Column(name = "mincommission", nullable = true, columnDefinition = "DECIMAL(10,2)")
     private BigDecimal minCommission;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "orderid", referencedColumnName = "orderid")
     private Order order;
@@ -1,6 +1,8 @@
 package com.iws_manager.iws_manager_api.models;
 
 import com.iws_manager.iws_manager_api.models.base.BaseEntity;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import jakarta.persistence.AttributeOverride;
@@ -31,6 +33,7 @@ import java.math.BigDecimal;
 @AttributeOverride(name = "id", column = @Column(name = "orderemployeeid", nullable = false))
 public class OrderEmployee extends BaseEntity {
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employeeid", referencedColumnName = "employeeid")
     private Employee employee;
@@ -44,10 +47,12 @@ public class OrderEmployee extends BaseEntity {
     @Column(name = "plannedhours", precision = 10, scale = 2)
     private BigDecimal plannedhours;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "orderid", referencedColumnName = "orderid")
     private Order order;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "qualificationfzid", referencedColumnName = "qualificationfzid")
     private QualificationFZ qualificationFZ;
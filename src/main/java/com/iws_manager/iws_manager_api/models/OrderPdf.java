@@ -0,0 +1,35 @@
+package com.iws_manager.iws_manager_api.models;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * PDF columns of the {@code order} table, mapped apart from {@link Order} so
+ * that loading orders never reads the BLOBs. The mapping keeps the columns in
+ * the schema; content is read and written as streams through
+ * {@code PdfDocumentRepository}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "`order`")
+public class OrderPdf {
+
+    @Id
+    @Column(name = "orderid")
+    private Long id;
+
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "approvalpdf", nullable = true, columnDefinition = "BLOB")
+    private byte[] approvalPdf;
+
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "contractpdf", nullable = true, columnDefinition = "BLOB")
+    private byte[] contractPdf;
+}
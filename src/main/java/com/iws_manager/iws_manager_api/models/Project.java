@@ -3,6 +3,8 @@ package com.iws_manager.iws_manager_api.models;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
@@ -18,11 +20,73 @@ import lombok.*;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@NamedEntityGraphs({
+    @NamedEntityGraph(
+        name = Project.SHALLOW_GRAPH,
+        attributeNodes = {
+            @NamedAttributeNode("customer"),
+            @NamedAttributeNode("status")
+        }
+    ),
+    @NamedEntityGraph(
+        name = Project.MEDIUM_GRAPH,
+        attributeNodes = {
+            @NamedAttributeNode("customer"),
+            @NamedAttributeNode("empiws20"),
+            @NamedAttributeNode("empiws30"),
+            @NamedAttributeNode("empiws50"),
+            @NamedAttributeNode("fundingProgram"),
+            @NamedAttributeNode("network"),
+            @NamedAttributeNode("orderAdmin"),
+            @NamedAttributeNode("orderFue"),
+            @NamedAttributeNode("promoter"),
+            @NamedAttributeNode("status")
+        }
+    ),
+    @NamedEntityGraph(
+        name = Project.DEEP_GRAPH,
+        attributeNodes = {
+            @NamedAttributeNode(value = "customer", subgraph = "customer"),
+            @NamedAttributeNode("empiws20"),
+            @NamedAttributeNode("empiws30"),
+            @NamedAttributeNode("empiws50"),
+            @NamedAttributeNode("fundingProgram"),
+            @NamedAttributeNode("network"),
+            @NamedAttributeNode("orderAdmin"),
+            @NamedAttributeNode("orderFue"),
+            @NamedAttributeNode(value = "promoter", subgraph = "promoter"),
+            @NamedAttributeNode("status")
+        },
+        subgraphs = {
+            @NamedSubgraph(name = "customer", attributeNodes = {
+                @NamedAttributeNode("branch"),
+                @NamedAttributeNode("companytype"),
+                @NamedAttributeNode("country"),
+                @NamedAttributeNode("state")
+            }),
+            @NamedSubgraph(name = "promoter", attributeNodes = {
+                @NamedAttributeNode("country")
+            })
+        }
+    )
+})
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "project")
+@Table(name = "project", indexes = {
+        @Index(name = "idx_project_label_id", columnList = "projectlabel, projectid"),
+        @Index(name = "idx_project_name_id", columnList = "projectname, projectid")
+})
 @AttributeOverride(name = "id", column = @Column(name = "projectid"))
 public class Project extends BaseEntity {
 
+    /** Fetch plan for list and lookup endpoints: the project with customer and status. */
+    public static final String SHALLOW_GRAPH = "Project.shallow";
+
+    /** Fetch plan with every association of the project, without their own associations. */
+    public static final String MEDIUM_GRAPH = "Project.medium";
+
+    /** Fetch plan for serializing the entity itself, including customer and promoter lookups. */
+    public static final String DEEP_GRAPH = "Project.deep";
+
     @Column(name = "approvaldate", nullable = true, columnDefinition = "DATE")
     private LocalDate approvalDate;
 
@@ -35,6 +99,7 @@ public class Project extends BaseEntity {
     @Column(name = "`comment`", nullable = true, length = 255)
     private String comment;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customerid", referencedColumnName = "customerid")
     private Customer customer;
@@ -63,14 +128,17 @@ public class Project extends BaseEntity {
     @Column(name = "donation", nullable = true, columnDefinition = "DECIMAL(10,2)")
     private BigDecimal donation;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "empiws20id", referencedColumnName = "employeeiwsid")
     private EmployeeIws empiws20;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "empiws30id", referencedColumnName = "employeeiwsid")
     private EmployeeIws empiws30;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "empiws50id", referencedColumnName = "employeeiwsid")
     private EmployeeIws empiws50;
@@ -87,6 +155,7 @@ public class Project extends BaseEntity {
     @Column(name = "fundinglabel", length = 255)
     private String fundingLabel;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "fundingprogramid", referencedColumnName = "fundingprogramid")
     private FundingProgram fundingProgram;
@@ -118,16 +187,19 @@ public class Project extends BaseEntity {
     @Column(name = "maxhoursperyear", nullable = true, columnDefinition = "DECIMAL(5,2)")
     private BigDecimal maxHoursPerYear;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "networkid", referencedColumnName = "networkid")
     private Network network;
 
     @JsonIgnoreProperties("project")
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "orderidfue", referencedColumnName = "orderid")
     private Order orderFue;
 
     @JsonIgnoreProperties("project")
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "orderidadmin", referencedColumnName = "orderid")
     private Order orderAdmin;
@@ -144,6 +216,7 @@ public class Project extends BaseEntity {
     @Column(name = "projectname", length = 255)
     private String projectName;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "promoterid", referencedColumnName = "promoterid")
     private Promoter promoter;
@@ -160,6 +233,7 @@ public class Project extends BaseEntity {
     @Column(name = "startdate", nullable = true, columnDefinition = "DATE")
     private LocalDate startDate;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "statusid", referencedColumnName = "statusid")
     private ProjectStatus status;
@@ -1,5 +1,7 @@
 package com.iws_manager.iws_manager_api.models;
 
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.iws_manager.iws_manager_api.models.base.BaseEntity;
@@ -8,6 +10,7 @@ import jakarta.persistence.AttributeOverride;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.EntityListeners;
@@ -26,7 +29,10 @@ import java.math.BigDecimal;
 @NoArgsConstructor
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "projectcost")
+@Table(name = "projectcost", indexes = {
+        @Index(name = "idx_projectcost_costs", columnList = "costs"),
+        @Index(name = "idx_projectcost_project_period_type", columnList = "projectid, projectperiodid, approveorplan")
+})
 @AttributeOverride(name = "id", column = @Column(name = "projectcostid"))
 public class ProjectCost extends BaseEntity {
 
@@ -36,10 +42,12 @@ public class ProjectCost extends BaseEntity {
     @Column(name = "costs", precision = 10, scale = 2)
     private BigDecimal costs;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "projectid", referencedColumnName = "projectid")
     private Project project;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "projectperiodid", referencedColumnName = "projectperiodid")
     private ProjectPeriod projectPeriod;
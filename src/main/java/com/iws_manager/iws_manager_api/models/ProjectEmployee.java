@@ -3,6 +3,8 @@ package com.iws_manager.iws_manager_api.models;
 import com.iws_manager.iws_manager_api.models.Employee;
 import com.iws_manager.iws_manager_api.models.Project;
 import com.iws_manager.iws_manager_api.models.base.BaseEntity;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import jakarta.persistence.AttributeOverride;
@@ -32,6 +34,7 @@ import java.math.BigDecimal;
 @AttributeOverride(name = "id", column = @Column(name = "projectemployeeid", nullable = false))
 public class ProjectEmployee extends BaseEntity {
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employeeid", referencedColumnName = "employeeid")
     private Employee employee;
@@ -46,6 +49,7 @@ public class ProjectEmployee extends BaseEntity {
     @Column(name = "plannedhours", precision = 10, scale = 2)
     private BigDecimal plannedhours;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "projectid", referencedColumnName = "projectid")
     private Project project;
@@ -15,6 +15,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDate;
@@ -38,6 +40,7 @@ public class ProjectPeriod extends BaseEntity {
     @Column(name = "end", columnDefinition = "DATE")
     private LocalDate endDate;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JsonIgnoreProperties({ "customer", "hibernateLazyInitializer", "handler" })
     @JoinColumn(name = "projectid")
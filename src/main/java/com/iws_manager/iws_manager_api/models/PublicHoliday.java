@@ -18,6 +18,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDate;
@@ -47,11 +49,13 @@ public class PublicHoliday extends BaseEntity {
     private Integer sequenceNo;
 
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SUBSELECT)
     @OneToMany(fetch=FetchType.LAZY, mappedBy = "publicHoliday", cascade = CascadeType.REMOVE)
     @JsonIgnoreProperties("publicHoliday")
     private List<StateHoliday> stateHolidays;
 
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SUBSELECT)
     @OneToMany(fetch=FetchType.LAZY, mappedBy = "publicHoliday", cascade = CascadeType.REMOVE)
     @JsonIgnoreProperties("publicHoliday")
     private List<HolidayYear> holidayYears;
@@ -13,6 +13,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Getter
@@ -27,10 +29,12 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 public class StateHoliday extends BaseEntity {
     private Boolean isholiday;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne
     @JoinColumn(name = "publicholidayid")
     private PublicHoliday publicHoliday;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne
     @JoinColumn(name = "stateid")
     private State state;
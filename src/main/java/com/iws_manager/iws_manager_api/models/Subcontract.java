@@ -3,6 +3,8 @@ package com.iws_manager.iws_manager_api.models;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.iws_manager.iws_manager_api.models.base.BaseEntity;
@@ -27,6 +29,7 @@ public class Subcontract extends BaseEntity{
     @Column(name = "afamonths", nullable = true, columnDefinition = "SMALLINT")
     private Integer afamonths;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "contractorid", referencedColumnName = "contractorid")
     private Contractor contractor;
@@ -34,6 +37,7 @@ public class Subcontract extends BaseEntity{
     @Column(name = "contracttitle", length = 255)
     private String contractTitle;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customerid", referencedColumnName = "customerid")
     private Customer customer;
@@ -68,6 +72,7 @@ public class Subcontract extends BaseEntity{
     @Column(name = "note", length = 255)
     private String note;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "projectcostcenterid", referencedColumnName = "projectcostcenterid")
     private ProjectCostCenter projectCostCenter;
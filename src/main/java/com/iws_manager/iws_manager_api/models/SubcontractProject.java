@@ -3,6 +3,8 @@ package com.iws_manager.iws_manager_api.models;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.iws_manager.iws_manager_api.models.base.BaseEntity;
@@ -21,6 +23,7 @@ import lombok.*;
 @AttributeOverride(name = "id", column = @Column(name = "subcontractprojectid"))
 public class SubcontractProject extends BaseEntity{
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "subcontractyearid", referencedColumnName = "subcontractyearid")
     private SubcontractYear subcontractYear;
@@ -28,10 +31,12 @@ public class SubcontractProject extends BaseEntity{
     @Column(name = "amount", nullable = true, columnDefinition = "DECIMAL(10,2)")
     private BigDecimal amount;
     
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "projectid", referencedColumnName = "projectid")
     private Project project;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "subcontractid", referencedColumnName = "subcontractid")
     private Subcontract subcontract;
@@ -1,6 +1,8 @@
 package com.iws_manager.iws_manager_api.models;
 
 import java.time.LocalDate;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import com.iws_manager.iws_manager_api.models.base.BaseEntity;
 
@@ -21,6 +23,7 @@ public class SubcontractYear extends BaseEntity{
     @Column(name = "months", columnDefinition = "TINYINT")
     private Integer months;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "subcontractid", referencedColumnName = "subcontractid")
     private Subcontract subcontract;
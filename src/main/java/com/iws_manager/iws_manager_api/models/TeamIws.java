@@ -1,6 +1,8 @@
 package com.iws_manager.iws_manager_api.models;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import com.iws_manager.iws_manager_api.models.base.BaseEntity;
 import com.fasterxml.jackson.annotation.JsonBackReference;
@@ -22,6 +24,7 @@ public class TeamIws extends BaseEntity {
     @Column(name = "teamiws", nullable = true, length = 255)
     private String name;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "teamleaderid", nullable = true)
     @JsonIgnoreProperties(value = {"teamIws", "team", "hibernateLazyInitializer", "handler"}, allowSetters = true)
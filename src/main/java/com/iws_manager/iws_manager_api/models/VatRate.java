@@ -1,5 +1,7 @@
 package com.iws_manager.iws_manager_api.models;
 
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfileOverride;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import com.iws_manager.iws_manager_api.models.base.BaseEntity;
 
@@ -26,6 +28,7 @@ public class VatRate extends BaseEntity {
     @Column(name = "rate", nullable = true, columnDefinition = "DECIMAL(5,2)")
     private BigDecimal rate;
 
+    @FetchProfileOverride(profile = BaseEntity.RESPONSE_FETCH_PROFILE, mode = FetchMode.SELECT)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "vatid", referencedColumnName = "vatid", nullable = true )
     private Vat vat;
@@ -2,6 +2,7 @@ package com.iws_manager.iws_manager_api.models.base;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.FetchProfile;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -46,8 +47,17 @@ import lombok.Setter;
 @Setter
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
+@FetchProfile(name = BaseEntity.RESPONSE_FETCH_PROFILE)
 public abstract class BaseEntity {
 
+    /**
+     * Fetch profile that loads every association an entity serializes, for
+     * endpoints that return entities instead of DTOs. Each association opts
+     * in with {@code @FetchProfileOverride}; to-ones are loaded by batched
+     * selects, collections by subselect.
+     */
+    public static final String RESPONSE_FETCH_PROFILE = "entity-response";
+
     /**
      * The primary key identifier for the entity.
      * <p>
@@ -1,8 +1,11 @@
 package com.iws_manager.iws_manager_api.repositories;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,12 +20,19 @@ import com.iws_manager.iws_manager_api.models.AbsenceDay;
 @Repository
 public interface AbsenceDayRepository extends JpaRepository<AbsenceDay, Long> {
 
+    @EntityGraph(attributePaths = {"absenceType", "employee"})
+    Optional<AbsenceDay> findById(Long id);
+
+    @EntityGraph(attributePaths = {"absenceType", "employee"})
+    List<AbsenceDay> findAll();
+
     /**
      * Finds all absence days for a specific employee.
      * 
      * @param employeeId the ID of the employee to search for
      * @return list of absence days associated with the employee
      */
+    @EntityGraph(attributePaths = {"absenceType", "employee"})
     List<AbsenceDay> findByEmployeeId(Long employeeId);
 
     /**
@@ -33,6 +43,7 @@ public interface AbsenceDayRepository extends JpaRepository<AbsenceDay, Long> {
      * @param endDate    the end date of the range (inclusive)
      * @return list of absence days matching the criteria
      */
+    @EntityGraph(attributePaths = {"absenceType", "employee"})
     List<AbsenceDay> findByEmployeeIdAndAbsenceDateBetween(
             Long employeeId,
             LocalDate startDate,
@@ -45,6 +56,7 @@ public interface AbsenceDayRepository extends JpaRepository<AbsenceDay, Long> {
      * @param absenceTypeId the ID of the absence type to filter by
      * @return list of matching absence days
      */
+    @EntityGraph(attributePaths = {"absenceType", "employee"})
     List<AbsenceDay> findByEmployeeIdAndAbsenceTypeId(
             Long employeeId,
             Long absenceTypeId);
@@ -93,6 +105,7 @@ public interface AbsenceDayRepository extends JpaRepository<AbsenceDay, Long> {
      * @param year       the year to filter by
      * @return list of absence days matching the criteria
      */
+    @EntityGraph(attributePaths = {"absenceType", "employee"})
     @Query("SELECT a FROM AbsenceDay a WHERE a.employee.id = :employeeId " +
             "AND YEAR(a.absenceDate) = :year")
     List<AbsenceDay> findByEmployeeIdAndYear(@Param("employeeId") Long employeeId,
@@ -135,4 +148,25 @@ public interface AbsenceDayRepository extends JpaRepository<AbsenceDay, Long> {
     List<Object[]> countAbsenceDaysByTypeForEmployeeAndYear(
             @Param("employeeId") Long employeeId,
             @Param("year") int year);
-}
\ No newline at end of file
+
+    /**
+     * Loads the (employee ID, absence date) pairs already recorded for a set of
+     * employees within a date range, so bulk imports can detect duplicates in
+     * memory with a single query.
+     * Returns an array of objects where each contains:
+     * - [0] Employee ID (Long)
+     * - [1] Absence date (LocalDate)
+     *
+     * @param employeeIds the IDs of the employees
+     * @param startDate   the start date of the range (inclusive)
+     * @param endDate     the end date of the range (inclusive)
+     * @return list of Object arrays containing employee ID and absence date
+     */
+    @Query("SELECT a.employee.id, a.absenceDate FROM AbsenceDay a " +
+            "WHERE a.employee.id IN :employeeIds " +
+            "AND a.absenceDate BETWEEN :startDate AND :endDate")
+    List<Object[]> findEmployeeIdAndAbsenceDateByEmployeeIdInAndAbsenceDateBetween(
+            @Param("employeeIds") Collection<Long> employeeIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+}
@@ -64,4 +64,7 @@ public interface BasicContractRepository extends JpaRepository<BasicContract, Lo
     // Other Queries
     @Query("SELECT MAX(b.contractNo) FROM BasicContract b")
     Optional<Integer> findMaxContractNoOptional();
+
+    @Query("SELECT b.id FROM BasicContract b")
+    List<Long> findAllIds();
 }
\ No newline at end of file
@@ -3,9 +3,13 @@ package com.iws_manager.iws_manager_api.repositories;
 import com.iws_manager.iws_manager_api.models.ContractOrderCommission;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -90,4 +94,41 @@ public interface ContractOrderCommissionRepository extends JpaRepository<Contrac
     //SORTING
     @EntityGraph(attributePaths = {"basicContract"})
     List<ContractOrderCommission> findByBasicContractIdOrderByFromOrderValueAsc(Long basicContractId);
+
+    // Tier rows for the commission engine: [basicContractId, fromOrderValue, commission, minCommission]
+    @Query("SELECT c.basicContract.id, c.fromOrderValue, c.commission, c.minCommission FROM ContractOrderCommission c "
+            + "WHERE c.basicContract.id IN :basicContractIds")
+    List<Object[]> findTierRowsByBasicContractIds(@Param("basicContractIds") Collection<Long> basicContractIds);
+
+    // TEMPLATE CLONING - single INSERT ... SELECT statements returning the number of inserted rows.
+    // Ids come from AUTO_INCREMENT, so CommissionTemplateServiceImpl skips them under the pooled-ids profile.
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO contractordercommission "
+            + "(basiccontractid, commission, fromordervalue, mincommission, created_at, updated_at, version) "
+            + "SELECT :basicContractId, i.commission, i.fromordervalue, i.mincommission, "
+            + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0 FROM iwscommission i", nativeQuery = true)
+    int cloneIwsCommissions(@Param("basicContractId") Long basicContractId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO contractordercommission "
+            + "(basiccontractid, commission, fromordervalue, mincommission, created_at, updated_at, version) "
+            + "SELECT b.basiccontractid, i.commission, i.fromordervalue, i.mincommission, "
+            + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0 FROM basiccontract b CROSS JOIN iwscommission i", nativeQuery = true)
+    int cloneIwsCommissionsForAllBasicContracts();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO contractordercommission "
+            + "(basiccontractid, commission, fromordervalue, mincommission, created_at, updated_at, version) "
+            + "SELECT b.basiccontractid, i.commission, i.fromordervalue, i.mincommission, "
+            + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0 FROM basiccontract b CROSS JOIN iwscommission i "
+            + "WHERE b.basiccontractid IN (:basicContractIds)", nativeQuery = true)
+    int cloneIwsCommissionsForBasicContracts(@Param("basicContractIds") Collection<Long> basicContractIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ContractOrderCommission c")
+    int deleteAllInBulk();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ContractOrderCommission c WHERE c.basicContract.id IN :basicContractIds")
+    int deleteAllByBasicContractIdIn(@Param("basicContractIds") Collection<Long> basicContractIds);
 }
\ No newline at end of file
@@ -4,76 +4,123 @@ import java.time.LocalDate;
 import java.util.List;
 import java.math.BigDecimal;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import com.iws_manager.iws_manager_api.dtos.debt.DebtListItemDTO;
 import com.iws_manager.iws_manager_api.models.Debt;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface DebtRepository extends JpaRepository<Debt, Long> {
-    @EntityGraph(attributePaths = {"customer", "order", "project", "promoter"})
+    @EntityGraph(Debt.DETAIL_GRAPH)
     Optional<Debt> findById(Long id);
     //findAll
-    @EntityGraph(attributePaths = {"customer", "order", "project", "promoter"})
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findAllByOrderByDebtNoAsc();
 
     //properties Methods
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByBillingEnd(LocalDate billingEnd);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByBillingMonths(Integer billingMonths);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByBillingStart(LocalDate billingStart);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByComment(String comment);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByConfDateLevel1(LocalDate confDateLevel1);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByConfDateLevel2(LocalDate confDateLevel2);
-    @EntityGraph(attributePaths = {"customer", "order", "project", "promoter"})
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByCustomerId(Long customerId);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByDate(LocalDate date);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByDebtNo(Integer debtNo);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByDebtTitle(String debtTitle);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByDonation(BigDecimal donation);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByFundinglabel(String fundinglabel);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByGrossAmount(BigDecimal grossAmount);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByIwsDeptAmount1(BigDecimal iwsDeptAmount1);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByIwsDeptAmount2(BigDecimal iwsDeptAmount2);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByIwsPercent(BigDecimal iwsPercent);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByKmui0838(BigDecimal kmui0838);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByKmui0847(BigDecimal kmui0847);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByKmui0848(BigDecimal kmui0848);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByKmui0850(BigDecimal kmui0850);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByKmui0856(BigDecimal kmui0856);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByKmui0860(BigDecimal kmui0860);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByLastPaymentDate(LocalDate lastPaymentDate);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByNetAmount(BigDecimal netAmount);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByOpenAmount(BigDecimal openAmount);
-    @EntityGraph(attributePaths = {"customer", "order", "project", "promoter"})
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByOrderId(Long orderId);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByPayedAmount(BigDecimal payedAmount);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByProjectCosts(BigDecimal projectCosts);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByProjectEnd(LocalDate projectEnd);
-    @EntityGraph(attributePaths = {"customer", "order", "project", "promoter"})
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByProjectId(Long projectId);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByProjectStart(LocalDate projectStart);
-    @EntityGraph(attributePaths = {"customer", "order", "project", "promoter"})
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByPromoterId(Long promoterId);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByRequestNo(Integer requestNo);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByTaxAmount(BigDecimal taxAmount);
 
     // Additional Methods
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByDebtTitleContainingIgnoreCase(String titlePart);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByCommentContainingIgnoreCase(String commentPart);
 
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByBillingStartBetween(LocalDate startDate, LocalDate endDate);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByBillingEndBetween(LocalDate startDate, LocalDate endDate);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByDateBetween(LocalDate startDate, LocalDate endDate);
 
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByGrossAmountGreaterThan(BigDecimal amount);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByGrossAmountLessThan(BigDecimal amount);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByGrossAmountBetween(BigDecimal minAmount, BigDecimal maxAmount);
     
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByNetAmountGreaterThan(BigDecimal amount);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByNetAmountLessThan(BigDecimal amount);
+    @EntityGraph(Debt.DETAIL_GRAPH)
     List<Debt> findByNetAmountBetween(BigDecimal minAmount, BigDecimal maxAmount);
 
     //queries
@@ -83,6 +130,26 @@ public interface DebtRepository extends JpaRepository<Debt, Long> {
     @Query("SELECT SUM(d.grossAmount - d.payedAmount) FROM Debt d WHERE d.project.id = :projectId")
     BigDecimal sumOpenAmountByProject(@Param("projectId") Long projectId);
 
+    @EntityGraph(Debt.DETAIL_GRAPH)
     @Query("SELECT d FROM Debt d WHERE d.date < :currentDate AND d.grossAmount > d.payedAmount ORDER BY d.date ASC")
     List<Debt> findOverdueDebts(@Param("currentDate") LocalDate currentDate);
-}
\ No newline at end of file
+
+    // Forward-only cursor for exports; every filter is optional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.iws_manager.iws_manager_api.dtos.debt.DebtListItemDTO("
+            + "d.id, d.debtNo, d.debtTitle, d.date, d.billingStart, d.billingEnd, d.netAmount, d.taxAmount, "
+            + "d.grossAmount, d.payedAmount, d.openAmount, d.lastPaymentDate, c.id, c.customername1, "
+            + "o.id, o.orderNo, p.id, p.projectLabel, d.version) "
+            + "FROM Debt d LEFT JOIN d.customer c LEFT JOIN d.order o LEFT JOIN d.project p "
+            + "WHERE (:customerId IS NULL OR c.id = :customerId) "
+            + "AND (:projectId IS NULL OR p.id = :projectId) "
+            + "AND (:orderId IS NULL OR o.id = :orderId) "
+            + "AND (:promoterId IS NULL OR d.promoter.id = :promoterId) "
+            + "AND (:dateFrom IS NULL OR d.date >= :dateFrom) "
+            + "AND (:dateTo IS NULL OR d.date <= :dateTo) "
+            + "ORDER BY d.debtNo ASC, d.id ASC")
+    Stream<DebtListItemDTO> streamListItems(@Param("customerId") Long customerId,
+            @Param("projectId") Long projectId, @Param("orderId") Long orderId,
+            @Param("promoterId") Long promoterId, @Param("dateFrom") LocalDate dateFrom,
+            @Param("dateTo") LocalDate dateTo);
+}
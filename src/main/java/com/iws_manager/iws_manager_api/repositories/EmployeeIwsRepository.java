@@ -1,6 +1,7 @@
 package com.iws_manager.iws_manager_api.repositories;
 
 import java.util.List;
+import java.util.Optional;
 import java.time.LocalDate;
 
 import com.iws_manager.iws_manager_api.models.EmployeeIws;
@@ -11,10 +12,14 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface EmployeeIwsRepository extends JpaRepository<EmployeeIws, Long> {
+
+    @EntityGraph(attributePaths = {"teamIws", "user"})
+    Optional<EmployeeIws> findById(Long id);
     
     // FIND ALL
     @EntityGraph(attributePaths = {"teamIws", "user"})
     List<EmployeeIws> findAll();
+
     @EntityGraph(attributePaths = { "teamIws", "user"})
     List<EmployeeIws> findAllByOrderByLastnameAsc();
     @EntityGraph(attributePaths = { "teamIws", "user"})
@@ -1,15 +1,23 @@
 package com.iws_manager.iws_manager_api.repositories;
 
+import com.iws_manager.iws_manager_api.dtos.employee.EmployeeNameDTO;
 import com.iws_manager.iws_manager_api.models.Employee;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+
+    @EntityGraph(attributePaths = {"customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "qualificationFZ", "salutation", "title", "employeeCategory"})
+    Optional<Employee> findById(Long id);
+
     @EntityGraph(attributePaths = {"customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "qualificationFZ", "salutation", "title", "employeeCategory"})
     List<Employee> findAllByOrderByEmployeenoAsc();
 
@@ -31,4 +39,24 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
     @Query("SELECT MAX(e.employeeno) FROM Employee e WHERE e.customer.id = :customerId")
     Integer findMaxEmployeenoByCustomerId(Long customerId);
-}
\ No newline at end of file
+
+    @Query("SELECT e.id FROM Employee e WHERE e.id IN :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    // NAME LOOKUPS - only the columns shown in dropdowns, sorted by the
+    // database collation (utf8mb4_german2_ci) on "lastname, firstname"
+    String FULL_NAME = "CASE WHEN TRIM(COALESCE(e.lastname, '')) <> '' AND TRIM(COALESCE(e.firstname, '')) <> ''"
+            + " THEN CONCAT(TRIM(e.lastname), ', ', TRIM(e.firstname))"
+            + " WHEN TRIM(COALESCE(e.lastname, '')) <> '' THEN TRIM(e.lastname)"
+            + " ELSE TRIM(COALESCE(e.firstname, '')) END";
+    String NAME_QUERY = "SELECT new com.iws_manager.iws_manager_api.dtos.employee.EmployeeNameDTO("
+            + "e.id, e.employeeno, e.firstname, e.lastname, " + FULL_NAME + ") FROM Employee e ";
+
+    @Query(NAME_QUERY + "WHERE e.customer.id = :customerId ORDER BY " + FULL_NAME + ", e.id")
+    List<EmployeeNameDTO> findNamesByCustomerId(@Param("customerId") Long customerId);
+
+    // employees of the customers that have orders in the project
+    @Query(NAME_QUERY + "WHERE e.customer.id IN (SELECT o.customer.id FROM Order o WHERE o.project.id = :projectId)"
+            + " ORDER BY " + FULL_NAME + ", e.id")
+    List<EmployeeNameDTO> findNamesByProjectId(@Param("projectId") Long projectId);
+}
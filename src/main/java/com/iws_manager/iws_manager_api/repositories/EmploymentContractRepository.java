@@ -2,6 +2,7 @@ package com.iws_manager.iws_manager_api.repositories;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 import com.iws_manager.iws_manager_api.models.EmploymentContract;
 
@@ -14,6 +15,9 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface EmploymentContractRepository extends JpaRepository<EmploymentContract, Long> {
 
+    @EntityGraph(attributePaths = {"customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employee", "employee.title", "employee.salutation", "employee.qualificationFZ"})
+    Optional<EmploymentContract> findById(Long id);
+
      @EntityGraph(attributePaths = {
         "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state",
         "employee", "employee.title", "employee.salutation", "employee.qualificationFZ"
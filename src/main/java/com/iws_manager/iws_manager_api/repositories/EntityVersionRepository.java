@@ -0,0 +1,97 @@
+package com.iws_manager.iws_manager_api.repositories;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.iws_manager.iws_manager_api.models.base.BaseEntity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+/**
+ * Reads the {@link BaseEntity} bookkeeping columns of any entity without
+ * hydrating it, for conditional GET requests.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class EntityVersionRepository {
+
+    /**
+     * Aggregate state of a table. Inserts and deletes change the count,
+     * updates the version sum even within the same {@code updated_at} second.
+     */
+    public record TableState(long count, LocalDateTime lastUpdated, long versionSum) {
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Versions of one row and of the rows its to-one associations point to.
+     * {@code versions} starts with the root row, followed by one entry per
+     * association in attribute name order, {@code null} where the association
+     * is empty. {@code joinedTypes} are the associated types that were
+     * reached that way.
+     */
+    public record RowVersions(List<Integer> versions, Set<Class<? extends BaseEntity>> joinedTypes) {
+    }
+
+    /**
+     * Reads the version of the row with the given id together with the
+     * versions of its to-one associations to {@code associatedTypes}, in one
+     * query by primary key that left joins the associated rows.
+     */
+    public Optional<RowVersions> findRowVersions(Class<? extends BaseEntity> type, Long id,
+            Collection<Class<? extends BaseEntity>> associatedTypes) {
+        List<SingularAttribute<?, ?>> associations = entityManager.getMetamodel().entity(type)
+                .getSingularAttributes().stream()
+                .<SingularAttribute<?, ?>>map(attribute -> attribute)
+                .filter(attribute -> attribute.isAssociation() && associatedTypes.contains(attribute.getJavaType()))
+                .sorted(Comparator.comparing(Attribute::getName))
+                .toList();
+        StringBuilder select = new StringBuilder("SELECT e.version");
+        StringBuilder from = new StringBuilder(" FROM ").append(entityName(type)).append(" e");
+        Set<Class<? extends BaseEntity>> joinedTypes = new LinkedHashSet<>();
+        for (int i = 0; i < associations.size(); i++) {
+            SingularAttribute<?, ?> association = associations.get(i);
+            select.append(", a").append(i).append(".version");
+            from.append(" LEFT JOIN e.").append(association.getName()).append(" a").append(i);
+            joinedTypes.add(association.getJavaType().asSubclass(BaseEntity.class));
+        }
+        List<Tuple> rows = entityManager.createQuery(select.append(from).append(" WHERE e.id = :id").toString(),
+                Tuple.class)
+                .setParameter("id", id)
+                .getResultList();
+        return rows.stream().findFirst().map(row -> {
+            List<Integer> versions = new ArrayList<>();
+            for (int i = 0; i <= associations.size(); i++) {
+                versions.add(row.get(i, Integer.class));
+            }
+            return new RowVersions(versions, joinedTypes);
+        });
+    }
+
+    public TableState findTableState(Class<? extends BaseEntity> type) {
+        Object[] row = entityManager.createQuery("SELECT COUNT(e), MAX(e.updatedAt), COALESCE(SUM(e.version), 0) "
+                + "FROM " + entityName(type) + " e", Object[].class)
+                .getSingleResult();
+        return new TableState(((Number) row[0]).longValue(), (LocalDateTime) row[1],
+                ((Number) row[2]).longValue());
+    }
+
+    private String entityName(Class<? extends BaseEntity> type) {
+        return entityManager.getMetamodel().entity(type).getName();
+    }
+}
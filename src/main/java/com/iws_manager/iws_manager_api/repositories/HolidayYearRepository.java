@@ -34,6 +34,7 @@ public interface HolidayYearRepository extends JpaRepository<HolidayYear, Long>
         @EntityGraph(attributePaths = { "publicHoliday" })
         List<HolidayYear> findByYear(LocalDate year);
 
+        @EntityGraph(attributePaths = { "publicHoliday" })
         @Query("SELECT DISTINCT hy FROM HolidayYear hy JOIN hy.publicHoliday ph JOIN ph.stateHolidays sh "
                         + "WHERE hy.date BETWEEN :startDate AND :endDate "
                         + "AND (:stateId IS NULL OR sh.state.id = :stateId) "
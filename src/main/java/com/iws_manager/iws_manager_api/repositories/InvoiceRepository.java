@@ -1,161 +1,185 @@
 package com.iws_manager.iws_manager_api.repositories;
 
+import com.iws_manager.iws_manager_api.dtos.invoice.InvoiceListItemDTO;
 import com.iws_manager.iws_manager_api.models.Invoice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"order.contractor.customer","order.project.customer","order.project.promoter","payCondition", "vat"})
+public interface InvoiceRepository extends JpaRepository<Invoice, Long>, InvoiceSearchRepository {
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findAll();
 
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
+    Optional<Invoice> findById(Long id);
+
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findAllByOrderByInvoiceNoAsc();
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findAllByOrderByInvoiceDateAsc();
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findAllByOrderByInvoiceTitleAsc();
 
     // PROPERTIES - Campos básicos
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByComment(String comment);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByInvoiceNo(Integer invoiceNo);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByInvoiceTitle(String invoiceTitle);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByIsCancellation(Short isCancellation);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByNote(String note);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByTaxRate(BigDecimal taxRate);
 
     // PROPERTIES - Campos de monto
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByAmountGross(BigDecimal amountGross);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByAmountNet(BigDecimal amountNet);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByAmountOpen(BigDecimal amountOpen);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByAmountPaid(BigDecimal amountPaid);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByAmountTax(BigDecimal amountTax);
 
     // PROPERTIES - Campos de fecha
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByInvoiceDate(LocalDate invoiceDate);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByPayDeadline(LocalDate payDeadline);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByPaymentDate(LocalDate paymentDate);
 
     // PROPERTIES - Relaciones (IDs)
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByBillerId(Long billerId);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByCancelledInvoiceId(Long cancelledInvoiceId);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByCustomerId(Long customerId);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByInvoiceTypeId(Long invoiceTypeId);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByNetworkId(Long networkId);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByOrderId(Long orderId);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByPayConditionId(Long payConditionId);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByVatId(Long vatId);
 
     // HELPERS - Rangos para montos
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByAmountGrossLessThanEqual(BigDecimal amount);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByAmountGrossGreaterThanEqual(BigDecimal amount);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByAmountGrossBetween(BigDecimal startAmount, BigDecimal endAmount);
 
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByAmountNetLessThanEqual(BigDecimal amount);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByAmountNetGreaterThanEqual(BigDecimal amount);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByAmountNetBetween(BigDecimal startAmount, BigDecimal endAmount);
 
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByAmountOpenLessThanEqual(BigDecimal amount);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByAmountOpenGreaterThanEqual(BigDecimal amount);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByAmountOpenBetween(BigDecimal startAmount, BigDecimal endAmount);
 
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByAmountPaidLessThanEqual(BigDecimal amount);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByAmountPaidGreaterThanEqual(BigDecimal amount);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByAmountPaidBetween(BigDecimal startAmount, BigDecimal endAmount);
 
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByAmountTaxLessThanEqual(BigDecimal amount);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByAmountTaxGreaterThanEqual(BigDecimal amount);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByAmountTaxBetween(BigDecimal startAmount, BigDecimal endAmount);
 
     // HELPERS - Rangos para invoiceNo
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByInvoiceNoLessThanEqual(Integer invoiceNo);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByInvoiceNoGreaterThanEqual(Integer invoiceNo);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByInvoiceNoBetween(Integer startInvoiceNo, Integer endInvoiceNo);
 
     // HELPERS - Rangos para invoiceDate
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByInvoiceDateLessThanEqual(LocalDate invoiceDate);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByInvoiceDateGreaterThanEqual(LocalDate invoiceDate);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByInvoiceDateBetween(LocalDate startDate, LocalDate endDate);
 
     // HELPERS - Rangos para taxRate
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByTaxRateLessThanEqual(BigDecimal taxRate);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByTaxRateGreaterThanEqual(BigDecimal taxRate);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByTaxRateBetween(BigDecimal startTaxRate, BigDecimal endTaxRate);
 
     // HELPERS - Rangos para fechas
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByPayDeadlineLessThanEqual(LocalDate date);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByPayDeadlineGreaterThanEqual(LocalDate date);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByPayDeadlineBetween(LocalDate startDate, LocalDate endDate);
 
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByPaymentDateLessThanEqual(LocalDate date);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByPaymentDateGreaterThanEqual(LocalDate date);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByPaymentDateBetween(LocalDate startDate, LocalDate endDate);
 
     // HELPERS - Búsqueda por texto (case insensitive)
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByCommentContainingIgnoreCase(String comment);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByInvoiceTitleContainingIgnoreCase(String invoiceTitle);
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByNoteContainingIgnoreCase(String note);
 
-    @EntityGraph(attributePaths = { "biller", "cancelledInvoice", "customer","customer.branch", "customer.companytype", "customer.country", "customer.state", "invoiceType", "network", "order", "order.approvalStatus", "order.basiccontract", "order.contractor", "order.contractStatus", "order.customer", "order.employeeIws", "order.fundingProgram", "order.orderType", "order.project", "order.promoter", "order.basiccontract.customer" ,"payCondition", "vat"})
+    @EntityGraph(Invoice.DETAIL_GRAPH)
     List<Invoice> findByCustomerIdOrderByInvoiceNoAsc(Long customerId);
-}
\ No newline at end of file
+
+    // LIST PROJECTIONS - only the columns shown in invoice grids
+    String LIST_ITEM_QUERY = "SELECT new com.iws_manager.iws_manager_api.dtos.invoice.InvoiceListItemDTO("
+            + "i.id, i.invoiceNo, i.invoiceTitle, i.invoiceDate, i.payDeadline, i.paymentDate, "
+            + "i.amountNet, i.amountTax, i.amountGross, i.amountPaid, i.amountOpen, i.isCancellation, "
+            + "c.id, c.customername1, o.id, o.orderNo, o.orderTitle, it.name, b.name, i.version) "
+            + "FROM Invoice i LEFT JOIN i.customer c LEFT JOIN i.order o "
+            + "LEFT JOIN i.invoiceType it LEFT JOIN i.biller b ";
+
+    @Query(LIST_ITEM_QUERY + "ORDER BY i.invoiceNo ASC, i.id ASC")
+    List<InvoiceListItemDTO> findAllListItems();
+
+    @Query(LIST_ITEM_QUERY + "WHERE c.id = :customerId ORDER BY i.invoiceNo ASC, i.id ASC")
+    List<InvoiceListItemDTO> findListItemsByCustomerId(@Param("customerId") Long customerId);
+
+    @Query(LIST_ITEM_QUERY + "WHERE o.id = :orderId ORDER BY i.invoiceNo ASC, i.id ASC")
+    List<InvoiceListItemDTO> findListItemsByOrderId(@Param("orderId") Long orderId);
+}
@@ -0,0 +1,33 @@
+package com.iws_manager.iws_manager_api.repositories;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.iws_manager.iws_manager_api.dtos.invoice.InvoiceListItemDTO;
+import com.iws_manager.iws_manager_api.dtos.invoice.InvoiceSearchCriteria;
+
+/**
+ * Custom fragment of {@link InvoiceRepository} for the multi-criteria
+ * invoice search.
+ */
+public interface InvoiceSearchRepository {
+
+    /**
+     * Sortable properties of {@link #search}; {@code id} is always added as
+     * the last sort key so that pages are stable.
+     */
+    Set<String> SORTABLE_PROPERTIES = Set.of("id", "invoiceNo", "invoiceTitle", "invoiceDate",
+            "payDeadline", "paymentDate", "amountNet", "amountGross", "amountOpen", "amountPaid", "customerName");
+
+    Page<InvoiceListItemDTO> search(InvoiceSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Streams all matches of {@code criteria} with a forward-only cursor.
+     * Must be consumed and closed inside a transaction.
+     */
+    Stream<InvoiceListItemDTO> stream(InvoiceSearchCriteria criteria, Sort sort);
+}
@@ -0,0 +1,123 @@
+package com.iws_manager.iws_manager_api.repositories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.iws_manager.iws_manager_api.dtos.invoice.InvoiceListItemDTO;
+import com.iws_manager.iws_manager_api.dtos.invoice.InvoiceSearchCriteria;
+import com.iws_manager.iws_manager_api.models.Invoice;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Criteria-based implementation of {@link InvoiceSearchRepository}.
+ * <p>
+ * The page query selects the {@link InvoiceListItemDTO} columns with four
+ * single-level LEFT JOINs. The count query uses the same predicate on the
+ * invoice table alone and is skipped when the first page is not full.
+ * {@link #stream} runs the same select unpaged through a forward-only cursor.
+ */
+public class InvoiceSearchRepositoryImpl implements InvoiceSearchRepository {
+
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<InvoiceListItemDTO> search(InvoiceSearchCriteria criteria, Pageable pageable) {
+        Specification<Invoice> specification = InvoiceSpecifications.matching(criteria);
+        TypedQuery<InvoiceListItemDTO> typedQuery = listQuery(specification, pageable.getSort());
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<InvoiceListItemDTO> content = typedQuery.getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+    }
+
+    @Override
+    public Stream<InvoiceListItemDTO> stream(InvoiceSearchCriteria criteria, Sort sort) {
+        return listQuery(InvoiceSpecifications.matching(criteria), sort)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private TypedQuery<InvoiceListItemDTO> listQuery(Specification<Invoice> specification, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<InvoiceListItemDTO> query = cb.createQuery(InvoiceListItemDTO.class);
+        Root<Invoice> root = query.from(Invoice.class);
+        Join<Invoice, ?> customer = root.join("customer", JoinType.LEFT);
+        Join<Invoice, ?> order = root.join("order", JoinType.LEFT);
+        Join<Invoice, ?> invoiceType = root.join("invoiceType", JoinType.LEFT);
+        Join<Invoice, ?> biller = root.join("biller", JoinType.LEFT);
+
+        query.select(cb.construct(InvoiceListItemDTO.class,
+                root.get("id"), root.get("invoiceNo"), root.get("invoiceTitle"), root.get("invoiceDate"),
+                root.get("payDeadline"), root.get("paymentDate"), root.get("amountNet"), root.get("amountTax"),
+                root.get("amountGross"), root.get("amountPaid"), root.get("amountOpen"),
+                root.get("isCancellation"), customer.get("id"), customer.get("customername1"), order.get("id"),
+                order.get("orderNo"), order.get("orderTitle"), invoiceType.get("name"), biller.get("name"),
+                root.get("version")));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(toOrders(sort, cb, root, customer));
+
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Invoice> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Invoice> root = query.from(Invoice.class);
+        query.select(cb.count(root));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private List<Order> toOrders(Sort sort, CriteriaBuilder cb, Root<Invoice> root, Join<Invoice, ?> customer) {
+        List<Order> orders = new ArrayList<>();
+        boolean sortedById = false;
+        for (Sort.Order sortOrder : sort) {
+            String property = sortOrder.getProperty();
+            if (!SORTABLE_PROPERTIES.contains(property)) {
+                throw new IllegalArgumentException("Unsupported sort property: " + property);
+            }
+            Expression<?> expression = "customerName".equals(property)
+                    ? customer.get("customername1")
+                    : root.get(property);
+            orders.add(sortOrder.isAscending() ? cb.asc(expression) : cb.desc(expression));
+            sortedById |= "id".equals(property);
+        }
+        if (!sortedById) {
+            orders.add(cb.asc(root.get("id")));
+        }
+        return orders;
+    }
+}
@@ -0,0 +1,99 @@
+package com.iws_manager.iws_manager_api.repositories;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.iws_manager.iws_manager_api.dtos.invoice.InvoiceSearchCriteria;
+import com.iws_manager.iws_manager_api.models.Invoice;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Builds the invoice search predicate from {@link InvoiceSearchCriteria}.
+ * <p>
+ * Foreign keys are compared through {@code association.id}, which Hibernate
+ * resolves to the invoice's own FK column, so filtering never adds a join
+ * and the FK indexes stay usable. Equality filters come first, then ranges,
+ * then substring filters. Substring filters rely on the case-insensitive
+ * column collation instead of wrapping the column in {@code LOWER()}.
+ */
+public final class InvoiceSpecifications {
+
+    private InvoiceSpecifications() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static Specification<Invoice> matching(InvoiceSearchCriteria criteria) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (criteria == null) {
+                return cb.conjunction();
+            }
+
+            equalId(predicates, cb, root, "customer", criteria.customerId());
+            equalId(predicates, cb, root, "biller", criteria.billerId());
+            equalId(predicates, cb, root, "order", criteria.orderId());
+            equalId(predicates, cb, root, "vat", criteria.vatId());
+            equalId(predicates, cb, root, "invoiceType", criteria.invoiceTypeId());
+            equalId(predicates, cb, root, "network", criteria.networkId());
+            equalId(predicates, cb, root, "payCondition", criteria.payConditionId());
+            equalId(predicates, cb, root, "cancelledInvoice", criteria.cancelledInvoiceId());
+            if (criteria.isCancellation() != null) {
+                predicates.add(cb.equal(root.get("isCancellation"), criteria.isCancellation()));
+            }
+
+            range(predicates, cb, root.<Integer>get("invoiceNo"), criteria.invoiceNoFrom(), criteria.invoiceNoTo());
+            range(predicates, cb, root.<LocalDate>get("invoiceDate"), criteria.invoiceDateFrom(), criteria.invoiceDateTo());
+            range(predicates, cb, root.<LocalDate>get("payDeadline"), criteria.payDeadlineFrom(), criteria.payDeadlineTo());
+            range(predicates, cb, root.<LocalDate>get("paymentDate"), criteria.paymentDateFrom(), criteria.paymentDateTo());
+            range(predicates, cb, root.<BigDecimal>get("amountGross"), criteria.amountGrossMin(), criteria.amountGrossMax());
+            range(predicates, cb, root.<BigDecimal>get("amountNet"), criteria.amountNetMin(), criteria.amountNetMax());
+            range(predicates, cb, root.<BigDecimal>get("amountOpen"), criteria.amountOpenMin(), criteria.amountOpenMax());
+            range(predicates, cb, root.<BigDecimal>get("amountPaid"), criteria.amountPaidMin(), criteria.amountPaidMax());
+            range(predicates, cb, root.<BigDecimal>get("amountTax"), criteria.amountTaxMin(), criteria.amountTaxMax());
+            range(predicates, cb, root.<BigDecimal>get("taxRate"), criteria.taxRateMin(), criteria.taxRateMax());
+
+            contains(predicates, cb, root.<String>get("invoiceTitle"), criteria.invoiceTitle());
+            contains(predicates, cb, root.<String>get("comment"), criteria.comment());
+            contains(predicates, cb, root.<String>get("note"), criteria.note());
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static void equalId(List<Predicate> predicates, CriteriaBuilder cb, Root<Invoice> root,
+            String association, Long id) {
+        if (id != null) {
+            predicates.add(cb.equal(root.get(association).get("id"), id));
+        }
+    }
+
+    private static <T extends Comparable<? super T>> void range(List<Predicate> predicates, CriteriaBuilder cb,
+            Expression<T> path, T from, T to) {
+        if (from != null && to != null) {
+            predicates.add(cb.between(path, from, to));
+        } else if (from != null) {
+            predicates.add(cb.greaterThanOrEqualTo(path, from));
+        } else if (to != null) {
+            predicates.add(cb.lessThanOrEqualTo(path, to));
+        }
+    }
+
+    private static void contains(List<Predicate> predicates, CriteriaBuilder cb, Expression<String> path,
+            String text) {
+        if (text != null && !text.isBlank()) {
+            predicates.add(cb.like(path, "%" + escapeLike(text.trim()) + "%", '\\'));
+        }
+    }
+
+    static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,78 @@
+package com.iws_manager.iws_manager_api.repositories;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.iws_manager.iws_manager_api.dtos.numbering.NumberScope;
+import com.iws_manager.iws_manager_api.models.NumberCounter;
+
+/**
+ * JDBC access to the {@code number_counter} table, which holds the next free
+ * business number per {@link NumberScope} and scope key. The table is mapped
+ * by {@link NumberCounter} and created by Hibernate.
+ * <p>
+ * Reservations lock the single counter row with {@code SELECT ... FOR UPDATE}
+ * instead of scanning the numbered table for its maximum, so concurrent
+ * inserts queue on one row and can never hand out the same number twice.
+ */
+@Repository
+public class NumberCounterRepository {
+
+    static final String TABLE = "number_counter";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public NumberCounterRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Non-locking read, for previews.
+     */
+    public Optional<Long> findNextValue(NumberScope scope, long key) {
+        List<Long> rows = jdbcTemplate.queryForList(
+                "SELECT next_val FROM " + TABLE + " WHERE scope = ? AND scope_key = ?",
+                Long.class, scope.name(), key);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Reads the counter and keeps its row locked until the current
+     * transaction ends.
+     */
+    public Optional<Long> lockNextValue(NumberScope scope, long key) {
+        List<Long> rows = jdbcTemplate.queryForList(
+                "SELECT next_val FROM " + TABLE + " WHERE scope = ? AND scope_key = ? FOR UPDATE",
+                Long.class, scope.name(), key);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Creates the counter with the given start value; does nothing if another
+     * transaction created it first.
+     */
+    public void insertIfAbsent(NumberScope scope, long key, long nextValue) {
+        jdbcTemplate.update("INSERT INTO " + TABLE + " (scope, scope_key, next_val) VALUES (?, ?, ?) "
+                + "ON DUPLICATE KEY UPDATE next_val = next_val", scope.name(), key, nextValue);
+    }
+
+    public void updateNextValue(NumberScope scope, long key, long nextValue) {
+        jdbcTemplate.update("UPDATE " + TABLE + " SET next_val = ? WHERE scope = ? AND scope_key = ?",
+                nextValue, scope.name(), key);
+    }
+
+    /**
+     * Moves the counter forward to at least {@code floor}; never moves it back.
+     */
+    public void raiseNextValue(NumberScope scope, long key, long floor) {
+        jdbcTemplate.update("UPDATE " + TABLE + " SET next_val = GREATEST(next_val, ?) "
+                + "WHERE scope = ? AND scope_key = ?", floor, scope.name(), key);
+    }
+}
@@ -2,15 +2,23 @@ package com.iws_manager.iws_manager_api.repositories;
 
 import com.iws_manager.iws_manager_api.models.OrderCommission;
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface OrderCommissionRepository extends JpaRepository<OrderCommission, Long> {
 
+    @EntityGraph(attributePaths = {"order", "order.customer", "order.customer.branch", "order.customer.companytype", "order.customer.country", "order.customer.state", "order.employeeIws", "order.employeeIws.teamIws", "order.fundingProgram", "order.orderType"})
+    Optional<OrderCommission> findById(Long id);
+
     @EntityGraph(attributePaths = {
         "order",
         "order.customer", "order.customer.branch", "order.customer.companytype", "order.customer.country", "order.customer.state",
@@ -56,4 +64,27 @@ public interface OrderCommissionRepository extends JpaRepository<OrderCommission
     @EntityGraph(attributePaths = {"order", "order.customer", "order.customer.branch", "order.customer.companytype", "order.customer.country", "order.customer.state", "order.employeeIws", "order.employeeIws.teamIws", "order.fundingProgram", "order.orderType"})
     List<OrderCommission> findByOrderIdOrderByFromOrderValueAsc(Long orderId);
 
+    // Tier rows for the commission engine: [orderId, fromOrderValue, commission, minCommission]
+    @Query("SELECT oc.order.id, oc.fromOrderValue, oc.commission, oc.minCommission FROM OrderCommission oc "
+            + "WHERE oc.order.id IN :orderIds")
+    List<Object[]> findTierRowsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    // TEMPLATE CLONING - single INSERT ... SELECT statements returning the number of inserted rows.
+    // Ids come from AUTO_INCREMENT, so CommissionTemplateServiceImpl skips them under the pooled-ids profile.
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO ordercommission "
+            + "(orderid, commission, fromordervalue, mincommission, created_at, updated_at, version) "
+            + "SELECT :orderId, c.commission, c.fromordervalue, c.mincommission, "
+            + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0 FROM contractordercommission c "
+            + "WHERE c.basiccontractid = :basicContractId", nativeQuery = true)
+    int cloneContractOrderCommissions(@Param("orderId") Long orderId,
+            @Param("basicContractId") Long basicContractId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO ordercommission "
+            + "(orderid, commission, fromordervalue, mincommission, created_at, updated_at, version) "
+            + "SELECT :orderId, i.commission, i.fromordervalue, i.mincommission, "
+            + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0 FROM iwscommission i", nativeQuery = true)
+    int cloneIwsCommissions(@Param("orderId") Long orderId);
+
 }
@@ -9,10 +9,14 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface OrderEmployeeRepository extends JpaRepository<OrderEmployee, Long> {
 
+    @EntityGraph(attributePaths = {"employee", "order", "qualificationFZ"})
+    Optional<OrderEmployee> findById(Long id);
+
     // Consultas básicas con EntityGraph para cargar relaciones
     @EntityGraph(attributePaths = {"employee", "order", "qualificationFZ"})
     List<OrderEmployee> findAll();
@@ -1,112 +1,113 @@
 package com.iws_manager.iws_manager_api.repositories;
 
+import com.iws_manager.iws_manager_api.dtos.order.OrderListItemDTO;
 import com.iws_manager.iws_manager_api.models.Order;
 import com.iws_manager.iws_manager_api.models.Employee;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
-    @EntityGraph(attributePaths = {
-        "approvalStatus",
-        "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram",
-        "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state",
-        "contractStatus",
-        "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state",
-        "employeeIws", "employeeIws.teamIws", "employeeIws.user",
-        "fundingProgram",
-        "orderType",
-        "project", "project.customer", "project.fundingProgram", "project.promoter",
-        "promoter", "promoter.country"
-    })
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findAll();
 
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
+    Optional<Order> findById(Long id);
+
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findAllByOrderByOrderTitleAsc();
 
-    @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findAllByOrderByOrderLabelAsc();
 
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByCustomerIdOrderByOrderTitleAsc(Long customerId);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByCustomerIdOrderByOrderLabelAsc(Long customerId);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByCustomerIdOrderByOrderNoAsc(Long customerId);
 
     //PROPERTIES
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByAcronym(String acronym);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByApprovalDate(LocalDate approvalDate);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByApprovalStatusId(Long approvalStatusId);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByBasiccontractId(Long basiccontractId);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByContractData1(String contractData1);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByContractData2(String contractData2);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByContractorId(Long contractorId);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByContractStatusId(Long contractStatusId);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByCustomerId(Long customerId);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByEmployeeIwsId(Long employeeIwsId);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByFixCommission(BigDecimal fixCommission);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByFundingProgramId(Long fundingProgramId);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByIwsProvision(BigDecimal iwsProvision);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByMaxCommission(BigDecimal maxCommission);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByNextDeptDate(LocalDate nextDeptDate);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByNoOfDepts(Integer noOfDepts);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByOrderDate(LocalDate orderDate);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByOrderLabel(String orderLabel);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByOrderNo(Integer orderNo);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByOrderTypeId(Long orderTypeId);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByOrderTitle(String orderTitle);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByOrderValue(BigDecimal orderValue);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByProjectId(Long projectId);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByPromoterId(Long promoterId);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findBySignatureDate(LocalDate signatureDate);
 
     //HELPERS
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByOrderValueLessThanEqual(BigDecimal value);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByOrderValueGreaterThanEqual(BigDecimal value);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByOrderValueBetween(BigDecimal startValue, BigDecimal endValue);
 
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByApprovalDateBetween(LocalDate start, LocalDate end);
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByApprovalDateIsNull();
-   @EntityGraph(attributePaths = {"approvalStatus", "basiccontract", "basiccontract.contractStatus", "basiccontract.customer", "basiccontract.customer.branch", "basiccontract.customer.companytype", "basiccontract.customer.country", "basiccontract.customer.state", "basiccontract.employeeIws", "basiccontract.fundingProgram", "contractor", "contractor.country", "contractor.customer", "contractor.customer.branch", "contractor.customer.companytype", "contractor.customer.country", "contractor.customer.state", "contractStatus", "customer", "customer.branch", "customer.companytype", "customer.country", "customer.state", "employeeIws", "employeeIws.teamIws", "employeeIws.user", "fundingProgram", "orderType", "project", "project.customer", "project.fundingProgram", "project.promoter", "promoter", "promoter.country"})
+    @EntityGraph(Order.DETAIL_GRAPH)
     List<Order> findByApprovalDateIsNotNull();
 
     // get employees by project id through a specific customer id
@@ -119,4 +120,33 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
         order by e.firstname asc
     """)
     List<Employee> findEmployeesByProjectIdOrderByFirstnameAsc(@Param("projectId") Long projectId);
+
+    // LIST PROJECTIONS - only the columns shown in order grids
+    String LIST_ITEM_QUERY = "SELECT new com.iws_manager.iws_manager_api.dtos.order.OrderListItemDTO("
+            + "o.id, o.orderNo, o.orderLabel, o.orderTitle, o.acronym, o.orderDate, o.approvalDate, "
+            + "o.signatureDate, o.orderValue, c.id, c.customername1, p.id, p.projectLabel, "
+            + "ot.type, aps.status, cs.status, o.version) "
+            + "FROM Order o LEFT JOIN o.customer c LEFT JOIN o.project p LEFT JOIN o.orderType ot "
+            + "LEFT JOIN o.approvalStatus aps LEFT JOIN o.contractStatus cs ";
+
+    @Query(LIST_ITEM_QUERY + "ORDER BY o.orderNo ASC, o.id ASC")
+    List<OrderListItemDTO> findAllListItems();
+
+    @Query(LIST_ITEM_QUERY + "WHERE c.id = :customerId ORDER BY o.orderNo ASC, o.id ASC")
+    List<OrderListItemDTO> findListItemsByCustomerId(@Param("customerId") Long customerId);
+
+    @Query(LIST_ITEM_QUERY + "WHERE p.id = :projectId ORDER BY o.orderNo ASC, o.id ASC")
+    List<OrderListItemDTO> findListItemsByProjectId(@Param("projectId") Long projectId);
+
+    // Forward-only cursor for exports; both filters are optional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(LIST_ITEM_QUERY + "WHERE (:customerId IS NULL OR c.id = :customerId) "
+            + "AND (:projectId IS NULL OR p.id = :projectId) ORDER BY o.orderNo ASC, o.id ASC")
+    Stream<OrderListItemDTO> streamListItems(@Param("customerId") Long customerId,
+            @Param("projectId") Long projectId);
+
+    // Commission inputs for the tier engine: [orderId, orderValue, fixCommission, maxCommission, basicContractId]
+    @Query("SELECT o.id, o.orderValue, o.fixCommission, o.maxCommission, bc.id FROM Order o "
+            + "LEFT JOIN o.basiccontract bc WHERE o.id IN :orderIds")
+    List<Object[]> findCommissionRowsByIds(@Param("orderIds") Collection<Long> orderIds);
 }
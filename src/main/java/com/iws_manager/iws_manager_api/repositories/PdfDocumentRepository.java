@@ -0,0 +1,123 @@
+package com.iws_manager.iws_manager_api.repositories;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Repository;
+
+import com.iws_manager.iws_manager_api.dtos.pdf.PdfDocumentInfo;
+import com.iws_manager.iws_manager_api.dtos.pdf.PdfDocumentType;
+
+/**
+ * JDBC access to the PDF BLOB columns of orders and invoices.
+ * <p>
+ * Content is copied between the JDBC binary stream and the caller's stream
+ * and never held as a {@code byte[]} by the application. Range reads are
+ * sliced in the database with {@code SUBSTRING}, and metadata comes from
+ * {@code LENGTH} without transferring the BLOB. Writes increment the owner's
+ * {@code version}, so the ETag changes and concurrent JPA updates of a stale
+ * entity fail with an optimistic locking error.
+ */
+@Repository
+public class PdfDocumentRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public PdfDocumentRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    private record Target(String table, String idColumn, String pdfColumn) {
+    }
+
+    private static Target target(PdfDocumentType type) {
+        return switch (type) {
+            case ORDER_APPROVAL -> new Target("`order`", "orderid", "approvalpdf");
+            case ORDER_CONTRACT -> new Target("`order`", "orderid", "contractpdf");
+            case INVOICE -> new Target("invoice", "invoiceid", "invoicepdf");
+        };
+    }
+
+    /**
+     * @return empty if the owner does not exist; otherwise its version and the
+     *         PDF length ({@code null} when no PDF is stored)
+     */
+    public Optional<PdfDocumentInfo> findInfo(PdfDocumentType type, Long ownerId) {
+        Target target = target(type);
+        List<PdfDocumentInfo> rows = jdbcTemplate.query(
+                "SELECT version, LENGTH(" + target.pdfColumn() + ") FROM " + target.table()
+                        + " WHERE " + target.idColumn() + " = ?",
+                (rs, rowNum) -> new PdfDocumentInfo(type, ownerId,
+                        rs.getObject(1, Integer.class), rs.getObject(2, Long.class)),
+                ownerId);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Copies {@code length} bytes starting at the zero-based {@code offset}
+     * into {@code out}.
+     */
+    public void copyTo(PdfDocumentType type, Long ownerId, long offset, long length, OutputStream out) {
+        Target target = target(type);
+        jdbcTemplate.query(
+                "SELECT SUBSTRING(" + target.pdfColumn() + ", ?, ?) FROM " + target.table()
+                        + " WHERE " + target.idColumn() + " = ?",
+                (ResultSetExtractor<Void>) rs -> {
+                    if (rs.next()) {
+                        try (InputStream in = rs.getBinaryStream(1)) {
+                            if (in != null) {
+                                in.transferTo(out);
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                    return null;
+                },
+                offset + 1, length, ownerId);
+    }
+
+    /**
+     * Replaces the PDF with the given stream; a negative {@code length} means
+     * unknown.
+     *
+     * @return the number of updated rows (0 if the owner does not exist)
+     */
+    public int write(PdfDocumentType type, Long ownerId, InputStream content, long length) {
+        Target target = target(type);
+        return jdbcTemplate.update(
+                "UPDATE " + target.table() + " SET " + target.pdfColumn() + " = ?, version = version + 1, "
+                        + "updated_at = ? WHERE " + target.idColumn() + " = ?",
+                ps -> {
+                    if (length >= 0) {
+                        ps.setBinaryStream(1, content, length);
+                    } else {
+                        ps.setBinaryStream(1, content);
+                    }
+                    ps.setObject(2, LocalDateTime.now());
+                    ps.setLong(3, ownerId);
+                });
+    }
+
+    /**
+     * @return the number of updated rows (0 if the owner does not exist)
+     */
+    public int clear(PdfDocumentType type, Long ownerId) {
+        Target target = target(type);
+        return jdbcTemplate.update(
+                "UPDATE " + target.table() + " SET " + target.pdfColumn() + " = NULL, version = version + 1, "
+                        + "updated_at = ? WHERE " + target.idColumn() + " = ?",
+                LocalDateTime.now(), ownerId);
+    }
+}
@@ -0,0 +1,19 @@
+package com.iws_manager.iws_manager_api.repositories;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Custom fragment of {@link ProjectCostRepository} for set-based updates of
+ * a cost matrix.
+ */
+public interface ProjectCostBulkRepository {
+
+    /**
+     * Sets the costs of the given project costs, incrementing their version,
+     * in one UPDATE statement per {@code 500} rows.
+     *
+     * @return the number of updated rows
+     */
+    int updateCosts(Map<Long, BigDecimal> costsById);
+}
@@ -0,0 +1,56 @@
+package com.iws_manager.iws_manager_api.repositories;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+/**
+ * JPQL implementation of {@link ProjectCostBulkRepository}.
+ * <p>
+ * The new costs are selected per row with a {@code CASE} on the id, so a
+ * whole matrix is written by a single statement instead of one versioned
+ * UPDATE per entity. Like every bulk statement it bypasses the persistence
+ * context; callers must not hold managed instances of the updated rows.
+ */
+public class ProjectCostBulkRepositoryImpl implements ProjectCostBulkRepository {
+
+    static final int CHUNK_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int updateCosts(Map<Long, BigDecimal> costsById) {
+        List<Map.Entry<Long, BigDecimal>> entries = new ArrayList<>(costsById.entrySet());
+        int updated = 0;
+        for (int from = 0; from < entries.size(); from += CHUNK_SIZE) {
+            updated += updateChunk(entries.subList(from, Math.min(from + CHUNK_SIZE, entries.size())));
+        }
+        return updated;
+    }
+
+    private int updateChunk(List<Map.Entry<Long, BigDecimal>> chunk) {
+        StringBuilder jpql = new StringBuilder("UPDATE VERSIONED ProjectCost pc SET pc.costs = CASE pc.id");
+        for (int i = 0; i < chunk.size(); i++) {
+            jpql.append(" WHEN :id").append(i).append(" THEN :costs").append(i);
+        }
+        jpql.append(" ELSE pc.costs END, pc.updatedAt = :now WHERE pc.id IN :ids");
+
+        Query query = entityManager.createQuery(jpql.toString());
+        List<Long> ids = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            query.setParameter("id" + i, chunk.get(i).getKey());
+            query.setParameter("costs" + i, chunk.get(i).getValue());
+            ids.add(chunk.get(i).getKey());
+        }
+        query.setParameter("ids", ids);
+        query.setParameter("now", LocalDateTime.now());
+        return query.executeUpdate();
+    }
+}
@@ -2,17 +2,33 @@ package com.iws_manager.iws_manager_api.repositories;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import com.iws_manager.iws_manager_api.dtos.projectcost.ProjectCostListItemDTO;
 import com.iws_manager.iws_manager_api.models.ProjectCost;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface ProjectCostRepository extends JpaRepository<ProjectCost, Long> {
+public interface ProjectCostRepository extends JpaRepository<ProjectCost, Long>, ProjectCostBulkRepository {
+
+    @EntityGraph(attributePaths = {"project", "projectPeriod"})
+    Optional<ProjectCost> findById(Long id);
+
+    @EntityGraph(attributePaths = {"project", "projectPeriod"})
+    List<ProjectCost> findAll();
 
     // Find costs by project (all types and periods)
     @EntityGraph(attributePaths = { "project", "projectPeriod" })
@@ -144,4 +160,104 @@ public interface ProjectCostRepository extends JpaRepository<ProjectCost, Long>
     @EntityGraph(attributePaths = { "project", "projectPeriod" })
     @Query("SELECT pc FROM ProjectCost pc WHERE pc.project.id = :projectId ORDER BY pc.approveOrPlan ASC")
     List<ProjectCost> findByProjectIdOrderByApproveOrPlanAsc(@Param("projectId") Long projectId);
-}
\ No newline at end of file
+
+    // Find costs by project ordered by amount; ties keep period order
+    @EntityGraph(attributePaths = { "project", "projectPeriod" })
+    @Query("SELECT pc FROM ProjectCost pc WHERE pc.project.id = :projectId ORDER BY pc.costs ASC NULLS LAST, pc.projectPeriod.id ASC")
+    List<ProjectCost> findByProjectIdOrderByCostsAsc(@Param("projectId") Long projectId);
+
+    @EntityGraph(attributePaths = { "project", "projectPeriod" })
+    @Query("SELECT pc FROM ProjectCost pc WHERE pc.project.id = :projectId ORDER BY pc.costs DESC NULLS FIRST, pc.projectPeriod.id ASC")
+    List<ProjectCost> findByProjectIdOrderByCostsDesc(@Param("projectId") Long projectId);
+
+    // Find costs by project period ordered by amount
+    @EntityGraph(attributePaths = { "project", "projectPeriod" })
+    @Query("SELECT pc FROM ProjectCost pc WHERE pc.projectPeriod.id = :projectPeriodId ORDER BY pc.costs ASC NULLS LAST, pc.id ASC")
+    List<ProjectCost> findByProjectPeriodIdOrderByCostsAsc(@Param("projectPeriodId") Long projectPeriodId);
+
+    @EntityGraph(attributePaths = { "project", "projectPeriod" })
+    @Query("SELECT pc FROM ProjectCost pc WHERE pc.projectPeriod.id = :projectPeriodId ORDER BY pc.costs DESC NULLS FIRST, pc.id ASC")
+    List<ProjectCost> findByProjectPeriodIdOrderByCostsDesc(@Param("projectPeriodId") Long projectPeriodId);
+
+    // Find all ordered by cost amount, descending
+    @EntityGraph(attributePaths = { "project", "projectPeriod" })
+    @Query("SELECT pc FROM ProjectCost pc ORDER BY pc.costs DESC NULLS FIRST")
+    List<ProjectCost> findAllByOrderByCostsDesc();
+
+    // Threshold and range filters (served by idx_projectcost_costs)
+    @EntityGraph(attributePaths = { "project", "projectPeriod" })
+    @Query("SELECT pc FROM ProjectCost pc WHERE pc.costs > :amount ORDER BY pc.costs ASC, pc.id ASC")
+    List<ProjectCost> findByCostsGreaterThan(@Param("amount") BigDecimal amount);
+
+    @EntityGraph(attributePaths = { "project", "projectPeriod" })
+    @Query("SELECT pc FROM ProjectCost pc WHERE pc.costs < :amount ORDER BY pc.costs ASC, pc.id ASC")
+    List<ProjectCost> findByCostsLessThan(@Param("amount") BigDecimal amount);
+
+    @EntityGraph(attributePaths = { "project", "projectPeriod" })
+    @Query("SELECT pc FROM ProjectCost pc WHERE pc.costs BETWEEN :minAmount AND :maxAmount ORDER BY pc.costs ASC, pc.id ASC")
+    List<ProjectCost> findByCostsBetween(@Param("minAmount") BigDecimal minAmount,
+            @Param("maxAmount") BigDecimal maxAmount);
+
+    // Paged variants of the threshold and range filters
+    @EntityGraph(attributePaths = { "project", "projectPeriod" })
+    @Query(value = "SELECT pc FROM ProjectCost pc WHERE pc.costs > :amount",
+            countQuery = "SELECT COUNT(pc) FROM ProjectCost pc WHERE pc.costs > :amount")
+    Page<ProjectCost> findByCostsGreaterThan(@Param("amount") BigDecimal amount, Pageable pageable);
+
+    @EntityGraph(attributePaths = { "project", "projectPeriod" })
+    @Query(value = "SELECT pc FROM ProjectCost pc WHERE pc.costs < :amount",
+            countQuery = "SELECT COUNT(pc) FROM ProjectCost pc WHERE pc.costs < :amount")
+    Page<ProjectCost> findByCostsLessThan(@Param("amount") BigDecimal amount, Pageable pageable);
+
+    @EntityGraph(attributePaths = { "project", "projectPeriod" })
+    @Query(value = "SELECT pc FROM ProjectCost pc WHERE pc.costs BETWEEN :minAmount AND :maxAmount",
+            countQuery = "SELECT COUNT(pc) FROM ProjectCost pc WHERE pc.costs BETWEEN :minAmount AND :maxAmount")
+    Page<ProjectCost> findByCostsBetween(@Param("minAmount") BigDecimal minAmount,
+            @Param("maxAmount") BigDecimal maxAmount, Pageable pageable);
+
+    // Costs of a project that have no amount yet
+    @EntityGraph(attributePaths = { "project", "projectPeriod" })
+    @Query("SELECT pc FROM ProjectCost pc WHERE pc.project.id = :projectId AND pc.costs IS NULL")
+    List<ProjectCost> findByProjectIdAndCostsIsNull(@Param("projectId") Long projectId);
+
+    // Highest id in the table
+    @Query("SELECT COALESCE(MAX(pc.id), 0) FROM ProjectCost pc")
+    Long findMaxId();
+
+    // Cost sums of a project grouped by period and type: [projectPeriodId, approveOrPlan, sum]
+    @Query("SELECT pc.projectPeriod.id, pc.approveOrPlan, COALESCE(SUM(pc.costs), 0) FROM ProjectCost pc " +
+            "WHERE pc.project.id = :projectId GROUP BY pc.projectPeriod.id, pc.approveOrPlan " +
+            "ORDER BY pc.projectPeriod.id ASC")
+    List<Object[]> sumCostsByProjectGroupedByPeriodAndType(@Param("projectId") Long projectId);
+
+    // Cost cells of a project for bulk upserts: [projectCostId, projectPeriodId, approveOrPlan, costs]
+    @Query("SELECT pc.id, pc.projectPeriod.id, pc.approveOrPlan, pc.costs FROM ProjectCost pc " +
+            "WHERE pc.project.id = :projectId")
+    List<Object[]> findCostCellsByProjectId(@Param("projectId") Long projectId);
+
+    // Set-based deletes; each is a single DELETE statement returning the affected rows
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ProjectCost pc WHERE pc.project.id = :projectId")
+    int deleteAllByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ProjectCost pc WHERE pc.projectPeriod.id = :projectPeriodId")
+    int deleteAllByProjectPeriodId(@Param("projectPeriodId") Long projectPeriodId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ProjectCost pc WHERE pc.project.id = :projectId AND pc.projectPeriod.id = :projectPeriodId")
+    int deleteAllByProjectIdAndProjectPeriodId(@Param("projectId") Long projectId,
+            @Param("projectPeriodId") Long projectPeriodId);
+
+    // Forward-only cursor for exports; every filter is optional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.iws_manager.iws_manager_api.dtos.projectcost.ProjectCostListItemDTO(" +
+            "pc.id, p.id, p.projectLabel, pp.id, pp.periodNo, pc.approveOrPlan, pc.costs, pc.version) " +
+            "FROM ProjectCost pc LEFT JOIN pc.project p LEFT JOIN pc.projectPeriod pp " +
+            "WHERE (:projectId IS NULL OR p.id = :projectId) " +
+            "AND (:projectPeriodId IS NULL OR pp.id = :projectPeriodId) " +
+            "AND (:type IS NULL OR pc.approveOrPlan = :type) " +
+            "ORDER BY p.id ASC, pp.id ASC, pc.approveOrPlan ASC, pc.id ASC")
+    Stream<ProjectCostListItemDTO> streamListItems(@Param("projectId") Long projectId,
+            @Param("projectPeriodId") Long projectPeriodId, @Param("type") Byte type);
+}
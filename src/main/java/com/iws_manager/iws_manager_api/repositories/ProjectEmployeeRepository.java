@@ -9,10 +9,14 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectEmployeeRepository extends JpaRepository<ProjectEmployee, Long> {
 
+    @EntityGraph(attributePaths = {"employee", "project"})
+    Optional<ProjectEmployee> findById(Long id);
+
     // Basic queries with EntityGraph to load relationships
     @EntityGraph(attributePaths = { "employee", "project" })
     List<ProjectEmployee> findAll();
@@ -194,4 +198,9 @@ public interface ProjectEmployeeRepository extends JpaRepository<ProjectEmployee
     @Query("SELECT COUNT(pe), SUM(pe.plannedhours), AVG(pe.hourlyrate), SUM(pe.hourlyrate * pe.plannedhours) " +
             "FROM ProjectEmployee pe WHERE pe.employee.id = :employeeId")
     Object[] getEmployeeStatistics(@Param("employeeId") Long employeeId);
-}
\ No newline at end of file
+
+    // Single-row statistics by project: [count, sum(plannedhours), avg(hourlyrate), sum(hourlyrate * plannedhours)]
+    @Query("SELECT COUNT(pe), SUM(pe.plannedhours), AVG(pe.hourlyrate), SUM(pe.hourlyrate * pe.plannedhours) " +
+            "FROM ProjectEmployee pe WHERE pe.project.id = :projectId")
+    List<Object[]> summarizeByProject(@Param("projectId") Long projectId);
+}
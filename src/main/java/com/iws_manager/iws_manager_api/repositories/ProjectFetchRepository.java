@@ -0,0 +1,15 @@
+package com.iws_manager.iws_manager_api.repositories;
+
+import java.util.Optional;
+
+import com.iws_manager.iws_manager_api.dtos.project.ProjectFetchProfile;
+import com.iws_manager.iws_manager_api.models.Project;
+
+/**
+ * Fetch-profile aware lookups of {@link ProjectRepository}, for callers that
+ * need a different plan than the one of the derived finders.
+ */
+public interface ProjectFetchRepository {
+
+    Optional<Project> findById(Long id, ProjectFetchProfile profile);
+}
@@ -0,0 +1,29 @@
+package com.iws_manager.iws_manager_api.repositories;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.hibernate.jpa.SpecHints;
+
+import com.iws_manager.iws_manager_api.dtos.project.ProjectFetchProfile;
+import com.iws_manager.iws_manager_api.models.Project;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Entity-graph based implementation of {@link ProjectFetchRepository}. The
+ * named graph of the profile is passed as fetch graph, so associations
+ * outside it stay lazy.
+ */
+public class ProjectFetchRepositoryImpl implements ProjectFetchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Project> findById(Long id, ProjectFetchProfile profile) {
+        return Optional.ofNullable(entityManager.find(Project.class, id,
+                Map.of(SpecHints.HINT_SPEC_FETCH_GRAPH, entityManager.getEntityGraph(profile.graphName()))));
+    }
+}
@@ -14,6 +14,13 @@ import org.springframework.data.jpa.repository.EntityGraph;
 
 @Repository
 public interface ProjectPackageRepository extends JpaRepository<ProjectPackage, Long> {
+
+    @EntityGraph(attributePaths = {"project", "project.customer", "project.customer.branch", "project.customer.companytype", "project.customer.country", "project.customer.state"})
+    Optional<ProjectPackage> findById(Long id);
+
+    @EntityGraph(attributePaths = {"project", "project.customer", "project.customer.branch", "project.customer.companytype", "project.customer.country", "project.customer.state"})
+    List<ProjectPackage> findAll();
+
     @EntityGraph(attributePaths = {"project", "project.customer", "project.customer.branch", "project.customer.companytype", "project.customer.country", "project.customer.state"})
     List<ProjectPackage> findAllByOrderByPackageTitleAsc();
 
@@ -13,6 +13,11 @@ import java.time.LocalDate;
 
 @Repository
 public interface ProjectPeriodRepository extends JpaRepository<ProjectPeriod, Long> {
+
+    @EntityGraph(attributePaths = { "project", "project.customer", "project.customer.branch",
+            "project.customer.companytype", "project.customer.country", "project.customer.state" })
+    Optional<ProjectPeriod> findById(Long id);
+
     @EntityGraph(attributePaths = { "project", "project.customer", "project.customer.branch",
             "project.customer.companytype", "project.customer.country", "project.customer.state" })
     List<ProjectPeriod> findAllByOrderByPeriodNoAsc();
@@ -35,6 +40,7 @@ public interface ProjectPeriodRepository extends JpaRepository<ProjectPeriod, Lo
     @Query("SELECT MAX(pp.periodNo) FROM ProjectPeriod pp WHERE pp.project.id = :projectId")
     Short findMaxPeriodNoByProject(@Param("projectId") Long projectId);
 
+    @EntityGraph(attributePaths = {"project"})
     @Query("SELECT pp FROM ProjectPeriod pp WHERE pp.project.id = :projectId AND pp.periodNo = :periodNo")
     Optional<ProjectPeriod> findByProjectIdAndPeriodNo(@Param("projectId") Long projectId,
             @Param("periodNo") Short periodNo);
@@ -58,6 +64,7 @@ public interface ProjectPeriodRepository extends JpaRepository<ProjectPeriod, Lo
     /**
      * Método para obtener los periodos solapados (para mensajes de error más detallados)
      */
+    @EntityGraph(attributePaths = {"project"})
     @Query("""
         SELECT pp 
         FROM ProjectPeriod pp 
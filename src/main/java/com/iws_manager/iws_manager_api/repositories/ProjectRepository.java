@@ -1,11 +1,13 @@
 package com.iws_manager.iws_manager_api.repositories;
 
 import java.util.List;
+import java.util.Optional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
 import com.iws_manager.iws_manager_api.models.Project;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.repository.query.Param;
@@ -14,168 +16,160 @@ import org.springframework.stereotype.Repository;
 
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long> {
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectFetchRepository {
+
+        @EntityGraph(Project.DEEP_GRAPH)
+        Optional<Project> findById(Long id);
+
+        // The derived finders below load the deep fetch plan in one query for V1,
+        // which serializes the entities with their lookups
+
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findAllByOrderByProjectNameAsc();
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findAllByOrderByProjectLabelAsc();
 
+        // Customer and status only, for the project summary list
+        @EntityGraph(Project.SHALLOW_GRAPH)
+        @Query("SELECT p FROM Project p ORDER BY p.projectLabel ASC, p.id ASC")
+        List<Project> findSummariesOrderByProjectLabelAsc();
+
+        /* ================== */
+        /* KEYSET PAGINATION  */
+        /* ================== */
+
+        // V2 only: the medium plan is what ProjectResponseDTO maps
+
+        // Rows strictly after the (sortKey, id) cursor; a null afterId starts at the first row.
+        // NULL sort keys follow MariaDB ordering: first on ascending, last on descending.
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        @Query("SELECT p FROM Project p WHERE :afterId IS NULL"
+                        + " OR (:afterKey IS NULL AND (p.projectLabel IS NOT NULL OR p.id > :afterId))"
+                        + " OR p.projectLabel > :afterKey OR (p.projectLabel = :afterKey AND p.id > :afterId)"
+                        + " ORDER BY p.projectLabel ASC, p.id ASC")
+        List<Project> findPageOrderByProjectLabelAsc(@Param("afterKey") String afterKey, @Param("afterId") Long afterId,
+                        Limit limit);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        @Query("SELECT p FROM Project p WHERE :afterId IS NULL"
+                        + " OR (:afterKey IS NULL AND p.projectLabel IS NULL AND p.id < :afterId)"
+                        + " OR (:afterKey IS NOT NULL AND (p.projectLabel IS NULL OR p.projectLabel < :afterKey"
+                        + " OR (p.projectLabel = :afterKey AND p.id < :afterId)))"
+                        + " ORDER BY p.projectLabel DESC, p.id DESC")
+        List<Project> findPageOrderByProjectLabelDesc(@Param("afterKey") String afterKey, @Param("afterId") Long afterId,
+                        Limit limit);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        @Query("SELECT p FROM Project p WHERE :afterId IS NULL"
+                        + " OR (:afterKey IS NULL AND (p.projectName IS NOT NULL OR p.id > :afterId))"
+                        + " OR p.projectName > :afterKey OR (p.projectName = :afterKey AND p.id > :afterId)"
+                        + " ORDER BY p.projectName ASC, p.id ASC")
+        List<Project> findPageOrderByProjectNameAsc(@Param("afterKey") String afterKey, @Param("afterId") Long afterId,
+                        Limit limit);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        @Query("SELECT p FROM Project p WHERE :afterId IS NULL"
+                        + " OR (:afterKey IS NULL AND p.projectName IS NULL AND p.id < :afterId)"
+                        + " OR (:afterKey IS NOT NULL AND (p.projectName IS NULL OR p.projectName < :afterKey"
+                        + " OR (p.projectName = :afterKey AND p.id < :afterId)))"
+                        + " ORDER BY p.projectName DESC, p.id DESC")
+        List<Project> findPageOrderByProjectNameDesc(@Param("afterKey") String afterKey, @Param("afterId") Long afterId,
+                        Limit limit);
+
         /* ==================== */
         /* PROPERTIES - BASICOS */
         /* ==================== */
 
         // --- Date Fields ---
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByApprovalDate(LocalDate approvalDate);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByAuthorizationDate(LocalDate authorizationDate);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByEndApproval(LocalDate endApproval);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByEndDate(LocalDate endDate);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByStartApproval(LocalDate startApproval);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByStartDate(LocalDate startDate);
 
         // --- Number Fields ---
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByChance(BigDecimal chance);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByFundingRate(BigDecimal fundingRate);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByHourlyRateMueu(BigDecimal hourlyRateMueu);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByMaxHoursPerMonth(BigDecimal maxHoursPerMonth);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByMaxHoursPerYear(BigDecimal maxHoursPerYear);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByProductiveHoursPerYear(BigDecimal productiveHoursPerYear);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByShareResearch(BigDecimal shareResearch);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByStuffFlat(BigDecimal stuffFlat);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByOrderFueId(Long orderFueId);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByOrderAdminId(Long orderAdminId);
 
         // --- Text Fields ---
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByCommentContaining(String keyword);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByFinanceAuthority(String authority);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByFundingLabel(String label);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByNoteContaining(String text);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByProjectLabel(String projectLabel);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByProjectName(String projectName);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByTitle(String title);
 
         // --- Entities (Relationships) ---
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByCustomerId(Long customerId);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByCustomerIdOrderByProjectLabelAsc(Long customerId);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByEmpiws20Id(Long empiws20Id);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByFundingProgramId(Long fundingProgramId);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByPromoterId(Long promoterId);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByStatusId(Long statusId);
 
         /* =================== */
@@ -183,64 +177,169 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
         /* =================== */
 
         // --- Date Helpers ---
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByApprovalDateBetween(LocalDate start, LocalDate end);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByAuthorizationDateBefore(LocalDate date);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByEndDateAfter(LocalDate date);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByStartDateBetween(LocalDate start, LocalDate end);
 
         // --- Number Helpers ---
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByChanceGreaterThan(BigDecimal chance);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByFundingRateLessThan(BigDecimal fundingRate);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByHourlyRateMueuBetween(BigDecimal min, BigDecimal max);
 
         // --- Text Helpers ---
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByProjectNameContainingIgnoreCase(String name);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByFundingLabelStartingWith(String prefix);
 
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByTitleEndingWith(String suffix);
 
         // --- Special Queries ---
-        @EntityGraph(attributePaths = { "customer", "customer.branch", "customer.companytype", "customer.country",
-                        "customer.state", "fundingProgram", "promoter", "promoter.country", "orderFue", "orderAdmin",
-                        "empiws20", "empiws30", "empiws50", "network", "status" })
+        @EntityGraph(Project.DEEP_GRAPH)
         List<Project> findByCustomerIdOrderByStartDateDesc(Long customerId);
 
+        /* ========================== */
+        /* V2 LISTS - MEDIUM PLAN     */
+        /* ========================== */
+
+        // The V2 list and lookup endpoints map to ProjectResponseDTO, which only
+        // reads the direct associations; the V1 finders above keep the deep plan
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByOrderByProjectLabelAsc();
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByApprovalDate(LocalDate approvalDate);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByApprovalDateBetween(LocalDate start, LocalDate end);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByAuthorizationDate(LocalDate authorizationDate);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByAuthorizationDateBefore(LocalDate date);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByChance(BigDecimal chance);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByChanceGreaterThan(BigDecimal chance);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByCommentContaining(String keyword);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByCustomerIdOrderByProjectLabelAsc(Long customerId);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByCustomerIdOrderByStartDateDesc(Long customerId);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByEmpiws20Id(Long empiws20Id);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByEndApproval(LocalDate endApproval);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByEndDate(LocalDate endDate);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByEndDateAfter(LocalDate date);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByFinanceAuthority(String authority);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByFundingLabel(String label);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByFundingLabelStartingWith(String prefix);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByFundingProgramId(Long fundingProgramId);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByFundingRate(BigDecimal fundingRate);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByFundingRateLessThan(BigDecimal fundingRate);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByHourlyRateMueu(BigDecimal hourlyRateMueu);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByHourlyRateMueuBetween(BigDecimal min, BigDecimal max);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByMaxHoursPerMonth(BigDecimal maxHoursPerMonth);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByMaxHoursPerYear(BigDecimal maxHoursPerYear);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByNoteContaining(String text);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByOrderAdminId(Long orderAdminId);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByOrderFueId(Long orderFueId);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByProductiveHoursPerYear(BigDecimal productiveHoursPerYear);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByProjectLabel(String projectLabel);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByProjectName(String projectName);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByProjectNameContainingIgnoreCase(String name);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByPromoterId(Long promoterId);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByShareResearch(BigDecimal shareResearch);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByStartApproval(LocalDate startApproval);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByStartDate(LocalDate startDate);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByStartDateBetween(LocalDate start, LocalDate end);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByStatusId(Long statusId);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByStuffFlat(BigDecimal stuffFlat);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByTitle(String title);
+
+        @EntityGraph(Project.MEDIUM_GRAPH)
+        List<Project> findMediumByTitleEndingWith(String suffix);
+
         // VALIDATIONS
         // PROJECTNAME must be unique
         // CREATION - verify if projectName exists (case-insensitive)
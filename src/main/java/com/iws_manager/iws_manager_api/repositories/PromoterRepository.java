@@ -1,6 +1,7 @@
 package com.iws_manager.iws_manager_api.repositories;
 
 import java.util.List;
+import java.util.Optional;
 
 import com.iws_manager.iws_manager_api.models.Promoter;
 
@@ -12,6 +13,10 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PromoterRepository extends JpaRepository<Promoter, Long> {
+
+    @EntityGraph(attributePaths = {"country"})
+    Optional<Promoter> findById(Long id);
+
     @EntityGraph(attributePaths = {"country"})
     List<Promoter> findAllByOrderByPromoterNoAsc();
 
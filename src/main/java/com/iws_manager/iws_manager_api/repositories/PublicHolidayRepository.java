@@ -4,23 +4,34 @@ import com.iws_manager.iws_manager_api.models.PublicHoliday;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.time.LocalDate;
 import java.util.Optional;
 
 @Repository
 public interface PublicHolidayRepository extends JpaRepository<PublicHoliday, Long> {
-    // @EntityGraph(attributePaths = {"stateHolidays", "holidayYears"})
+    // Both collections are bags and cannot be fetched in one query: the graphs
+    // load stateHolidays, fetchHolidayYears loads holidayYears for the result
+    @EntityGraph(attributePaths = { "stateHolidays", "stateHolidays.state" })
+    Optional<PublicHoliday> findById(Long id);
+
+    @EntityGraph(attributePaths = { "stateHolidays", "stateHolidays.state" })
     List<PublicHoliday> findAllByOrderByNameAsc();
 
-    // @EntityGraph(attributePaths = {"stateHolidays", "holidayYears"})
+    @EntityGraph(attributePaths = { "stateHolidays", "stateHolidays.state" })
     List<PublicHoliday> findAllByOrderBySequenceNoAsc();
 
-    // @EntityGraph(attributePaths = {"stateHolidays", "holidayYears"})
+    @EntityGraph(attributePaths = { "stateHolidays", "stateHolidays.state" })
     List<PublicHoliday> findAllByOrderBySequenceNoDesc();
 
+    // Initializes holidayYears of already loaded holidays in one query
+    @Query("SELECT DISTINCT p FROM PublicHoliday p LEFT JOIN FETCH p.holidayYears WHERE p IN :holidays")
+    List<PublicHoliday> fetchHolidayYears(@Param("holidays") Collection<PublicHoliday> holidays);
+
     @EntityGraph(attributePaths = { "stateHolidays", "holidayYears" })
     @Query("SELECT COALESCE(MAX(p.sequenceNo), 0) FROM PublicHoliday p")
     Long findMaxSequenceNo();
@@ -47,4 +58,7 @@ public interface PublicHolidayRepository extends JpaRepository<PublicHoliday, Lo
     // Finds a public holiday by specific date.
     Optional<PublicHoliday> findByDate(LocalDate date);
 
+    // Finds all public holidays falling on any of the given dates.
+    List<PublicHoliday> findByDateIn(Collection<LocalDate> dates);
+
 }
@@ -10,12 +10,12 @@ import java.util.List;
 import java.util.Optional;
 
 public interface RoleRepository extends JpaRepository<Role,Long> {
-    @Query(value = """
-    SELECT r.* 
-    FROM role r
-    JOIN userrole ur ON ur.roleid = r.roleid
-    WHERE ur.userid = :userId
-""", nativeQuery = true)
+
+    @EntityGraph(attributePaths = {"roleRights", "roleRights.systemFunction", "roleRights.systemFunction.module"})
+    Optional<Role> findById(Long id);
+
+    @EntityGraph(attributePaths = {"roleRights", "roleRights.systemFunction", "roleRights.systemFunction.module"})
+    @Query("SELECT r FROM Role r WHERE r.id IN (SELECT ur.id FROM User u JOIN u.roles ur WHERE u.id = :userId)")
     List<Role> findByUserId(@Param("userId") Long userId);
 
     @EntityGraph(attributePaths = {"roleRights", "roleRights.systemFunction", "roleRights.systemFunction.module"})
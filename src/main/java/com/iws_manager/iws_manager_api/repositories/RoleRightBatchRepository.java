@@ -0,0 +1,17 @@
+package com.iws_manager.iws_manager_api.repositories;
+
+import java.util.Map;
+
+/**
+ * Batched writes of {@link RoleRightRepository}.
+ */
+public interface RoleRightBatchRepository {
+
+    /**
+     * Inserts one right per entry of {@code accessRights} (system function id
+     * to access right) for the role in a single JDBC batch; identity ids keep
+     * Hibernate from batching these inserts itself. Under the
+     * {@code pooled-ids} profile the rows are persisted through JPA instead.
+     */
+    void insertAll(Long roleId, Map<Long, Integer> accessRights);
+}
@@ -0,0 +1,72 @@
+package com.iws_manager.iws_manager_api.repositories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.iws_manager.iws_manager_api.config.PooledIdAllocationInitializer;
+import com.iws_manager.iws_manager_api.models.Role;
+import com.iws_manager.iws_manager_api.models.RoleRight;
+import com.iws_manager.iws_manager_api.models.SystemFunction;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * JDBC implementation of {@link RoleRightBatchRepository}. It runs on the
+ * transactional connection, so the rows are visible to later queries of the
+ * same transaction and roll back with it.
+ * <p>
+ * The JDBC batch leaves the ids to AUTO_INCREMENT, which would collide with
+ * the ids the shared {@code id_allocation} counter hands out under the
+ * {@code pooled-ids} profile. With that profile the rows are persisted
+ * instead, so they take pooled ids and Hibernate batches the inserts.
+ */
+public class RoleRightBatchRepositoryImpl implements RoleRightBatchRepository {
+
+    private static final String INSERT = "INSERT INTO roleright "
+            + "(roleid, systemfunctionid, accessright, created_at, updated_at, version) "
+            + "VALUES (?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final boolean pooledIds;
+
+    public RoleRightBatchRepositoryImpl(DataSource dataSource, EntityManager entityManager, Environment environment) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.entityManager = entityManager;
+        this.pooledIds = environment.acceptsProfiles(Profiles.of(PooledIdAllocationInitializer.PROFILE));
+    }
+
+    @Override
+    public void insertAll(Long roleId, Map<Long, Integer> accessRights) {
+        if (accessRights.isEmpty()) {
+            return;
+        }
+        if (pooledIds) {
+            persistAll(roleId, accessRights);
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(accessRights.size());
+        accessRights.forEach((systemFunctionId, accessRight) -> rows.add(
+                new Object[] { roleId, systemFunctionId, accessRight }));
+        jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+
+    private void persistAll(Long roleId, Map<Long, Integer> accessRights) {
+        Role role = entityManager.getReference(Role.class, roleId);
+        accessRights.forEach((systemFunctionId, accessRight) -> {
+            RoleRight roleRight = new RoleRight();
+            roleRight.setRole(role);
+            roleRight.setSystemFunction(entityManager.getReference(SystemFunction.class, systemFunctionId));
+            roleRight.setAccessRight(accessRight);
+            entityManager.persist(roleRight);
+        });
+        entityManager.flush();
+    }
+}
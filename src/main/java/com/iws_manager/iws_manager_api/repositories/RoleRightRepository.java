@@ -10,16 +10,29 @@ import org.springframework.data.jpa.repository.EntityGraph;
 import java.util.List;
 import java.util.Optional;
 
-public interface RoleRightRepository extends JpaRepository<RoleRight, Long> {
+public interface RoleRightRepository extends JpaRepository<RoleRight, Long>, RoleRightBatchRepository {
 
-    @EntityGraph(attributePaths = {"role", "systemFunction"})
+    @EntityGraph(attributePaths = {"role", "systemFunction", "systemFunction.module"})
+    Optional<RoleRight> findById(Long id);
+
+    @EntityGraph(attributePaths = {"role", "systemFunction", "systemFunction.module"})
+    List<RoleRight> findAll();
+
+    @EntityGraph(attributePaths = {"role", "systemFunction", "systemFunction.module"})
     List<RoleRight> findByRoleId(Long roleId);
 
-    @EntityGraph(attributePaths = {"role", "systemFunction"})
+    @EntityGraph(attributePaths = {"role", "systemFunction", "systemFunction.module"})
     @Query("SELECT rr FROM RoleRight rr " +
             "JOIN rr.systemFunction sf " +
             "JOIN sf.module sm " +
             "WHERE sm.id = :moduleId AND rr.role.id = :roleId")
     List<RoleRight> findByModuleIdAndRoleId(@Param("moduleId") Long moduleId,
                                             @Param("roleId") Long roleId);
+
+    /**
+     * Returns {@code [systemFunctionId, accessRight]} pairs of a role without
+     * loading the entities.
+     */
+    @Query("SELECT rr.systemFunction.id, rr.accessRight FROM RoleRight rr WHERE rr.role.id = :roleId")
+    List<Object[]> findFunctionAccessRightsByRoleId(@Param("roleId") Long roleId);
 }
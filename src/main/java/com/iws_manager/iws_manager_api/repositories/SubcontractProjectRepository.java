@@ -3,17 +3,25 @@ package com.iws_manager.iws_manager_api.repositories;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 import com.iws_manager.iws_manager_api.models.SubcontractProject;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface SubcontractProjectRepository extends JpaRepository<SubcontractProject, Long> {
+
+    @EntityGraph(attributePaths = {"subcontractYear", "project", "subcontract"})
+    Optional<SubcontractProject> findById(Long id);
+
+    @EntityGraph(attributePaths = {"subcontractYear", "project", "subcontract"})
+    List<SubcontractProject> findAll();
     
     // Find by amount (as string)
     @EntityGraph(attributePaths = {"subcontractYear", "project", "subcontract"})
@@ -32,11 +40,27 @@ public interface SubcontractProjectRepository extends JpaRepository<SubcontractP
     List<SubcontractProject> findByProjectId(Long projectId);
     
     // Find by subcontract ID
+    @EntityGraph(attributePaths = {"subcontractYear", "project", "subcontract"})
     @Query("SELECT sp FROM SubcontractProject sp WHERE sp.subcontract.id = :subcontractId ORDER BY sp.project.projectLabel ASC, sp.amount ASC")    
     List<SubcontractProject> findBySubcontractIdOrdered(@Param("subcontractId") Long subcontractId);
 
     // Find by share percentage range (inclusive)
     @EntityGraph(attributePaths = {"subcontractYear", "project", "subcontract"})
     List<SubcontractProject> findByShareBetween(BigDecimal start, BigDecimal end);
-    
-}
\ No newline at end of file
+
+    // SET-BASED RECALCULATION - one UPDATE ... JOIN over the subcontracts in scope (every filter is optional).
+    // amount = invoiceGross * share / 100, or 0 for net subcontracts; rows already holding that amount are skipped.
+    String RECALCULATED_AMOUNT = "CASE WHEN s.netorgross = 1 THEN 0 "
+            + "ELSE ROUND(COALESCE(s.invoicegross, 0) * COALESCE(sp.`share`, 0) / 100, 2) END";
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE subcontractproject sp JOIN subcontract s ON s.subcontractid = sp.subcontractid "
+            + "SET sp.amount = " + RECALCULATED_AMOUNT + ", sp.version = sp.version + 1, "
+            + "sp.updated_at = CURRENT_TIMESTAMP "
+            + "WHERE (:subcontractId IS NULL OR s.subcontractid = :subcontractId) "
+            + "AND (:customerId IS NULL OR s.customerid = :customerId) "
+            + "AND (:projectCostCenterId IS NULL OR s.projectcostcenterid = :projectCostCenterId) "
+            + "AND (sp.amount IS NULL OR sp.amount <> " + RECALCULATED_AMOUNT + ")", nativeQuery = true)
+    int recalculateAmounts(@Param("subcontractId") Long subcontractId, @Param("customerId") Long customerId,
+            @Param("projectCostCenterId") Long projectCostCenterId);
+}
@@ -1,16 +1,23 @@
 package com.iws_manager.iws_manager_api.repositories;
 
 import java.util.List;
+import java.util.Optional;
 
 import com.iws_manager.iws_manager_api.models.Subcontract;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface SubcontractRepository extends JpaRepository<Subcontract, Long> {
+
+    @EntityGraph(attributePaths = {"contractor", "customer", "projectCostCenter"})
+    Optional<Subcontract> findById(Long id);
+
     @EntityGraph(attributePaths = {"contractor", "customer", "projectCostCenter"})
     List<Subcontract> findAllByOrderByContractTitleAsc();
 
@@ -25,4 +32,15 @@ public interface SubcontractRepository extends JpaRepository<Subcontract, Long>
 
     @EntityGraph(attributePaths = {"contractor", "customer", "projectCostCenter"})
     List<Subcontract> findByCustomerIdOrderByContractor_NameAsc(Long customerId);
-}
\ No newline at end of file
+
+    // Net subcontracts carry no gross invoice amount; clears it in the given scope (every filter is optional)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE subcontract s SET s.invoicegross = 0, s.version = s.version + 1, "
+            + "s.updated_at = CURRENT_TIMESTAMP "
+            + "WHERE s.netorgross = 1 AND (s.invoicegross IS NULL OR s.invoicegross <> 0) "
+            + "AND (:subcontractId IS NULL OR s.subcontractid = :subcontractId) "
+            + "AND (:customerId IS NULL OR s.customerid = :customerId) "
+            + "AND (:projectCostCenterId IS NULL OR s.projectcostcenterid = :projectCostCenterId)", nativeQuery = true)
+    int clearInvoiceGrossOfNetSubcontracts(@Param("subcontractId") Long subcontractId,
+            @Param("customerId") Long customerId, @Param("projectCostCenterId") Long projectCostCenterId);
+}
@@ -2,6 +2,7 @@ package com.iws_manager.iws_manager_api.repositories;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 import com.iws_manager.iws_manager_api.models.SubcontractYear;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -12,6 +13,12 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface SubcontractYearRepository extends JpaRepository<SubcontractYear, Long> {
 
+    @EntityGraph(attributePaths = {"subcontract"})
+    Optional<SubcontractYear> findById(Long id);
+
+    @EntityGraph(attributePaths = {"subcontract"})
+    List<SubcontractYear> findAll();
+
     @EntityGraph(attributePaths = {"subcontract"})
     List<SubcontractYear> findByMonths(Integer months);
 
@@ -3,11 +3,23 @@ package com.iws_manager.iws_manager_api.repositories;
 import com.iws_manager.iws_manager_api.models.SystemFunction;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface SystemFunctionRepository extends JpaRepository<SystemFunction,Long> {
 
+    @EntityGraph(attributePaths = {"module"})
+    Optional<SystemFunction> findById(Long id);
+
+    @EntityGraph(attributePaths = {"module"})
+    List<SystemFunction> findAll();
+
    @EntityGraph(attributePaths = {"module"})
    List<SystemFunction> findByModuleId(Long moduleId);
+
+    @Query("SELECT sf.id FROM SystemFunction sf WHERE sf.id IN :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
 }
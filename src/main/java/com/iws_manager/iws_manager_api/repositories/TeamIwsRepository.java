@@ -6,9 +6,14 @@ import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.EntityGraph;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TeamIwsRepository extends JpaRepository<TeamIws, Long> {
+
+    @EntityGraph(attributePaths = {"teamLeader"})
+    Optional<TeamIws> findById(Long id);
+
     @EntityGraph(attributePaths = {"teamLeader"})
     List<TeamIws> findAllByOrderByNameAsc();
 }
@@ -11,6 +11,10 @@ import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    @EntityGraph(attributePaths = {"roles"})
+    Optional<User> findById(Long id);
+
     @EntityGraph(attributePaths = { "roles" })
     Optional<User> findByUsername(String username);
 
@@ -5,11 +5,15 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.EntityGraph;
 
 @Repository
 public interface VatRateRepository extends JpaRepository<VatRate, Long> {
 
+    @EntityGraph(attributePaths = {"vat"})
+    Optional<VatRate> findById(Long id);
+
     @EntityGraph(attributePaths = {"vat"})
     List<VatRate> findAllByOrderByFromdateAsc();
 
@@ -1,9 +1,6 @@
 package com.iws_manager.iws_manager_api.security;
 
-import com.iws_manager.iws_manager_api.models.User;
-import com.iws_manager.iws_manager_api.repositories.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -12,32 +9,18 @@ import org.springframework.stereotype.Service;
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
+    private final UserAccountService userAccountService;
+
     @Autowired
-    private UserRepository userRepository;
+    public CustomUserDetailsService(UserAccountService userAccountService) {
+        this.userAccountService = userAccountService;
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
+        // Roles and rights come from the cached account snapshot
+        return userAccountService.findAccount(username)
+                .map(UserAccount::toUserDetails)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
-
-        // Cargamos los roles reales de la base de datos
-        java.util.List<org.springframework.security.core.GrantedAuthority> authorities = user.getRoles().stream()
-                .map(role -> new org.springframework.security.core.authority.SimpleGrantedAuthority(
-                        "ROLE_" + role.getName().toUpperCase()))
-                .collect(java.util.stream.Collectors.toList());
-
-        // Si no tiene roles, le damos el básico por defecto
-        if (authorities.isEmpty()) {
-            authorities.add(new org.springframework.security.core.authority.SimpleGrantedAuthority("ROLE_USER"));
-        }
-
-        return new org.springframework.security.core.userdetails.User(
-                user.getUsername(),
-                user.getPassword(),
-                user.isActive(),
-                true,
-                true,
-                true,
-                authorities);
     }
 }
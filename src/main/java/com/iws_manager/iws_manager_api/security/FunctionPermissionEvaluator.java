@@ -0,0 +1,42 @@
+package com.iws_manager.iws_manager_api.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * Checks system function rights of the current user for method security,
+ * e.g. {@code @PreAuthorize("@functionPermissions.hasAccess(authentication, 12, 1)")}.
+ * <p>
+ * Rights are read from the cached {@link UserAccount} rather than from the
+ * authorities stored in the HTTP session at login, so role right changes
+ * apply to running sessions as soon as the cache is evicted.
+ */
+@Component("functionPermissions")
+public class FunctionPermissionEvaluator {
+
+    private final UserAccountService userAccountService;
+
+    @Autowired
+    public FunctionPermissionEvaluator(UserAccountService userAccountService) {
+        this.userAccountService = userAccountService;
+    }
+
+    public boolean hasAccess(Authentication authentication, long functionId, int minimumAccessRight) {
+        return getRights(authentication).hasAccess(functionId, minimumAccessRight);
+    }
+
+    public boolean isGranted(Authentication authentication, long functionId) {
+        return getRights(authentication).isGranted(functionId);
+    }
+
+    public FunctionRights getRights(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated() || authentication.getName() == null) {
+            return FunctionRights.NONE;
+        }
+        return userAccountService.findAccount(authentication.getName())
+                .filter(UserAccount::active)
+                .map(UserAccount::rights)
+                .orElse(FunctionRights.NONE);
+    }
+}
@@ -0,0 +1,125 @@
+package com.iws_manager.iws_manager_api.security;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Immutable access rights of a role (or of a user, merged over all roles),
+ * indexed by {@code SystemFunction} id.
+ * <p>
+ * Functions with a positive access right are marked in a bitmap and their
+ * access right is kept in an array of the same index, so a permission check
+ * is two array reads and never allocates. System functions are seed data with
+ * small, dense ids, which keeps both structures a few hundred bytes.
+ */
+public final class FunctionRights {
+
+    public static final FunctionRights NONE = new FunctionRights(new BitSet(), new int[0]);
+
+    private final BitSet granted;
+    private final int[] accessRights;
+
+    private FunctionRights(BitSet granted, int[] accessRights) {
+        this.granted = granted;
+        this.accessRights = accessRights;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the access right for the function, {@code 0} if none is granted
+     */
+    public int getAccessRight(long functionId) {
+        if (functionId < 0 || functionId >= accessRights.length) {
+            return 0;
+        }
+        return accessRights[(int) functionId];
+    }
+
+    public boolean isGranted(long functionId) {
+        return functionId >= 0 && functionId < accessRights.length && granted.get((int) functionId);
+    }
+
+    /**
+     * @return {@code true} if the function is granted with at least the given access right
+     */
+    public boolean hasAccess(long functionId, int minimumAccessRight) {
+        return isGranted(functionId) && accessRights[(int) functionId] >= minimumAccessRight;
+    }
+
+    public int countGranted() {
+        return granted.cardinality();
+    }
+
+    /**
+     * Combines two rights sets, keeping the higher access right per function.
+     */
+    public FunctionRights merge(FunctionRights other) {
+        if (other == null || other.granted.isEmpty()) {
+            return this;
+        }
+        if (granted.isEmpty()) {
+            return other;
+        }
+        Builder builder = new Builder(Math.max(accessRights.length, other.accessRights.length));
+        builder.grantAll(this);
+        builder.grantAll(other);
+        return builder.build();
+    }
+
+    /**
+     * Collects access rights before they are compiled. Granting the same
+     * function twice keeps the higher access right; rights of zero or less
+     * grant nothing.
+     */
+    public static final class Builder {
+
+        private int[] accessRights;
+
+        private Builder() {
+            this(16);
+        }
+
+        private Builder(int capacity) {
+            this.accessRights = new int[capacity];
+        }
+
+        public Builder grant(Long functionId, Integer accessRight) {
+            if (functionId == null || accessRight == null || accessRight <= 0) {
+                return this;
+            }
+            if (functionId < 0 || functionId > Integer.MAX_VALUE - 1) {
+                throw new IllegalArgumentException("System function ID out of range: " + functionId);
+            }
+            int index = functionId.intValue();
+            if (index >= accessRights.length) {
+                accessRights = Arrays.copyOf(accessRights, Math.max(index + 1, accessRights.length * 2));
+            }
+            accessRights[index] = Math.max(accessRights[index], accessRight);
+            return this;
+        }
+
+        private void grantAll(FunctionRights rights) {
+            for (int id = rights.granted.nextSetBit(0); id >= 0; id = rights.granted.nextSetBit(id + 1)) {
+                grant((long) id, rights.accessRights[id]);
+            }
+        }
+
+        public FunctionRights build() {
+            int length = 0;
+            BitSet granted = new BitSet(accessRights.length);
+            for (int id = 0; id < accessRights.length; id++) {
+                if (accessRights[id] > 0) {
+                    granted.set(id);
+                    length = id + 1;
+                }
+            }
+            if (length == 0) {
+                return NONE;
+            }
+            return new FunctionRights(granted, Arrays.copyOf(accessRights, length));
+        }
+    }
+}
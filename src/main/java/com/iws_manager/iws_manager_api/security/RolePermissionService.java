@@ -0,0 +1,43 @@
+package com.iws_manager.iws_manager_api.security;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.iws_manager.iws_manager_api.config.CacheNames;
+import com.iws_manager.iws_manager_api.repositories.RoleRightRepository;
+
+/**
+ * Compiles the role rights of a role into {@link FunctionRights} and caches
+ * them per role. Role and role right writes evict the cache.
+ * <p>
+ * Not read-only, for the pool split explained on
+ * {@link com.iws_manager.iws_manager_api.config.DataSourceConfig}.
+ */
+@Service
+@Transactional
+public class RolePermissionService {
+
+    private final RoleRightRepository roleRightRepository;
+
+    @Autowired
+    public RolePermissionService(RoleRightRepository roleRightRepository) {
+        this.roleRightRepository = roleRightRepository;
+    }
+
+    @Cacheable(cacheNames = CacheNames.ROLE_PERMISSIONS, key = "#roleId")
+    public FunctionRights getRights(Long roleId) {
+        if (roleId == null) {
+            throw new IllegalArgumentException("Role ID cannot be null");
+        }
+        List<Object[]> rows = roleRightRepository.findFunctionAccessRightsByRoleId(roleId);
+        FunctionRights.Builder builder = FunctionRights.builder();
+        for (Object[] row : rows) {
+            builder.grant((Long) row[0], (Integer) row[1]);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.iws_manager.iws_manager_api.security;
+
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Cached, immutable snapshot of everything authentication and permission
+ * checks need about a user.
+ * <p>
+ * The snapshot is cached instead of {@link UserDetails} because Spring
+ * Security erases the password of the returned principal after a successful
+ * login; {@link #toUserDetails()} therefore builds a fresh instance per call.
+ */
+public record UserAccount(
+    String username,
+    String password,
+    boolean active,
+    List<GrantedAuthority> authorities,
+    FunctionRights rights
+) {
+
+    public UserDetails toUserDetails() {
+        return new org.springframework.security.core.userdetails.User(
+                username,
+                password,
+                active,
+                true,
+                true,
+                true,
+                authorities);
+    }
+}
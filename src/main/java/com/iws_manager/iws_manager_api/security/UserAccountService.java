@@ -0,0 +1,72 @@
+package com.iws_manager.iws_manager_api.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.iws_manager.iws_manager_api.config.CacheNames;
+import com.iws_manager.iws_manager_api.models.Role;
+import com.iws_manager.iws_manager_api.models.User;
+import com.iws_manager.iws_manager_api.repositories.UserRepository;
+
+/**
+ * Resolves and caches {@link UserAccount}s by username.
+ * <p>
+ * Entries expire after the {@code app.cache.security.spec} TTL and are
+ * evicted by user, role and role right writes. Unknown usernames are not
+ * cached, so a newly created user can log in immediately.
+ * <p>
+ * Read-write so that logins get their connection from the read-write pool,
+ * see {@link com.iws_manager.iws_manager_api.config.DataSourceConfig}.
+ */
+@Service
+@Transactional
+public class UserAccountService {
+
+    static final String DEFAULT_ROLE = "ROLE_USER";
+
+    private final UserRepository userRepository;
+    private final RolePermissionService rolePermissionService;
+
+    @Autowired
+    public UserAccountService(UserRepository userRepository, RolePermissionService rolePermissionService) {
+        this.userRepository = userRepository;
+        this.rolePermissionService = rolePermissionService;
+    }
+
+    @Cacheable(cacheNames = CacheNames.USER_ACCOUNTS, key = "#username", unless = "#result == null")
+    public Optional<UserAccount> findAccount(String username) {
+        if (username == null) {
+            throw new IllegalArgumentException("Username cannot be null");
+        }
+        return userRepository.findByUsername(username).map(this::toAccount);
+    }
+
+    private UserAccount toAccount(User user) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        FunctionRights rights = FunctionRights.NONE;
+        for (Role role : user.getRoles()) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_" + role.getName().toUpperCase()));
+            rights = rights.merge(rolePermissionService.getRights(role.getId()));
+        }
+
+        // Users without roles get the basic role by default
+        if (authorities.isEmpty()) {
+            authorities.add(new SimpleGrantedAuthority(DEFAULT_ROLE));
+        }
+
+        return new UserAccount(
+                user.getUsername(),
+                user.getPassword(),
+                user.isActive(),
+                List.copyOf(authorities),
+                rights);
+    }
+}
@@ -0,0 +1,169 @@
+package com.iws_manager.iws_manager_api.services.holiday;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import com.iws_manager.iws_manager_api.dtos.publicholiday.SimpleHolidayDTO;
+
+/**
+ * Precompiled, immutable non-working-day calendar for one year and state.
+ * <p>
+ * Days are addressed by their zero-based day of year. Holidays and
+ * weekends are kept as bitsets, holiday names in a table indexed the same
+ * way, and a prefix sum of working days makes range counts independent of
+ * the range length. A {@code null} state means "holidays of any state",
+ * matching the repository queries.
+ */
+public final class HolidayCalendar {
+
+    private final int year;
+    private final Long stateId;
+    private final int length;
+    private final BitSet holidays;
+    private final BitSet nonWorkingDays;
+    private final String[] names;
+    private final int[] workingDaysBefore;
+
+    private HolidayCalendar(int year, Long stateId, String[] names) {
+        this.year = year;
+        this.stateId = stateId;
+        this.length = names.length;
+        this.names = names;
+        this.holidays = new BitSet(length);
+        this.nonWorkingDays = new BitSet(length);
+        this.workingDaysBefore = new int[length + 1];
+
+        DayOfWeek dayOfWeek = LocalDate.of(year, 1, 1).getDayOfWeek();
+        for (int day = 0; day < length; day++) {
+            if (names[day] != null) {
+                holidays.set(day);
+                nonWorkingDays.set(day);
+            } else if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+                nonWorkingDays.set(day);
+            }
+            workingDaysBefore[day + 1] = workingDaysBefore[day] + (nonWorkingDays.get(day) ? 0 : 1);
+            dayOfWeek = dayOfWeek.plus(1);
+        }
+    }
+
+    public static Builder builder(int year, Long stateId) {
+        return new Builder(year, stateId);
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public Long getStateId() {
+        return stateId;
+    }
+
+    public boolean isHoliday(LocalDate date) {
+        return holidays.get(indexOf(date));
+    }
+
+    public boolean isWorkingDay(LocalDate date) {
+        return !nonWorkingDays.get(indexOf(date));
+    }
+
+    /**
+     * @return the holiday name, or {@code null} if the date is not a holiday
+     */
+    public String getHolidayName(LocalDate date) {
+        return names[indexOf(date)];
+    }
+
+    /**
+     * Counts working days (Monday to Friday, not a holiday) between both
+     * dates, inclusive. Both dates must belong to this calendar's year.
+     */
+    public int countWorkingDays(LocalDate startDate, LocalDate endDate) {
+        int from = indexOf(startDate);
+        int to = indexOf(endDate);
+        if (from > to) {
+            return 0;
+        }
+        return workingDaysBefore[to + 1] - workingDaysBefore[from];
+    }
+
+    /**
+     * Lists holidays, Saturdays and Sundays between both dates (inclusive),
+     * clamped to this calendar's year. A holiday on a weekend is reported
+     * with the holiday name.
+     */
+    public List<SimpleHolidayDTO> getNonWorkingDays(LocalDate startDate, LocalDate endDate) {
+        return collect(nonWorkingDays, startDate, endDate);
+    }
+
+    /**
+     * Lists holidays only between both dates (inclusive), clamped to this
+     * calendar's year.
+     */
+    public List<SimpleHolidayDTO> getHolidays(LocalDate startDate, LocalDate endDate) {
+        return collect(holidays, startDate, endDate);
+    }
+
+    private List<SimpleHolidayDTO> collect(BitSet days, LocalDate startDate, LocalDate endDate) {
+        int from = startDate.getYear() < year ? 0 : indexOf(startDate);
+        int to = endDate.getYear() > year ? length - 1 : indexOf(endDate);
+
+        List<SimpleHolidayDTO> result = new ArrayList<>();
+        for (int day = days.nextSetBit(from); day >= 0 && day <= to; day = days.nextSetBit(day + 1)) {
+            LocalDate date = LocalDate.ofYearDay(year, day + 1);
+            if (names[day] != null) {
+                result.add(SimpleHolidayDTO.fromHoliday(names[day], date));
+            } else if (date.getDayOfWeek() == DayOfWeek.SATURDAY) {
+                result.add(SimpleHolidayDTO.forSaturday(date));
+            } else {
+                result.add(SimpleHolidayDTO.forSunday(date));
+            }
+        }
+        return result;
+    }
+
+    private int indexOf(LocalDate date) {
+        if (date.getYear() != year) {
+            throw new IllegalArgumentException("Date " + date + " is outside of calendar year " + year);
+        }
+        return date.getDayOfYear() - 1;
+    }
+
+    /**
+     * Collects holiday names before the calendar is compiled. Later
+     * {@link #put} calls override earlier ones, {@link #putIfAbsent} never does.
+     * Rows without a name are skipped and do not mark a holiday.
+     */
+    public static final class Builder {
+
+        private final int year;
+        private final Long stateId;
+        private final String[] names;
+
+        private Builder(int year, Long stateId) {
+            this.year = year;
+            this.stateId = stateId;
+            this.names = new String[LocalDate.of(year, 1, 1).lengthOfYear()];
+        }
+
+        public Builder put(LocalDate date, String name) {
+            if (date != null && name != null && date.getYear() == year) {
+                names[date.getDayOfYear() - 1] = name;
+            }
+            return this;
+        }
+
+        public Builder putIfAbsent(LocalDate date, String name) {
+            if (date != null && date.getYear() == year && names[date.getDayOfYear() - 1] == null) {
+                put(date, name);
+            }
+            return this;
+        }
+
+        public HolidayCalendar build() {
+            return new HolidayCalendar(year, stateId, names.clone());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
+import com.iws_manager.iws_manager_api.dtos.absenceday.AbsenceDayBulkResultDTO;
+import com.iws_manager.iws_manager_api.dtos.absenceday.AbsenceDayBulkRowResultDTO;
 import com.iws_manager.iws_manager_api.dtos.absenceday.AbsenceDayFilterDTO;
 import com.iws_manager.iws_manager_api.dtos.absenceday.AbsenceDayRequestDTO;
 import com.iws_manager.iws_manager_api.mappers.AbsenceDayMapper;
@@ -22,8 +24,14 @@ import jakarta.persistence.EntityNotFoundException;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -272,61 +280,122 @@ public class AbsenceDayServiceV2Impl implements AbsenceDayServiceV2 {
         return absenceDayRepository.countAbsenceDaysByTypeForEmployeeAndYear(employeeId, year);
     }
 
+    /**
+     * Creates absences in bulk. Holidays, existing absences, employees and
+     * absence types are each loaded once for the whole batch, duplicates are
+     * detected in memory, and every row gets its own result: invalid rows are
+     * reported instead of rolling back the rows that are valid.
+     */
     @Override
     @Transactional
-    public List<AbsenceDay> createBulkFromDTO(List<AbsenceDayRequestDTO> requestDTOs) {
+    public AbsenceDayBulkResultDTO createBulkFromDTO(List<AbsenceDayRequestDTO> requestDTOs) {
         if (requestDTOs == null || requestDTOs.isEmpty()) {
             throw new IllegalArgumentException("Absence list cannot be null or empty");
         }
 
-        List<AbsenceDay> absencesToSave = new ArrayList<>();
-
-        for (AbsenceDayRequestDTO dto : requestDTOs) {
-
-            if (dto.absenceDate() == null) {
-                throw new IllegalArgumentException("Absence date must be specified");
-            }
-
-            if (dto.employee() == null || dto.employee().id() == null) {
-                throw new IllegalArgumentException("Employee must be specified");
+        AbsenceDayBulkRowResultDTO[] results = new AbsenceDayBulkRowResultDTO[requestDTOs.size()];
+        List<Integer> candidates = new ArrayList<>();
+        Set<LocalDate> dates = new HashSet<>();
+        Set<Long> employeeIds = new HashSet<>();
+        Set<Long> absenceTypeIds = new HashSet<>();
+
+        for (int i = 0; i < requestDTOs.size(); i++) {
+            AbsenceDayRequestDTO dto = requestDTOs.get(i);
+            String error = validateBulkRow(dto);
+            if (error != null) {
+                results[i] = AbsenceDayBulkRowResultDTO.failed(i, dto, error);
+                continue;
             }
+            candidates.add(i);
+            dates.add(dto.absenceDate());
+            employeeIds.add(dto.employee().id());
+            absenceTypeIds.add(dto.absenceType().id());
+        }
 
-            if (dto.absenceType() == null || dto.absenceType().id() == null) {
-                throw new IllegalArgumentException("AbsenceType must be specified");
+        List<AbsenceDay> absencesToSave = new ArrayList<>();
+        List<Integer> savedIndexes = new ArrayList<>();
+
+        if (!candidates.isEmpty()) {
+            Map<LocalDate, String> holidays = new HashMap<>();
+            publicHolidayRepository.findByDateIn(dates)
+                    .forEach(holiday -> holidays.putIfAbsent(holiday.getDate(),
+                            holiday.getName() != null ? holiday.getName() : "Public Holiday"));
+
+            Set<Long> existingEmployeeIds = new HashSet<>(employeeRepository.findExistingIds(employeeIds));
+
+            Map<Long, AbsenceType> absenceTypes = new HashMap<>();
+            absenceTypeRepository.findAllById(absenceTypeIds)
+                    .forEach(absenceType -> absenceTypes.put(absenceType.getId(), absenceType));
+
+            Set<EmployeeDate> takenDays = new HashSet<>();
+            absenceDayRepository.findEmployeeIdAndAbsenceDateByEmployeeIdInAndAbsenceDateBetween(
+                    employeeIds, Collections.min(dates), Collections.max(dates))
+                    .forEach(row -> takenDays.add(new EmployeeDate((Long) row[0], (LocalDate) row[1])));
+
+            for (int i : candidates) {
+                AbsenceDayRequestDTO dto = requestDTOs.get(i);
+                Long employeeId = dto.employee().id();
+                Long absenceTypeId = dto.absenceType().id();
+                EmployeeDate day = new EmployeeDate(employeeId, dto.absenceDate());
+
+                String error = null;
+                if (holidays.containsKey(dto.absenceDate())) {
+                    error = String.format("Cannot create absence on public holiday: %s (%s)",
+                            dto.absenceDate(), holidays.get(dto.absenceDate()));
+                } else if (takenDays.contains(day)) {
+                    error = "Absence already exists for employee ID " + employeeId + " on date " + dto.absenceDate();
+                } else if (!existingEmployeeIds.contains(employeeId)) {
+                    error = EMPLOYEE + employeeId;
+                } else if (!absenceTypes.containsKey(absenceTypeId)) {
+                    error = ABSENCE_TYPE + absenceTypeId;
+                }
+
+                if (error != null) {
+                    results[i] = AbsenceDayBulkRowResultDTO.failed(i, dto, error);
+                    continue;
+                }
+
+                takenDays.add(day);
+                AbsenceDay absenceDay = new AbsenceDay();
+                absenceDay.setAbsenceDate(dto.absenceDate());
+                absenceDay.setEmployee(employeeRepository.getReferenceById(employeeId));
+                absenceDay.setAbsenceType(absenceTypes.get(absenceTypeId));
+                absencesToSave.add(absenceDay);
+                savedIndexes.add(i);
             }
+        }
 
-            // Validate holiday
-            validateNotPublicHoliday(dto.absenceDate());
-
-            // Validate duplicates
-            if (absenceDayRepository.existsByEmployeeIdAndAbsenceDate(
-                    dto.employee().id(), dto.absenceDate())) {
-                throw new DuplicateResourceException(
-                        "Absence already exists for employee ID " + dto.employee().id() +
-                                " on date " + dto.absenceDate());
-            }
+        // Mass saving
+        List<AbsenceDay> saved = absenceDayRepository.saveAll(absencesToSave);
+        for (int j = 0; j < saved.size(); j++) {
+            int i = savedIndexes.get(j);
+            results[i] = AbsenceDayBulkRowResultDTO.created(i, requestDTOs.get(i), saved.get(j).getId());
+        }
 
-            Employee employee = employeeRepository.findById(dto.employee().id())
-                    .orElseThrow(() -> new EntityNotFoundException(
-                            EMPLOYEE + dto.employee().id()));
+        return new AbsenceDayBulkResultDTO(requestDTOs.size(), saved.size(),
+                requestDTOs.size() - saved.size(), Arrays.asList(results));
+    }
 
-            AbsenceType absenceType = absenceTypeRepository.findById(dto.absenceType().id())
-                    .orElseThrow(() -> new EntityNotFoundException(
-                            ABSENCE_TYPE + dto.absenceType().id()));
+    // ========== Private methods ==========
 
-            AbsenceDay absenceDay = new AbsenceDay();
-            absenceDay.setAbsenceDate(dto.absenceDate());
-            absenceDay.setEmployee(employee);
-            absenceDay.setAbsenceType(absenceType);
+    private record EmployeeDate(Long employeeId, LocalDate absenceDate) {
+    }
 
-            absencesToSave.add(absenceDay);
+    private String validateBulkRow(AbsenceDayRequestDTO dto) {
+        if (dto == null) {
+            return "Absence must be specified";
         }
-
-        // Mass saving
-        return absenceDayRepository.saveAll(absencesToSave);
+        if (dto.absenceDate() == null) {
+            return "Absence date must be specified";
+        }
+        if (dto.employee() == null || dto.employee().id() == null) {
+            return "Employee must be specified";
+        }
+        if (dto.absenceType() == null || dto.absenceType().id() == null) {
+            return "AbsenceType must be specified";
+        }
+        return null;
     }
-
-    // ========== Private methods ==========
     
     private void validateNotPublicHoliday(LocalDate date) {
         if (date == null) {
@@ -1,9 +1,13 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import com.iws_manager.iws_manager_api.models.AbsenceType;
 import com.iws_manager.iws_manager_api.repositories.AbsenceTypeRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.AbsenceTypeService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import jakarta.persistence.EntityNotFoundException;
@@ -14,6 +18,7 @@ import java.util.Optional;
 
 @Service
 @Transactional
+@CacheConfig(cacheNames = CacheNames.ABSENCE_TYPES)
 public class AbsenceTypeServiceImpl implements AbsenceTypeService {
     private final AbsenceTypeRepository absenceTypeRepository;
 
@@ -23,6 +28,7 @@ public class AbsenceTypeServiceImpl implements AbsenceTypeService {
     }
 
     @Override
+    @CacheEvict(allEntries = true)
     public AbsenceType create(AbsenceType absenceType) {
         if(absenceType == null){
             throw new IllegalArgumentException("AbsenceType cannot be null");
@@ -35,6 +41,7 @@ public class AbsenceTypeServiceImpl implements AbsenceTypeService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = "#id", condition = "#id != null")
     public Optional<AbsenceType> findById(Long id) {
         if(id == null){
             throw new IllegalArgumentException("ID cannot be null");
@@ -44,11 +51,13 @@ public class AbsenceTypeServiceImpl implements AbsenceTypeService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = CacheNames.ALL)
     public List<AbsenceType> findAll() {
         return absenceTypeRepository.findAllByOrderByNameAsc();
     }
 
     @Override
+    @CacheEvict(allEntries = true)
     public AbsenceType update(Long id, AbsenceType absenceTypeDetails) {
         if(id == null || absenceTypeDetails == null){
             throw new IllegalArgumentException("ID and Details cannot be null");
@@ -68,6 +77,7 @@ public class AbsenceTypeServiceImpl implements AbsenceTypeService {
     }
 
     @Override
+    @CacheEvict(allEntries = true)
     public void delete(Long id) {
         if(id == null){
             throw new IllegalArgumentException("ID cannot be null");
@@ -81,6 +91,7 @@ public class AbsenceTypeServiceImpl implements AbsenceTypeService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = "'allByLabel'")
     public List<AbsenceType> getAllByOrderByLabelAsc() {
         return absenceTypeRepository.findAllByOrderByLabelAsc();
     }
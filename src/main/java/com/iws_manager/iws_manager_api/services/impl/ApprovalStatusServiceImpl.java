@@ -1,9 +1,13 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import com.iws_manager.iws_manager_api.models.ApprovalStatus;
 import com.iws_manager.iws_manager_api.repositories.ApprovalStatusRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.ApprovalStatusService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import jakarta.persistence.EntityNotFoundException;
@@ -13,6 +17,7 @@ import java.util.Optional;
 
 @Service
 @Transactional
+@CacheConfig(cacheNames = CacheNames.APPROVAL_STATUSES)
 public class ApprovalStatusServiceImpl implements ApprovalStatusService {
     private final ApprovalStatusRepository approvalStatusRepository;
 
@@ -22,6 +27,7 @@ public class ApprovalStatusServiceImpl implements ApprovalStatusService {
     }
 
     @Override
+    @CacheEvict(allEntries = true)
     public ApprovalStatus create(ApprovalStatus approvalStatus) {
         if (approvalStatus == null) {
             throw new IllegalArgumentException("ApprovalStatus cannot be null");
@@ -31,6 +37,7 @@ public class ApprovalStatusServiceImpl implements ApprovalStatusService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = "#id", condition = "#id != null")
     public Optional<ApprovalStatus> findById(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -40,11 +47,13 @@ public class ApprovalStatusServiceImpl implements ApprovalStatusService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = CacheNames.ALL)
     public List<ApprovalStatus> findAll() {
         return approvalStatusRepository.findAll();
     }
 
     @Override
+    @CacheEvict(allEntries = true)
     public ApprovalStatus update(Long id, ApprovalStatus approvalStatusDetails) {
         if (id==null || approvalStatusDetails ==null) {
             throw new IllegalArgumentException("Id and Details cannot be null");
@@ -61,6 +70,7 @@ public class ApprovalStatusServiceImpl implements ApprovalStatusService {
     }
 
     @Override
+    @CacheEvict(allEntries = true)
     public void delete(Long id) {
         if (id == null ) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -5,10 +5,6 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
-import com.iws_manager.iws_manager_api.models.ContractOrderCommission;
-import com.iws_manager.iws_manager_api.models.IwsCommission;
-import com.iws_manager.iws_manager_api.repositories.ContractOrderCommissionRepository;
-import com.iws_manager.iws_manager_api.repositories.IwsCommissionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.iws_manager.iws_manager_api.models.BasicContract;
 import com.iws_manager.iws_manager_api.repositories.BasicContractRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.BasicContractService;
+import com.iws_manager.iws_manager_api.services.interfaces.CommissionTemplateService;
 import jakarta.persistence.EntityNotFoundException;
 
 /**
@@ -30,19 +27,18 @@ import jakarta.persistence.EntityNotFoundException;
 public class BasicContractServiceImpl implements BasicContractService {
 
     private final BasicContractRepository basicContractRepository;
-    private final IwsCommissionRepository iwsCommissionRepository;
-    private final ContractOrderCommissionRepository contractOrderCommissionRepository;
+    private final CommissionTemplateService commissionTemplateService;
     
     /**
      * Constructs a new BasicContractService with the required repository dependency.
      * 
      * @param basicContractRepository the repository for BasicContract entity operations
+     * @param commissionTemplateService copies the commission tiers of new contracts
      */
     @Autowired
-    public BasicContractServiceImpl(BasicContractRepository basicContractRepository, IwsCommissionRepository iwsCommissionRepository, ContractOrderCommissionRepository contractOrderCommissionRepository) {
+    public BasicContractServiceImpl(BasicContractRepository basicContractRepository, CommissionTemplateService commissionTemplateService) {
         this.basicContractRepository = basicContractRepository;
-        this.iwsCommissionRepository = iwsCommissionRepository;
-        this.contractOrderCommissionRepository = contractOrderCommissionRepository;
+        this.commissionTemplateService = commissionTemplateService;
     }
 
 
@@ -61,19 +57,7 @@ public class BasicContractServiceImpl implements BasicContractService {
 
         BasicContract savedContract = basicContractRepository.save(basicContract);
 
-        List<IwsCommission> iwsCommissions = iwsCommissionRepository.findAll();
-
-        List<ContractOrderCommission> contractOrderCommissions = iwsCommissions.stream()
-                .map(iws -> {
-                    ContractOrderCommission c = new ContractOrderCommission();
-                    c.setCommission(iws.getCommission());
-                    c.setFromOrderValue(iws.getFromOrderValue());
-                    c.setMinCommission(iws.getMinCommission());
-                    c.setBasicContract(savedContract);
-                    return c;
-                })
-                .toList();
-        contractOrderCommissionRepository.saveAll(contractOrderCommissions);
+        commissionTemplateService.cloneForBasicContract(savedContract.getId());
         return savedContract;
     }
 
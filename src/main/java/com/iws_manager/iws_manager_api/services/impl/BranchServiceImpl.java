@@ -4,9 +4,13 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import com.iws_manager.iws_manager_api.models.Branch;
 import com.iws_manager.iws_manager_api.repositories.BranchRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.BranchService;
@@ -20,6 +24,7 @@ import com.iws_manager.iws_manager_api.services.interfaces.BranchService;
  */
 @Service
 @Transactional
+@CacheConfig(cacheNames = CacheNames.BRANCHES)
 public class BranchServiceImpl implements BranchService {
 
     private final BranchRepository branchRepository;
@@ -42,6 +47,7 @@ public class BranchServiceImpl implements BranchService {
      * @throws IllegalArgumentException if the branch parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public Branch create(Branch branch) {
         if (branch == null) {
             throw new IllegalArgumentException("Branch cannot be null");
@@ -58,6 +64,7 @@ public class BranchServiceImpl implements BranchService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = "#id", condition = "#id != null")
     public Optional<Branch> findById(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -72,6 +79,7 @@ public class BranchServiceImpl implements BranchService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = CacheNames.ALL)
     public List<Branch> findAll() {
         return branchRepository.findAll();
     }
@@ -86,6 +94,7 @@ public class BranchServiceImpl implements BranchService {
      * @throws IllegalArgumentException if either parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public Branch update(Long id, Branch branchDetails) {
         if (id == null || branchDetails == null) {
             throw new IllegalArgumentException("ID and branch details cannot be null");
@@ -106,6 +115,7 @@ public class BranchServiceImpl implements BranchService {
      * @throws IllegalArgumentException if the id parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public void delete(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
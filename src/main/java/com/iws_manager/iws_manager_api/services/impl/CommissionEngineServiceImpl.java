@@ -0,0 +1,222 @@
+package com.iws_manager.iws_manager_api.services.impl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.iws_manager.iws_manager_api.dtos.commission.CommissionResultDTO;
+import com.iws_manager.iws_manager_api.dtos.commission.CommissionTierTable;
+import com.iws_manager.iws_manager_api.repositories.ContractOrderCommissionRepository;
+import com.iws_manager.iws_manager_api.repositories.OrderCommissionRepository;
+import com.iws_manager.iws_manager_api.repositories.OrderRepository;
+import com.iws_manager.iws_manager_api.services.interfaces.CommissionEngineService;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Compiles commission tiers into {@link CommissionTierTable}s and keeps them
+ * in the {@link CommissionTierCache}. The cache is used directly rather than
+ * through {@code @Cacheable} so that a batch loads the tiers of all uncached
+ * orders with one query per chunk of ids instead of one per order. Services
+ * writing order or contract tiers evict the entry of that order or contract.
+ * <p>
+ * An order is charged its tier's percentage, or its own
+ * {@code fixCommission} if set, but at least the tier's
+ * {@code minCommission} and at most the order's {@code maxCommission}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CommissionEngineServiceImpl implements CommissionEngineService {
+
+    static final int BATCH_SIZE = 1000;
+
+    private final OrderRepository orderRepository;
+    private final OrderCommissionRepository orderCommissionRepository;
+    private final ContractOrderCommissionRepository contractOrderCommissionRepository;
+    private final CommissionTierCache cache;
+
+    /** Commission inputs of one order, see {@link OrderRepository#findCommissionRowsByIds}. */
+    private record OrderRow(Long orderId, BigDecimal orderValue, BigDecimal fixCommission,
+            BigDecimal maxCommission, Long basicContractId) {
+
+        private static OrderRow of(Object[] row) {
+            return new OrderRow((Long) row[0], (BigDecimal) row[1], (BigDecimal) row[2], (BigDecimal) row[3],
+                    (Long) row[4]);
+        }
+    }
+
+    @Autowired
+    public CommissionEngineServiceImpl(OrderRepository orderRepository,
+            OrderCommissionRepository orderCommissionRepository,
+            ContractOrderCommissionRepository contractOrderCommissionRepository, CommissionTierCache cache) {
+        this.orderRepository = orderRepository;
+        this.orderCommissionRepository = orderCommissionRepository;
+        this.contractOrderCommissionRepository = contractOrderCommissionRepository;
+        this.cache = cache;
+    }
+
+    @Override
+    public CommissionTierTable getBasicContractTiers(Long basicContractId) {
+        if (basicContractId == null) {
+            throw new IllegalArgumentException("BasicContract ID cannot be null");
+        }
+        return contractTiers(List.of(basicContractId)).get(basicContractId);
+    }
+
+    @Override
+    public CommissionTierTable getOrderTiers(Long orderId) {
+        OrderRow order = loadOrders(List.of(requireOrderId(orderId))).get(orderId);
+        if (order == null) {
+            throw new EntityNotFoundException("Order not found with id: " + orderId);
+        }
+        return resolveTiers(List.of(order)).get(orderId);
+    }
+
+    @Override
+    public CommissionResultDTO calculateForBasicContract(Long basicContractId, BigDecimal orderValue) {
+        CommissionTierTable tiers = getBasicContractTiers(basicContractId);
+        return result(null, basicContractId, orderValue, null, null, tiers);
+    }
+
+    @Override
+    public CommissionResultDTO calculateForOrder(Long orderId) {
+        List<CommissionResultDTO> results = calculateForOrders(List.of(requireOrderId(orderId)));
+        if (results.isEmpty()) {
+            throw new EntityNotFoundException("Order not found with id: " + orderId);
+        }
+        return results.get(0);
+    }
+
+    @Override
+    public List<CommissionResultDTO> calculateForOrders(Collection<Long> orderIds) {
+        if (orderIds == null) {
+            throw new IllegalArgumentException("Order IDs cannot be null");
+        }
+        Set<Long> ids = new LinkedHashSet<>(orderIds);
+        ids.remove(null);
+
+        Map<Long, OrderRow> orders = loadOrders(ids);
+        Map<Long, CommissionTierTable> tiers = resolveTiers(orders.values());
+
+        List<CommissionResultDTO> results = new ArrayList<>(orders.size());
+        for (Long id : ids) {
+            OrderRow order = orders.get(id);
+            if (order != null) {
+                results.add(result(id, order.basicContractId(), order.orderValue(), order.fixCommission(),
+                        order.maxCommission(), tiers.get(id)));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Order tiers by order id, falling back to the basic contract's tiers for
+     * orders without tiers of their own.
+     */
+    private Map<Long, CommissionTierTable> resolveTiers(Collection<OrderRow> orders) {
+        Map<Long, CommissionTierTable> tiers = orderTiers(orders.stream().map(OrderRow::orderId).toList());
+
+        Set<Long> contractIds = new LinkedHashSet<>();
+        for (OrderRow order : orders) {
+            if (tiers.get(order.orderId()).isEmpty() && order.basicContractId() != null) {
+                contractIds.add(order.basicContractId());
+            }
+        }
+        if (!contractIds.isEmpty()) {
+            Map<Long, CommissionTierTable> contracts = contractTiers(contractIds);
+            for (OrderRow order : orders) {
+                if (tiers.get(order.orderId()).isEmpty() && order.basicContractId() != null) {
+                    tiers.put(order.orderId(), contracts.get(order.basicContractId()));
+                }
+            }
+        }
+        return tiers;
+    }
+
+    private Map<Long, CommissionTierTable> orderTiers(Collection<Long> orderIds) {
+        return tiers(CommissionTierCache.ORDER_KEY, orderIds, orderCommissionRepository::findTierRowsByOrderIds);
+    }
+
+    private Map<Long, CommissionTierTable> contractTiers(Collection<Long> basicContractIds) {
+        return tiers(CommissionTierCache.CONTRACT_KEY, basicContractIds, contractOrderCommissionRepository::findTierRowsByBasicContractIds);
+    }
+
+    /**
+     * Returns cached tables and compiles the missing ones from
+     * {@code [ownerId, fromOrderValue, commission, minCommission]} rows.
+     */
+    private Map<Long, CommissionTierTable> tiers(String prefix, Collection<Long> ids,
+            Function<Collection<Long>, List<Object[]>> loader) {
+        Map<Long, CommissionTierTable> tables = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            CommissionTierTable cached = cache.get(prefix + id);
+            if (cached != null) {
+                tables.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        Map<Long, CommissionTierTable.Builder> builders = new HashMap<>();
+        for (List<Long> chunk : chunks(missing)) {
+            for (Object[] row : loader.apply(chunk)) {
+                builders.computeIfAbsent((Long) row[0], id -> CommissionTierTable.builder())
+                        .add((BigDecimal) row[1], (BigDecimal) row[2], (BigDecimal) row[3]);
+            }
+        }
+        for (Long id : missing) {
+            CommissionTierTable.Builder builder = builders.get(id);
+            CommissionTierTable table = builder != null ? builder.build() : CommissionTierTable.EMPTY;
+            cache.put(prefix + id, table);
+            tables.put(id, table);
+        }
+        return tables;
+    }
+
+    private Map<Long, OrderRow> loadOrders(Collection<Long> orderIds) {
+        Map<Long, OrderRow> orders = new LinkedHashMap<>();
+        for (List<Long> chunk : chunks(new ArrayList<>(orderIds))) {
+            for (Object[] row : orderRepository.findCommissionRowsByIds(chunk)) {
+                OrderRow order = OrderRow.of(row);
+                orders.put(order.orderId(), order);
+            }
+        }
+        return orders;
+    }
+
+    private static CommissionResultDTO result(Long orderId, Long basicContractId, BigDecimal orderValue,
+            BigDecimal fixCommission, BigDecimal maxCommission, CommissionTierTable tiers) {
+        CommissionTierTable.Tier tier = tiers.find(orderValue);
+        BigDecimal rate = fixCommission != null ? fixCommission : tier != null ? tier.commission() : null;
+        return new CommissionResultDTO(orderId, basicContractId, orderValue,
+                tier != null ? tier.fromOrderValue() : null, rate,
+                tiers.calculate(orderValue, fixCommission, maxCommission));
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
+    private static Long requireOrderId(Long orderId) {
+        if (orderId == null) {
+            throw new IllegalArgumentException("Order ID cannot be null");
+        }
+        return orderId;
+    }
+}
@@ -0,0 +1,161 @@
+package com.iws_manager.iws_manager_api.services.impl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.iws_manager.iws_manager_api.config.PooledIdAllocationInitializer;
+import com.iws_manager.iws_manager_api.models.BasicContract;
+import com.iws_manager.iws_manager_api.models.ContractOrderCommission;
+import com.iws_manager.iws_manager_api.models.IwsCommission;
+import com.iws_manager.iws_manager_api.models.Order;
+import com.iws_manager.iws_manager_api.models.OrderCommission;
+import com.iws_manager.iws_manager_api.repositories.BasicContractRepository;
+import com.iws_manager.iws_manager_api.repositories.ContractOrderCommissionRepository;
+import com.iws_manager.iws_manager_api.repositories.IwsCommissionRepository;
+import com.iws_manager.iws_manager_api.repositories.OrderCommissionRepository;
+import com.iws_manager.iws_manager_api.repositories.OrderRepository;
+import com.iws_manager.iws_manager_api.services.interfaces.CommissionTemplateService;
+
+/**
+ * {@link CommissionTemplateService} backed by {@code INSERT ... SELECT}
+ * statements, so cloning touches only the source tiers of one contract and
+ * writes them in a single round trip instead of loading every template row.
+ * <p>
+ * Those statements take their ids from AUTO_INCREMENT. Under the
+ * {@code pooled-ids} profile that would hand out ids the shared
+ * {@code id_allocation} counter has already reserved, so the copies are
+ * saved through JPA instead, which draws ids from the pooled generator and
+ * batches the inserts.
+ */
+@Service
+@Transactional
+public class CommissionTemplateServiceImpl implements CommissionTemplateService {
+
+    private final ContractOrderCommissionRepository contractOrderCommissionRepository;
+    private final OrderCommissionRepository orderCommissionRepository;
+    private final IwsCommissionRepository iwsCommissionRepository;
+    private final BasicContractRepository basicContractRepository;
+    private final OrderRepository orderRepository;
+    private final CommissionTierCache commissionTierCache;
+    private final boolean pooledIds;
+
+    @Autowired
+    public CommissionTemplateServiceImpl(ContractOrderCommissionRepository contractOrderCommissionRepository,
+            OrderCommissionRepository orderCommissionRepository,
+            IwsCommissionRepository iwsCommissionRepository,
+            BasicContractRepository basicContractRepository,
+            OrderRepository orderRepository,
+            CommissionTierCache commissionTierCache,
+            Environment environment) {
+        this.contractOrderCommissionRepository = contractOrderCommissionRepository;
+        this.orderCommissionRepository = orderCommissionRepository;
+        this.iwsCommissionRepository = iwsCommissionRepository;
+        this.basicContractRepository = basicContractRepository;
+        this.orderRepository = orderRepository;
+        this.commissionTierCache = commissionTierCache;
+        this.pooledIds = environment.acceptsProfiles(Profiles.of(PooledIdAllocationInitializer.PROFILE));
+    }
+
+    @Override
+    public int cloneForBasicContract(Long basicContractId) {
+        if (basicContractId == null) {
+            throw new IllegalArgumentException("BasicContract ID cannot be null");
+        }
+        commissionTierCache.evictBasicContract(basicContractId);
+        if (pooledIds) {
+            return saveContractTiers(List.of(basicContractId));
+        }
+        return contractOrderCommissionRepository.cloneIwsCommissions(basicContractId);
+    }
+
+    @Override
+    public int cloneForOrder(Long orderId, Long basicContractId) {
+        if (orderId == null) {
+            throw new IllegalArgumentException("Order ID cannot be null");
+        }
+        commissionTierCache.evictOrder(orderId);
+        if (pooledIds) {
+            return saveOrderTiers(orderId, basicContractId);
+        }
+        if (basicContractId == null) {
+            return orderCommissionRepository.cloneIwsCommissions(orderId);
+        }
+        return orderCommissionRepository.cloneContractOrderCommissions(orderId, basicContractId);
+    }
+
+    @Override
+    public int recloneBasicContracts(Collection<Long> basicContractIds) {
+        if (basicContractIds == null || basicContractIds.isEmpty()) {
+            throw new IllegalArgumentException("BasicContract IDs cannot be empty");
+        }
+        basicContractIds.forEach(commissionTierCache::evictBasicContract);
+        contractOrderCommissionRepository.deleteAllByBasicContractIdIn(basicContractIds);
+        if (pooledIds) {
+            return saveContractTiers(basicContractIds);
+        }
+        return contractOrderCommissionRepository.cloneIwsCommissionsForBasicContracts(basicContractIds);
+    }
+
+    @Override
+    public int recloneAllBasicContracts() {
+        commissionTierCache.clear();
+        contractOrderCommissionRepository.deleteAllInBulk();
+        if (pooledIds) {
+            return saveContractTiers(basicContractRepository.findAllIds());
+        }
+        return contractOrderCommissionRepository.cloneIwsCommissionsForAllBasicContracts();
+    }
+
+    private int saveContractTiers(Collection<Long> basicContractIds) {
+        List<IwsCommission> templates = iwsCommissionRepository.findAllByOrderByFromOrderValueAsc();
+        List<ContractOrderCommission> copies = new ArrayList<>(templates.size() * basicContractIds.size());
+        for (Long basicContractId : basicContractIds) {
+            BasicContract basicContract = basicContractRepository.getReferenceById(basicContractId);
+            for (IwsCommission template : templates) {
+                ContractOrderCommission copy = new ContractOrderCommission();
+                copy.setBasicContract(basicContract);
+                copy.setCommission(template.getCommission());
+                copy.setFromOrderValue(template.getFromOrderValue());
+                copy.setMinCommission(template.getMinCommission());
+                copies.add(copy);
+            }
+        }
+        return contractOrderCommissionRepository.saveAll(copies).size();
+    }
+
+    private int saveOrderTiers(Long orderId, Long basicContractId) {
+        Order order = orderRepository.getReferenceById(orderId);
+        List<OrderCommission> copies = new ArrayList<>();
+        if (basicContractId == null) {
+            for (IwsCommission template : iwsCommissionRepository.findAllByOrderByFromOrderValueAsc()) {
+                copies.add(orderTier(order, template.getCommission(), template.getFromOrderValue(),
+                        template.getMinCommission()));
+            }
+        } else {
+            for (ContractOrderCommission template
+                    : contractOrderCommissionRepository.findByBasicContractIdOrderByFromOrderValueAsc(basicContractId)) {
+                copies.add(orderTier(order, template.getCommission(), template.getFromOrderValue(),
+                        template.getMinCommission()));
+            }
+        }
+        return orderCommissionRepository.saveAll(copies).size();
+    }
+
+    private static OrderCommission orderTier(Order order, BigDecimal commission,
+            BigDecimal fromOrderValue, BigDecimal minCommission) {
+        OrderCommission copy = new OrderCommission();
+        copy.setOrder(order);
+        copy.setCommission(commission);
+        copy.setFromOrderValue(fromOrderValue);
+        copy.setMinCommission(minCommission);
+        return copy;
+    }
+}
@@ -0,0 +1,55 @@
+package com.iws_manager.iws_manager_api.services.impl;
+
+import java.util.Objects;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.iws_manager.iws_manager_api.config.CacheNames;
+import com.iws_manager.iws_manager_api.dtos.commission.CommissionTierTable;
+
+/**
+ * The {@link CacheNames#COMMISSION_TIERS} cache, keyed by {@code order:id}
+ * and {@code contract:id}. Writers evict only the owner whose tiers they
+ * changed, so creating an order does not drop the compiled tables of every
+ * other order. Evictions run after commit through the transaction-aware
+ * cache manager.
+ */
+@Component
+public class CommissionTierCache {
+
+    static final String ORDER_KEY = "order:";
+    static final String CONTRACT_KEY = "contract:";
+
+    private final Cache cache;
+
+    public CommissionTierCache(CacheManager cacheManager) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CacheNames.COMMISSION_TIERS),
+                "Cache " + CacheNames.COMMISSION_TIERS + " is not configured");
+    }
+
+    CommissionTierTable get(String key) {
+        return cache.get(key, CommissionTierTable.class);
+    }
+
+    void put(String key, CommissionTierTable table) {
+        cache.put(key, table);
+    }
+
+    public void evictOrder(Long orderId) {
+        if (orderId != null) {
+            cache.evict(ORDER_KEY + orderId);
+        }
+    }
+
+    public void evictBasicContract(Long basicContractId) {
+        if (basicContractId != null) {
+            cache.evict(CONTRACT_KEY + basicContractId);
+        }
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+}
@@ -5,9 +5,13 @@ import java.util.Optional;
 
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import com.iws_manager.iws_manager_api.models.CompanyType;
 import com.iws_manager.iws_manager_api.repositories.CompanyTypeRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.CompanyTypeService;
@@ -23,6 +27,7 @@ import jakarta.persistence.EntityNotFoundException;
  */
 @Service
 @Transactional
+@CacheConfig(cacheNames = CacheNames.COMPANY_TYPES)
 public class CompanyTypeServiceImpl implements CompanyTypeService {
 
     private final CompanyTypeRepository companyTypeRepository;
@@ -45,6 +50,7 @@ public class CompanyTypeServiceImpl implements CompanyTypeService {
      * @throws IllegalArgumentException if the companyType parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public CompanyType create(CompanyType companyType) {
         if (companyType == null) {
             throw new IllegalArgumentException("CompanyType cannot be null");
@@ -61,6 +67,7 @@ public class CompanyTypeServiceImpl implements CompanyTypeService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = "#id", condition = "#id != null")
     public Optional<CompanyType> findById(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -75,6 +82,7 @@ public class CompanyTypeServiceImpl implements CompanyTypeService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = CacheNames.ALL)
     public List<CompanyType> findAll() {
         return companyTypeRepository.findAllByOrderByNameAsc();
     }
@@ -89,6 +97,7 @@ public class CompanyTypeServiceImpl implements CompanyTypeService {
      * @throws IllegalArgumentException if either parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public CompanyType update(Long id, CompanyType companyTypeDetails) {
         if (id == null || companyTypeDetails == null) {
             throw new IllegalArgumentException("ID and companyType details cannot be null");
@@ -109,6 +118,7 @@ public class CompanyTypeServiceImpl implements CompanyTypeService {
      * @throws IllegalArgumentException if the id parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public void delete(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -26,15 +26,19 @@ import jakarta.persistence.EntityNotFoundException;
 public class ContractOrderCommissionServiceImpl implements ContractOrderCommissionService {
 
     private final ContractOrderCommissionRepository contractOrderCommissionRepository;
+    private final CommissionTierCache commissionTierCache;
     
     /**
      * Constructs a new ContractOrderCommissionService with the required repository dependency.
      * 
      * @param contractOrderCommissionRepository the repository for ContractOrderCommission entity operations
+     * @param commissionTierCache the compiled tier tables to evict on writes
      */
     @Autowired
-    public ContractOrderCommissionServiceImpl(ContractOrderCommissionRepository contractOrderCommissionRepository) {
+    public ContractOrderCommissionServiceImpl(ContractOrderCommissionRepository contractOrderCommissionRepository,
+            CommissionTierCache commissionTierCache) {
         this.contractOrderCommissionRepository = contractOrderCommissionRepository;
+        this.commissionTierCache = commissionTierCache;
     }
 
     /**
@@ -49,7 +53,9 @@ public class ContractOrderCommissionServiceImpl implements ContractOrderCommissi
         if (contractOrderCommission == null) {
             throw new IllegalArgumentException("ContractOrderCommission cannot be null");
         }
-        return contractOrderCommissionRepository.save(contractOrderCommission);
+        ContractOrderCommission saved = contractOrderCommissionRepository.save(contractOrderCommission);
+        commissionTierCache.evictBasicContract(basicContractId(saved));
+        return saved;
     }
 
     /**
@@ -96,12 +102,15 @@ public class ContractOrderCommissionServiceImpl implements ContractOrderCommissi
         
         return contractOrderCommissionRepository.findById(id)
                 .map(existingCommission -> {
+                    commissionTierCache.evictBasicContract(basicContractId(existingCommission));
                     existingCommission.setCommission(contractOrderCommissionDetails.getCommission());
                     existingCommission.setBasicContract(contractOrderCommissionDetails.getBasicContract());
                     existingCommission.setFromOrderValue(contractOrderCommissionDetails.getFromOrderValue());
                     existingCommission.setMinCommission(contractOrderCommissionDetails.getMinCommission());
                     
-                    return contractOrderCommissionRepository.save(existingCommission);
+                    ContractOrderCommission saved = contractOrderCommissionRepository.save(existingCommission);
+                    commissionTierCache.evictBasicContract(basicContractId(saved));
+                    return saved;
                 })
                 .orElseThrow(() -> new RuntimeException("ContractOrderCommission not found with id: " + id));
     }
@@ -118,11 +127,16 @@ public class ContractOrderCommissionServiceImpl implements ContractOrderCommissi
             throw new IllegalArgumentException("ID cannot be null");
         }
 
-        if (!contractOrderCommissionRepository.existsById(id)) {
-            throw new EntityNotFoundException("ContractOrderCommission not found with id: " + id);
-        }
+        ContractOrderCommission existing = contractOrderCommissionRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("ContractOrderCommission not found with id: " + id));
 
         contractOrderCommissionRepository.deleteById(id);
+        commissionTierCache.evictBasicContract(basicContractId(existing));
+    }
+
+    private static Long basicContractId(ContractOrderCommission commission) {
+        return commission != null && commission.getBasicContract() != null
+                ? commission.getBasicContract().getId() : null;
     }
 
     // PROPERTIES
@@ -29,19 +29,23 @@ public class ContractOrderCommissionServiceV2Impl implements ContractOrderCommis
 
     private final ContractOrderCommissionRepository contractOrderCommissionRepository;
     private final ContractOrderCommissionMapper contractOrderCommissionMapper;
+    private final CommissionTierCache commissionTierCache;
     
     /**
      * Constructs a new ContractOrderCommissionService with the required repository dependency.
      * 
      * @param contractOrderCommissionRepository the repository for ContractOrderCommission entity operations
      * @param contractOrderCommissionMapper the mapper for converting between entities and DTOs
+     * @param commissionTierCache the compiled tier tables to evict on writes
      */
     @Autowired
     public ContractOrderCommissionServiceV2Impl(
             ContractOrderCommissionRepository contractOrderCommissionRepository,
-            ContractOrderCommissionMapper contractOrderCommissionMapper) {
+            ContractOrderCommissionMapper contractOrderCommissionMapper,
+            CommissionTierCache commissionTierCache) {
         this.contractOrderCommissionRepository = contractOrderCommissionRepository;
         this.contractOrderCommissionMapper = contractOrderCommissionMapper;
+        this.commissionTierCache = commissionTierCache;
     }
 
     /**
@@ -59,6 +63,7 @@ public class ContractOrderCommissionServiceV2Impl implements ContractOrderCommis
         
         ContractOrderCommission entity = contractOrderCommissionMapper.toEntity(dto);
         ContractOrderCommission savedEntity = contractOrderCommissionRepository.save(entity);
+        commissionTierCache.evictBasicContract(basicContractId(savedEntity));
         return contractOrderCommissionMapper.toDTO(savedEntity);
     }
 
@@ -109,8 +114,10 @@ public class ContractOrderCommissionServiceV2Impl implements ContractOrderCommis
         
         return contractOrderCommissionRepository.findById(id)
                 .map(existingCommission -> {
+                    commissionTierCache.evictBasicContract(basicContractId(existingCommission));
                     contractOrderCommissionMapper.updateEntityFromDTO(dto, existingCommission);
                     ContractOrderCommission updatedEntity = contractOrderCommissionRepository.save(existingCommission);
+                    commissionTierCache.evictBasicContract(basicContractId(updatedEntity));
                     return contractOrderCommissionMapper.toDTO(updatedEntity);
                 })
                 .orElseThrow(() -> new RuntimeException("ContractOrderCommission not found with id: " + id));
@@ -128,11 +135,16 @@ public class ContractOrderCommissionServiceV2Impl implements ContractOrderCommis
             throw new IllegalArgumentException("ID cannot be null");
         }
 
-        if (!contractOrderCommissionRepository.existsById(id)) {
-            throw new EntityNotFoundException("ContractOrderCommission not found with id: " + id);
-        }
+        ContractOrderCommission existing = contractOrderCommissionRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("ContractOrderCommission not found with id: " + id));
 
         contractOrderCommissionRepository.deleteById(id);
+        commissionTierCache.evictBasicContract(basicContractId(existing));
+    }
+
+    private static Long basicContractId(ContractOrderCommission commission) {
+        return commission != null && commission.getBasicContract() != null
+                ? commission.getBasicContract().getId() : null;
     }
 
     // PROPERTIES - TODOS ACTUALIZADOS PARA DEVOLVER DTOs
@@ -5,9 +5,13 @@ import java.util.Optional;
 import java.math.BigDecimal;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import com.iws_manager.iws_manager_api.models.ContractStatus;
 import com.iws_manager.iws_manager_api.repositories.ContractStatusRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.ContractStatusService;
@@ -23,6 +27,7 @@ import jakarta.persistence.EntityNotFoundException;
  */
 @Service
 @Transactional
+@CacheConfig(cacheNames = CacheNames.CONTRACT_STATUSES)
 public class ContractStatusServiceImpl implements ContractStatusService {
 
     private final ContractStatusRepository contractStatusRepository;
@@ -45,6 +50,7 @@ public class ContractStatusServiceImpl implements ContractStatusService {
      * @throws IllegalArgumentException if the contractStatus parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public ContractStatus create(ContractStatus contractStatus) {
         if (contractStatus == null) {
             throw new IllegalArgumentException("ContractStatus cannot be null");
@@ -61,6 +67,7 @@ public class ContractStatusServiceImpl implements ContractStatusService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = "#id", condition = "#id != null")
     public Optional<ContractStatus> findById(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -75,6 +82,7 @@ public class ContractStatusServiceImpl implements ContractStatusService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = CacheNames.ALL)
     public List<ContractStatus> findAll() {
         return contractStatusRepository.findAllByOrderByStatusAsc();
     }
@@ -89,6 +97,7 @@ public class ContractStatusServiceImpl implements ContractStatusService {
      * @throws IllegalArgumentException if either parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public ContractStatus update(Long id, ContractStatus contractStatusDetails) {
         if (id == null || contractStatusDetails == null) {
             throw new IllegalArgumentException("ID and contractStatus details cannot be null");
@@ -111,6 +120,7 @@ public class ContractStatusServiceImpl implements ContractStatusService {
      * @throws IllegalArgumentException if the id parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public void delete(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -4,9 +4,13 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import com.iws_manager.iws_manager_api.models.CostType;
 import com.iws_manager.iws_manager_api.repositories.CostTypeRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.CostTypeService;
@@ -21,6 +25,7 @@ import jakarta.persistence.EntityNotFoundException;
  */
 @Service
 @Transactional
+@CacheConfig(cacheNames = CacheNames.COST_TYPES)
 public class CostTypeServiceImpl implements CostTypeService {
 
     private final CostTypeRepository costTypeRepository;
@@ -43,6 +48,7 @@ public class CostTypeServiceImpl implements CostTypeService {
      * @throws IllegalArgumentException if the costType parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public CostType create(CostType costType) {
         if (costType == null) {
             throw new IllegalArgumentException("CostType cannot be null");
@@ -59,6 +65,7 @@ public class CostTypeServiceImpl implements CostTypeService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = "#id", condition = "#id != null")
     public Optional<CostType> findById(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -73,6 +80,7 @@ public class CostTypeServiceImpl implements CostTypeService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = CacheNames.ALL)
     public List<CostType> findAll() {
         return costTypeRepository.findAllByOrderByTypeAsc();
     }
@@ -87,6 +95,7 @@ public class CostTypeServiceImpl implements CostTypeService {
      * @throws IllegalArgumentException if either parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public CostType update(Long id, CostType costTypeDetails) {
         if (id == null || costTypeDetails == null) {
             throw new IllegalArgumentException("ID and costType details cannot be null");
@@ -109,6 +118,7 @@ public class CostTypeServiceImpl implements CostTypeService {
      * @throws IllegalArgumentException if the id parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public void delete(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -5,9 +5,13 @@ import java.util.Optional;
 
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import com.iws_manager.iws_manager_api.models.Country;
 import com.iws_manager.iws_manager_api.repositories.CountryRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.CountryService;
@@ -21,6 +25,7 @@ import com.iws_manager.iws_manager_api.services.interfaces.CountryService;
  */
 @Service
 @Transactional
+@CacheConfig(cacheNames = CacheNames.COUNTRIES)
 public class CountryServiceImpl implements CountryService {
 
     private final CountryRepository countryRepository;
@@ -43,6 +48,7 @@ public class CountryServiceImpl implements CountryService {
      * @throws IllegalArgumentException if the Country parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public Country create(Country country) {
         if (country == null) {
             throw new IllegalArgumentException("Country cannot be null");
@@ -59,6 +65,7 @@ public class CountryServiceImpl implements CountryService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = "#id", condition = "#id != null")
     public Optional<Country> findById(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -73,6 +80,7 @@ public class CountryServiceImpl implements CountryService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = CacheNames.ALL)
     public List<Country> findAll() {
         return countryRepository.findAllByOrderByNameAsc();
     }
@@ -87,6 +95,7 @@ public class CountryServiceImpl implements CountryService {
      * @throws IllegalArgumentException if either parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public Country update(Long id, Country countryDetails) {
         if (id == null || countryDetails == null) {
             throw new IllegalArgumentException("ID and country details cannot be null");
@@ -109,6 +118,7 @@ public class CountryServiceImpl implements CountryService {
      * @throws IllegalArgumentException if the id parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public void delete(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -129,6 +139,7 @@ public class CountryServiceImpl implements CountryService {
      * @throws IllegalArgumentException if the Country parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public Country createWithDefaultHandling(Country country) {
         if (country == null) {
             throw new IllegalArgumentException("Country cannot be null");
@@ -153,6 +164,7 @@ public class CountryServiceImpl implements CountryService {
      * @throws IllegalArgumentException if either parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public Country updateWithDefaultHandling(Long id, Country countryDetails) {
         if (id == null || countryDetails == null) {
             throw new IllegalArgumentException("ID and country details cannot be null");
@@ -8,9 +8,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.iws_manager.iws_manager_api.dtos.numbering.NumberScope;
 import com.iws_manager.iws_manager_api.models.EmployeeIws;
 import com.iws_manager.iws_manager_api.repositories.EmployeeIwsRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.EmployeeIwsService;
+import com.iws_manager.iws_manager_api.services.interfaces.NumberAllocationService;
 import jakarta.persistence.EntityNotFoundException;
 
 /**
@@ -25,15 +27,19 @@ import jakarta.persistence.EntityNotFoundException;
 public class EmployeeIwsServiceImpl implements EmployeeIwsService {
 
     private final EmployeeIwsRepository employeeIwsRepository;
+    private final NumberAllocationService numberAllocationService;
     
     /**
      * Constructs a new EmployeeIwsService with the required repository dependency.
      * 
      * @param employeeIwsRepository the repository for employeeIws entity operations
+     * @param numberAllocationService the allocator for employee numbers
      */
     @Autowired
-    public EmployeeIwsServiceImpl(EmployeeIwsRepository employeeIwsRepository) {
+    public EmployeeIwsServiceImpl(EmployeeIwsRepository employeeIwsRepository,
+            NumberAllocationService numberAllocationService) {
         this.employeeIwsRepository = employeeIwsRepository;
+        this.numberAllocationService = numberAllocationService;
     }
 
 
@@ -50,8 +56,10 @@ public class EmployeeIwsServiceImpl implements EmployeeIwsService {
             throw new IllegalArgumentException("EmployeeIws cannot be null");
         }
         if (employeeIws.getEmployeeNo() == null) {
-            Integer maxSeq = employeeIwsRepository.findMaxEmployeeNo();
-            employeeIws.setEmployeeNo(maxSeq + 1);
+            employeeIws.setEmployeeNo(allocateEmployeeNo());
+        } else {
+            numberAllocationService.advancePast(NumberScope.EMPLOYEE_IWS_NO, null, employeeIws.getEmployeeNo(),
+                    this::firstFreeEmployeeNo);
         }
         return employeeIwsRepository.save(employeeIws);
     }
@@ -100,6 +108,11 @@ public class EmployeeIwsServiceImpl implements EmployeeIwsService {
         
         return  employeeIwsRepository.findById(id)
                 .map(existingEmployeeIws -> {
+                    Integer employeeNo = employeeIwsDetails.getEmployeeNo();
+                    if (employeeNo != null && !employeeNo.equals(existingEmployeeIws.getEmployeeNo())) {
+                        numberAllocationService.advancePast(NumberScope.EMPLOYEE_IWS_NO, null, employeeNo,
+                                this::firstFreeEmployeeNo);
+                    }
                     existingEmployeeIws.setActive(employeeIwsDetails.getActive());
                     existingEmployeeIws.setEmployeeLabel(employeeIwsDetails.getEmployeeLabel());
                     existingEmployeeIws.setEmployeeNo(employeeIwsDetails.getEmployeeNo());
@@ -267,8 +280,7 @@ public class EmployeeIwsServiceImpl implements EmployeeIwsService {
     @Override
     @Transactional(readOnly = true)
     public Integer getNextEmployeeNo() {
-        Integer maxSeq = employeeIwsRepository.findMaxEmployeeNo();
-        return (maxSeq == null ? 1 : maxSeq + 1);
+        return (int) numberAllocationService.peek(NumberScope.EMPLOYEE_IWS_NO, null, this::firstFreeEmployeeNo);
     }
 
     @Override
@@ -277,13 +289,18 @@ public class EmployeeIwsServiceImpl implements EmployeeIwsService {
             throw new IllegalArgumentException("EmployeeIws cannot be null");
         }
 
-        Integer maxEmployeeNo = employeeIwsRepository.findMaxEmployeeNo();
-
-        int baseNumber = (maxEmployeeNo == null || maxEmployeeNo == 0) ? 1 : maxEmployeeNo;
-        
-        Integer newEmployeeNo = baseNumber + 1;
-        employeeIws.setEmployeeNo(newEmployeeNo);
+        employeeIws.setEmployeeNo(allocateEmployeeNo());
 
         return employeeIwsRepository.save(employeeIws);
     }
-}
\ No newline at end of file
+
+    private Integer allocateEmployeeNo() {
+        return (int) numberAllocationService.next(NumberScope.EMPLOYEE_IWS_NO, null, this::firstFreeEmployeeNo);
+    }
+
+    // seed for the employee number counter, only read before its first use
+    private long firstFreeEmployeeNo() {
+        Integer maxSeq = employeeIwsRepository.findMaxEmployeeNo();
+        return (maxSeq == null ? 1 : maxSeq + 1L);
+    }
+}
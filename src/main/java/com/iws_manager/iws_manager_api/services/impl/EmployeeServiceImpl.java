@@ -1,15 +1,21 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
+import com.iws_manager.iws_manager_api.dtos.numbering.NumberScope;
+import com.iws_manager.iws_manager_api.models.Customer;
 import com.iws_manager.iws_manager_api.models.Employee;
 import com.iws_manager.iws_manager_api.repositories.EmployeeRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.EmployeeService;
+import com.iws_manager.iws_manager_api.services.interfaces.NumberAllocationService;
 
 import jakarta.persistence.EntityNotFoundException;
 
@@ -25,15 +31,19 @@ import jakarta.persistence.EntityNotFoundException;
 public class EmployeeServiceImpl implements EmployeeService {
 
     private final EmployeeRepository employeeRepository;
+    private final NumberAllocationService numberAllocationService;
     
     /**
      * Constructs a new EmployeeService with the required repository dependency.
      * 
      * @param employeeRepository the repository for Branch entity operations
+     * @param numberAllocationService the allocator for per-customer employee numbers
      */
     @Autowired
-    public EmployeeServiceImpl(EmployeeRepository employeeRepository) {
+    public EmployeeServiceImpl(EmployeeRepository employeeRepository,
+            NumberAllocationService numberAllocationService) {
         this.employeeRepository = employeeRepository;
+        this.numberAllocationService = numberAllocationService;
     }
 
 
@@ -45,10 +55,12 @@ public class EmployeeServiceImpl implements EmployeeService {
      * @throws IllegalArgumentException if the branch parameter is null
      */
     @Override
+    @CacheEvict(cacheNames = CacheNames.EMPLOYEE_NAMES, allEntries = true)
     public Employee create(Employee employee) {
         if (employee == null) {
             throw new IllegalArgumentException("Employee cannot be null");
         }
+        advancePastEmployeeNo(employee.getCustomer(), employee.getEmployeeno());
         return employeeRepository.save(employee);
     }
 
@@ -89,6 +101,7 @@ public class EmployeeServiceImpl implements EmployeeService {
      * @throws IllegalArgumentException if either parameter is null
      */
     @Override
+    @CacheEvict(cacheNames = CacheNames.EMPLOYEE_NAMES, allEntries = true)
     public Employee update(Long id, Employee employeeDetails) {
         if (id == null || employeeDetails == null) {
             throw new IllegalArgumentException("ID and employee details cannot be null");
@@ -96,6 +109,10 @@ public class EmployeeServiceImpl implements EmployeeService {
         
         return  employeeRepository.findById(id)
                 .map(existingEmployee -> {
+                    if (!Objects.equals(existingEmployee.getEmployeeno(), employeeDetails.getEmployeeno())
+                            || !Objects.equals(customerId(existingEmployee), customerId(employeeDetails))) {
+                        advancePastEmployeeNo(employeeDetails.getCustomer(), employeeDetails.getEmployeeno());
+                    }
                     existingEmployee.setFirstname(employeeDetails.getFirstname());
                     existingEmployee.setLastname(employeeDetails.getLastname());
                     existingEmployee.setEmail(employeeDetails.getEmail());
@@ -125,6 +142,7 @@ public class EmployeeServiceImpl implements EmployeeService {
      * @throws IllegalArgumentException if the id parameter is null
      */
     @Override
+    @CacheEvict(cacheNames = CacheNames.EMPLOYEE_NAMES, allEntries = true)
     public void delete(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -169,4 +187,20 @@ public class EmployeeServiceImpl implements EmployeeService {
     public List<Employee> findByEmployeeCategoryId(Long employeeCategoryId) {
         return  employeeRepository.findByEmployeeCategoryId(employeeCategoryId);
     }
-}
\ No newline at end of file
+
+    // explicitly set numbers must never be handed out by the customer's counter
+    private void advancePastEmployeeNo(Customer customer, Integer employeeNo) {
+        Long customerId = customer != null ? customer.getId() : null;
+        if (customerId == null || employeeNo == null) {
+            return;
+        }
+        numberAllocationService.advancePast(NumberScope.CUSTOMER_EMPLOYEE_NO, customerId, employeeNo, () -> {
+            Integer maxEmployeeNo = employeeRepository.findMaxEmployeenoByCustomerId(customerId);
+            return (maxEmployeeNo != null) ? maxEmployeeNo + 1L : 1L;
+        });
+    }
+
+    private static Long customerId(Employee employee) {
+        return employee.getCustomer() != null ? employee.getCustomer().getId() : null;
+    }
+}
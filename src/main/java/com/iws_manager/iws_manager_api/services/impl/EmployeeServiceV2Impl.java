@@ -1,19 +1,23 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import com.iws_manager.iws_manager_api.dtos.employee.*;
+import com.iws_manager.iws_manager_api.dtos.numbering.NumberScope;
 import com.iws_manager.iws_manager_api.mappers.EmployeeMapper;
 import com.iws_manager.iws_manager_api.models.Employee;
 import com.iws_manager.iws_manager_api.repositories.EmployeeRepository;
 import com.iws_manager.iws_manager_api.repositories.OrderRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.EmployeeServiceV2;
+import com.iws_manager.iws_manager_api.services.interfaces.NumberAllocationService;
 
 import jakarta.persistence.EntityNotFoundException;
 
@@ -30,16 +34,19 @@ public class EmployeeServiceV2Impl implements EmployeeServiceV2 {
     private final EmployeeRepository employeeRepository;
     private final EmployeeMapper employeeMapper;
     private final OrderRepository orderRepository;
+    private final NumberAllocationService numberAllocationService;
 
     @Autowired
     public EmployeeServiceV2Impl(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper,
-            OrderRepository orderRepository) {
+            OrderRepository orderRepository, NumberAllocationService numberAllocationService) {
         this.employeeRepository = employeeRepository;
         this.employeeMapper = employeeMapper;
         this.orderRepository = orderRepository;
+        this.numberAllocationService = numberAllocationService;
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.EMPLOYEE_NAMES, allEntries = true)
     public EmployeeDTO create(EmployeeInputDTO dto) {
         if (dto == null) {
             throw new IllegalArgumentException("Employee DTO cannot be null");
@@ -73,6 +80,7 @@ public class EmployeeServiceV2Impl implements EmployeeServiceV2 {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.EMPLOYEE_NAMES, allEntries = true)
     public EmployeeDTO update(Long id, EmployeeInputDTO dto) {
         if (id == null || dto == null) {
             throw new IllegalArgumentException("ID and employee DTO cannot be null");
@@ -88,6 +96,7 @@ public class EmployeeServiceV2Impl implements EmployeeServiceV2 {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.EMPLOYEE_NAMES, allEntries = true)
     public void delete(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -169,30 +178,47 @@ public class EmployeeServiceV2Impl implements EmployeeServiceV2 {
             throw new IllegalArgumentException("Customer ID cannot be null");
         }
 
-        return calculateNextEmployeeNoForCustomer(customerId);
+        return (int) numberAllocationService.peek(NumberScope.CUSTOMER_EMPLOYEE_NO, customerId,
+                () -> firstFreeEmployeeNoForCustomer(customerId));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<EmployeeNameDTO> getEmployeesByCustomerSortedByName(Long customerId) {
         if (customerId == null) {
             throw new IllegalArgumentException("Customer ID cannot be null");
         }
 
-        List<Employee> employees = employeeRepository.findByCustomerIdOrderByEmployeenoAsc(customerId);
+        return employeeRepository.findNamesByCustomerId(customerId);
+    }
 
-        List<EmployeeNameDTO> employeeNameDTOs = employeeMapper.toNameDTOList(employees);
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.EMPLOYEE_NAMES, key = "#customerId")
+    public EmployeeNameList getEmployeeNameListByCustomer(Long customerId) {
+        return EmployeeNameList.of(customerId, getEmployeesByCustomerSortedByName(customerId));
+    }
 
-        employeeNameDTOs.sort(Comparator.comparing(
-                EmployeeNameDTO::fullname,
-                Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)));
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeNameDTO> getEmployeesByProjectSortedByName(Long projectId) {
+        if (projectId == null) {
+            throw new IllegalArgumentException("Project ID cannot be null");
+        }
 
-        return employeeNameDTOs;
+        return employeeRepository.findNamesByProjectId(projectId);
     }
 
-    // calculate next employeeno for a specific customer
+    // allocate next employeeno for a specific customer
     private Integer calculateNextEmployeeNoForCustomer(Long customerId) {
+        return (int) numberAllocationService.next(NumberScope.CUSTOMER_EMPLOYEE_NO, customerId,
+                () -> firstFreeEmployeeNoForCustomer(customerId));
+    }
+
+    // seed for the customer's employee number counter, only read before its first use
+    private long firstFreeEmployeeNoForCustomer(Long customerId) {
         Integer maxEmployeeNo = employeeRepository.findMaxEmployeenoByCustomerId(customerId);
-        return (maxEmployeeNo != null) ? maxEmployeeNo + 1 : 1;
+        return (maxEmployeeNo != null) ? maxEmployeeNo + 1L : 1L;
     }
 
 }
\ No newline at end of file
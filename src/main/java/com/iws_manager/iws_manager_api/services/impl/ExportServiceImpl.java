@@ -0,0 +1,196 @@
+package com.iws_manager.iws_manager_api.services.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.iws_manager.iws_manager_api.dtos.debt.DebtExportCriteria;
+import com.iws_manager.iws_manager_api.dtos.debt.DebtListItemDTO;
+import com.iws_manager.iws_manager_api.dtos.invoice.InvoiceListItemDTO;
+import com.iws_manager.iws_manager_api.dtos.invoice.InvoiceSearchCriteria;
+import com.iws_manager.iws_manager_api.dtos.order.OrderListItemDTO;
+import com.iws_manager.iws_manager_api.dtos.projectcost.ProjectCostListItemDTO;
+import com.iws_manager.iws_manager_api.export.ExportColumn;
+import com.iws_manager.iws_manager_api.export.ExportFormat;
+import com.iws_manager.iws_manager_api.export.TableWriter;
+import com.iws_manager.iws_manager_api.repositories.DebtRepository;
+import com.iws_manager.iws_manager_api.repositories.InvoiceRepository;
+import com.iws_manager.iws_manager_api.repositories.OrderRepository;
+import com.iws_manager.iws_manager_api.repositories.ProjectCostRepository;
+import com.iws_manager.iws_manager_api.services.interfaces.ExportService;
+
+/**
+ * Implementation of {@link ExportService}.
+ * <p>
+ * Rows are read as constructor projections, so nothing is added to the
+ * persistence context, and each row is written before the next one is
+ * fetched. Memory use is therefore bounded by the JDBC fetch size and the
+ * writer buffers, not by the size of the export. The read-only transaction
+ * stays open while the response is written, which keeps the cursor valid.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExportServiceImpl implements ExportService {
+
+    private static final Sort INVOICE_SORT = Sort.by("invoiceNo", "id");
+
+    static final List<ExportColumn<InvoiceListItemDTO>> INVOICE_COLUMNS = List.of(
+            new ExportColumn<>("Invoice No", InvoiceListItemDTO::invoiceNo),
+            new ExportColumn<>("Title", InvoiceListItemDTO::invoiceTitle),
+            new ExportColumn<>("Invoice Date", InvoiceListItemDTO::invoiceDate),
+            new ExportColumn<>("Pay Deadline", InvoiceListItemDTO::payDeadline),
+            new ExportColumn<>("Payment Date", InvoiceListItemDTO::paymentDate),
+            new ExportColumn<>("Net", InvoiceListItemDTO::amountNet),
+            new ExportColumn<>("Tax", InvoiceListItemDTO::amountTax),
+            new ExportColumn<>("Gross", InvoiceListItemDTO::amountGross),
+            new ExportColumn<>("Paid", InvoiceListItemDTO::amountPaid),
+            new ExportColumn<>("Open", InvoiceListItemDTO::amountOpen),
+            new ExportColumn<>("Cancellation", InvoiceListItemDTO::isCancellation),
+            new ExportColumn<>("Customer", InvoiceListItemDTO::customerName),
+            new ExportColumn<>("Order No", InvoiceListItemDTO::orderNo),
+            new ExportColumn<>("Order Title", InvoiceListItemDTO::orderTitle),
+            new ExportColumn<>("Invoice Type", InvoiceListItemDTO::invoiceType),
+            new ExportColumn<>("Biller", InvoiceListItemDTO::biller));
+
+    static final List<ExportColumn<DebtListItemDTO>> DEBT_COLUMNS = List.of(
+            new ExportColumn<>("Debt No", DebtListItemDTO::debtNo),
+            new ExportColumn<>("Title", DebtListItemDTO::debtTitle),
+            new ExportColumn<>("Date", DebtListItemDTO::date),
+            new ExportColumn<>("Billing Start", DebtListItemDTO::billingStart),
+            new ExportColumn<>("Billing End", DebtListItemDTO::billingEnd),
+            new ExportColumn<>("Net", DebtListItemDTO::netAmount),
+            new ExportColumn<>("Tax", DebtListItemDTO::taxAmount),
+            new ExportColumn<>("Gross", DebtListItemDTO::grossAmount),
+            new ExportColumn<>("Paid", DebtListItemDTO::payedAmount),
+            new ExportColumn<>("Open", DebtListItemDTO::openAmount),
+            new ExportColumn<>("Last Payment", DebtListItemDTO::lastPaymentDate),
+            new ExportColumn<>("Customer", DebtListItemDTO::customerName),
+            new ExportColumn<>("Order No", DebtListItemDTO::orderNo),
+            new ExportColumn<>("Project", DebtListItemDTO::projectLabel));
+
+    static final List<ExportColumn<OrderListItemDTO>> ORDER_COLUMNS = List.of(
+            new ExportColumn<>("Order No", OrderListItemDTO::orderNo),
+            new ExportColumn<>("Label", OrderListItemDTO::orderLabel),
+            new ExportColumn<>("Title", OrderListItemDTO::orderTitle),
+            new ExportColumn<>("Acronym", OrderListItemDTO::acronym),
+            new ExportColumn<>("Order Date", OrderListItemDTO::orderDate),
+            new ExportColumn<>("Approval Date", OrderListItemDTO::approvalDate),
+            new ExportColumn<>("Signature Date", OrderListItemDTO::signatureDate),
+            new ExportColumn<>("Order Value", OrderListItemDTO::orderValue),
+            new ExportColumn<>("Customer", OrderListItemDTO::customerName),
+            new ExportColumn<>("Project", OrderListItemDTO::projectLabel),
+            new ExportColumn<>("Order Type", OrderListItemDTO::orderType),
+            new ExportColumn<>("Approval Status", OrderListItemDTO::approvalStatus),
+            new ExportColumn<>("Contract Status", OrderListItemDTO::contractStatus));
+
+    static final List<ExportColumn<ProjectCostListItemDTO>> PROJECT_COST_COLUMNS = List.of(
+            new ExportColumn<>("Project", ProjectCostListItemDTO::projectLabel),
+            new ExportColumn<>("Period No", ProjectCostListItemDTO::periodNo),
+            new ExportColumn<>("Type", row -> costType(row.approveOrPlan())),
+            new ExportColumn<>("Costs", ProjectCostListItemDTO::costs));
+
+    private final InvoiceRepository invoiceRepository;
+    private final DebtRepository debtRepository;
+    private final OrderRepository orderRepository;
+    private final ProjectCostRepository projectCostRepository;
+
+    @Autowired
+    public ExportServiceImpl(InvoiceRepository invoiceRepository, DebtRepository debtRepository,
+            OrderRepository orderRepository, ProjectCostRepository projectCostRepository) {
+        this.invoiceRepository = invoiceRepository;
+        this.debtRepository = debtRepository;
+        this.orderRepository = orderRepository;
+        this.projectCostRepository = projectCostRepository;
+    }
+
+    /**
+     * @throws IllegalArgumentException if an argument is null or a range is inverted
+     */
+    @Override
+    public long exportInvoices(InvoiceSearchCriteria criteria, ExportFormat format, OutputStream out) {
+        if (criteria == null) {
+            throw new IllegalArgumentException("Search criteria cannot be null");
+        }
+        criteria.validate();
+        checkTarget(format, out);
+        return write(invoiceRepository.stream(criteria, INVOICE_SORT), INVOICE_COLUMNS, "Invoices", format, out);
+    }
+
+    /**
+     * @throws IllegalArgumentException if an argument is null or the date range is inverted
+     */
+    @Override
+    public long exportDebts(DebtExportCriteria criteria, ExportFormat format, OutputStream out) {
+        if (criteria == null) {
+            throw new IllegalArgumentException("Export criteria cannot be null");
+        }
+        criteria.validate();
+        checkTarget(format, out);
+        Stream<DebtListItemDTO> rows = debtRepository.streamListItems(criteria.customerId(), criteria.projectId(),
+                criteria.orderId(), criteria.promoterId(), criteria.dateFrom(), criteria.dateTo());
+        return write(rows, DEBT_COLUMNS, "Debts", format, out);
+    }
+
+    @Override
+    public long exportOrders(Long customerId, Long projectId, ExportFormat format, OutputStream out) {
+        checkTarget(format, out);
+        return write(orderRepository.streamListItems(customerId, projectId), ORDER_COLUMNS, "Orders", format, out);
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code approveOrPlan} is neither 1 nor 2
+     */
+    @Override
+    public long exportProjectCosts(Long projectId, Long projectPeriodId, Byte approveOrPlan, ExportFormat format,
+            OutputStream out) {
+        if (approveOrPlan != null && approveOrPlan != 1 && approveOrPlan != 2) {
+            throw new IllegalArgumentException("ApproveOrPlan must be 1 (approved) or 2 (planned)");
+        }
+        checkTarget(format, out);
+        Stream<ProjectCostListItemDTO> rows = projectCostRepository.streamListItems(projectId, projectPeriodId,
+                approveOrPlan);
+        return write(rows, PROJECT_COST_COLUMNS, "Project Costs", format, out);
+    }
+
+    private static <T> long write(Stream<T> rows, List<ExportColumn<T>> columns, String sheetName,
+            ExportFormat format, OutputStream out) {
+        long count = 0;
+        try (rows) {
+            TableWriter writer = format.open(out, sheetName);
+            writer.writeHeader(ExportColumn.headers(columns));
+            for (Iterator<T> it = rows.iterator(); it.hasNext();) {
+                writer.writeRow(ExportColumn.values(columns, it.next()));
+                count++;
+            }
+            writer.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+
+    private static void checkTarget(ExportFormat format, OutputStream out) {
+        if (format == null || out == null) {
+            throw new IllegalArgumentException("Export format and output stream cannot be null");
+        }
+    }
+
+    private static String costType(Byte approveOrPlan) {
+        if (approveOrPlan == null) {
+            return null;
+        }
+        return switch (approveOrPlan) {
+            case 1 -> "Approved";
+            case 2 -> "Planned";
+            default -> approveOrPlan.toString();
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package com.iws_manager.iws_manager_api.services.impl;
+
+import com.iws_manager.iws_manager_api.config.CacheNames;
+import com.iws_manager.iws_manager_api.services.holiday.HolidayCalendar;
+import com.iws_manager.iws_manager_api.models.HolidayYear;
+import com.iws_manager.iws_manager_api.models.PublicHoliday;
+import com.iws_manager.iws_manager_api.repositories.HolidayYearRepository;
+import com.iws_manager.iws_manager_api.repositories.PublicHolidayRepository;
+import com.iws_manager.iws_manager_api.services.interfaces.HolidayCalendarService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Builds {@link HolidayCalendar}s from the database and keeps them in the
+ * {@link CacheNames#HOLIDAY_CALENDARS} cache, so the three holiday queries run
+ * once per (year, state) instead of once per request. Services writing
+ * public holidays, state holidays or holiday years evict that cache.
+ */
+@Service
+@Transactional(readOnly = true)
+public class HolidayCalendarServiceImpl implements HolidayCalendarService {
+
+    private final PublicHolidayRepository publicHolidayRepository;
+    private final HolidayYearRepository holidayYearRepository;
+
+    @Autowired
+    public HolidayCalendarServiceImpl(PublicHolidayRepository publicHolidayRepository,
+            HolidayYearRepository holidayYearRepository) {
+        this.publicHolidayRepository = publicHolidayRepository;
+        this.holidayYearRepository = holidayYearRepository;
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheNames.HOLIDAY_CALENDARS, key = "#year + ':' + #stateId")
+    public HolidayCalendar getCalendar(int year, Long stateId) {
+        LocalDate startDate = LocalDate.of(year, 1, 1);
+        LocalDate endDate = LocalDate.of(year, 12, 31);
+        HolidayCalendar.Builder builder = HolidayCalendar.builder(year, stateId);
+
+        // 1. From PublicHoliday (exact date)
+        publicHolidayRepository.findHolidaysBetweenDates(startDate, endDate, stateId)
+                .forEach(holiday -> builder.put(holiday.getDate(), holiday.getName()));
+
+        // 2. From HolidayYear (no fix dates), overriding exact dates
+        List<HolidayYear> yearHolidays = holidayYearRepository.findHolidaysBetweenDates(startDate, endDate, stateId);
+        yearHolidays.forEach(hy -> builder.put(hy.getDate(), hy.getPublicHoliday().getName()));
+
+        // 3. From fixed holidays, only where nothing else is set
+        for (PublicHoliday fixedHoliday : publicHolidayRepository.findAllFixedHolidays(stateId)) {
+            LocalDate originalDate = fixedHoliday.getDate();
+            if (originalDate != null
+                    && originalDate.getDayOfMonth() <= originalDate.getMonth().length(startDate.isLeapYear())) {
+                builder.putIfAbsent(LocalDate.of(year, originalDate.getMonth(), originalDate.getDayOfMonth()),
+                        fixedHoliday.getName());
+            }
+        }
+
+        return builder.build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import com.iws_manager.iws_manager_api.models.HolidayYear;
 import com.iws_manager.iws_manager_api.models.PublicHoliday;
 import com.iws_manager.iws_manager_api.repositories.HolidayYearRepository;
@@ -9,6 +10,7 @@ import com.iws_manager.iws_manager_api.services.interfaces.HolidayYearService;
 import jakarta.persistence.EntityNotFoundException;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +31,7 @@ public class HolidayYearServiceImpl implements HolidayYearService {
 
      @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.HOLIDAY_CALENDARS, allEntries = true)
     public HolidayYear create(HolidayYear holidayYear) {
         // Validations
         if (holidayYear.getPublicHoliday() != null && 
@@ -52,6 +55,7 @@ public class HolidayYearServiceImpl implements HolidayYearService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.HOLIDAY_CALENDARS, allEntries = true)
     public HolidayYear update(Long id, HolidayYear holidayYearDetails) {
         HolidayYear existingHolidayYear = holidayYearRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Holiday year not found with id: " + id));
@@ -78,6 +82,7 @@ public class HolidayYearServiceImpl implements HolidayYearService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.HOLIDAY_CALENDARS, allEntries = true)
     public HolidayYear createNextYear(Long publicHolidayId) {
         PublicHoliday ph = publicHolidayRepository.findById(publicHolidayId)
                 .orElseThrow(() -> new EntityNotFoundException("PublicHoliday not found"));
@@ -103,6 +108,7 @@ public class HolidayYearServiceImpl implements HolidayYearService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.HOLIDAY_CALENDARS, allEntries = true)
     public void delete(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
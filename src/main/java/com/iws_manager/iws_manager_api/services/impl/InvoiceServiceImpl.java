@@ -6,9 +6,13 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.iws_manager.iws_manager_api.dtos.invoice.InvoiceListItemDTO;
+import com.iws_manager.iws_manager_api.dtos.invoice.InvoiceSearchCriteria;
 import com.iws_manager.iws_manager_api.models.Invoice;
 import com.iws_manager.iws_manager_api.repositories.InvoiceRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.InvoiceService;
@@ -106,7 +110,6 @@ public class InvoiceServiceImpl implements InvoiceService {
                     existingInvoice.setCustomer(invoiceDetails.getCustomer());
                     existingInvoice.setInvoiceDate(invoiceDetails.getInvoiceDate());
                     existingInvoice.setInvoiceNo(invoiceDetails.getInvoiceNo());
-                    existingInvoice.setInvoicePdf(invoiceDetails.getInvoicePdf());
                     existingInvoice.setInvoiceTitle(invoiceDetails.getInvoiceTitle());
                     existingInvoice.setInvoiceType(invoiceDetails.getInvoiceType());
                     existingInvoice.setIsCancellation(invoiceDetails.getIsCancellation());
@@ -502,4 +505,56 @@ public class InvoiceServiceImpl implements InvoiceService {
     public List<Invoice> getByCustomerIdOrderByInvoiceNoAsc(Long customerId) {
         return invoiceRepository.findByCustomerIdOrderByInvoiceNoAsc(customerId);
     }
-}
\ No newline at end of file
+
+    // LIST PROJECTIONS - grid columns only, no entity graph
+
+    /**
+     * Retrieves all invoices as flat list rows ordered by invoice number.
+     *
+     * @return a List of invoice rows (empty if none found)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<InvoiceListItemDTO> findAllListItems() {
+        return invoiceRepository.findAllListItems();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<InvoiceListItemDTO> getListItemsByCustomerId(Long customerId) {
+        if (customerId == null) {
+            throw new IllegalArgumentException("Customer ID cannot be null");
+        }
+        return invoiceRepository.findListItemsByCustomerId(customerId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<InvoiceListItemDTO> getListItemsByOrderId(Long orderId) {
+        if (orderId == null) {
+            throw new IllegalArgumentException("Order ID cannot be null");
+        }
+        return invoiceRepository.findListItemsByOrderId(orderId);
+    }
+
+    // SEARCH
+
+    /**
+     * Searches invoices by any combination of id, range and text filters.
+     * Replaces chains of single-field finders with one paged query.
+     *
+     * @param criteria the filters, all optional
+     * @param pageable page, size and sort (see {@code InvoiceSearchRepository.SORTABLE_PROPERTIES})
+     * @return a page of invoice rows
+     * @throws IllegalArgumentException if a range is inverted or the sort property is not supported
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<InvoiceListItemDTO> search(InvoiceSearchCriteria criteria, Pageable pageable) {
+        if (criteria == null || pageable == null) {
+            throw new IllegalArgumentException("Search criteria and pageable cannot be null");
+        }
+        criteria.validate();
+        return invoiceRepository.search(criteria, pageable);
+    }
+}
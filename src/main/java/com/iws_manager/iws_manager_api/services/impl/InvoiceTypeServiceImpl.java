@@ -4,9 +4,13 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import com.iws_manager.iws_manager_api.models.InvoiceType;
 import com.iws_manager.iws_manager_api.repositories.InvoiceTypeRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.InvoiceTypeService;
@@ -22,6 +26,7 @@ import jakarta.persistence.EntityNotFoundException;
  */
 @Service
 @Transactional
+@CacheConfig(cacheNames = CacheNames.INVOICE_TYPES)
 public class InvoiceTypeServiceImpl implements InvoiceTypeService {
 
     private final InvoiceTypeRepository invoiceTypeRepository;
@@ -44,6 +49,7 @@ public class InvoiceTypeServiceImpl implements InvoiceTypeService {
      * @throws IllegalArgumentException if the InvoiceType parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public InvoiceType create(InvoiceType invoiceType) {
         if (invoiceType == null) {
             throw new IllegalArgumentException("InvoiceType cannot be null");
@@ -60,6 +66,7 @@ public class InvoiceTypeServiceImpl implements InvoiceTypeService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = "#id", condition = "#id != null")
     public Optional<InvoiceType> findById(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -74,6 +81,7 @@ public class InvoiceTypeServiceImpl implements InvoiceTypeService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = CacheNames.ALL)
     public List<InvoiceType> findAll() {
         return invoiceTypeRepository.findAllByOrderByNameAsc();
     }
@@ -88,6 +96,7 @@ public class InvoiceTypeServiceImpl implements InvoiceTypeService {
      * @throws IllegalArgumentException if either parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public InvoiceType update(Long id, InvoiceType invoiceTypeDetails) {
         if (id == null || invoiceTypeDetails == null) {
             throw new IllegalArgumentException("ID and InvoiceType details cannot be null");
@@ -109,6 +118,7 @@ public class InvoiceTypeServiceImpl implements InvoiceTypeService {
      * @throws EntityNotFoundException if no InvoiceType exists with the given ID
      */
     @Override
+    @CacheEvict(allEntries = true)
     public void delete(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
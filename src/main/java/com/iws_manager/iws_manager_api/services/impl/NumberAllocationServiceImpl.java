@@ -0,0 +1,152 @@
+package com.iws_manager.iws_manager_api.services.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.iws_manager.iws_manager_api.dtos.numbering.NumberScope;
+import com.iws_manager.iws_manager_api.repositories.NumberCounterRepository;
+import com.iws_manager.iws_manager_api.services.interfaces.NumberAllocationService;
+
+/**
+ * Counter-table backed {@link NumberAllocationService} with hi/lo style block
+ * pre-allocation.
+ * <p>
+ * Each node reserves a block of numbers per scope and key in a short
+ * transaction of its own that locks the counter row, and then hands the block
+ * out from memory. The reservation commits independently of the caller, so the
+ * row lock is held for milliseconds instead of for the whole business
+ * transaction; numbers of a rolled back insert, and the unused rest of a block
+ * when the node stops, are skipped rather than reused.
+ * <p>
+ * Not annotated with {@code @Transactional}: reservations run in
+ * {@code REQUIRES_NEW} and previews in the caller's transaction.
+ */
+@Service
+public class NumberAllocationServiceImpl implements NumberAllocationService {
+
+    static final String BLOCK_SIZE_PROPERTY = "app.numbers.block-size.";
+
+    private final NumberCounterRepository numberCounterRepository;
+    private final TransactionTemplate requiresNew;
+    private final Environment environment;
+    private final ConcurrentMap<CounterKey, Block> blocks = new ConcurrentHashMap<>();
+
+    private record CounterKey(NumberScope scope, long key) {
+    }
+
+    /** Numbers {@code next} (inclusive) to {@code limit} (exclusive) belong to this node. */
+    private static final class Block {
+        private long next;
+        private long limit;
+
+        private boolean hasNext() {
+            return next < limit;
+        }
+    }
+
+    @Autowired
+    public NumberAllocationServiceImpl(NumberCounterRepository numberCounterRepository,
+            PlatformTransactionManager transactionManager, Environment environment) {
+        this.numberCounterRepository = numberCounterRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.environment = environment;
+    }
+
+    @Override
+    public long next(NumberScope scope, Long key, LongSupplier seed) {
+        CounterKey counter = counterKey(scope, key, seed);
+        Block block = blocks.computeIfAbsent(counter, k -> new Block());
+        synchronized (block) {
+            if (!block.hasNext()) {
+                int size = blockSize(scope);
+                Long start = requiresNew.execute(status -> reserve(counter, size, seed));
+                block.next = start;
+                block.limit = start + size;
+            }
+            return block.next++;
+        }
+    }
+
+    @Override
+    public long peek(NumberScope scope, Long key, LongSupplier seed) {
+        CounterKey counter = counterKey(scope, key, seed);
+        Block block = blocks.get(counter);
+        if (block != null) {
+            synchronized (block) {
+                if (block.hasNext()) {
+                    return block.next;
+                }
+            }
+        }
+        return numberCounterRepository.findNextValue(counter.scope(), counter.key())
+                .orElseGet(() -> firstFree(seed));
+    }
+
+    @Override
+    public void advancePast(NumberScope scope, Long key, long value, LongSupplier seed) {
+        CounterKey counter = counterKey(scope, key, seed);
+        Block block = blocks.computeIfAbsent(counter, k -> new Block());
+        synchronized (block) {
+            if (value < block.limit) {
+                // the counter row is already past the whole block
+                block.next = Math.max(block.next, value + 1);
+                return;
+            }
+            requiresNew.executeWithoutResult(status -> {
+                createIfMissing(counter, () -> Math.max(firstFree(seed), value + 1));
+                numberCounterRepository.raiseNextValue(counter.scope(), counter.key(), value + 1);
+            });
+        }
+    }
+
+    private long reserve(CounterKey counter, int size, LongSupplier seed) {
+        createIfMissing(counter, () -> firstFree(seed));
+        long start = numberCounterRepository.lockNextValue(counter.scope(), counter.key())
+                .orElseThrow(() -> new IllegalStateException("Number counter " + counter + " was not created"));
+        numberCounterRepository.updateNextValue(counter.scope(), counter.key(), start + size);
+        return start;
+    }
+
+    /**
+     * Checks with a plain read before inserting: a locking read of a missing
+     * row would take a gap lock and deadlock two nodes creating the same
+     * counter.
+     */
+    private void createIfMissing(CounterKey counter, LongSupplier initialValue) {
+        if (numberCounterRepository.findNextValue(counter.scope(), counter.key()).isEmpty()) {
+            numberCounterRepository.insertIfAbsent(counter.scope(), counter.key(), initialValue.getAsLong());
+        }
+    }
+
+    private int blockSize(NumberScope scope) {
+        Integer size = environment.getProperty(BLOCK_SIZE_PROPERTY + scope.property(), Integer.class,
+                scope.defaultBlockSize());
+        return Math.max(1, size);
+    }
+
+    private static long firstFree(LongSupplier seed) {
+        return Math.max(1, seed.getAsLong());
+    }
+
+    private static CounterKey counterKey(NumberScope scope, Long key, LongSupplier seed) {
+        if (scope == null || seed == null) {
+            throw new IllegalArgumentException("Scope and seed cannot be null");
+        }
+        if (!scope.keyed()) {
+            return new CounterKey(scope, NumberScope.GLOBAL_KEY);
+        }
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null for number scope " + scope);
+        }
+        return new CounterKey(scope, key);
+    }
+}
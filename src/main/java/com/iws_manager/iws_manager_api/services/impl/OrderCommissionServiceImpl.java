@@ -26,15 +26,19 @@ import jakarta.persistence.EntityNotFoundException;
 public class OrderCommissionServiceImpl implements OrderCommissionService {
 
     private final OrderCommissionRepository orderCommissionRepository;
+    private final CommissionTierCache commissionTierCache;
     
     /**
      * Constructs a new OrderCommissionService with the required repository dependency.
      * 
      * @param orderCommissionRepository the repository for OrderCommission entity operations
+     * @param commissionTierCache the compiled tier tables to evict on writes
      */
     @Autowired
-    public OrderCommissionServiceImpl(OrderCommissionRepository orderCommissionRepository) {
+    public OrderCommissionServiceImpl(OrderCommissionRepository orderCommissionRepository,
+            CommissionTierCache commissionTierCache) {
         this.orderCommissionRepository = orderCommissionRepository;
+        this.commissionTierCache = commissionTierCache;
     }
 
 
@@ -50,7 +54,9 @@ public class OrderCommissionServiceImpl implements OrderCommissionService {
         if (orderCommission == null) {
             throw new IllegalArgumentException("OrderCommission cannot be null");
         }
-        return orderCommissionRepository.save(orderCommission);
+        OrderCommission saved = orderCommissionRepository.save(orderCommission);
+        commissionTierCache.evictOrder(orderId(saved));
+        return saved;
     }
 
     /**
@@ -97,12 +103,15 @@ public class OrderCommissionServiceImpl implements OrderCommissionService {
         
         return  orderCommissionRepository.findById(id)
                 .map(existingOrderCommission -> {
+                    commissionTierCache.evictOrder(orderId(existingOrderCommission));
                     existingOrderCommission.setCommission(orderCommissionDetails.getCommission());
                     existingOrderCommission.setFromOrderValue(orderCommissionDetails.getFromOrderValue());
                     existingOrderCommission.setMinCommission(orderCommissionDetails.getMinCommission());
                     existingOrderCommission.setOrder(orderCommissionDetails.getOrder());
 
-                    return orderCommissionRepository.save(existingOrderCommission);
+                    OrderCommission saved = orderCommissionRepository.save(existingOrderCommission);
+                    commissionTierCache.evictOrder(orderId(saved));
+                    return saved;
                 })
                 .orElseThrow(() -> new RuntimeException("OrderCommission not found with id: " + id));
     }
@@ -119,11 +128,15 @@ public class OrderCommissionServiceImpl implements OrderCommissionService {
             throw new IllegalArgumentException("ID cannot be null");
         }
 
-        if (!orderCommissionRepository.existsById(id)) {
-            throw new EntityNotFoundException("OrderCommission not found with id: " + id);
-        }
+        OrderCommission existing = orderCommissionRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("OrderCommission not found with id: " + id));
 
         orderCommissionRepository.deleteById(id);
+        commissionTierCache.evictOrder(orderId(existing));
+    }
+
+    private static Long orderId(OrderCommission commission) {
+        return commission != null && commission.getOrder() != null ? commission.getOrder().getId() : null;
     }
 
     // PROPERTIES
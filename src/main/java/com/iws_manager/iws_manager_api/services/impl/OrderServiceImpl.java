@@ -5,18 +5,16 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import com.iws_manager.iws_manager_api.dtos.order.OrderListItemDTO;
 import com.iws_manager.iws_manager_api.models.BasicContract;
-import com.iws_manager.iws_manager_api.models.ContractOrderCommission;
-import com.iws_manager.iws_manager_api.models.OrderCommission;
 import com.iws_manager.iws_manager_api.repositories.BasicContractRepository;
-import com.iws_manager.iws_manager_api.repositories.ContractOrderCommissionRepository;
-import com.iws_manager.iws_manager_api.repositories.OrderCommissionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.iws_manager.iws_manager_api.models.Order;
 import com.iws_manager.iws_manager_api.repositories.OrderRepository;
+import com.iws_manager.iws_manager_api.services.interfaces.CommissionTemplateService;
 import com.iws_manager.iws_manager_api.services.interfaces.OrderService;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -33,19 +31,18 @@ import jakarta.persistence.EntityNotFoundException;
 public class OrderServiceImpl implements OrderService {
 
     private final OrderRepository orderRepository;
-    private final OrderCommissionRepository orderCommissionRepository;
-    private final ContractOrderCommissionRepository contractOrderCommissionRepository;
+    private final CommissionTemplateService commissionTemplateService;
     
     /**
      * Constructs a new OrderService with the required repository dependency.
      * 
      * @param orderRepository the repository for Order entity operations
+     * @param commissionTemplateService copies the commission tiers of new orders
      */
     @Autowired
-    public OrderServiceImpl(OrderRepository orderRepository, OrderCommissionRepository orderCommissionRepository, ContractOrderCommissionRepository contractOrderCommissionRepository) {
+    public OrderServiceImpl(OrderRepository orderRepository, CommissionTemplateService commissionTemplateService) {
         this.orderRepository = orderRepository;
-        this.orderCommissionRepository = orderCommissionRepository;
-        this.contractOrderCommissionRepository = contractOrderCommissionRepository;
+        this.commissionTemplateService = commissionTemplateService;
     }
 
 
@@ -63,21 +60,8 @@ public class OrderServiceImpl implements OrderService {
         }
 
         Order savedOrder = orderRepository.save(order);
-
-        List<ContractOrderCommission> contractOrderCommissions = contractOrderCommissionRepository.findAll();
-
-        List<OrderCommission> orderCommissions = contractOrderCommissions.stream()
-                .map(cc -> {
-                    OrderCommission oc = new OrderCommission();
-                    oc.setCommission(cc.getCommission());
-                    oc.setFromOrderValue(cc.getFromOrderValue());
-                    oc.setMinCommission(cc.getMinCommission());
-                    oc.setOrder(savedOrder);
-                    return oc;
-                })
-                .toList();
-
-        orderCommissionRepository.saveAll(orderCommissions);
+        commissionTemplateService.cloneForOrder(savedOrder.getId(),
+                savedOrder.getBasiccontract() != null ? savedOrder.getBasiccontract().getId() : null);
         return savedOrder;
     }
 
@@ -127,13 +111,11 @@ public class OrderServiceImpl implements OrderService {
                 .map(existingOrder -> {
                     existingOrder.setAcronym(orderDetails.getAcronym());
                     existingOrder.setApprovalDate(orderDetails.getApprovalDate());
-                    existingOrder.setApprovalPdf(orderDetails.getApprovalPdf());
                     existingOrder.setApprovalStatus(orderDetails.getApprovalStatus());
                     existingOrder.setBasiccontract(orderDetails.getBasiccontract());
                     existingOrder.setContractData1(orderDetails.getContractData1());
                     existingOrder.setContractData2(orderDetails.getContractData2());
                     existingOrder.setContractor(orderDetails.getContractor());
-                    existingOrder.setContractPdf(orderDetails.getContractPdf());
                     existingOrder.setContractStatus(orderDetails.getContractStatus());
                     existingOrder.setCustomer(orderDetails.getCustomer());
                     existingOrder.setEmployeeIws(orderDetails.getEmployeeIws());
@@ -388,4 +370,35 @@ public class OrderServiceImpl implements OrderService {
         }
         return orderRepository.findByCustomerIdOrderByOrderNoAsc(customerId);
     }
-}
\ No newline at end of file
+
+    // LIST PROJECTIONS - grid columns only, no entity graph
+
+    /**
+     * Retrieves all orders as flat list rows ordered by order number.
+     *
+     * @return a List of order rows (empty if none found)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderListItemDTO> findAllListItems() {
+        return orderRepository.findAllListItems();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderListItemDTO> getListItemsByCustomerId(Long customerId) {
+        if (customerId == null) {
+            throw new IllegalArgumentException("Customer ID cannot be null");
+        }
+        return orderRepository.findListItemsByCustomerId(customerId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderListItemDTO> getListItemsByProjectId(Long projectId) {
+        if (projectId == null) {
+            throw new IllegalArgumentException("Project ID cannot be null");
+        }
+        return orderRepository.findListItemsByProjectId(projectId);
+    }
+}
@@ -6,10 +6,14 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import jakarta.persistence.EntityNotFoundException;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import com.iws_manager.iws_manager_api.models.PayCondition;
 import com.iws_manager.iws_manager_api.repositories.PayConditionRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.PayConditionService;
@@ -23,6 +27,7 @@ import com.iws_manager.iws_manager_api.services.interfaces.PayConditionService;
  */
 @Service
 @Transactional
+@CacheConfig(cacheNames = CacheNames.PAY_CONDITIONS)
 public class PayConditionServiceImpl implements PayConditionService {
 
     private final PayConditionRepository payConditionRepository;
@@ -46,6 +51,7 @@ public class PayConditionServiceImpl implements PayConditionService {
      * @throws IllegalArgumentException if the PayCondition parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public PayCondition create(PayCondition payCondition) {
         if (payCondition == null) {
             throw new IllegalArgumentException("PayCondition cannot be null");
@@ -62,6 +68,7 @@ public class PayConditionServiceImpl implements PayConditionService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = "#id", condition = "#id != null")
     public Optional<PayCondition> findById(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -76,6 +83,7 @@ public class PayConditionServiceImpl implements PayConditionService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = CacheNames.ALL)
     public List<PayCondition> findAll() {
         return payConditionRepository.findAllByOrderByNameAsc();
     }
@@ -90,6 +98,7 @@ public class PayConditionServiceImpl implements PayConditionService {
      * @throws IllegalArgumentException if either parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public PayCondition update(Long id, PayCondition payConditionDetails) {
         if (id == null || payConditionDetails == null) {
             throw new IllegalArgumentException("ID and payCondition details cannot be null");
@@ -113,6 +122,7 @@ public class PayConditionServiceImpl implements PayConditionService {
      * @throws IllegalArgumentException if the id parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public void delete(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
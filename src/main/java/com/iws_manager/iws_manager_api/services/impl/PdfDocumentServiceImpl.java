@@ -0,0 +1,126 @@
+package com.iws_manager.iws_manager_api.services.impl;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.iws_manager.iws_manager_api.dtos.pdf.PdfDocumentInfo;
+import com.iws_manager.iws_manager_api.dtos.pdf.PdfDocumentType;
+import com.iws_manager.iws_manager_api.repositories.PdfDocumentRepository;
+import com.iws_manager.iws_manager_api.services.interfaces.PdfDocumentService;
+
+import jakarta.persistence.EntityNotFoundException;
+
+@Service
+@Transactional
+public class PdfDocumentServiceImpl implements PdfDocumentService {
+
+    private static final byte[] PDF_MAGIC = "%PDF-".getBytes(StandardCharsets.US_ASCII);
+
+    private final PdfDocumentRepository pdfDocumentRepository;
+
+    @Autowired
+    public PdfDocumentServiceImpl(PdfDocumentRepository pdfDocumentRepository) {
+        this.pdfDocumentRepository = pdfDocumentRepository;
+    }
+
+    /**
+     * Returns version and length of a stored PDF.
+     *
+     * @throws EntityNotFoundException if the owner does not exist or has no PDF
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PdfDocumentInfo getInfo(PdfDocumentType type, Long ownerId) {
+        validate(type, ownerId);
+        PdfDocumentInfo info = findOwner(type, ownerId);
+        if (!info.present()) {
+            throw new EntityNotFoundException("No PDF stored for " + type.fileName(ownerId));
+        }
+        return info;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void copyTo(PdfDocumentType type, Long ownerId, long offset, long length, OutputStream out) {
+        validate(type, ownerId);
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException("Offset and length cannot be negative");
+        }
+        pdfDocumentRepository.copyTo(type, ownerId, offset, length, out);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void download(PdfDocumentType type, Long ownerId, DownloadHandler handler) throws IOException {
+        PdfDocumentInfo info = getInfo(type, ownerId);
+        handler.handle(info, (offset, length, out) -> copyTo(type, ownerId, offset, length, out));
+    }
+
+    /**
+     * Streams the content into the database after checking the PDF header.
+     *
+     * @throws EntityNotFoundException  if the owner does not exist
+     * @throws IllegalArgumentException if the content is not a PDF
+     */
+    @Override
+    public PdfDocumentInfo store(PdfDocumentType type, Long ownerId, InputStream content, long length) {
+        validate(type, ownerId);
+        if (content == null) {
+            throw new IllegalArgumentException("PDF content cannot be null");
+        }
+
+        findOwner(type, ownerId);
+        InputStream checked = requirePdfHeader(content);
+        if (pdfDocumentRepository.write(type, ownerId, checked, length) == 0) {
+            throw ownerNotFound(type, ownerId);
+        }
+        return findOwner(type, ownerId);
+    }
+
+    @Override
+    public void delete(PdfDocumentType type, Long ownerId) {
+        validate(type, ownerId);
+        if (pdfDocumentRepository.clear(type, ownerId) == 0) {
+            throw ownerNotFound(type, ownerId);
+        }
+    }
+
+    private void validate(PdfDocumentType type, Long ownerId) {
+        if (type == null || ownerId == null) {
+            throw new IllegalArgumentException("Document type and owner ID cannot be null");
+        }
+    }
+
+    private PdfDocumentInfo findOwner(PdfDocumentType type, Long ownerId) {
+        return pdfDocumentRepository.findInfo(type, ownerId)
+                .orElseThrow(() -> ownerNotFound(type, ownerId));
+    }
+
+    private EntityNotFoundException ownerNotFound(PdfDocumentType type, Long ownerId) {
+        return new EntityNotFoundException("Owner of " + type.fileName(ownerId) + " not found");
+    }
+
+    private InputStream requirePdfHeader(InputStream content) {
+        BufferedInputStream buffered = new BufferedInputStream(content);
+        try {
+            buffered.mark(PDF_MAGIC.length);
+            byte[] header = buffered.readNBytes(PDF_MAGIC.length);
+            buffered.reset();
+            if (!Arrays.equals(header, PDF_MAGIC)) {
+                throw new IllegalArgumentException("Content is not a PDF document");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffered;
+    }
+}
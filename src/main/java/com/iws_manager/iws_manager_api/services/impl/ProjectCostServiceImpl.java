@@ -1,19 +1,28 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
 import java.math.BigDecimal;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import jakarta.persistence.EntityNotFoundException;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.iws_manager.iws_manager_api.dtos.projectcost.ProjectCostBulkResultDTO;
+import com.iws_manager.iws_manager_api.dtos.projectcost.ProjectCostEntryDTO;
 import com.iws_manager.iws_manager_api.models.ProjectCost;
 import com.iws_manager.iws_manager_api.repositories.ProjectCostRepository;
+import com.iws_manager.iws_manager_api.repositories.ProjectPeriodRepository;
+import com.iws_manager.iws_manager_api.repositories.ProjectRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.ProjectCostService;
 
 /**
@@ -32,32 +41,23 @@ import com.iws_manager.iws_manager_api.services.interfaces.ProjectCostService;
 public class ProjectCostServiceImpl implements ProjectCostService {
 
     private final ProjectCostRepository projectCostRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectPeriodRepository projectPeriodRepository;
 
     /**
-     * Comparador que maneja valores nulos para orden descendente de costs.
-     * Los valores nulos se tratan como mayores que los no nulos.
-     */
-    private final Comparator<ProjectCost> costsDescComparator = Comparator
-            .nullsLast(Comparator.comparing(ProjectCost::getCosts,
-                    Comparator.nullsLast(BigDecimal::compareTo)))
-            .reversed();
-
-    /**
-     * Comparador que maneja valores nulos para orden ascendente de costs.
-     * Los valores nulos se tratan como mayores que los no nulos.
-     */
-    private final Comparator<ProjectCost> costsAscComparator = Comparator
-            .nullsLast(Comparator.comparing(ProjectCost::getCosts,
-                    Comparator.nullsLast(BigDecimal::compareTo)));
-
-    /**
-     * Constructs a new ProjectCostService with the required repository dependency.
+     * Constructs a new ProjectCostService with the required repository dependencies.
      * 
-     * @param projectCostRepository the repository for ProjectCost entity operations
+     * @param projectCostRepository   the repository for ProjectCost entity operations
+     * @param projectRepository       the repository used to reference projects in bulk inserts
+     * @param projectPeriodRepository the repository used to reference periods in bulk inserts
      */
     @Autowired
-    public ProjectCostServiceImpl(ProjectCostRepository projectCostRepository) {
+    public ProjectCostServiceImpl(ProjectCostRepository projectCostRepository,
+            ProjectRepository projectRepository,
+            ProjectPeriodRepository projectPeriodRepository) {
         this.projectCostRepository = projectCostRepository;
+        this.projectRepository = projectRepository;
+        this.projectPeriodRepository = projectPeriodRepository;
     }
 
     /**
@@ -169,9 +169,7 @@ public class ProjectCostServiceImpl implements ProjectCostService {
         if (projectId == null) {
             throw new IllegalArgumentException("Project ID cannot be null");
         }
-        return projectCostRepository.findByProjectIdOrderByProjectPeriodIdAsc(projectId).stream()
-                .sorted(costsAscComparator)
-                .collect(Collectors.toList());
+        return projectCostRepository.findByProjectIdOrderByCostsAsc(projectId);
     }
 
     @Override
@@ -180,9 +178,7 @@ public class ProjectCostServiceImpl implements ProjectCostService {
         if (projectId == null) {
             throw new IllegalArgumentException("Project ID cannot be null");
         }
-        return getByProjectIdOrderByCostsAsc(projectId).stream()
-                .sorted(costsDescComparator)
-                .collect(Collectors.toList());
+        return projectCostRepository.findByProjectIdOrderByCostsDesc(projectId);
     }
 
     @Override
@@ -218,9 +214,7 @@ public class ProjectCostServiceImpl implements ProjectCostService {
         if (projectPeriodId == null) {
             throw new IllegalArgumentException("Project Period ID cannot be null");
         }
-        return projectCostRepository.findByProjectPeriodId(projectPeriodId).stream()
-                .sorted(costsAscComparator)
-                .collect(Collectors.toList());
+        return projectCostRepository.findByProjectPeriodIdOrderByCostsAsc(projectPeriodId);
     }
 
     @Override
@@ -229,9 +223,7 @@ public class ProjectCostServiceImpl implements ProjectCostService {
         if (projectPeriodId == null) {
             throw new IllegalArgumentException("Project Period ID cannot be null");
         }
-        return getByProjectPeriodIdOrderByCostsAsc(projectPeriodId).stream()
-                .sorted(costsDescComparator)
-                .collect(Collectors.toList());
+        return projectCostRepository.findByProjectPeriodIdOrderByCostsDesc(projectPeriodId);
     }
 
     @Override
@@ -437,9 +429,7 @@ public class ProjectCostServiceImpl implements ProjectCostService {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectCost> getAllOrderByCostsDesc() {
-        return getAllOrderByCostsAsc().stream()
-                .sorted(costsDescComparator)
-                .collect(Collectors.toList());
+        return projectCostRepository.findAllByOrderByCostsDesc();
     }
 
     @Override
@@ -460,10 +450,16 @@ public class ProjectCostServiceImpl implements ProjectCostService {
         if (amount == null) {
             throw new IllegalArgumentException("Amount cannot be null");
         }
-        // El repositorio no tiene este método, lo implementamos manualmente
-        return getAll().stream()
-                .filter(pc -> pc.getCosts() != null && pc.getCosts().compareTo(amount) > 0)
-                .collect(Collectors.toList());
+        return projectCostRepository.findByCostsGreaterThan(amount);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProjectCost> getByCostsGreaterThan(BigDecimal amount, Pageable pageable) {
+        if (amount == null || pageable == null) {
+            throw new IllegalArgumentException("Amount and pageable cannot be null");
+        }
+        return projectCostRepository.findByCostsGreaterThan(amount, pageable);
     }
 
     @Override
@@ -472,10 +468,16 @@ public class ProjectCostServiceImpl implements ProjectCostService {
         if (amount == null) {
             throw new IllegalArgumentException("Amount cannot be null");
         }
-        // El repositorio no tiene este método, lo implementamos manualmente
-        return getAll().stream()
-                .filter(pc -> pc.getCosts() != null && pc.getCosts().compareTo(amount) < 0)
-                .collect(Collectors.toList());
+        return projectCostRepository.findByCostsLessThan(amount);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProjectCost> getByCostsLessThan(BigDecimal amount, Pageable pageable) {
+        if (amount == null || pageable == null) {
+            throw new IllegalArgumentException("Amount and pageable cannot be null");
+        }
+        return projectCostRepository.findByCostsLessThan(amount, pageable);
     }
 
     @Override
@@ -487,12 +489,19 @@ public class ProjectCostServiceImpl implements ProjectCostService {
         if (minAmount.compareTo(maxAmount) > 0) {
             throw new IllegalArgumentException("Min amount cannot be greater than max amount");
         }
-        // El repositorio no tiene este método, lo implementamos manualmente
-        return getAll().stream()
-                .filter(pc -> pc.getCosts() != null
-                        && pc.getCosts().compareTo(minAmount) >= 0
-                        && pc.getCosts().compareTo(maxAmount) <= 0)
-                .collect(Collectors.toList());
+        return projectCostRepository.findByCostsBetween(minAmount, maxAmount);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProjectCost> getByCostsBetween(BigDecimal minAmount, BigDecimal maxAmount, Pageable pageable) {
+        if (minAmount == null || maxAmount == null || pageable == null) {
+            throw new IllegalArgumentException("Min amount, max amount and pageable cannot be null");
+        }
+        if (minAmount.compareTo(maxAmount) > 0) {
+            throw new IllegalArgumentException("Min amount cannot be greater than max amount");
+        }
+        return projectCostRepository.findByCostsBetween(minAmount, maxAmount, pageable);
     }
 
     @Override
@@ -534,30 +543,178 @@ public class ProjectCostServiceImpl implements ProjectCostService {
 
     @Override
     public void deleteByProjectId(Long projectId) {
+        deleteAllByProjectId(projectId);
+    }
+
+    @Override
+    public void deleteByProjectPeriodId(Long projectPeriodId) {
+        deleteAllByProjectPeriodId(projectPeriodId);
+    }
+
+    /**
+     * Deletes all costs of a project with a single DELETE statement.
+     *
+     * @return the number of deleted rows
+     * @throws IllegalArgumentException if the project ID is null
+     */
+    @Override
+    public ProjectCostBulkResultDTO deleteAllByProjectId(Long projectId) {
         if (projectId == null) {
             throw new IllegalArgumentException("Project ID cannot be null");
         }
-        List<ProjectCost> projectCosts = projectCostRepository.findByProjectId(projectId);
-        projectCostRepository.deleteAll(projectCosts);
+        return ProjectCostBulkResultDTO.deleted(projectCostRepository.deleteAllByProjectId(projectId));
     }
 
+    /**
+     * Deletes all costs of a project period with a single DELETE statement.
+     *
+     * @return the number of deleted rows
+     * @throws IllegalArgumentException if the project period ID is null
+     */
     @Override
-    public void deleteByProjectPeriodId(Long projectPeriodId) {
+    public ProjectCostBulkResultDTO deleteAllByProjectPeriodId(Long projectPeriodId) {
+        if (projectPeriodId == null) {
+            throw new IllegalArgumentException("Project Period ID cannot be null");
+        }
+        return ProjectCostBulkResultDTO.deleted(projectCostRepository.deleteAllByProjectPeriodId(projectPeriodId));
+    }
+
+    /**
+     * Replaces all costs of a project: one DELETE statement followed by the
+     * inserts of the new costs.
+     *
+     * @throws IllegalArgumentException if the entries are invalid
+     * @throws EntityNotFoundException  if the project does not exist
+     */
+    @Override
+    public ProjectCostBulkResultDTO replaceProjectCosts(Long projectId, List<ProjectCostEntryDTO> entries) {
+        Map<CostCell, ProjectCostEntryDTO> cells = validateEntries(projectId, entries, null);
+        int deleted = projectCostRepository.deleteAllByProjectId(projectId);
+        int inserted = insertCells(projectId, cells.values());
+        return new ProjectCostBulkResultDTO(entries.size(), inserted, 0, 0, deleted);
+    }
+
+    /**
+     * Replaces the costs of one period of a project. Entries without a period
+     * belong to {@code projectPeriodId}.
+     *
+     * @throws IllegalArgumentException if the entries are invalid or belong to another period
+     * @throws EntityNotFoundException  if the project does not exist
+     */
+    @Override
+    public ProjectCostBulkResultDTO replacePeriodCosts(Long projectId, Long projectPeriodId,
+            List<ProjectCostEntryDTO> entries) {
         if (projectPeriodId == null) {
             throw new IllegalArgumentException("Project Period ID cannot be null");
         }
-        List<ProjectCost> projectCosts = projectCostRepository.findByProjectPeriodId(projectPeriodId);
-        projectCostRepository.deleteAll(projectCosts);
+        Map<CostCell, ProjectCostEntryDTO> cells = validateEntries(projectId, entries, projectPeriodId);
+        int deleted = projectCostRepository.deleteAllByProjectIdAndProjectPeriodId(projectId, projectPeriodId);
+        int inserted = insertCells(projectId, cells.values());
+        return new ProjectCostBulkResultDTO(entries.size(), inserted, 0, 0, deleted);
+    }
+
+    /**
+     * Writes a cost matrix of a project: existing cells with a different
+     * amount are updated by one statement, missing cells are inserted and
+     * cells not in the request are kept.
+     *
+     * @throws IllegalArgumentException if the entries are invalid
+     * @throws EntityNotFoundException  if the project does not exist
+     */
+    @Override
+    public ProjectCostBulkResultDTO upsertCostMatrix(Long projectId, List<ProjectCostEntryDTO> entries) {
+        Map<CostCell, ProjectCostEntryDTO> cells = validateEntries(projectId, entries, null);
+
+        Map<Long, BigDecimal> changedCosts = new HashMap<>();
+        Map<CostCell, ProjectCostEntryDTO> missing = new LinkedHashMap<>(cells);
+        int unchanged = 0;
+        for (Object[] row : projectCostRepository.findCostCellsByProjectId(projectId)) {
+            CostCell cell = new CostCell((Long) row[1], (Byte) row[2]);
+            ProjectCostEntryDTO entry = cells.get(cell);
+            if (entry == null) {
+                continue;
+            }
+            missing.remove(cell);
+            if (sameAmount((BigDecimal) row[3], entry.costs())) {
+                unchanged++;
+            } else {
+                changedCosts.put((Long) row[0], entry.costs());
+            }
+        }
+
+        int updated = changedCosts.isEmpty() ? 0 : projectCostRepository.updateCosts(changedCosts);
+        int inserted = insertCells(projectId, missing.values());
+        return new ProjectCostBulkResultDTO(entries.size(), inserted, updated, unchanged, 0);
+    }
+
+    /** Key of a cost matrix cell. */
+    private record CostCell(Long projectPeriodId, Byte approveOrPlan) {
+    }
+
+    private Map<CostCell, ProjectCostEntryDTO> validateEntries(Long projectId, List<ProjectCostEntryDTO> entries,
+            Long projectPeriodId) {
+        if (projectId == null) {
+            throw new IllegalArgumentException("Project ID cannot be null");
+        }
+        if (entries == null) {
+            throw new IllegalArgumentException("Project cost entries cannot be null");
+        }
+        Map<CostCell, ProjectCostEntryDTO> cells = new LinkedHashMap<>();
+        for (ProjectCostEntryDTO entry : entries) {
+            if (entry == null) {
+                throw new IllegalArgumentException("Project cost entries cannot contain null");
+            }
+            if (entry.approveOrPlan() == null || (entry.approveOrPlan() != 1 && entry.approveOrPlan() != 2)) {
+                throw new IllegalArgumentException("ApproveOrPlan must be 1 (approved) or 2 (planned)");
+            }
+            Long periodId = entry.projectPeriodId() != null ? entry.projectPeriodId() : projectPeriodId;
+            if (periodId == null) {
+                throw new IllegalArgumentException("Project Period ID cannot be null");
+            }
+            if (projectPeriodId != null && !projectPeriodId.equals(periodId)) {
+                throw new IllegalArgumentException("Entry belongs to project period " + periodId
+                        + " instead of " + projectPeriodId);
+            }
+            ProjectCostEntryDTO normalized = new ProjectCostEntryDTO(periodId, entry.approveOrPlan(), entry.costs());
+            if (cells.put(new CostCell(periodId, entry.approveOrPlan()), normalized) != null) {
+                throw new IllegalArgumentException("Duplicate cost for project period " + periodId
+                        + " and type " + entry.approveOrPlan());
+            }
+        }
+        if (!projectRepository.existsById(projectId)) {
+            throw new EntityNotFoundException("Project not found with id: " + projectId);
+        }
+        return cells;
+    }
+
+    // Inserted with saveAll, which Hibernate batches when ids are pooled (see orm-pooled-ids.xml)
+    private int insertCells(Long projectId, Iterable<ProjectCostEntryDTO> entries) {
+        List<ProjectCost> projectCosts = new ArrayList<>();
+        for (ProjectCostEntryDTO entry : entries) {
+            ProjectCost projectCost = new ProjectCost();
+            projectCost.setProject(projectRepository.getReferenceById(projectId));
+            projectCost.setProjectPeriod(projectPeriodRepository.getReferenceById(entry.projectPeriodId()));
+            projectCost.setApproveOrPlan(entry.approveOrPlan());
+            projectCost.setCosts(entry.costs());
+            projectCosts.add(projectCost);
+        }
+        if (projectCosts.isEmpty()) {
+            return 0;
+        }
+        return projectCostRepository.saveAll(projectCosts).size();
+    }
+
+    private static boolean sameAmount(BigDecimal current, BigDecimal requested) {
+        if (current == null || requested == null) {
+            return Objects.equals(current, requested);
+        }
+        return current.compareTo(requested) == 0;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Long getMaxId() {
-        // El repositorio no tiene este método, lo implementamos manualmente
-        return getAll().stream()
-                .map(ProjectCost::getId)
-                .max(Long::compareTo)
-                .orElse(0L);
+        return projectCostRepository.findMaxId();
     }
 
     @Override
@@ -566,8 +723,6 @@ public class ProjectCostServiceImpl implements ProjectCostService {
         if (projectId == null) {
             throw new IllegalArgumentException("Project ID cannot be null");
         }
-        return getByProjectId(projectId).stream()
-                .filter(pc -> pc.getCosts() == null)
-                .collect(Collectors.toList());
+        return projectCostRepository.findByProjectIdAndCostsIsNull(projectId);
     }
 }
\ No newline at end of file
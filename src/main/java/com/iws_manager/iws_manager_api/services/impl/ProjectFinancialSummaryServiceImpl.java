@@ -0,0 +1,107 @@
+package com.iws_manager.iws_manager_api.services.impl;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.iws_manager.iws_manager_api.dtos.project.PeriodCostSummaryDTO;
+import com.iws_manager.iws_manager_api.dtos.project.ProjectFinancialSummaryDTO;
+import com.iws_manager.iws_manager_api.repositories.ProjectCostRepository;
+import com.iws_manager.iws_manager_api.repositories.ProjectEmployeeRepository;
+import com.iws_manager.iws_manager_api.services.interfaces.ProjectFinancialSummaryService;
+
+/**
+ * Builds the financial overview of a project from two grouped aggregate
+ * queries: one over ProjectCost (grouped by period and approveOrPlan) and one
+ * over ProjectEmployee. Sums and counts match the individual ProjectCostService
+ * and ProjectEmployeeService endpoints; the average rate is rounded to cents.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ProjectFinancialSummaryServiceImpl implements ProjectFinancialSummaryService {
+
+    private static final byte APPROVED = 1;
+    private static final byte PLANNED = 2;
+    private static final int AVERAGE_SCALE = 2;
+
+    private final ProjectCostRepository projectCostRepository;
+    private final ProjectEmployeeRepository projectEmployeeRepository;
+
+    @Autowired
+    public ProjectFinancialSummaryServiceImpl(ProjectCostRepository projectCostRepository,
+            ProjectEmployeeRepository projectEmployeeRepository) {
+        this.projectCostRepository = projectCostRepository;
+        this.projectEmployeeRepository = projectEmployeeRepository;
+    }
+
+    @Override
+    public ProjectFinancialSummaryDTO getSummaryByProject(Long projectId) {
+        if (projectId == null) {
+            throw new IllegalArgumentException("Project ID cannot be null");
+        }
+
+        Map<Long, BigDecimal[]> byPeriod = new LinkedHashMap<>();
+        BigDecimal total = BigDecimal.ZERO;
+        BigDecimal approved = BigDecimal.ZERO;
+        BigDecimal planned = BigDecimal.ZERO;
+
+        for (Object[] row : projectCostRepository.sumCostsByProjectGroupedByPeriodAndType(projectId)) {
+            Long periodId = (Long) row[0];
+            Byte type = (Byte) row[1];
+            BigDecimal sum = toBigDecimal(row[2]);
+
+            // [total, approved, planned]
+            BigDecimal[] periodSums = byPeriod.computeIfAbsent(periodId,
+                    id -> new BigDecimal[] { BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO });
+            periodSums[0] = periodSums[0].add(sum);
+            total = total.add(sum);
+            if (type != null && type == APPROVED) {
+                periodSums[1] = periodSums[1].add(sum);
+                approved = approved.add(sum);
+            } else if (type != null && type == PLANNED) {
+                periodSums[2] = periodSums[2].add(sum);
+                planned = planned.add(sum);
+            }
+        }
+
+        List<PeriodCostSummaryDTO> periods = new ArrayList<>(byPeriod.size());
+        byPeriod.forEach((periodId, sums) -> periods.add(
+                new PeriodCostSummaryDTO(periodId, sums[0], sums[1], sums[2])));
+
+        List<Object[]> statistics = projectEmployeeRepository.summarizeByProject(projectId);
+        Object[] employeeRow = statistics.isEmpty() ? new Object[4] : statistics.get(0);
+        Long employeeCount = employeeRow[0] != null ? ((Number) employeeRow[0]).longValue() : 0L;
+        BigDecimal totalPlannedHours = toBigDecimal(employeeRow[1]);
+        BigDecimal averageHourlyRate = toBigDecimal(employeeRow[2]).setScale(AVERAGE_SCALE, RoundingMode.HALF_UP);
+        BigDecimal totalEmployeeCost = toBigDecimal(employeeRow[3]);
+
+        return new ProjectFinancialSummaryDTO(
+                projectId,
+                total,
+                approved,
+                planned,
+                periods,
+                employeeCount,
+                totalEmployeeCost,
+                totalPlannedHours,
+                averageHourlyRate);
+    }
+
+    private BigDecimal toBigDecimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        // AVG() is returned as Double by Hibernate
+        return new BigDecimal(value.toString());
+    }
+}
@@ -1,9 +1,11 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
+import com.iws_manager.iws_manager_api.dtos.numbering.NumberScope;
 import com.iws_manager.iws_manager_api.models.Project;
 import com.iws_manager.iws_manager_api.models.ProjectPeriod;
 import com.iws_manager.iws_manager_api.repositories.ProjectPeriodRepository;
 import com.iws_manager.iws_manager_api.repositories.ProjectRepository;
+import com.iws_manager.iws_manager_api.services.interfaces.NumberAllocationService;
 import com.iws_manager.iws_manager_api.services.interfaces.ProjectPeriodService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -13,6 +15,7 @@ import com.iws_manager.iws_manager_api.exception.exceptions.ConflictException;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -20,14 +23,17 @@ import java.util.Optional;
 public class ProjectPeriodServiceImpl implements ProjectPeriodService {
     private final ProjectPeriodRepository projectPeriodRepository;
     private final ProjectRepository projectRepository;
+    private final NumberAllocationService numberAllocationService;
 
     private static final String PERIOD_STRING = "Period ";
 
     @Autowired
     public ProjectPeriodServiceImpl(ProjectPeriodRepository projectPeriodRepository,
-            ProjectRepository projectRepository) {
+            ProjectRepository projectRepository,
+            NumberAllocationService numberAllocationService) {
         this.projectPeriodRepository = projectPeriodRepository;
         this.projectRepository = projectRepository;
+        this.numberAllocationService = numberAllocationService;
     }
 
     @Override
@@ -37,6 +43,7 @@ public class ProjectPeriodServiceImpl implements ProjectPeriodService {
         }
         validateProjectPeriod(projectPeriod);
         validateNoOverlap(projectPeriod, null);
+        advancePastPeriodNo(projectPeriod.getProject(), projectPeriod.getPeriodNo());
         return projectPeriodRepository.save(projectPeriod);
     }
 
@@ -70,6 +77,9 @@ public class ProjectPeriodServiceImpl implements ProjectPeriodService {
                             id,
                             existingProjectPeriod.getPeriodNo());
 
+                    if (!Objects.equals(existingProjectPeriod.getPeriodNo(), projectPeriodDetails.getPeriodNo())) {
+                        advancePastPeriodNo(existingProjectPeriod.getProject(), projectPeriodDetails.getPeriodNo());
+                    }
                     existingProjectPeriod.setPeriodNo(projectPeriodDetails.getPeriodNo());
                     existingProjectPeriod.setStartDate(projectPeriodDetails.getStartDate());
                     existingProjectPeriod.setEndDate(projectPeriodDetails.getEndDate());
@@ -118,8 +128,8 @@ public class ProjectPeriodServiceImpl implements ProjectPeriodService {
     @Override
     @Transactional(readOnly = true)
     public Short getNextYear(Long projectId) {
-        Short maxYear = projectPeriodRepository.findMaxPeriodNoByProject(projectId);
-        return (maxYear == null) ? 1 : (short) (maxYear + 1);
+        return (short) numberAllocationService.peek(NumberScope.PROJECT_PERIOD_NO, projectId,
+                () -> firstFreePeriodNo(projectId));
     }
 
     @Override
@@ -129,15 +139,17 @@ public class ProjectPeriodServiceImpl implements ProjectPeriodService {
         }
         Project project = projectRepository.getReferenceById(projectId);
 
-        Short newYear = getNextYear(projectId);
-
-        projectPeriod.setPeriodNo(newYear.toString());
         projectPeriod.setProject(project);
         // Default Dates
         setDefaultDates(projectPeriod);
 
         validateProjectPeriod(projectPeriod);
         validateNoOverlap(projectPeriod, null);
+
+        // allocated after validation, a rejected period must not use up a year
+        long newYear = numberAllocationService.next(NumberScope.PROJECT_PERIOD_NO, projectId,
+                () -> firstFreePeriodNo(projectId));
+        projectPeriod.setPeriodNo(Long.toString(newYear));
         return projectPeriodRepository.save(projectPeriod);
     }
 
@@ -157,9 +169,34 @@ public class ProjectPeriodServiceImpl implements ProjectPeriodService {
 
         validateProjectPeriod(projectPeriod);
         validateNoOverlap(projectPeriod, null);
+        advancePastPeriodNo(project, projectPeriod.getPeriodNo());
         return projectPeriodRepository.save(projectPeriod);
     }
 
+    // an explicitly set year must never be handed out by the project's counter
+    private void advancePastPeriodNo(Project project, String periodNo) {
+        if (project == null || project.getId() == null || periodNo == null) {
+            return;
+        }
+        long year;
+        try {
+            year = Long.parseLong(periodNo.trim());
+        } catch (NumberFormatException e) {
+            return;
+        }
+        if (year > 0) {
+            Long projectId = project.getId();
+            numberAllocationService.advancePast(NumberScope.PROJECT_PERIOD_NO, projectId, year,
+                    () -> firstFreePeriodNo(projectId));
+        }
+    }
+
+    // seed for the project's period counter, only read before its first use
+    private long firstFreePeriodNo(Long projectId) {
+        Short maxYear = projectPeriodRepository.findMaxPeriodNoByProject(projectId);
+        return (maxYear == null) ? 1 : maxYear + 1L;
+    }
+
     private void setDefaultDates(ProjectPeriod projectPeriod) {
         int year = LocalDate.now().getYear();
         if (projectPeriod.getStartDate() == null) {
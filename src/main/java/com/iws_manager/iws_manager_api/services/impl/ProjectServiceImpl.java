@@ -6,9 +6,11 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import com.iws_manager.iws_manager_api.models.Project;
 import com.iws_manager.iws_manager_api.repositories.ProjectRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.ProjectService;
@@ -52,6 +54,7 @@ public class ProjectServiceImpl implements ProjectService {
      * @throws IllegalArgumentException if the Project parameter is null
      */
     @Override
+    @CacheEvict(cacheNames = CacheNames.PROJECT_COUNT, allEntries = true)
     public Project create(Project project) {
         if (project == null) {
             throw new IllegalArgumentException("Project cannot be null");
@@ -165,6 +168,7 @@ public class ProjectServiceImpl implements ProjectService {
      * @throws IllegalArgumentException if the id parameter is null
      */
     @Override
+    @CacheEvict(cacheNames = CacheNames.PROJECT_COUNT, allEntries = true)
     public void delete(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -366,4 +370,4 @@ public class ProjectServiceImpl implements ProjectService {
     public List<Project> getProjectsByCustomerIdOrderByStartDateDesc(Long customerId) {
         return projectRepository.findByCustomerIdOrderByStartDateDesc(customerId);
     }
-}
\ No newline at end of file
+}
@@ -5,6 +5,10 @@ import com.iws_manager.iws_manager_api.services.interfaces.ProjectPeriodService;
 import com.iws_manager.iws_manager_api.dtos.project.ProjectResponseDTO;
 import com.iws_manager.iws_manager_api.dtos.shared.BasicReferenceDTO;
 import com.iws_manager.iws_manager_api.dtos.project.ProjectRequestDTO;
+import com.iws_manager.iws_manager_api.dtos.project.ProjectPageDTO;
+import com.iws_manager.iws_manager_api.dtos.project.ProjectFetchProfile;
+import com.iws_manager.iws_manager_api.dtos.project.ProjectSortField;
+import com.iws_manager.iws_manager_api.dtos.project.ProjectSummaryDTO;
 import com.iws_manager.iws_manager_api.mappers.ProjectMapper;
 import com.iws_manager.iws_manager_api.models.EmployeeIws;
 import com.iws_manager.iws_manager_api.models.FundingProgram;
@@ -14,9 +18,14 @@ import com.iws_manager.iws_manager_api.models.Project;
 import com.iws_manager.iws_manager_api.models.ProjectStatus;
 import com.iws_manager.iws_manager_api.models.Promoter;
 import com.iws_manager.iws_manager_api.repositories.ProjectRepository;
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import jakarta.persistence.EntityNotFoundException;
 
@@ -31,7 +40,9 @@ import com.iws_manager.iws_manager_api.repositories.ProjectStatusRepository;
 import com.iws_manager.iws_manager_api.exception.exceptions.DuplicateResourceException;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -40,11 +51,19 @@ import java.util.stream.Collectors;
 /**
  * V2 Implementation of the {@link ProjectServiceV2} interface using DTOs.
  * Provides CRUD operations and business logic for Project management with DTOs.
+ * <p>
+ * Summaries load the shallow fetch plan (customer and status), single project
+ * reads, updates and pages the medium one, and the finders shared with V1 the
+ * deep one. See {@link ProjectFetchProfile}.
  */
 @Service
 @Transactional
 public class ProjectServiceImplV2 implements ProjectServiceV2 {
 
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+    private static final char CURSOR_SEPARATOR = ':';
+
     private final ProjectRepository projectRepository;
     private final CustomerRepository customerRepository;
     private final EmployeeIwsRepository employeeIwsRepository;
@@ -55,6 +74,9 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     private final ProjectStatusRepository projectStatusRepository;
     private final ProjectPeriodService projectPeriodService;
 
+    private record Cursor(String key, Long id) {
+    }
+
     @Autowired
     public ProjectServiceImplV2(ProjectRepository projectRepository,
             CustomerRepository customerRepository,
@@ -77,6 +99,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.PROJECT_COUNT, allEntries = true)
     public ProjectResponseDTO create(ProjectRequestDTO projectRequest) {
         if (projectRequest == null) {
             throw new IllegalArgumentException("ProjectRequestDTO cannot be null");
@@ -100,17 +123,70 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
         }
-        return projectRepository.findById(id)
+        return projectRepository.findById(id, ProjectFetchProfile.MEDIUM)
                 .map(ProjectMapper::toResponseDTO);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> findAll() {
-        return projectRepository.findAllByOrderByProjectLabelAsc()
+        return projectRepository.findMediumByOrderByProjectLabelAsc()
+                .stream()
+                .map(ProjectMapper::toResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectSummaryDTO> findAllSummaries() {
+        return projectRepository.findSummariesOrderByProjectLabelAsc()
                 .stream()
+                .map(ProjectMapper::toSummaryDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectPageDTO findPage(String cursor, Integer size, ProjectSortField sortBy, Sort.Direction direction) {
+        int pageSize = resolvePageSize(size);
+        ProjectSortField field = sortBy != null ? sortBy : ProjectSortField.PROJECT_LABEL;
+        boolean ascending = direction == null || direction.isAscending();
+        Cursor after = decodeCursor(cursor);
+
+        // One extra row tells whether another page exists without a COUNT query
+        Limit limit = Limit.of(pageSize + 1);
+        List<Project> rows = switch (field) {
+            case PROJECT_LABEL -> ascending
+                    ? projectRepository.findPageOrderByProjectLabelAsc(after.key(), after.id(), limit)
+                    : projectRepository.findPageOrderByProjectLabelDesc(after.key(), after.id(), limit);
+            case PROJECT_NAME -> ascending
+                    ? projectRepository.findPageOrderByProjectNameAsc(after.key(), after.id(), limit)
+                    : projectRepository.findPageOrderByProjectNameDesc(after.key(), after.id(), limit);
+        };
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Project> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Project last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(sortKey(last, field), last.getId());
+        }
+
+        List<ProjectResponseDTO> content = page.stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
+        return new ProjectPageDTO(content, content.size(), hasNext, nextCursor);
+    }
+
+    /**
+     * Total project count, cached apart from the pages so the list screen can
+     * show a total without counting on every scroll.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.PROJECT_COUNT, key = CacheNames.ALL)
+    public long countAll() {
+        return projectRepository.count();
     }
 
     @Override
@@ -119,7 +195,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
             throw new IllegalArgumentException("ID and project details cannot be null");
         }
 
-        return projectRepository.findById(id)
+        return projectRepository.findById(id, ProjectFetchProfile.MEDIUM)
                 .map(existingProject -> {
                     validateUniqueProjectNameForUpdate(existingProject, projectDetails, id);
                     // Update fields from DTO
@@ -131,6 +207,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.PROJECT_COUNT, allEntries = true)
     public void delete(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -183,7 +260,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByApprovalDate(LocalDate approvalDate) {
-        return projectRepository.findByApprovalDate(approvalDate)
+        return projectRepository.findMediumByApprovalDate(approvalDate)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -192,7 +269,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByAuthorizationDate(LocalDate authorizationDate) {
-        return projectRepository.findByAuthorizationDate(authorizationDate)
+        return projectRepository.findMediumByAuthorizationDate(authorizationDate)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -201,7 +278,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByEndApproval(LocalDate endApproval) {
-        return projectRepository.findByEndApproval(endApproval)
+        return projectRepository.findMediumByEndApproval(endApproval)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -210,7 +287,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByEndDate(LocalDate endDate) {
-        return projectRepository.findByEndDate(endDate)
+        return projectRepository.findMediumByEndDate(endDate)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -219,7 +296,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByStartApproval(LocalDate startApproval) {
-        return projectRepository.findByStartApproval(startApproval)
+        return projectRepository.findMediumByStartApproval(startApproval)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -228,7 +305,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByStartDate(LocalDate startDate) {
-        return projectRepository.findByStartDate(startDate)
+        return projectRepository.findMediumByStartDate(startDate)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -238,7 +315,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByChance(BigDecimal chance) {
-        return projectRepository.findByChance(chance)
+        return projectRepository.findMediumByChance(chance)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -247,7 +324,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByFundingRate(BigDecimal fundingRate) {
-        return projectRepository.findByFundingRate(fundingRate)
+        return projectRepository.findMediumByFundingRate(fundingRate)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -256,7 +333,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByHourlyRateMueu(BigDecimal hourlyRateMueu) {
-        return projectRepository.findByHourlyRateMueu(hourlyRateMueu)
+        return projectRepository.findMediumByHourlyRateMueu(hourlyRateMueu)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -265,7 +342,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByMaxHoursPerMonth(BigDecimal maxHoursPerMonth) {
-        return projectRepository.findByMaxHoursPerMonth(maxHoursPerMonth)
+        return projectRepository.findMediumByMaxHoursPerMonth(maxHoursPerMonth)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -274,7 +351,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByMaxHoursPerYear(BigDecimal maxHoursPerYear) {
-        return projectRepository.findByMaxHoursPerYear(maxHoursPerYear)
+        return projectRepository.findMediumByMaxHoursPerYear(maxHoursPerYear)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -283,7 +360,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByProductiveHoursPerYear(BigDecimal productiveHoursPerYear) {
-        return projectRepository.findByProductiveHoursPerYear(productiveHoursPerYear)
+        return projectRepository.findMediumByProductiveHoursPerYear(productiveHoursPerYear)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -292,7 +369,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByShareResearch(BigDecimal shareResearch) {
-        return projectRepository.findByShareResearch(shareResearch)
+        return projectRepository.findMediumByShareResearch(shareResearch)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -301,7 +378,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByStuffFlat(BigDecimal stuffFlat) {
-        return projectRepository.findByStuffFlat(stuffFlat)
+        return projectRepository.findMediumByStuffFlat(stuffFlat)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -311,7 +388,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByOrderIdFue(Long orderIdFue) {
-        return projectRepository.findByOrderFueId(orderIdFue)
+        return projectRepository.findMediumByOrderFueId(orderIdFue)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -320,7 +397,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByOrderIdAdmin(Long orderIdAdmin) {
-        return projectRepository.findByOrderAdminId(orderIdAdmin)
+        return projectRepository.findMediumByOrderAdminId(orderIdAdmin)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -330,7 +407,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByCommentContaining(String keyword) {
-        return projectRepository.findByCommentContaining(keyword)
+        return projectRepository.findMediumByCommentContaining(keyword)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -339,7 +416,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByFinanceAuthority(String authority) {
-        return projectRepository.findByFinanceAuthority(authority)
+        return projectRepository.findMediumByFinanceAuthority(authority)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -348,7 +425,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByFundingLabel(String label) {
-        return projectRepository.findByFundingLabel(label)
+        return projectRepository.findMediumByFundingLabel(label)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -357,7 +434,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByNoteContaining(String text) {
-        return projectRepository.findByNoteContaining(text)
+        return projectRepository.findMediumByNoteContaining(text)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -366,7 +443,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByProjectLabel(String projectLabel) {
-        return projectRepository.findByProjectLabel(projectLabel)
+        return projectRepository.findMediumByProjectLabel(projectLabel)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -375,7 +452,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByProjectName(String projectName) {
-        return projectRepository.findByProjectName(projectName)
+        return projectRepository.findMediumByProjectName(projectName)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -384,7 +461,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByTitle(String title) {
-        return projectRepository.findByTitle(title)
+        return projectRepository.findMediumByTitle(title)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -394,7 +471,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByCustomerId(Long customerId) {
-        return projectRepository.findByCustomerIdOrderByProjectLabelAsc(customerId)
+        return projectRepository.findMediumByCustomerIdOrderByProjectLabelAsc(customerId)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -403,7 +480,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByEmpiws20Id(Long empiws20Id) {
-        return projectRepository.findByEmpiws20Id(empiws20Id)
+        return projectRepository.findMediumByEmpiws20Id(empiws20Id)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -412,7 +489,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByFundingProgramId(Long fundingProgramId) {
-        return projectRepository.findByFundingProgramId(fundingProgramId)
+        return projectRepository.findMediumByFundingProgramId(fundingProgramId)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -421,7 +498,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByPromoterId(Long promoterId) {
-        return projectRepository.findByPromoterId(promoterId)
+        return projectRepository.findMediumByPromoterId(promoterId)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -430,7 +507,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByStatusId(Long statusId) {
-        return projectRepository.findByStatusId(statusId)
+        return projectRepository.findMediumByStatusId(statusId)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -440,7 +517,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByApprovalDateBetween(LocalDate start, LocalDate end) {
-        return projectRepository.findByApprovalDateBetween(start, end)
+        return projectRepository.findMediumByApprovalDateBetween(start, end)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -449,7 +526,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByAuthorizationDateBefore(LocalDate date) {
-        return projectRepository.findByAuthorizationDateBefore(date)
+        return projectRepository.findMediumByAuthorizationDateBefore(date)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -458,7 +535,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByEndDateAfter(LocalDate date) {
-        return projectRepository.findByEndDateAfter(date)
+        return projectRepository.findMediumByEndDateAfter(date)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -467,7 +544,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByStartDateBetween(LocalDate start, LocalDate end) {
-        return projectRepository.findByStartDateBetween(start, end)
+        return projectRepository.findMediumByStartDateBetween(start, end)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -477,7 +554,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByChanceGreaterThan(BigDecimal chance) {
-        return projectRepository.findByChanceGreaterThan(chance)
+        return projectRepository.findMediumByChanceGreaterThan(chance)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -486,7 +563,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByFundingRateLessThan(BigDecimal fundingRate) {
-        return projectRepository.findByFundingRateLessThan(fundingRate)
+        return projectRepository.findMediumByFundingRateLessThan(fundingRate)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -495,7 +572,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByHourlyRateMueuBetween(BigDecimal min, BigDecimal max) {
-        return projectRepository.findByHourlyRateMueuBetween(min, max)
+        return projectRepository.findMediumByHourlyRateMueuBetween(min, max)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -505,7 +582,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByProjectNameContainingIgnoreCase(String name) {
-        return projectRepository.findByProjectNameContainingIgnoreCase(name)
+        return projectRepository.findMediumByProjectNameContainingIgnoreCase(name)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -514,7 +591,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByFundingLabelStartingWith(String prefix) {
-        return projectRepository.findByFundingLabelStartingWith(prefix)
+        return projectRepository.findMediumByFundingLabelStartingWith(prefix)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -523,7 +600,7 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByTitleEndingWith(String suffix) {
-        return projectRepository.findByTitleEndingWith(suffix)
+        return projectRepository.findMediumByTitleEndingWith(suffix)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
@@ -533,12 +610,52 @@ public class ProjectServiceImplV2 implements ProjectServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getProjectsByCustomerIdOrderByStartDateDesc(Long customerId) {
-        return projectRepository.findByCustomerIdOrderByStartDateDesc(customerId)
+        return projectRepository.findMediumByCustomerIdOrderByStartDateDesc(customerId)
                 .stream()
                 .map(ProjectMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
+    // Helper methods for keyset pagination
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be greater than zero");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private String sortKey(Project project, ProjectSortField field) {
+        return field == ProjectSortField.PROJECT_NAME ? project.getProjectName() : project.getProjectLabel();
+    }
+
+    /**
+     * Encodes the last row's (sortKey, id) as URL-safe Base64 of "id" or
+     * "id:key", so a null key stays distinguishable from an empty one.
+     */
+    static String encodeCursor(String key, Long id) {
+        String raw = key == null ? String.valueOf(id) : id + String.valueOf(CURSOR_SEPARATOR) + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Cursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new Cursor(null, null);
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(CURSOR_SEPARATOR);
+            if (separator < 0) {
+                return new Cursor(null, Long.valueOf(raw));
+            }
+            return new Cursor(raw.substring(separator + 1), Long.valueOf(raw.substring(0, separator)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+        }
+    }
+
     // Helper methods for DTO-Entity conversion
     private Project convertToEntity(ProjectRequestDTO dto) {
         Project project = new Project();
@@ -1,10 +1,14 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import com.iws_manager.iws_manager_api.models.ProjectStatus;
 import com.iws_manager.iws_manager_api.repositories.ProjectStatusRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.ProjectStatusService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +24,7 @@ import java.util.Optional;
  */
 @Service
 @Transactional
+@CacheConfig(cacheNames = CacheNames.PROJECT_STATUSES)
 public class ProjectStatusServiceImpl implements ProjectStatusService {
 
     private final ProjectStatusRepository projectStatusRepository;
@@ -42,6 +47,7 @@ public class ProjectStatusServiceImpl implements ProjectStatusService {
      * @throws IllegalArgumentException if the projectStatus parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public ProjectStatus create(ProjectStatus projectStatus) {
         if (projectStatus == null) {
             throw new IllegalArgumentException("ProjectStatus cannot be null");
@@ -58,6 +64,7 @@ public class ProjectStatusServiceImpl implements ProjectStatusService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = "#id", condition = "#id != null")
     public Optional<ProjectStatus> findById(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -72,6 +79,7 @@ public class ProjectStatusServiceImpl implements ProjectStatusService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = CacheNames.ALL)
     public List<ProjectStatus> findAll() {
         return projectStatusRepository.findAllByOrderByNameAsc();
     }
@@ -86,6 +94,7 @@ public class ProjectStatusServiceImpl implements ProjectStatusService {
      * @throws IllegalArgumentException if either parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public ProjectStatus update(Long id, ProjectStatus projectStatusDetails) {
         if (id == null || projectStatusDetails == null) {
             throw new IllegalArgumentException("ID and projectStatus details cannot be null");
@@ -106,6 +115,7 @@ public class ProjectStatusServiceImpl implements ProjectStatusService {
      * @throws IllegalArgumentException if the id parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public void delete(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
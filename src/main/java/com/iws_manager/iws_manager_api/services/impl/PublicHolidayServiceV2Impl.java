@@ -1,5 +1,8 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
+import com.iws_manager.iws_manager_api.dtos.numbering.NumberScope;
+import com.iws_manager.iws_manager_api.services.holiday.HolidayCalendar;
 import com.iws_manager.iws_manager_api.dtos.publicholiday.SimpleHolidayDTO;
 import com.iws_manager.iws_manager_api.mappers.PublicHolidayMapper;
 import com.iws_manager.iws_manager_api.models.PublicHoliday;
@@ -8,16 +11,18 @@ import com.iws_manager.iws_manager_api.models.StateHoliday;
 import com.iws_manager.iws_manager_api.repositories.PublicHolidayRepository;
 import com.iws_manager.iws_manager_api.repositories.StateHolidayRepository;
 import com.iws_manager.iws_manager_api.repositories.StateRepository;
+import com.iws_manager.iws_manager_api.services.interfaces.HolidayCalendarService;
+import com.iws_manager.iws_manager_api.services.interfaces.NumberAllocationService;
 import com.iws_manager.iws_manager_api.services.interfaces.PublicHolidayServiceV2;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service("publicHolidayServiceV2")
 @Transactional
@@ -26,26 +31,37 @@ public class PublicHolidayServiceV2Impl implements PublicHolidayServiceV2 {
     private final PublicHolidayRepository publicHolidayRepository;
     private final StateRepository stateRepository;
     private final StateHolidayRepository stateHolidayRepository;
-    private final com.iws_manager.iws_manager_api.repositories.HolidayYearRepository holidayYearRepository;
+    private final HolidayCalendarService holidayCalendarService;
+    private final NumberAllocationService numberAllocationService;
 
     @Autowired
     public PublicHolidayServiceV2Impl(PublicHolidayRepository publicHolidayRepository,
             StateRepository stateRepository,
             StateHolidayRepository stateHolidayRepository,
-            com.iws_manager.iws_manager_api.repositories.HolidayYearRepository holidayYearRepository) {
+            HolidayCalendarService holidayCalendarService,
+            NumberAllocationService numberAllocationService) {
         this.publicHolidayRepository = publicHolidayRepository;
         this.stateRepository = stateRepository;
         this.stateHolidayRepository = stateHolidayRepository;
-        this.holidayYearRepository = holidayYearRepository;
+        this.holidayCalendarService = holidayCalendarService;
+        this.numberAllocationService = numberAllocationService;
     }
 
     // ========== MÉTODOS V1 (IDÉNTICOS A LA IMPLEMENTACIÓN V1) ==========
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.HOLIDAY_CALENDARS, allEntries = true)
     public PublicHoliday create(PublicHoliday publicHoliday) {
         if (publicHoliday == null) {
             throw new IllegalArgumentException("PublicHoliday cannot be null");
         }
+        if (publicHoliday.getSequenceNo() == null) {
+            publicHoliday.setSequenceNo((int) numberAllocationService.next(NumberScope.PUBLIC_HOLIDAY_SEQUENCE,
+                    null, this::firstFreeSequenceNo));
+        } else if (publicHoliday.getSequenceNo() > 0) {
+            numberAllocationService.advancePast(NumberScope.PUBLIC_HOLIDAY_SEQUENCE, null,
+                    publicHoliday.getSequenceNo(), this::firstFreeSequenceNo);
+        }
         return publicHolidayRepository.save(publicHoliday);
     }
 
@@ -55,31 +71,43 @@ public class PublicHolidayServiceV2Impl implements PublicHolidayServiceV2 {
         if (id == null) {
             throw new IllegalArgumentException("Id cannot be null");
         }
-        return publicHolidayRepository.findById(id);
+        Optional<PublicHoliday> publicHoliday = publicHolidayRepository.findById(id);
+        publicHoliday.ifPresent(ph -> withHolidayYears(List.of(ph)));
+        return publicHoliday;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PublicHoliday> findAll() {
-        return publicHolidayRepository.findAllByOrderByNameAsc();
+        return withHolidayYears(publicHolidayRepository.findAllByOrderByNameAsc());
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.HOLIDAY_CALENDARS, allEntries = true)
     public PublicHoliday update(Long id, PublicHoliday publicHolidayDetails) {
         if (id == null || publicHolidayDetails == null) {
             throw new IllegalArgumentException("Id and Details cannot be null");
         }
         return publicHolidayRepository.findById(id)
                 .map(existingPublicHoliday -> {
+                    Integer sequenceNo = publicHolidayDetails.getSequenceNo();
+                    if (sequenceNo != null && sequenceNo > 0
+                            && !sequenceNo.equals(existingPublicHoliday.getSequenceNo())) {
+                        numberAllocationService.advancePast(NumberScope.PUBLIC_HOLIDAY_SEQUENCE, null,
+                                sequenceNo, this::firstFreeSequenceNo);
+                    }
                     existingPublicHoliday.setName(publicHolidayDetails.getName());
                     existingPublicHoliday.setDate(publicHolidayDetails.getDate());
                     existingPublicHoliday.setIsFixedDate(publicHolidayDetails.getIsFixedDate());
                     existingPublicHoliday.setSequenceNo(publicHolidayDetails.getSequenceNo());
-                    return publicHolidayRepository.save(existingPublicHoliday);
+                    PublicHoliday saved = publicHolidayRepository.save(existingPublicHoliday);
+                    withHolidayYears(List.of(saved));
+                    return saved;
                 }).orElseThrow(() -> new RuntimeException("PublicHoliday not found with id: " + id));
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.HOLIDAY_CALENDARS, allEntries = true)
     public void delete(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("Id cannot be null");
@@ -107,6 +135,7 @@ public class PublicHolidayServiceV2Impl implements PublicHolidayServiceV2 {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.HOLIDAY_CALENDARS, allEntries = true)
     public void saveStateSelections(Long publicHolidayId, List<Long> selectedStateIds) {
         stateHolidayRepository.deleteByPublicHoliday_Id(publicHolidayId);
 
@@ -131,18 +160,32 @@ public class PublicHolidayServiceV2Impl implements PublicHolidayServiceV2 {
     @Override
     @Transactional(readOnly = true)
     public List<PublicHoliday> findAllByOrderBySequenceNo() {
-        return publicHolidayRepository.findAllByOrderBySequenceNoAsc();
+        return withHolidayYears(publicHolidayRepository.findAllByOrderBySequenceNoAsc());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PublicHoliday> findAllByOrderBySequenceNoDesc() {
-        return publicHolidayRepository.findAllByOrderBySequenceNoDesc();
+        return withHolidayYears(publicHolidayRepository.findAllByOrderBySequenceNoDesc());
     }
 
     @Override
     @Transactional(readOnly = true)
     public Long getNextSequenceNo() {
+        return numberAllocationService.peek(NumberScope.PUBLIC_HOLIDAY_SEQUENCE, null, this::firstFreeSequenceNo);
+    }
+
+    // loads the holiday years of the returned holidays inside the transaction,
+    // so serializing them does not depend on an open session
+    private List<PublicHoliday> withHolidayYears(List<PublicHoliday> publicHolidays) {
+        if (!publicHolidays.isEmpty()) {
+            publicHolidayRepository.fetchHolidayYears(publicHolidays);
+        }
+        return publicHolidays;
+    }
+
+    // seed for the sequence number counter, only read before its first use
+    private long firstFreeSequenceNo() {
         Long maxSequenceNo = publicHolidayRepository.findMaxSequenceNo();
         return (maxSequenceNo != null ? maxSequenceNo + 1 : 1);
     }
@@ -167,29 +210,10 @@ public class PublicHolidayServiceV2Impl implements PublicHolidayServiceV2 {
     public List<SimpleHolidayDTO> getSimpleHolidaysInRange(LocalDate startDate, LocalDate endDate, Long stateId) {
         validateDateRange(startDate, endDate);
 
-        Map<LocalDate, String> dbHolidaysMap = getDatabaseHolidaysMap(startDate, endDate, stateId);
         List<SimpleHolidayDTO> result = new ArrayList<>();
-        LocalDate currentDate = startDate;
-
-        while (!currentDate.isAfter(endDate)) {
-            String holidayName = dbHolidaysMap.get(currentDate);
-            DayOfWeek dayOfWeek = currentDate.getDayOfWeek();
-
-            if (holidayName != null) {
-                // Hay un feriado en esta fecha
-                result.add(PublicHolidayMapper.createHolidayDTO(holidayName, currentDate));
-            } else if (dayOfWeek == DayOfWeek.SATURDAY) {
-                // Es sábado sin feriado
-                result.add(PublicHolidayMapper.createSaturdayDTO(currentDate));
-            } else if (dayOfWeek == DayOfWeek.SUNDAY) {
-                // Es domingo sin feriado
-                result.add(PublicHolidayMapper.createSundayDTO(currentDate));
-            }
-            // Los días laborables normales (lunes a viernes sin feriado) no se incluyen
-
-            currentDate = currentDate.plusDays(1);
+        for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+            result.addAll(holidayCalendarService.getCalendar(year, stateId).getNonWorkingDays(startDate, endDate));
         }
-
         return result;
     }
 
@@ -247,12 +271,35 @@ public class PublicHolidayServiceV2Impl implements PublicHolidayServiceV2 {
     public List<SimpleHolidayDTO> getDatabaseHolidaysInRange(LocalDate startDate, LocalDate endDate, Long stateId) {
         validateDateRange(startDate, endDate);
 
-        Map<LocalDate, String> holidaysMap = getDatabaseHolidaysMap(startDate, endDate, stateId);
+        List<SimpleHolidayDTO> result = new ArrayList<>();
+        for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+            result.addAll(holidayCalendarService.getCalendar(year, stateId).getHolidays(startDate, endDate));
+        }
+        return result;
+    }
 
-        return holidaysMap.entrySet().stream()
-                .map(entry -> PublicHolidayMapper.createHolidayDTO(entry.getValue(), entry.getKey()))
-                .sorted(Comparator.comparing(SimpleHolidayDTO::date))
-                .collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isHoliday(LocalDate date, Long stateId) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        return holidayCalendarService.getCalendar(date.getYear(), stateId).isHoliday(date);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countWorkingDays(LocalDate startDate, LocalDate endDate, Long stateId) {
+        validateDateRange(startDate, endDate);
+
+        long workingDays = 0;
+        for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+            HolidayCalendar calendar = holidayCalendarService.getCalendar(year, stateId);
+            LocalDate from = year == startDate.getYear() ? startDate : LocalDate.of(year, 1, 1);
+            LocalDate to = year == endDate.getYear() ? endDate : LocalDate.of(year, 12, 31);
+            workingDays += calendar.countWorkingDays(from, to);
+        }
+        return workingDays;
     }
 
     /**
@@ -267,48 +314,4 @@ public class PublicHolidayServiceV2Impl implements PublicHolidayServiceV2 {
             throw new IllegalArgumentException("Start date cannot be after end date");
         }
     }
-
-    /**
-     * Gets database holidays as a Map for faster lookup
-     */
-    private Map<LocalDate, String> getDatabaseHolidaysMap(LocalDate startDate, LocalDate endDate, Long stateId) {
-        Map<LocalDate, String> holidaysMap = new HashMap<>();
-
-        // 1. From PublicHoliday (exact date)
-        List<PublicHoliday> exactDateHolidays = publicHolidayRepository.findHolidaysBetweenDates(startDate, endDate,
-                stateId);
-        exactDateHolidays.forEach(holiday -> holidaysMap.put(holiday.getDate(), holiday.getName()));
-
-        // 2. From HolidayYear (no fix dates)
-        List<com.iws_manager.iws_manager_api.models.HolidayYear> yearHolidays = holidayYearRepository
-                .findHolidaysBetweenDates(startDate, endDate, stateId);
-        yearHolidays.forEach(hy -> holidaysMap.put(hy.getDate(), hy.getPublicHoliday().getName()));
-
-        // 3. From Fixed holidays
-        addFixedHolidaysToMap(holidaysMap, startDate, endDate, stateId);
-
-        return holidaysMap;
-    }
-
-    /**
-     * Adds fixed holidays to the map for the given date range
-     */
-    private void addFixedHolidaysToMap(Map<LocalDate, String> holidaysMap, LocalDate startDate, LocalDate endDate,
-            Long stateId) {
-        List<PublicHoliday> fixedHolidays = publicHolidayRepository.findAllFixedHolidays(stateId);
-
-        int startYear = startDate.getYear();
-        int endYear = endDate.getYear();
-
-        for (int year = startYear; year <= endYear; year++) {
-            for (PublicHoliday fixedHoliday : fixedHolidays) {
-                LocalDate originalDate = fixedHoliday.getDate();
-                LocalDate holidayDate = LocalDate.of(year, originalDate.getMonth(), originalDate.getDayOfMonth());
-
-                if (!holidayDate.isBefore(startDate) && !holidayDate.isAfter(endDate)) {
-                    holidaysMap.putIfAbsent(holidayDate, fixedHoliday.getName());
-                }
-            }
-        }
-    }
-}
\ No newline at end of file
+}
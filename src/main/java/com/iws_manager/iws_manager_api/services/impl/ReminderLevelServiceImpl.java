@@ -4,9 +4,13 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import com.iws_manager.iws_manager_api.models.ReminderLevel;
 import com.iws_manager.iws_manager_api.repositories.ReminderLevelRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.ReminderLevelService;
@@ -21,6 +25,7 @@ import jakarta.persistence.EntityNotFoundException;
  */
 @Service
 @Transactional
+@CacheConfig(cacheNames = CacheNames.REMINDER_LEVELS)
 public class ReminderLevelServiceImpl implements ReminderLevelService {
 
     private final ReminderLevelRepository reminderLevelRepository;
@@ -43,6 +48,7 @@ public class ReminderLevelServiceImpl implements ReminderLevelService {
      * @throws IllegalArgumentException if the ReminderLevel parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public ReminderLevel create(ReminderLevel reminderLevel) {
         if (reminderLevel == null) {
             throw new IllegalArgumentException("ReminderLevel cannot be null");
@@ -59,6 +65,7 @@ public class ReminderLevelServiceImpl implements ReminderLevelService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = "#id", condition = "#id != null")
     public Optional<ReminderLevel> findById(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -73,6 +80,7 @@ public class ReminderLevelServiceImpl implements ReminderLevelService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = CacheNames.ALL)
     public List<ReminderLevel> findAll() {
         return reminderLevelRepository.findAllByOrderByLevelNoAsc();
     }
@@ -87,6 +95,7 @@ public class ReminderLevelServiceImpl implements ReminderLevelService {
      * @throws IllegalArgumentException if either parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public ReminderLevel update(Long id, ReminderLevel reminderLevelDetails) {
         if (id == null || reminderLevelDetails == null) {
             throw new IllegalArgumentException("ID and reminder level details cannot be null");
@@ -113,6 +122,7 @@ public class ReminderLevelServiceImpl implements ReminderLevelService {
      * @throws IllegalArgumentException if the id parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public void delete(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
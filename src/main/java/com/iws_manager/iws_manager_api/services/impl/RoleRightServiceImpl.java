@@ -1,5 +1,9 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
+import com.iws_manager.iws_manager_api.dtos.role.RoleRightCellDTO;
+import com.iws_manager.iws_manager_api.dtos.role.RoleRightMatrixDTO;
+import com.iws_manager.iws_manager_api.dtos.role.RoleRightMatrixResultDTO;
 import com.iws_manager.iws_manager_api.models.Role;
 import com.iws_manager.iws_manager_api.models.RoleRight;
 
@@ -10,15 +14,21 @@ import com.iws_manager.iws_manager_api.repositories.RoleRightRepository;
 import com.iws_manager.iws_manager_api.repositories.SystemFunctionRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.RoleRightService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import jakarta.persistence.EntityNotFoundException;
 
-import javax.swing.text.html.parser.Entity;
 
 @Service
 @Transactional
@@ -37,6 +47,7 @@ public class RoleRightServiceImpl implements RoleRightService {
 
 
     @Override
+    @CacheEvict(cacheNames = { CacheNames.USER_ACCOUNTS, CacheNames.ROLE_PERMISSIONS }, allEntries = true)
     public RoleRight create(RoleRight roleRight) {
         if (roleRight == null) {
             throw new IllegalArgumentException("RoleRight cannot be null");
@@ -73,6 +84,7 @@ public class RoleRightServiceImpl implements RoleRightService {
     }
 
     @Override
+    @CacheEvict(cacheNames = { CacheNames.USER_ACCOUNTS, CacheNames.ROLE_PERMISSIONS }, allEntries = true)
     public RoleRight update(Long id, RoleRight roleRightDetails) {
         if (id == null || roleRightDetails == null) {
             throw new IllegalArgumentException("ID and roleRight details cannot be null");
@@ -99,6 +111,7 @@ public class RoleRightServiceImpl implements RoleRightService {
     }
 
     @Override
+    @CacheEvict(cacheNames = { CacheNames.USER_ACCOUNTS, CacheNames.ROLE_PERMISSIONS }, allEntries = true)
     public void delete(Long id) {
         if (id == null ) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -117,37 +130,112 @@ public class RoleRightServiceImpl implements RoleRightService {
         return roleRightRepository.findByModuleIdAndRoleId(moduleId, roleId);
     }
 
+    /**
+     * Saves the submitted rights as one diff per role; see {@link #saveMatrix}.
+     * Rights are matched to the stored ones by role and system function, so
+     * unchanged cells are not written. Returns the stored rights of the
+     * submitted cells.
+     */
     @Override
+    @CacheEvict(cacheNames = { CacheNames.USER_ACCOUNTS, CacheNames.ROLE_PERMISSIONS }, allEntries = true)
     @Transactional
     public List<RoleRight> saveAll(List<RoleRight> rights) {
         if (rights == null || rights.isEmpty()) {
             throw new IllegalArgumentException("Rights list cannot be null or empty");
         }
 
-        List<RoleRight> savedRights = new ArrayList<>();
-
+        // roleId -> (systemFunctionId -> accessRight); later entries for the same cell win
+        Map<Long, Map<Long, Integer>> matrices = new LinkedHashMap<>();
         for (RoleRight roleRight : rights) {
             if (roleRight == null) {
                 throw new IllegalArgumentException("RoleRight in list cannot be null");
             }
+            if (roleRight.getRole() == null || roleRight.getRole().getId() == null
+                    || roleRight.getSystemFunction() == null || roleRight.getSystemFunction().getId() == null) {
+                throw new IllegalArgumentException("Role and SystemFunction IDs cannot be null");
+            }
+            matrices.computeIfAbsent(roleRight.getRole().getId(), roleId -> new LinkedHashMap<>())
+                    .put(roleRight.getSystemFunction().getId(), roleRight.getAccessRight());
+        }
 
-            // Validate and get Role
-            Long roleId = roleRight.getRole().getId();
-            Role role = roleRepository.findById(roleId)
-                    .orElseThrow(() -> new RuntimeException("Role not found with id: " + roleId));
+        List<RoleRight> savedRights = new ArrayList<>();
+        matrices.forEach((roleId, cells) -> {
+            applyMatrix(roleId, cells, false);
+            for (RoleRight right : roleRightRepository.findByRoleId(roleId)) {
+                if (cells.containsKey(right.getSystemFunction().getId())) {
+                    savedRights.add(right);
+                }
+            }
+        });
+        return savedRights;
+    }
 
-            // Validate and get System Function
-            Long functionId = roleRight.getSystemFunction().getId();
-            SystemFunction function = systemFunctionRepository.findById(functionId)
-                    .orElseThrow(() -> new RuntimeException("SystemFunction not found with id: " + functionId));
+    @Override
+    @CacheEvict(cacheNames = { CacheNames.USER_ACCOUNTS, CacheNames.ROLE_PERMISSIONS }, allEntries = true)
+    public RoleRightMatrixResultDTO saveMatrix(RoleRightMatrixDTO matrix) {
+        if (matrix == null || matrix.roleId() == null || matrix.rights() == null) {
+            throw new IllegalArgumentException("Role ID and rights cannot be null");
+        }
 
-            roleRight.setRole(role);
-            roleRight.setSystemFunction(function);
+        Map<Long, Integer> cells = new LinkedHashMap<>();
+        for (RoleRightCellDTO cell : matrix.rights()) {
+            if (cell == null || cell.systemFunctionId() == null) {
+                throw new IllegalArgumentException("SystemFunction ID cannot be null");
+            }
+            if (cells.containsKey(cell.systemFunctionId())) {
+                throw new IllegalArgumentException("Duplicate SystemFunction id: " + cell.systemFunctionId());
+            }
+            cells.put(cell.systemFunctionId(), cell.accessRight());
+        }
+        return applyMatrix(matrix.roleId(), cells, true);
+    }
+
+    /**
+     * Diffs the cells (system function id to access right) against the
+     * role's stored rights and writes only what changed: new cells in one
+     * JDBC batch, changed ones through dirty checking (batched by Hibernate)
+     * and, if {@code deleteEmptyCells}, cells without access right with one
+     * {@code DELETE ... IN}. Reads the role's rights and checks the new
+     * system functions with one query each.
+     */
+    private RoleRightMatrixResultDTO applyMatrix(Long roleId, Map<Long, Integer> cells, boolean deleteEmptyCells) {
+        if (!roleRepository.existsById(roleId)) {
+            throw new EntityNotFoundException("Role not found with id: " + roleId);
+        }
+
+        Map<Long, RoleRight> stored = new HashMap<>();
+        for (RoleRight right : roleRightRepository.findByRoleId(roleId)) {
+            stored.putIfAbsent(right.getSystemFunction().getId(), right);
+        }
 
-            // Add to saved list
-            savedRights.add(roleRight);
+        Map<Long, Integer> inserts = new LinkedHashMap<>();
+        List<Long> deletes = new ArrayList<>();
+        int updated = 0;
+        for (Map.Entry<Long, Integer> cell : cells.entrySet()) {
+            RoleRight existing = stored.get(cell.getKey());
+            if (cell.getValue() == null && deleteEmptyCells) {
+                if (existing != null) {
+                    deletes.add(existing.getId());
+                }
+            } else if (existing == null) {
+                inserts.put(cell.getKey(), cell.getValue());
+            } else if (!Objects.equals(existing.getAccessRight(), cell.getValue())) {
+                existing.setAccessRight(cell.getValue());
+                updated++;
+            }
         }
 
-        return roleRightRepository.saveAll(savedRights);
+        if (!inserts.isEmpty()) {
+            Set<Long> missing = new LinkedHashSet<>(inserts.keySet());
+            missing.removeAll(systemFunctionRepository.findExistingIds(inserts.keySet()));
+            if (!missing.isEmpty()) {
+                throw new EntityNotFoundException("SystemFunction not found with id: " + missing.iterator().next());
+            }
+            roleRightRepository.insertAll(roleId, inserts);
+        }
+        if (!deletes.isEmpty()) {
+            roleRightRepository.deleteAllByIdInBatch(deletes);
+        }
+        return new RoleRightMatrixResultDTO(roleId, inserts.size(), updated, deletes.size());
     }
 }
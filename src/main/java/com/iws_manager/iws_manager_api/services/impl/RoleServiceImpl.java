@@ -1,5 +1,6 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import com.iws_manager.iws_manager_api.models.Role;
 import com.iws_manager.iws_manager_api.models.RoleRight;
 import com.iws_manager.iws_manager_api.models.User;
@@ -9,6 +10,7 @@ import com.iws_manager.iws_manager_api.repositories.UserRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.RoleService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -59,6 +61,7 @@ public class RoleServiceImpl implements RoleService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.USER_ACCOUNTS, allEntries = true)
     public Role update(Long id, Role roleDetails) {
         if (id == null || roleDetails == null) {
             throw new IllegalArgumentException("ID and role details cannot be null");
@@ -83,6 +86,7 @@ public class RoleServiceImpl implements RoleService {
     }
 
     @Override
+    @CacheEvict(cacheNames = { CacheNames.USER_ACCOUNTS, CacheNames.ROLE_PERMISSIONS }, allEntries = true)
     public void delete(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
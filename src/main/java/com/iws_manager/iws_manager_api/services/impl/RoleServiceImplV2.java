@@ -1,5 +1,6 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import com.iws_manager.iws_manager_api.dtos.role.CreateRoleDTO;
 import com.iws_manager.iws_manager_api.mappers.RoleMapper;
 import com.iws_manager.iws_manager_api.models.Role;
@@ -10,6 +11,7 @@ import com.iws_manager.iws_manager_api.services.interfaces.RoleServiceV2;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -54,6 +56,7 @@ public class RoleServiceImplV2 implements RoleServiceV2 {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.USER_ACCOUNTS, allEntries = true)
     @Transactional
     public Role update(Long id, CreateRoleDTO dto) {
         return roleRepository.findById(id)
@@ -65,6 +68,7 @@ public class RoleServiceImplV2 implements RoleServiceV2 {
     }
 
     @Override
+    @CacheEvict(cacheNames = { CacheNames.USER_ACCOUNTS, CacheNames.ROLE_PERMISSIONS }, allEntries = true)
     public void delete(Long id) {
         validateIdNotNull(id);
         roleRepository.deleteById(id);
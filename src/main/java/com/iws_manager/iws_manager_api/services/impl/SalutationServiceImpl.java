@@ -5,9 +5,13 @@ import java.util.Optional;
 
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import com.iws_manager.iws_manager_api.models.Salutation;
 import com.iws_manager.iws_manager_api.repositories.SalutationRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.SalutationService;
@@ -21,6 +25,7 @@ import com.iws_manager.iws_manager_api.services.interfaces.SalutationService;
  */
 @Service
 @Transactional
+@CacheConfig(cacheNames = CacheNames.SALUTATIONS)
 public class SalutationServiceImpl implements SalutationService {
 
     private final SalutationRepository salutationRepository;
@@ -43,6 +48,7 @@ public class SalutationServiceImpl implements SalutationService {
      * @throws IllegalArgumentException if the salutation parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public Salutation create(Salutation salutation) {
         if (salutation == null) {
             throw new IllegalArgumentException("Salutation cannot be null");
@@ -59,6 +65,7 @@ public class SalutationServiceImpl implements SalutationService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = "#id", condition = "#id != null")
     public Optional<Salutation> findById(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -73,6 +80,7 @@ public class SalutationServiceImpl implements SalutationService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = CacheNames.ALL)
     public List<Salutation> findAll() {
         return salutationRepository.findAllByOrderByNameAsc();
     }
@@ -87,6 +95,7 @@ public class SalutationServiceImpl implements SalutationService {
      * @throws IllegalArgumentException if either parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public Salutation update(Long id, Salutation salutationDetails) {
         if (id == null || salutationDetails == null) {
             throw new IllegalArgumentException("ID and salutation details cannot be null");
@@ -107,6 +116,7 @@ public class SalutationServiceImpl implements SalutationService {
      * @throws IllegalArgumentException if the id parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public void delete(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -1,9 +1,13 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import com.iws_manager.iws_manager_api.models.State;
 import com.iws_manager.iws_manager_api.repositories.StateRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.StateService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import jakarta.persistence.EntityNotFoundException;
@@ -20,6 +24,7 @@ import java.util.Optional;
  */
 @Service
 @Transactional
+@CacheConfig(cacheNames = CacheNames.STATES)
 public class StateServiceImpl implements StateService {
 
     private final StateRepository stateRepository;
@@ -42,6 +47,7 @@ public class StateServiceImpl implements StateService {
      * @throws IllegalArgumentException if the state parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public State create(State state) {
         if (state == null) {
             throw new IllegalArgumentException("State cannot be null");
@@ -58,6 +64,7 @@ public class StateServiceImpl implements StateService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = "#id", condition = "#id != null")
     public Optional<State> findById(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -72,6 +79,7 @@ public class StateServiceImpl implements StateService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = CacheNames.ALL)
     public List<State> findAll() {
         return stateRepository.findAllByOrderByNameAsc();
     }
@@ -86,6 +94,7 @@ public class StateServiceImpl implements StateService {
      * @throws IllegalArgumentException if either parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public State update(Long id, State stateDetails) {
         if (id == null || stateDetails == null) {
             throw new IllegalArgumentException("ID and state details cannot be null");
@@ -106,6 +115,7 @@ public class StateServiceImpl implements StateService {
      * @throws IllegalArgumentException if the id parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public void delete(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
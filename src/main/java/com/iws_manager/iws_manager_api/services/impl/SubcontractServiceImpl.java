@@ -1,6 +1,5 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -170,42 +169,57 @@ public class SubcontractServiceImpl implements SubcontractService {
         Subcontract saved = update(id, changes);
 
         // 🔹 Luego recalculemos con el estado guardado en BD
-        recalculateSubcontractProjects(saved.getId());
+        recalculate(saved.getId(), null, null);
 
-        // 🔹 Retornamos el Subcontract recalculado (opcional: recargar de BD)
-        return saved;
+        // 🔹 Retornamos el Subcontract recalculado, recargado de BD
+        return subcontractRepository.findById(id).orElse(saved);
     }
 
     @Override
     public List<SubcontractProject> recalculateSubcontractProjects(Long subcontractId) {
-        Subcontract subcontract = subcontractRepository.findById(subcontractId)
-                .orElseThrow(() -> new RuntimeException("Subcontract not found with id: " + subcontractId));
-
-        List<SubcontractProject> projects = subcontractProjectRepository.findBySubcontractIdOrdered(subcontractId);
-
-        if (Boolean.TRUE.equals(subcontract.getNetOrGross())) {
-            // Case: netOrGross = true → invoiceNet se mantiene, invoiceGross = 0 y projects.amount = 0
-            subcontract.setInvoiceGross(BigDecimal.ZERO);
-
-            for (SubcontractProject project : projects) {
-                project.setAmount(BigDecimal.ZERO);
-            }
-        } else {
-            // Case: netOrGross = false → recalculate with invoiceGross * share
-            BigDecimal invoiceGross = subcontract.getInvoiceGross() != null
-                    ? subcontract.getInvoiceGross()
-                    : BigDecimal.ZERO;
-
-            for (SubcontractProject project : projects) {
-                BigDecimal share = project.getShare() != null ? project.getShare() : BigDecimal.ZERO;
-                BigDecimal shareDecimal = share.divide(BigDecimal.valueOf(100));
-                project.setAmount(invoiceGross.multiply(shareDecimal));
-            }
+        if (subcontractId == null) {
+            throw new IllegalArgumentException("Subcontract ID cannot be null");
         }
+        if (!subcontractRepository.existsById(subcontractId)) {
+            throw new EntityNotFoundException("Subcontract not found with id: " + subcontractId);
+        }
+
+        recalculate(subcontractId, null, null);
+        return subcontractProjectRepository.findBySubcontractIdOrdered(subcontractId);
+    }
+
+    @Override
+    public int recalculateByCustomerId(Long customerId) {
+        if (customerId == null) {
+            throw new IllegalArgumentException("Customer ID cannot be null");
+        }
+        return recalculate(null, customerId, null);
+    }
+
+    @Override
+    public int recalculateByProjectCostCenterId(Long projectCostCenterId) {
+        if (projectCostCenterId == null) {
+            throw new IllegalArgumentException("ProjectCostCenter ID cannot be null");
+        }
+        return recalculate(null, null, projectCostCenterId);
+    }
 
-        subcontractRepository.save(subcontract);
-        subcontractProjectRepository.saveAll(projects);
+    @Override
+    public int recalculateAll() {
+        return recalculate(null, null, null);
+    }
 
-        return projects;
-    }   
-}
\ No newline at end of file
+    /**
+     * Recalculates the project amounts of all subcontracts in scope with two
+     * set-based statements; rows whose amount does not change are not
+     * written, so their version stays the same.
+     *
+     * @return the number of SubcontractProject rows whose amount changed
+     */
+    private int recalculate(Long subcontractId, Long customerId, Long projectCostCenterId) {
+        // netOrGross = true → invoiceNet se mantiene, invoiceGross = 0 y projects.amount = 0
+        subcontractRepository.clearInvoiceGrossOfNetSubcontracts(subcontractId, customerId, projectCostCenterId);
+        // netOrGross = false → amount = invoiceGross * share / 100
+        return subcontractProjectRepository.recalculateAmounts(subcontractId, customerId, projectCostCenterId);
+    }
+}
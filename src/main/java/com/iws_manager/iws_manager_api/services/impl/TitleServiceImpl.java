@@ -4,9 +4,13 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import com.iws_manager.iws_manager_api.models.Title;
 import com.iws_manager.iws_manager_api.repositories.TitleRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.TitleService;
@@ -21,6 +25,7 @@ import jakarta.persistence.EntityNotFoundException;
  */
 @Service
 @Transactional
+@CacheConfig(cacheNames = CacheNames.TITLES)
 public class TitleServiceImpl implements TitleService {
 
     private final TitleRepository titleRepository;
@@ -43,6 +48,7 @@ public class TitleServiceImpl implements TitleService {
      * @throws IllegalArgumentException if the title parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public Title create(Title title) {
         if (title == null) {
             throw new IllegalArgumentException("Title cannot be null");
@@ -59,6 +65,7 @@ public class TitleServiceImpl implements TitleService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = "#id", condition = "#id != null")
     public Optional<Title> findById(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -73,6 +80,7 @@ public class TitleServiceImpl implements TitleService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = CacheNames.ALL)
     public List<Title> findAll() {
         return titleRepository.findAllByOrderByNameAsc();
     }
@@ -87,6 +95,7 @@ public class TitleServiceImpl implements TitleService {
      * @throws IllegalArgumentException if either parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public Title update(Long id, Title titleDetails) {
         if (id == null || titleDetails == null) {
             throw new IllegalArgumentException("ID and title details cannot be null");
@@ -107,6 +116,7 @@ public class TitleServiceImpl implements TitleService {
      * @throws IllegalArgumentException if the id parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public void delete(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
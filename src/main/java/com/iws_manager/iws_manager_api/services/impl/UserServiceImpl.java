@@ -1,5 +1,6 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import com.iws_manager.iws_manager_api.models.Role;
 import com.iws_manager.iws_manager_api.models.User;
 import com.iws_manager.iws_manager_api.repositories.RoleRepository;
@@ -7,6 +8,7 @@ import com.iws_manager.iws_manager_api.repositories.UserRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -32,6 +34,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.USER_ACCOUNTS, allEntries = true)
     public User create(User user) {
         if (user == null) {
             throw new IllegalArgumentException("User cannot be null");
@@ -63,6 +66,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.USER_ACCOUNTS, allEntries = true)
     public User update(Long id, User userDetails) {
         if (id == null || userDetails == null) {
             throw new IllegalArgumentException("Id and user details cannot be null");
@@ -90,6 +94,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.USER_ACCOUNTS, allEntries = true)
     public void delete(Long id) {
         int roleCount = roleRepository.findByUserId(id).size();
 
@@ -110,6 +115,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.USER_ACCOUNTS, allEntries = true)
     public User assignRole(Long userId, List<Long> roleIds) {
         User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException(USERNOTFOUND));
         List<Role> roles = roleRepository.findAllById(roleIds);
@@ -1,5 +1,6 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import com.iws_manager.iws_manager_api.dtos.role.RoleDTO;
 import com.iws_manager.iws_manager_api.dtos.user.CreateUserDTO;
 import com.iws_manager.iws_manager_api.dtos.user.UpdateUserDTO;
@@ -11,6 +12,7 @@ import com.iws_manager.iws_manager_api.repositories.UserRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.UserServiceV2;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.http.HttpStatus;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -32,6 +34,7 @@ public class UserServiceImplV2 implements UserServiceV2 {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.USER_ACCOUNTS, allEntries = true)
     @Transactional
     public User create(CreateUserDTO dto) {
         User user = UserMapper.toEntity(dto);
@@ -54,6 +57,7 @@ public class UserServiceImplV2 implements UserServiceV2 {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.USER_ACCOUNTS, allEntries = true)
     @Transactional
     public User update(Long id, UpdateUserDTO dto) {
         return userRepository.findById(id)
@@ -65,6 +69,7 @@ public class UserServiceImplV2 implements UserServiceV2 {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.USER_ACCOUNTS, allEntries = true)
     public void delete(Long id) {
         validateIdNotNull(id);
 
@@ -80,6 +85,7 @@ public class UserServiceImplV2 implements UserServiceV2 {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.USER_ACCOUNTS, allEntries = true)
     public User assignRole(Long userId, List<Long> roleIds) {
         User user = findUserById(userId);
         List<Role> roles = roleRepository.findAllById(roleIds);
@@ -4,9 +4,13 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import com.iws_manager.iws_manager_api.models.VatRate;
 import com.iws_manager.iws_manager_api.repositories.VatRateRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.VatRateService;
@@ -22,6 +26,7 @@ import jakarta.persistence.EntityNotFoundException;
  */
 @Service
 @Transactional
+@CacheConfig(cacheNames = CacheNames.VAT_RATES)
 public class VatRateServiceImpl implements VatRateService {
 
     private final VatRateRepository vatRateRepository;
@@ -44,6 +49,7 @@ public class VatRateServiceImpl implements VatRateService {
      * @throws IllegalArgumentException if the VatRate parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public VatRate create(VatRate vatRate) {
         if (vatRate == null) {
             throw new IllegalArgumentException("VatRate cannot be null");
@@ -74,6 +80,7 @@ public class VatRateServiceImpl implements VatRateService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = CacheNames.ALL)
     public List<VatRate> findAll() {
         return vatRateRepository.findAllByOrderByFromdateAsc();
     }
@@ -88,6 +95,7 @@ public class VatRateServiceImpl implements VatRateService {
      * @throws IllegalArgumentException if either parameter is null
      */
     @Override
+    @CacheEvict(allEntries = true)
     public VatRate update(Long id, VatRate vatRateDetails) {
         if (id == null || vatRateDetails == null) {
             throw new IllegalArgumentException("ID and VatRate details cannot be null");
@@ -111,6 +119,7 @@ public class VatRateServiceImpl implements VatRateService {
      * @throws EntityNotFoundException if no VatRate exists with the given ID
      */
     @Override
+    @CacheEvict(allEntries = true)
     public void delete(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -131,6 +140,7 @@ public class VatRateServiceImpl implements VatRateService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = "'vat:' + #vatId", condition = "#vatId != null")
     public List<VatRate> getByVatId(Long vatId) {
         if (vatId == null) {
             throw new IllegalArgumentException("VAT ID cannot be null");
@@ -4,9 +4,13 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.iws_manager.iws_manager_api.config.CacheNames;
 import com.iws_manager.iws_manager_api.models.Vat;
 import com.iws_manager.iws_manager_api.repositories.VatRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.VatService;
@@ -21,6 +25,7 @@ import jakarta.persistence.EntityNotFoundException;
  */
 @Service
 @Transactional
+@CacheConfig(cacheNames = CacheNames.VATS)
 public class VatServiceImpl implements VatService {
 
     private final VatRepository vatRepository;
@@ -43,6 +48,7 @@ public class VatServiceImpl implements VatService {
      * @throws IllegalArgumentException if the Vat parameter is null
      */
     @Override
+    @CacheEvict(cacheNames = { CacheNames.VATS, CacheNames.VAT_RATES }, allEntries = true)
     public Vat create(Vat vat) {
         if (vat == null) {
             throw new IllegalArgumentException("Vat cannot be null");
@@ -59,6 +65,7 @@ public class VatServiceImpl implements VatService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = "#id", condition = "#id != null")
     public Optional<Vat> findById(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -73,6 +80,7 @@ public class VatServiceImpl implements VatService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(key = CacheNames.ALL)
     public List<Vat> findAll() {
         return vatRepository.findAllByOrderByLabelAsc();
     }
@@ -87,6 +95,7 @@ public class VatServiceImpl implements VatService {
      * @throws IllegalArgumentException if either parameter is null
      */
     @Override
+    @CacheEvict(cacheNames = { CacheNames.VATS, CacheNames.VAT_RATES }, allEntries = true)
     public Vat update(Long id, Vat vatDetails) {
         if (id == null || vatDetails == null) {
             throw new IllegalArgumentException("ID and VAT details cannot be null");
@@ -107,6 +116,7 @@ public class VatServiceImpl implements VatService {
      * @throws IllegalArgumentException if the id parameter is null
      */
     @Override
+    @CacheEvict(cacheNames = { CacheNames.VATS, CacheNames.VAT_RATES }, allEntries = true)
     public void delete(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
@@ -1,5 +1,6 @@
 package com.iws_manager.iws_manager_api.services.interfaces;
 
+import com.iws_manager.iws_manager_api.dtos.absenceday.AbsenceDayBulkResultDTO;
 import com.iws_manager.iws_manager_api.dtos.absenceday.AbsenceDayFilterDTO;
 import com.iws_manager.iws_manager_api.dtos.absenceday.AbsenceDayRequestDTO;
 import com.iws_manager.iws_manager_api.models.AbsenceDay;
@@ -25,5 +26,5 @@ public interface AbsenceDayServiceV2 {
     List<AbsenceDay> filter(AbsenceDayFilterDTO filterDTO);
 
     List<Object[]> countAbsenceDaysByTypeForEmployeeAndYear(Long employeeId, int year);
-    List<AbsenceDay> createBulkFromDTO(List<AbsenceDayRequestDTO> requestDTOs);
+    AbsenceDayBulkResultDTO createBulkFromDTO(List<AbsenceDayRequestDTO> requestDTOs);
 }
\ No newline at end of file
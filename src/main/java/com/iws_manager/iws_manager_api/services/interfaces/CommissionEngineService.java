@@ -0,0 +1,32 @@
+package com.iws_manager.iws_manager_api.services.interfaces;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+import com.iws_manager.iws_manager_api.dtos.commission.CommissionResultDTO;
+import com.iws_manager.iws_manager_api.dtos.commission.CommissionTierTable;
+
+/**
+ * Evaluates the commission tiers of orders and basic contracts on the
+ * server. Tier tables are compiled once and cached until a tier is written.
+ */
+public interface CommissionEngineService {
+
+    CommissionTierTable getBasicContractTiers(Long basicContractId);
+
+    /**
+     * Returns the order's own tiers, or its basic contract's if it has none.
+     */
+    CommissionTierTable getOrderTiers(Long orderId);
+
+    CommissionResultDTO calculateForBasicContract(Long basicContractId, BigDecimal orderValue);
+
+    CommissionResultDTO calculateForOrder(Long orderId);
+
+    /**
+     * Calculates the commissions of many orders with a fixed number of
+     * queries. Results keep the order of the ids; unknown ids are skipped.
+     */
+    List<CommissionResultDTO> calculateForOrders(Collection<Long> orderIds);
+}
@@ -0,0 +1,42 @@
+package com.iws_manager.iws_manager_api.services.interfaces;
+
+import java.util.Collection;
+
+/**
+ * Copies commission tiers down the template chain with set-based statements:
+ * {@code IwsCommission} to the {@code ContractOrderCommission}s of a basic
+ * contract, and those to the {@code OrderCommission}s of an order.
+ */
+public interface CommissionTemplateService {
+
+    /**
+     * Gives a new basic contract a copy of the IWS commission tiers.
+     *
+     * @return the number of tiers created
+     */
+    int cloneForBasicContract(Long basicContractId);
+
+    /**
+     * Gives a new order a copy of its basic contract's tiers, or of the IWS
+     * tiers if it has no basic contract.
+     *
+     * @return the number of tiers created
+     */
+    int cloneForOrder(Long orderId, Long basicContractId);
+
+    /**
+     * Replaces the tiers of the given basic contracts with the current IWS
+     * tiers. Existing order tiers are left as they were negotiated.
+     *
+     * @return the number of tiers created
+     * @throws IllegalArgumentException if {@code basicContractIds} is null or empty
+     */
+    int recloneBasicContracts(Collection<Long> basicContractIds);
+
+    /**
+     * Replaces the tiers of every basic contract with the current IWS tiers.
+     *
+     * @return the number of tiers created
+     */
+    int recloneAllBasicContracts();
+}
@@ -40,4 +40,10 @@ public interface EmployeeServiceV2 {
 
     // get all employees sorted by fullname (lastname, firstname)
     List<EmployeeNameDTO> getEmployeesByCustomerSortedByName(Long customerId);
+
+    // same as above, cached per customer together with its ETag
+    EmployeeNameList getEmployeeNameListByCustomer(Long customerId);
+
+    // employees of the project's customers sorted by fullname (lastname, firstname)
+    List<EmployeeNameDTO> getEmployeesByProjectSortedByName(Long projectId);
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.iws_manager.iws_manager_api.services.interfaces;
+
+import java.io.OutputStream;
+
+import com.iws_manager.iws_manager_api.dtos.debt.DebtExportCriteria;
+import com.iws_manager.iws_manager_api.dtos.invoice.InvoiceSearchCriteria;
+import com.iws_manager.iws_manager_api.export.ExportFormat;
+
+/**
+ * Streams list exports row by row from a database cursor into the given
+ * output stream. Each method returns the number of data rows written.
+ */
+public interface ExportService {
+
+    long exportInvoices(InvoiceSearchCriteria criteria, ExportFormat format, OutputStream out);
+
+    long exportDebts(DebtExportCriteria criteria, ExportFormat format, OutputStream out);
+
+    long exportOrders(Long customerId, Long projectId, ExportFormat format, OutputStream out);
+
+    long exportProjectCosts(Long projectId, Long projectPeriodId, Byte approveOrPlan, ExportFormat format,
+            OutputStream out);
+}
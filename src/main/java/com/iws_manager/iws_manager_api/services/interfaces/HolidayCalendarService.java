@@ -0,0 +1,12 @@
+package com.iws_manager.iws_manager_api.services.interfaces;
+
+import com.iws_manager.iws_manager_api.services.holiday.HolidayCalendar;
+
+public interface HolidayCalendarService {
+
+    /**
+     * Returns the compiled calendar for the given year and state, building
+     * it on first use. A {@code null} state covers holidays of every state.
+     */
+    HolidayCalendar getCalendar(int year, Long stateId);
+}
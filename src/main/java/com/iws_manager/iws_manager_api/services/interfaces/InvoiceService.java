@@ -1,11 +1,16 @@
 package com.iws_manager.iws_manager_api.services.interfaces;
 
+import com.iws_manager.iws_manager_api.dtos.invoice.InvoiceListItemDTO;
+import com.iws_manager.iws_manager_api.dtos.invoice.InvoiceSearchCriteria;
 import com.iws_manager.iws_manager_api.models.Invoice;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 public interface InvoiceService {
     Invoice create(Invoice invoice);
     Optional<Invoice> findById(Long id);
@@ -99,4 +104,11 @@ public interface InvoiceService {
 
     List<Invoice> getByCustomerIdOrderByInvoiceNoAsc(Long customerId);
 
-}
\ No newline at end of file
+    // LIST PROJECTIONS
+    List<InvoiceListItemDTO> findAllListItems();
+    List<InvoiceListItemDTO> getListItemsByCustomerId(Long customerId);
+    List<InvoiceListItemDTO> getListItemsByOrderId(Long orderId);
+
+    // SEARCH - any combination of filters in one query
+    Page<InvoiceListItemDTO> search(InvoiceSearchCriteria criteria, Pageable pageable);
+}
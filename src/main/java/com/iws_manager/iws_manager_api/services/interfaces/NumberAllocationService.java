@@ -0,0 +1,35 @@
+package com.iws_manager.iws_manager_api.services.interfaces;
+
+import java.util.function.LongSupplier;
+
+import com.iws_manager.iws_manager_api.dtos.numbering.NumberScope;
+
+/**
+ * Hands out business numbers (employee numbers, sequence numbers, period
+ * numbers) from counters instead of {@code MAX() + 1}.
+ * <p>
+ * {@code key} is the customer or project id for keyed scopes and ignored for
+ * global ones. {@code seed} returns the first free number of the existing
+ * data and is only called once, when the counter for a scope and key does not
+ * exist yet.
+ */
+public interface NumberAllocationService {
+
+    /**
+     * Reserves the next number; it is never handed out again, even if the
+     * caller's transaction rolls back.
+     */
+    long next(NumberScope scope, Long key, LongSupplier seed);
+
+    /**
+     * Returns the number {@link #next} would most likely return, without
+     * reserving it.
+     */
+    long peek(NumberScope scope, Long key, LongSupplier seed);
+
+    /**
+     * Records that {@code value} was assigned explicitly, so the counter never
+     * hands it out.
+     */
+    void advancePast(NumberScope scope, Long key, long value, LongSupplier seed);
+}
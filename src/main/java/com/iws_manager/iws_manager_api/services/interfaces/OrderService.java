@@ -5,6 +5,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import com.iws_manager.iws_manager_api.dtos.order.OrderListItemDTO;
 import com.iws_manager.iws_manager_api.models.Order;
 
 public interface OrderService {
@@ -55,4 +56,9 @@ public interface OrderService {
     List<Order> getByApprovalDateBetween(LocalDate start, LocalDate end);
     List<Order> getByApprovalDateIsNull();
     List<Order> getByApprovalDateIsNotNull();
+
+    // LIST PROJECTIONS
+    List<OrderListItemDTO> findAllListItems();
+    List<OrderListItemDTO> getListItemsByCustomerId(Long customerId);
+    List<OrderListItemDTO> getListItemsByProjectId(Long projectId);
 }
@@ -0,0 +1,36 @@
+package com.iws_manager.iws_manager_api.services.interfaces;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.iws_manager.iws_manager_api.dtos.pdf.PdfDocumentInfo;
+import com.iws_manager.iws_manager_api.dtos.pdf.PdfDocumentType;
+
+public interface PdfDocumentService {
+
+    PdfDocumentInfo getInfo(PdfDocumentType type, Long ownerId);
+
+    void copyTo(PdfDocumentType type, Long ownerId, long offset, long length, OutputStream out);
+
+    /**
+     * Reads the metadata and the content of a PDF in one read-only
+     * transaction, so the bytes copied by the handler belong to the version
+     * it was given.
+     */
+    void download(PdfDocumentType type, Long ownerId, DownloadHandler handler) throws IOException;
+
+    PdfDocumentInfo store(PdfDocumentType type, Long ownerId, InputStream content, long length);
+
+    void delete(PdfDocumentType type, Long ownerId);
+
+    @FunctionalInterface
+    interface DownloadHandler {
+        void handle(PdfDocumentInfo info, Content content) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface Content {
+        void copyTo(long offset, long length, OutputStream out);
+    }
+}
@@ -4,6 +4,11 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.iws_manager.iws_manager_api.dtos.projectcost.ProjectCostBulkResultDTO;
+import com.iws_manager.iws_manager_api.dtos.projectcost.ProjectCostEntryDTO;
 import com.iws_manager.iws_manager_api.models.ProjectCost;
 
 public interface ProjectCostService {
@@ -101,10 +106,16 @@ public interface ProjectCostService {
     // Range operations
     List<ProjectCost> getByCostsGreaterThan(BigDecimal amount);
 
+    Page<ProjectCost> getByCostsGreaterThan(BigDecimal amount, Pageable pageable);
+
     List<ProjectCost> getByCostsLessThan(BigDecimal amount);
 
+    Page<ProjectCost> getByCostsLessThan(BigDecimal amount, Pageable pageable);
+
     List<ProjectCost> getByCostsBetween(BigDecimal minAmount, BigDecimal maxAmount);
 
+    Page<ProjectCost> getByCostsBetween(BigDecimal minAmount, BigDecimal maxAmount, Pageable pageable);
+
     // Validation and business logic
     boolean validateProjectCost(ProjectCost projectCost);
 
@@ -117,6 +128,18 @@ public interface ProjectCostService {
 
     void deleteByProjectPeriodId(Long projectPeriodId);
 
+    // Set-based bulk operations reporting affected-row counts
+    ProjectCostBulkResultDTO deleteAllByProjectId(Long projectId);
+
+    ProjectCostBulkResultDTO deleteAllByProjectPeriodId(Long projectPeriodId);
+
+    ProjectCostBulkResultDTO replaceProjectCosts(Long projectId, List<ProjectCostEntryDTO> entries);
+
+    ProjectCostBulkResultDTO replacePeriodCosts(Long projectId, Long projectPeriodId,
+            List<ProjectCostEntryDTO> entries);
+
+    ProjectCostBulkResultDTO upsertCostMatrix(Long projectId, List<ProjectCostEntryDTO> entries);
+
     // Utility methods
     Long getMaxId();
 
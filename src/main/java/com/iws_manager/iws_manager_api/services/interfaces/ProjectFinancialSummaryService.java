@@ -0,0 +1,8 @@
+package com.iws_manager.iws_manager_api.services.interfaces;
+
+import com.iws_manager.iws_manager_api.dtos.project.ProjectFinancialSummaryDTO;
+
+public interface ProjectFinancialSummaryService {
+
+    ProjectFinancialSummaryDTO getSummaryByProject(Long projectId);
+}
@@ -2,6 +2,10 @@ package com.iws_manager.iws_manager_api.services.interfaces;
 
 import com.iws_manager.iws_manager_api.dtos.project.ProjectResponseDTO;
 import com.iws_manager.iws_manager_api.dtos.project.ProjectRequestDTO;
+import com.iws_manager.iws_manager_api.dtos.project.ProjectPageDTO;
+import com.iws_manager.iws_manager_api.dtos.project.ProjectSortField;
+import com.iws_manager.iws_manager_api.dtos.project.ProjectSummaryDTO;
+import org.springframework.data.domain.Sort;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -16,6 +20,13 @@ public interface ProjectServiceV2 {
 
     List<ProjectResponseDTO> findAll();
 
+    List<ProjectSummaryDTO> findAllSummaries();
+
+    // Keyset Pagination
+    ProjectPageDTO findPage(String cursor, Integer size, ProjectSortField sortBy, Sort.Direction direction);
+
+    long countAll();
+
     ProjectResponseDTO update(Long id, ProjectRequestDTO projectDetails);
 
     void delete(Long id);
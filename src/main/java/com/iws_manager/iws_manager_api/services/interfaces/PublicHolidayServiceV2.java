@@ -43,4 +43,8 @@ public interface PublicHolidayServiceV2 {
     List<SimpleHolidayDTO> getDatabaseHolidays(Integer year, Long stateId);
 
     List<SimpleHolidayDTO> getDatabaseHolidaysInRange(LocalDate startDate, LocalDate endDate, Long stateId);
-}
\ No newline at end of file
+
+    boolean isHoliday(LocalDate date, Long stateId);
+
+    long countWorkingDays(LocalDate startDate, LocalDate endDate, Long stateId);
+}
@@ -1,5 +1,7 @@
 package com.iws_manager.iws_manager_api.services.interfaces;
 
+import com.iws_manager.iws_manager_api.dtos.role.RoleRightMatrixDTO;
+import com.iws_manager.iws_manager_api.dtos.role.RoleRightMatrixResultDTO;
 import com.iws_manager.iws_manager_api.models.RoleRight;
 
 import java.util.List;
@@ -13,4 +15,10 @@ public interface RoleRightService {
     void delete(Long id);
     List<RoleRight> getRightRolesByModuleId(Long moduleId, Long roleId);
     List<RoleRight> saveAll(List<RoleRight> rights);
+
+    /**
+     * Applies a role-rights matrix as a diff: only new, changed and removed
+     * cells are written.
+     */
+    RoleRightMatrixResultDTO saveMatrix(RoleRightMatrixDTO matrix);
 }
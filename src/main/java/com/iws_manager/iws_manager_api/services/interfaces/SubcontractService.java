@@ -22,4 +22,9 @@ public interface SubcontractService {
     //calculation of amount
     List<SubcontractProject> recalculateSubcontractProjects(Long subcontractId);
     Subcontract updateAndRecalculate(Long id, Subcontract changes);
+
+    // set-based recalculation of many subcontracts, returning the number of changed amounts
+    int recalculateByCustomerId(Long customerId);
+    int recalculateByProjectCostCenterId(Long projectCostCenterId);
+    int recalculateAll();
 }
@@ -0,0 +1,39 @@
+package com.iws_manager.iws_manager_api.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.iws_manager.iws_manager_api.models.base.BaseEntity;
+
+/**
+ * Marks a GET endpoint whose response only changes when rows of the given
+ * entities change, so {@link ConditionalGetInterceptor} can answer
+ * {@code If-None-Match} with {@code 304 Not Modified} before the handler
+ * loads anything.
+ * <p>
+ * The first entity is the root of the response. Every entity embedded in
+ * the response must be listed after it, since changes to those rows are
+ * invisible otherwise; endpoints whose payload reaches further than a few
+ * flat associations should not be annotated.
+ * <p>
+ * Each listed table contributes its row count, last {@code updated_at} and
+ * version sum. With {@link #idVariable()} set, the ETag is built from the
+ * id and optimistic-lock version of that row and the versions of the rows
+ * its to-one associations to the listed entities point to.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConditionalGet {
+
+    Class<? extends BaseEntity>[] value();
+
+    /**
+     * Name of the path variable holding the id of a single resource; empty
+     * for collection endpoints.
+     */
+    String idVariable() default "";
+}
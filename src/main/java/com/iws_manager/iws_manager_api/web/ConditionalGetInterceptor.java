@@ -0,0 +1,125 @@
+package com.iws_manager.iws_manager_api.web;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.iws_manager.iws_manager_api.models.base.BaseEntity;
+import com.iws_manager.iws_manager_api.repositories.EntityVersionRepository;
+import com.iws_manager.iws_manager_api.repositories.EntityVersionRepository.RowVersions;
+import com.iws_manager.iws_manager_api.repositories.EntityVersionRepository.TableState;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Handles {@link ConditionalGet} endpoints: computes the ETag and answers a
+ * matching {@code If-None-Match} with {@code 304 Not Modified} without
+ * calling the handler. Otherwise the handler runs and the response carries the ETag and
+ * {@code Cache-Control: no-cache, private}, so clients revalidate on every
+ * poll.
+ * <p>
+ * A single resource costs one query by primary key that returns the
+ * versions of the row and of the rows it references. Table aggregates are
+ * only read for collections, and for listed entities the root does not
+ * reference directly.
+ * <p>
+ * Unknown ids are left to the handler, which answers them with its usual
+ * 404.
+ */
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final String NO_CACHE = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private final EntityVersionRepository entityVersionRepository;
+
+    public ConditionalGetInterceptor(EntityVersionRepository entityVersionRepository) {
+        this.entityVersionRepository = entityVersionRepository;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !(HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod()))) {
+            return true;
+        }
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null) {
+            return true;
+        }
+        Optional<String> eTag = conditionalGet.idVariable().isEmpty()
+                ? Optional.of(collectionETag(conditionalGet.value()))
+                : resourceETag(conditionalGet, request);
+        if (eTag.isEmpty()) {
+            return true;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, NO_CACHE);
+        return !new ServletWebRequest(request, response).checkNotModified(eTag.get());
+    }
+
+    private Optional<String> resourceETag(ConditionalGet conditionalGet, HttpServletRequest request) {
+        Long id = pathId(request, conditionalGet.idVariable());
+        if (id == null) {
+            return Optional.empty();
+        }
+        Class<? extends BaseEntity>[] types = conditionalGet.value();
+        List<Class<? extends BaseEntity>> embeddedTypes = List.of(types).subList(1, types.length);
+        Optional<RowVersions> rowVersions = entityVersionRepository.findRowVersions(types[0], id, embeddedTypes);
+        if (rowVersions.isEmpty()) {
+            return Optional.empty();
+        }
+        List<Integer> versions = rowVersions.get().versions();
+        StringBuilder eTag = new StringBuilder("\"").append(types[0].getSimpleName().toLowerCase())
+                .append('-').append(id).append('-').append(versions.get(0));
+        for (Integer version : versions.subList(1, versions.size())) {
+            eTag.append('.').append(version == null ? "0" : version.toString());
+        }
+        for (Class<? extends BaseEntity> type : embeddedTypes) {
+            if (!rowVersions.get().joinedTypes().contains(type)) {
+                appendTableState(eTag.append('.'), type);
+            }
+        }
+        return Optional.of(eTag.append('"').toString());
+    }
+
+    private String collectionETag(Class<? extends BaseEntity>[] types) {
+        StringBuilder eTag = new StringBuilder("\"");
+        for (Class<? extends BaseEntity> type : types) {
+            if (eTag.length() > 1) {
+                eTag.append('.');
+            }
+            appendTableState(eTag, type);
+        }
+        return eTag.append('"').toString();
+    }
+
+    private void appendTableState(StringBuilder eTag, Class<? extends BaseEntity> type) {
+        TableState state = entityVersionRepository.findTableState(type);
+        eTag.append(type.getSimpleName().toLowerCase()).append('-').append(state.count()).append('-')
+                .append(state.lastUpdated() == null ? "0" : state.lastUpdated().toString().replace(':', '_'))
+                .append('-').append(state.versionSum());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Long pathId(HttpServletRequest request, String name) {
+        Map<String, String> variables = (Map<String, String>) request
+                .getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String value = variables == null ? null : variables.get(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.iws_manager.iws_manager_api.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.iws_manager.iws_manager_api.models.base.BaseEntity;
+
+/**
+ * Marks a controller (or a single handler) whose responses are entities
+ * serialized with all their associations.
+ * <p>
+ * Transactions started while such a handler runs enable the
+ * {@link BaseEntity#RESPONSE_FETCH_PROFILE} fetch profile, so the
+ * associations the entities serialize are loaded with the entities, in
+ * batches, before the transaction ends. Handlers that map to DTOs inside
+ * the service should not be annotated; their repositories' entity graphs
+ * are their fetch plan.
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface EntityResponse {
+}
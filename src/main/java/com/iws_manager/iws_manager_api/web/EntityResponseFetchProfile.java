@@ -0,0 +1,41 @@
+package com.iws_manager.iws_manager_api.web;
+
+import java.util.function.Consumer;
+
+import org.hibernate.Session;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.iws_manager.iws_manager_api.models.base.BaseEntity;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Enables {@link BaseEntity#RESPONSE_FETCH_PROFILE} on the entity manager of
+ * every transaction that starts while an {@link EntityResponse} handler
+ * runs. Other requests, logins and background jobs keep the plain lazy
+ * mappings and their repositories' entity graphs.
+ */
+public class EntityResponseFetchProfile implements Consumer<EntityManager> {
+
+    @Override
+    public void accept(EntityManager entityManager) {
+        if (isEntityResponse(RequestContextHolder.getRequestAttributes())) {
+            entityManager.unwrap(Session.class).enableFetchProfile(BaseEntity.RESPONSE_FETCH_PROFILE);
+        }
+    }
+
+    static boolean isEntityResponse(RequestAttributes requestAttributes) {
+        if (requestAttributes == null) {
+            return false;
+        }
+        Object handler = requestAttributes.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        return handler instanceof HandlerMethod handlerMethod
+                && (handlerMethod.hasMethodAnnotation(EntityResponse.class)
+                        || AnnotatedElementUtils.hasAnnotation(handlerMethod.getBeanType(), EntityResponse.class));
+    }
+}
@@ -0,0 +1,67 @@
+package com.iws_manager.iws_manager_api.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.iws_manager.iws_manager_api.models.Title;
+import com.iws_manager.iws_manager_api.repositories.TitleRepository;
+
+/**
+ * Measures a 10k-row {@code saveAll} + flush against the configured MariaDB
+ * database. Subclasses pick the id strategy; compare their output with
+ * {@code ./gradlew benchmark}. Every run is rolled back.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "DB_URL", matches = ".+")
+abstract class BulkInsertBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int WARMUP_ROWS = 500;
+
+    @Autowired
+    private TitleRepository titleRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void insertTenThousandRows() {
+        insertAndRollback(WARMUP_ROWS);
+
+        long start = System.nanoTime();
+        int inserted = insertAndRollback(ROWS);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(ROWS, inserted);
+        System.out.printf("%s: %d rows in %d ms (%.0f rows/s)%n", getClass().getSimpleName(), ROWS,
+                elapsedMillis, ROWS * 1000.0 / Math.max(elapsedMillis, 1));
+    }
+
+    private int insertAndRollback(int rows) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        Integer inserted = template.execute(status -> {
+            List<Title> titles = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                Title title = new Title();
+                title.setName("benchmark-" + i);
+                titles.add(title);
+            }
+            int saved = titleRepository.saveAll(titles).size();
+            titleRepository.flush();
+            status.setRollbackOnly();
+            return saved;
+        });
+        return inserted != null ? inserted : 0;
+    }
+}
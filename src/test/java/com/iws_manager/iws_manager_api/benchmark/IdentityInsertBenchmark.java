@@ -0,0 +1,7 @@
+package com.iws_manager.iws_manager_api.benchmark;
+
+/**
+ * Baseline: IDENTITY ids, one INSERT round-trip per row.
+ */
+class IdentityInsertBenchmark extends BulkInsertBenchmark {
+}
@@ -0,0 +1,10 @@
+package com.iws_manager.iws_manager_api.benchmark;
+
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Pooled table ids, inserts sent in JDBC batches of hibernate.jdbc.batch_size.
+ */
+@ActiveProfiles("pooled-ids")
+class PooledIdInsertBenchmark extends BulkInsertBenchmark {
+}
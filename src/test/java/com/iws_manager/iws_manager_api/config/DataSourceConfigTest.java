@@ -0,0 +1,68 @@
+package com.iws_manager.iws_manager_api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+class DataSourceConfigTest {
+
+    private final DataSourceConfig dataSourceConfig = new DataSourceConfig();
+
+    private DataSourceProperties properties;
+    private MockEnvironment environment;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DataSourceProperties();
+        properties.setUrl("jdbc:mariadb://localhost:3306/iws");
+        properties.setUsername("iws");
+        properties.setDriverClassName("org.mariadb.jdbc.Driver");
+        environment = new MockEnvironment();
+        environment.setProperty(DataSourceConfig.CPU_COUNT_PROPERTY, "4");
+    }
+
+    @Test
+    void defaultPoolSizeShouldBeTwoConnectionsPerCorePlusOne() {
+        assertEquals(9, DataSourceConfig.defaultPoolSize(4));
+        assertEquals(3, DataSourceConfig.defaultPoolSize(0));
+    }
+
+    @Test
+    void poolsShouldUseConnectionSettingsAndCpuDerivedSize() {
+        try (HikariDataSource readWrite = dataSourceConfig.readWriteDataSource(properties, environment);
+                HikariDataSource readOnly = dataSourceConfig.readOnlyDataSource(properties, environment)) {
+            assertEquals("jdbc:mariadb://localhost:3306/iws", readWrite.getJdbcUrl());
+            assertEquals("iws", readWrite.getUsername());
+            assertEquals("iws-rw", readWrite.getPoolName());
+            assertEquals(9, readWrite.getMaximumPoolSize());
+            assertFalse(readWrite.isReadOnly());
+
+            assertEquals("iws-ro", readOnly.getPoolName());
+            assertEquals(9, readOnly.getMaximumPoolSize());
+            assertTrue(readOnly.isReadOnly());
+        }
+    }
+
+    @Test
+    void poolsShouldApplySharedSettingsBeforeTheirOwn() {
+        environment.setProperty("app.datasource.hikari.data-source-properties.cachePrepStmts", "true");
+        environment.setProperty("app.datasource.hikari.leak-detection-threshold", "30000");
+        environment.setProperty("app.datasource.read-only.leak-detection-threshold", "300000");
+        environment.setProperty("app.datasource.read-only.maximum-pool-size", "4");
+
+        try (HikariDataSource readWrite = dataSourceConfig.readWriteDataSource(properties, environment);
+                HikariDataSource readOnly = dataSourceConfig.readOnlyDataSource(properties, environment)) {
+            assertEquals("true", readWrite.getDataSourceProperties().getProperty("cachePrepStmts"));
+            assertEquals("true", readOnly.getDataSourceProperties().getProperty("cachePrepStmts"));
+            assertEquals(30000, readWrite.getLeakDetectionThreshold());
+            assertEquals(300000, readOnly.getLeakDetectionThreshold());
+            assertEquals(9, readWrite.getMaximumPoolSize());
+            assertEquals(4, readOnly.getMaximumPoolSize());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.iws_manager.iws_manager_api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.function.Consumer;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.iws_manager.iws_manager_api.models.Order;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@ExtendWith(MockitoExtension.class)
+class PooledIdAllocationInitializerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactoryImplementor sessionFactory;
+
+    @Mock
+    private MappingMetamodelImplementor mappingMetamodel;
+
+    @Mock
+    private AbstractEntityPersister orderPersister;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void seedIdAllocationShouldQuoteAlreadyQuotedTableOnce() {
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getMappingMetamodel()).thenReturn(mappingMetamodel);
+        doAnswer(invocation -> {
+            ((Consumer<EntityPersister>) invocation.getArgument(0)).accept(orderPersister);
+            return null;
+        }).when(mappingMetamodel).forEachEntityDescriptor(any());
+        doReturn(Order.class).when(orderPersister).getMappedClass();
+        when(orderPersister.getTableName()).thenReturn("`order`");
+        when(orderPersister.getIdentifierColumnNames()).thenReturn(new String[] { "orderid" });
+        when(jdbcTemplate.queryForObject("SELECT COALESCE(MAX(`orderid`), 0) FROM `order`", Long.class))
+                .thenReturn(120L);
+
+        new PooledIdAllocationInitializer(jdbcTemplate, entityManagerFactory).seedIdAllocation();
+
+        verify(jdbcTemplate).update(startsWith("INSERT INTO " + PooledIdAllocationInitializer.TABLE),
+                eq(PooledIdAllocationInitializer.SEGMENT), eq(120L + PooledIdAllocationInitializer.ALLOCATION_SIZE + 1));
+    }
+
+    @Test
+    void quoteShouldWrapUnquotedAndKeepQuotedNames() {
+        assertEquals("`project`", PooledIdAllocationInitializer.quote("project"));
+        assertEquals("`order`", PooledIdAllocationInitializer.quote("`order`"));
+        assertEquals("`order`", PooledIdAllocationInitializer.quote("\"order\""));
+    }
+}
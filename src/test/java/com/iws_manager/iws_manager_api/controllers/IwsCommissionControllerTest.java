@@ -3,6 +3,7 @@ package com.iws_manager.iws_manager_api.controllers;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.iws_manager.iws_manager_api.models.IwsCommission;
 import com.iws_manager.iws_manager_api.models.State;
+import com.iws_manager.iws_manager_api.services.interfaces.CommissionTemplateService;
 import com.iws_manager.iws_manager_api.services.interfaces.IwsCommissionService;
 import com.iws_manager.iws_manager_api.services.interfaces.StateService;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,6 +26,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -44,6 +46,9 @@ class IwsCommissionControllerTest {
     @Mock
     private IwsCommissionService iwsCommissionService;
 
+    @Mock
+    private CommissionTemplateService commissionTemplateService;
+
     @InjectMocks
     private IwsCommissionController iwsCommissionController;
 
@@ -163,4 +168,40 @@ class IwsCommissionControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath(commission1).value(commission));
     }
-}
\ No newline at end of file
+
+    @Test
+    void recloneBasicContractsShouldReturnCreatedTiers() throws Exception {
+        when(commissionTemplateService.recloneBasicContracts(List.of(1L, 2L))).thenReturn(6);
+
+        mockMvc.perform(post(uri + "/reclone")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[1, 2]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(6));
+    }
+
+    @Test
+    void recloneAllBasicContractsShouldRequireExplicitFlag() throws Exception {
+        when(commissionTemplateService.recloneAllBasicContracts()).thenReturn(9);
+
+        mockMvc.perform(post(uri + "/reclone").param("all", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(9));
+    }
+
+    @Test
+    void recloneWithoutIdsOrFlagShouldBeRejected() throws Exception {
+        mockMvc.perform(post(uri + "/reclone"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post(uri + "/reclone")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post(uri + "/reclone").param("all", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[1]"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(commissionTemplateService);
+    }
+}
@@ -1,5 +1,7 @@
 package com.iws_manager.iws_manager_api.controllers;
 
+import com.iws_manager.iws_manager_api.dtos.projectcost.ProjectCostBulkResultDTO;
+import com.iws_manager.iws_manager_api.dtos.projectcost.ProjectCostEntryDTO;
 import com.iws_manager.iws_manager_api.models.ProjectCost;
 import com.iws_manager.iws_manager_api.services.interfaces.ProjectCostService;
 import jakarta.persistence.EntityNotFoundException;
@@ -661,6 +663,30 @@ class ProjectCostControllerTest {
         verify(projectCostService, times(1)).deleteByProjectPeriodId(PROJECT_PERIOD_ID);
     }
 
+    @Test
+    void upsertCostMatrixReturnsAffectedRows() {
+        List<ProjectCostEntryDTO> entries = List.of(
+                new ProjectCostEntryDTO(PROJECT_PERIOD_ID, (byte) 1, new BigDecimal("100.00")));
+        ProjectCostBulkResultDTO result = new ProjectCostBulkResultDTO(1, 0, 1, 0, 0);
+        when(projectCostService.upsertCostMatrix(PROJECT_ID, entries)).thenReturn(result);
+
+        ResponseEntity<ProjectCostBulkResultDTO> response = projectCostController.upsertCostMatrix(PROJECT_ID,
+                entries);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(result, response.getBody());
+    }
+
+    @Test
+    void deleteAllByProjectIdReturnsDeletedRows() {
+        when(projectCostService.deleteAllByProjectId(PROJECT_ID)).thenReturn(ProjectCostBulkResultDTO.deleted(4));
+
+        ResponseEntity<ProjectCostBulkResultDTO> response = projectCostController.deleteAllByProjectId(PROJECT_ID);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(4, response.getBody().deleted());
+    }
+
     // Utility methods tests
 
     @Test
@@ -0,0 +1,85 @@
+package com.iws_manager.iws_manager_api.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ReadOnlyRoutingDataSourceTest {
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Mock
+    private RecentWriteTracker recentWriteTracker;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReadOnlyRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new ReadOnlyRoutingDataSource(replica, primary, replicaLagMonitor, recentWriteTracker,
+                meterRegistry);
+    }
+
+    private double routes(String route) {
+        return meterRegistry.get(ReadOnlyRoutingDataSource.METRIC_NAME).tag("route", route).counter().count();
+    }
+
+    @Test
+    void getConnectionShouldUseReplicaWhileItIsUsable() throws Exception {
+        Connection connection = mock(Connection.class);
+        when(replicaLagMonitor.isReplicaUsable()).thenReturn(true);
+        when(replica.getConnection()).thenReturn(connection);
+
+        assertSame(connection, dataSource.getConnection());
+
+        verifyNoInteractions(primary);
+        assertEquals(1.0, routes(ReadOnlyRoutingDataSource.REPLICA));
+        assertEquals(0.0, routes(ReadOnlyRoutingDataSource.PRIMARY));
+    }
+
+    @Test
+    void getConnectionShouldFallBackToPrimaryWhenReplicaLags() throws Exception {
+        Connection connection = mock(Connection.class);
+        when(replicaLagMonitor.isReplicaUsable()).thenReturn(false);
+        when(primary.getConnection()).thenReturn(connection);
+
+        assertSame(connection, dataSource.getConnection());
+
+        verifyNoInteractions(replica);
+        assertEquals(0.0, routes(ReadOnlyRoutingDataSource.REPLICA));
+        assertEquals(1.0, routes(ReadOnlyRoutingDataSource.PRIMARY));
+    }
+
+    @Test
+    void getConnectionShouldUsePrimaryRightAfterWrite() throws Exception {
+        Connection connection = mock(Connection.class);
+        when(replicaLagMonitor.isReplicaUsable()).thenReturn(true);
+        when(recentWriteTracker.isWithinWindow()).thenReturn(true);
+        when(primary.getConnection()).thenReturn(connection);
+
+        assertSame(connection, dataSource.getConnection());
+
+        verifyNoInteractions(replica);
+        assertEquals(1.0, routes(ReadOnlyRoutingDataSource.PRIMARY));
+    }
+}
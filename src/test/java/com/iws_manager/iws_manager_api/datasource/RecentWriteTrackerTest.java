@@ -0,0 +1,103 @@
+package com.iws_manager.iws_manager_api.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionExecution;
+
+class RecentWriteTrackerTest {
+
+    private AtomicLong now;
+    private RecentWriteTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_000L);
+        tracker = new RecentWriteTracker(Duration.ofNanos(100), now::get);
+    }
+
+    private TransactionExecution transaction(boolean newTransaction) {
+        TransactionExecution transaction = mock(TransactionExecution.class);
+        when(transaction.isNewTransaction()).thenReturn(newTransaction);
+        return transaction;
+    }
+
+    private TransactionExecution begin() {
+        TransactionExecution transaction = transaction(true);
+        tracker.beforeBegin(transaction);
+        tracker.afterBegin(transaction, null);
+        return transaction;
+    }
+
+    @Test
+    void isWithinWindowShouldBeFalseBeforeAnyWrite() {
+        assertFalse(tracker.isWithinWindow());
+    }
+
+    @Test
+    void isWithinWindowShouldLastForWindowAfterCommittedWrite() {
+        TransactionExecution transaction = begin();
+        tracker.markWrite();
+        tracker.afterCommit(transaction, null);
+
+        now.addAndGet(99);
+        assertTrue(tracker.isWithinWindow());
+        now.addAndGet(1);
+        assertFalse(tracker.isWithinWindow());
+    }
+
+    @Test
+    void readWriteTransactionWithoutWriteShouldNotPinReads() {
+        TransactionExecution transaction = begin();
+        tracker.afterCommit(transaction, null);
+
+        assertFalse(tracker.isWithinWindow());
+    }
+
+    @Test
+    void afterCommitShouldIgnoreFailedAndRolledBackWrites() {
+        TransactionExecution failed = begin();
+        tracker.markWrite();
+        tracker.afterCommit(failed, new RuntimeException("commit failed"));
+
+        TransactionExecution rolledBack = begin();
+        tracker.markWrite();
+        tracker.afterRollback(rolledBack, null);
+
+        assertFalse(tracker.isWithinWindow());
+    }
+
+    @Test
+    void innerTransactionsShouldKeepTheirOwnWrites() {
+        TransactionExecution outer = begin();
+        TransactionExecution participating = transaction(false);
+        tracker.beforeBegin(participating);
+        TransactionExecution requiresNew = begin();
+        tracker.markWrite();
+        tracker.afterRollback(requiresNew, null);
+        tracker.afterCommit(participating, null);
+        tracker.afterCommit(outer, null);
+
+        assertFalse(tracker.isWithinWindow());
+
+        outer = begin();
+        requiresNew = begin();
+        tracker.afterCommit(requiresNew, null);
+        tracker.markWrite();
+        tracker.afterCommit(outer, null);
+
+        assertTrue(tracker.isWithinWindow());
+    }
+
+    @Test
+    void markWriteOutsideTransactionShouldCountImmediately() {
+        tracker.markWrite();
+
+        assertTrue(tracker.isWithinWindow());
+    }
+}
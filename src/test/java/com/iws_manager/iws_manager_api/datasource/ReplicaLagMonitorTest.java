@@ -0,0 +1,103 @@
+package com.iws_manager.iws_manager_api.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagMonitorTest {
+
+    private static final String QUERY = "SHOW SLAVE STATUS";
+    private static final String COLUMN = "Seconds_Behind_Master";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new ReplicaLagMonitor(jdbcTemplate, QUERY, COLUMN, Duration.ofSeconds(5), meterRegistry);
+    }
+
+    private double lagGauge() {
+        return meterRegistry.get(ReplicaLagMonitor.LAG_METRIC_NAME).gauge().value();
+    }
+
+    @Test
+    void replicaShouldNotBeUsableBeforeFirstCheck() {
+        assertFalse(monitor.isReplicaUsable());
+    }
+
+    @Test
+    void replicaShouldBeUsableWhileLagIsWithinLimit() {
+        when(jdbcTemplate.queryForList(QUERY)).thenReturn(List.of(Map.of(COLUMN, 5L)));
+
+        monitor.check();
+
+        assertTrue(monitor.isReplicaUsable());
+        assertEquals(5.0, lagGauge());
+    }
+
+    @Test
+    void replicaShouldNotBeUsableWhenLagExceedsLimit() {
+        when(jdbcTemplate.queryForList(QUERY)).thenReturn(List.of(Map.of(COLUMN, 6L)));
+
+        monitor.check();
+
+        assertFalse(monitor.isReplicaUsable());
+        assertEquals(6.0, lagGauge());
+    }
+
+    @Test
+    void replicaShouldNotBeUsableWhenReplicationIsStopped() {
+        when(jdbcTemplate.queryForList(QUERY)).thenReturn(List.of(Collections.singletonMap(COLUMN, null)));
+
+        monitor.check();
+
+        assertFalse(monitor.isReplicaUsable());
+        assertTrue(Double.isNaN(lagGauge()));
+    }
+
+    @Test
+    void replicaShouldNotBeUsableWithoutStatusRow() {
+        when(jdbcTemplate.queryForList(QUERY)).thenReturn(List.of());
+
+        monitor.check();
+
+        assertFalse(monitor.isReplicaUsable());
+    }
+
+    @Test
+    void replicaShouldFallBackWhenCheckFailsAndRecoverAfterwards() {
+        when(jdbcTemplate.queryForList(QUERY))
+                .thenReturn(List.of(Map.of(COLUMN, 0L)))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"))
+                .thenReturn(List.of(Map.of(COLUMN, 1L)));
+
+        monitor.check();
+        assertTrue(monitor.isReplicaUsable());
+
+        monitor.check();
+        assertFalse(monitor.isReplicaUsable());
+
+        monitor.check();
+        assertTrue(monitor.isReplicaUsable());
+    }
+}
@@ -0,0 +1,72 @@
+package com.iws_manager.iws_manager_api.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class WriteTrackingDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private RecentWriteTracker recentWriteTracker;
+
+    private WriteTrackingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        lenient().when(target.getConnection()).thenReturn(connection);
+        dataSource = new WriteTrackingDataSource(target, recentWriteTracker);
+    }
+
+    @Test
+    void prepareStatementShouldMarkOnlyDml() throws Exception {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        Connection tracked = dataSource.getConnection();
+
+        assertSame(statement, tracked.prepareStatement("select p1_0.projectid from project p1_0"));
+        verify(recentWriteTracker, never()).markWrite();
+
+        tracked.prepareStatement("update project set version=? where projectid=?");
+        tracked.prepareStatement("/* insert com.iws_manager.Project */ insert into project values (?)");
+        verify(recentWriteTracker, times(2)).markWrite();
+    }
+
+    @Test
+    void createStatementShouldMarkOnExecutedDml() throws Exception {
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        Statement tracked = dataSource.getConnection().createStatement();
+
+        tracked.executeQuery("SELECT 1");
+        verify(recentWriteTracker, never()).markWrite();
+
+        tracked.executeUpdate("  DELETE FROM order_commission WHERE orderid = 1");
+        verify(recentWriteTracker).markWrite();
+        verify(statement).executeUpdate("  DELETE FROM order_commission WHERE orderid = 1");
+    }
+
+    @Test
+    void isWriteShouldSkipLeadingComments() {
+        assertTrue(WriteTrackingDataSource.isWrite("-- batch\nREPLACE INTO id_allocation VALUES (1)"));
+        assertFalse(WriteTrackingDataSource.isWrite("/* lookup */ select 1"));
+        assertFalse(WriteTrackingDataSource.isWrite(null));
+    }
+}
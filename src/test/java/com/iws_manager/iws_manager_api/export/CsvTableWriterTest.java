@@ -0,0 +1,60 @@
+package com.iws_manager.iws_manager_api.export;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CsvTableWriterTest {
+
+    private static String write(Object[]... rows) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CsvTableWriter writer = new CsvTableWriter(out);
+        writer.writeHeader(List.of("A", "B", "C"));
+        for (Object[] row : rows) {
+            writer.writeRow(row);
+        }
+        writer.finish();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void shouldWriteBomHeaderAndRowsWithSemicolons() throws Exception {
+        String csv = write(new Object[] { 1, new BigDecimal("1234.50"), LocalDate.of(2025, 3, 1) });
+
+        assertEquals("\uFEFFA;B;C\r\n1;1234,50;2025-03-01\r\n", csv);
+    }
+
+    @Test
+    void shouldWriteDecimalsWithGermanCommaAndWithoutGrouping() throws Exception {
+        String csv = write(new Object[] { new BigDecimal("1234567.890"), new BigDecimal("1E+3"), 2.5d });
+
+        assertTrue(csv.endsWith("\r\n1234567,890;1000;2,5\r\n"));
+    }
+
+    @Test
+    void shouldQuoteSeparatorsQuotesAndLineBreaks() throws Exception {
+        String csv = write(new Object[] { "a;b", "say \"hi\"", "line\nbreak" });
+
+        assertTrue(csv.endsWith("\"a;b\";\"say \"\"hi\"\"\";\"line\nbreak\"\r\n"));
+    }
+
+    @Test
+    void shouldWriteNullAsEmptyField() throws Exception {
+        String csv = write(new Object[] { null, "x", null });
+
+        assertTrue(csv.endsWith(";x;\r\n"));
+    }
+
+    @Test
+    void shouldNeutralizeFormulaText() throws Exception {
+        String csv = write(new Object[] { "=SUM(A1)", "@cmd", new BigDecimal("-5") });
+
+        assertTrue(csv.endsWith("'=SUM(A1);'@cmd;-5\r\n"));
+    }
+}
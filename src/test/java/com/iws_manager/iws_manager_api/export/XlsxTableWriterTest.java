@@ -0,0 +1,78 @@
+package com.iws_manager.iws_manager_api.export;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.Test;
+
+class XlsxTableWriterTest {
+
+    private static Map<String, String> write(String sheetName, Object[]... rows) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        XlsxTableWriter writer = new XlsxTableWriter(out, sheetName);
+        writer.writeHeader(List.of("No", "Date", "Amount", "Text"));
+        for (Object[] row : rows) {
+            writer.writeRow(row);
+        }
+        writer.finish();
+
+        Map<String, String> entries = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+
+    @Test
+    void shouldWriteAllPackageParts() throws Exception {
+        Map<String, String> entries = write("Invoices");
+
+        assertEquals(6, entries.size());
+        assertTrue(entries.containsKey("[Content_Types].xml"));
+        assertTrue(entries.containsKey("_rels/.rels"));
+        assertTrue(entries.containsKey("xl/_rels/workbook.xml.rels"));
+        assertTrue(entries.containsKey("xl/styles.xml"));
+        assertTrue(entries.get("xl/workbook.xml").contains("<sheet name=\"Invoices\""));
+        assertTrue(entries.get("xl/worksheets/sheet1.xml").endsWith("</sheetData></worksheet>"));
+    }
+
+    @Test
+    void shouldWriteTypedCells() throws Exception {
+        String sheet = write("Invoices",
+                new Object[] { 7, LocalDate.of(2025, 1, 1), new BigDecimal("10.50"), null })
+                .get("xl/worksheets/sheet1.xml");
+
+        assertTrue(sheet.contains("<c r=\"A1\" t=\"inlineStr\" s=\"1\"><is><t xml:space=\"preserve\">No</t></is></c>"));
+        assertTrue(sheet.contains("<row r=\"2\"><c r=\"A2\"><v>7</v></c>"));
+        assertTrue(sheet.contains("<c r=\"B2\" s=\"2\"><v>45658</v></c>"));
+        assertTrue(sheet.contains("<c r=\"C2\" s=\"3\"><v>10.50</v></c>"));
+        assertFalse(sheet.contains("r=\"D2\""));
+    }
+
+    @Test
+    void shouldEscapeMarkupAndDropInvalidCharacters() throws Exception {
+        String sheet = write("Invoices", new Object[] { null, null, null, "<a & b>\u0001" })
+                .get("xl/worksheets/sheet1.xml");
+
+        assertTrue(sheet.contains("<t xml:space=\"preserve\">&lt;a &amp; b&gt;</t>"));
+    }
+
+    @Test
+    void shouldSanitizeSheetName() throws Exception {
+        String workbook = write("Costs [2025/Q1]").get("xl/workbook.xml");
+
+        assertTrue(workbook.contains("<sheet name=\"Costs _2025_Q1_\""));
+    }
+}
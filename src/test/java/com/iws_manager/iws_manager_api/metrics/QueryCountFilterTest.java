@@ -0,0 +1,67 @@
+package com.iws_manager.iws_manager_api.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class QueryCountFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryCountingStatementInspector statementInspector;
+    private QueryCountFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        statementInspector = new QueryCountingStatementInspector();
+        filter = new QueryCountFilter(statementInspector, meterRegistry, 2);
+    }
+
+    @Test
+    void filterShouldRecordStatementsPerRequestPattern() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders/5");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/orders/{id}");
+            statementInspector.inspect("select 1");
+            statementInspector.inspect("select 2");
+            statementInspector.inspect("select 3");
+        });
+
+        DistributionSummary summary = meterRegistry.get(QueryCountFilter.METRIC_NAME)
+                .tag("uri", "/api/v1/orders/{id}")
+                .tag("method", "GET")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(3.0, summary.totalAmount());
+    }
+
+    @Test
+    void inspectorShouldNotCountOutsideRequests() {
+        assertEquals("select 1", statementInspector.inspect("select 1"));
+        assertEquals(0, statementInspector.stop());
+    }
+
+    @Test
+    void countRowsShouldHandleRepositoryResultTypes() {
+        assertEquals(3, RepositoryRowCountInterceptor.countRows(List.of(1, 2, 3)));
+        assertEquals(2, RepositoryRowCountInterceptor.countRows(new PageImpl<>(List.of("a", "b"))));
+        assertEquals(1, RepositoryRowCountInterceptor.countRows(Optional.of("a")));
+        assertEquals(0, RepositoryRowCountInterceptor.countRows(Optional.empty()));
+        assertEquals(0, RepositoryRowCountInterceptor.countRows(null));
+        assertEquals(1, RepositoryRowCountInterceptor.countRows(new Object()));
+        assertEquals(-1, RepositoryRowCountInterceptor.countRows(42L));
+        assertEquals(-1, RepositoryRowCountInterceptor.countRows(Boolean.TRUE));
+    }
+}
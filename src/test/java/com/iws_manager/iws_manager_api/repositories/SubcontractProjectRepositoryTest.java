@@ -0,0 +1,135 @@
+package com.iws_manager.iws_manager_api.repositories;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.iws_manager.iws_manager_api.models.Subcontract;
+import com.iws_manager.iws_manager_api.models.SubcontractProject;
+
+/**
+ * Runs the set-based recalculation statements of
+ * {@link SubcontractProjectRepository} and {@link SubcontractRepository}
+ * against the configured MariaDB database, since their CASE/ROUND arithmetic
+ * and skip-unchanged predicates only exist in SQL. Every test is rolled back.
+ */
+@SpringBootTest
+@Transactional
+@EnabledIfEnvironmentVariable(named = "DB_URL", matches = ".+")
+class SubcontractProjectRepositoryTest {
+
+    @Autowired
+    private SubcontractRepository subcontractRepository;
+
+    @Autowired
+    private SubcontractProjectRepository subcontractProjectRepository;
+
+    private static BigDecimal bd(String value) {
+        return new BigDecimal(value);
+    }
+
+    private Subcontract subcontract(boolean net, String invoiceGross) {
+        Subcontract subcontract = new Subcontract();
+        subcontract.setNetOrGross(net);
+        subcontract.setInvoiceGross(invoiceGross != null ? bd(invoiceGross) : null);
+        return subcontractRepository.saveAndFlush(subcontract);
+    }
+
+    private SubcontractProject project(Subcontract subcontract, String share, String amount) {
+        SubcontractProject project = new SubcontractProject();
+        project.setSubcontract(subcontract);
+        project.setShare(share != null ? bd(share) : null);
+        project.setAmount(amount != null ? bd(amount) : null);
+        return subcontractProjectRepository.saveAndFlush(project);
+    }
+
+    private SubcontractProject reload(SubcontractProject project) {
+        return subcontractProjectRepository.findById(project.getId()).orElseThrow();
+    }
+
+    @Test
+    void recalculateAmountsShouldApplyShareOfGrossRoundedToCents() {
+        Subcontract gross = subcontract(false, "10.01");
+        SubcontractProject half = project(gross, "50", null);
+        SubcontractProject third = project(gross, "33.33", "1.00");
+        SubcontractProject noShare = project(gross, null, "7.00");
+
+        assertEquals(3, subcontractProjectRepository.recalculateAmounts(gross.getId(), null, null));
+
+        assertEquals(0, bd("5.01").compareTo(reload(half).getAmount()));
+        assertEquals(0, bd("3.34").compareTo(reload(third).getAmount()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(reload(noShare).getAmount()));
+    }
+
+    @Test
+    void recalculateAmountsShouldTreatMissingGrossAsZero() {
+        Subcontract gross = subcontract(false, null);
+        SubcontractProject project = project(gross, "25", null);
+
+        assertEquals(1, subcontractProjectRepository.recalculateAmounts(gross.getId(), null, null));
+
+        assertEquals(0, BigDecimal.ZERO.compareTo(reload(project).getAmount()));
+    }
+
+    @Test
+    void recalculateAmountsShouldZeroNetSubcontracts() {
+        Subcontract net = subcontract(true, "500.00");
+        SubcontractProject project = project(net, "50", "250.00");
+
+        assertEquals(1, subcontractProjectRepository.recalculateAmounts(net.getId(), null, null));
+        assertEquals(1, subcontractRepository.clearInvoiceGrossOfNetSubcontracts(net.getId(), null, null));
+
+        assertEquals(0, BigDecimal.ZERO.compareTo(reload(project).getAmount()));
+        Subcontract reloaded = subcontractRepository.findById(net.getId()).orElseThrow();
+        assertEquals(0, BigDecimal.ZERO.compareTo(reloaded.getInvoiceGross()));
+    }
+
+    @Test
+    void recalculateAmountsShouldSkipRowsAlreadyHoldingTheAmount() {
+        Subcontract gross = subcontract(false, "1000.00");
+        SubcontractProject unchanged = project(gross, "25", "250.00");
+        SubcontractProject stale = project(gross, "75", "700.00");
+        Integer unchangedVersion = unchanged.getVersion();
+        Integer staleVersion = stale.getVersion();
+
+        assertEquals(1, subcontractProjectRepository.recalculateAmounts(gross.getId(), null, null));
+
+        SubcontractProject reloadedUnchanged = reload(unchanged);
+        SubcontractProject reloadedStale = reload(stale);
+        assertEquals(unchangedVersion, reloadedUnchanged.getVersion());
+        assertEquals(0, bd("750.00").compareTo(reloadedStale.getAmount()));
+        assertEquals(staleVersion + 1, reloadedStale.getVersion());
+
+        assertEquals(0, subcontractProjectRepository.recalculateAmounts(gross.getId(), null, null));
+    }
+
+    @Test
+    void clearInvoiceGrossShouldSkipGrossAndAlreadyClearedSubcontracts() {
+        Subcontract gross = subcontract(false, "1000.00");
+        Subcontract cleared = subcontract(true, "0");
+
+        assertEquals(0, subcontractRepository.clearInvoiceGrossOfNetSubcontracts(gross.getId(), null, null));
+        assertEquals(0, subcontractRepository.clearInvoiceGrossOfNetSubcontracts(cleared.getId(), null, null));
+
+        Subcontract reloaded = subcontractRepository.findById(gross.getId()).orElseThrow();
+        assertEquals(0, bd("1000.00").compareTo(reloaded.getInvoiceGross()));
+    }
+
+    @Test
+    void recalculateAmountsShouldOnlyTouchSubcontractInScope() {
+        Subcontract inScope = subcontract(false, "100.00");
+        Subcontract outOfScope = subcontract(false, "100.00");
+        project(inScope, "10", null);
+        SubcontractProject other = project(outOfScope, "10", null);
+
+        assertEquals(1, subcontractProjectRepository.recalculateAmounts(inScope.getId(), null, null));
+
+        assertNull(reload(other).getAmount());
+    }
+}
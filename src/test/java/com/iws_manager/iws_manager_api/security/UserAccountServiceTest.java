@@ -0,0 +1,161 @@
+package com.iws_manager.iws_manager_api.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.iws_manager.iws_manager_api.config.CacheConfig;
+import com.iws_manager.iws_manager_api.config.CacheNames;
+import com.iws_manager.iws_manager_api.models.Role;
+import com.iws_manager.iws_manager_api.models.RoleRight;
+import com.iws_manager.iws_manager_api.models.User;
+import com.iws_manager.iws_manager_api.repositories.RoleRepository;
+import com.iws_manager.iws_manager_api.repositories.RoleRightRepository;
+import com.iws_manager.iws_manager_api.repositories.SystemFunctionRepository;
+import com.iws_manager.iws_manager_api.repositories.UserRepository;
+import com.iws_manager.iws_manager_api.services.impl.RoleRightServiceImpl;
+import com.iws_manager.iws_manager_api.services.impl.UserServiceImplV2;
+import com.iws_manager.iws_manager_api.services.interfaces.RoleRightService;
+import com.iws_manager.iws_manager_api.services.interfaces.UserServiceV2;
+
+@SpringJUnitConfig({ CacheConfig.class, UserAccountService.class, RolePermissionService.class,
+        CustomUserDetailsService.class, UserServiceImplV2.class, RoleRightServiceImpl.class })
+class UserAccountServiceTest {
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private RoleRepository roleRepository;
+
+    @MockitoBean
+    private RoleRightRepository roleRightRepository;
+
+    @MockitoBean
+    private SystemFunctionRepository systemFunctionRepository;
+
+    @Autowired
+    private UserAccountService userAccountService;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private UserServiceV2 userService;
+
+    @Autowired
+    private RoleRightService roleRightService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        CacheNames.SECURITY_CACHES.forEach(name -> cacheManager.getCache(name).clear());
+
+        Role admin = new Role();
+        admin.setId(1L);
+        admin.setName("admin");
+        Role sales = new Role();
+        sales.setId(2L);
+        sales.setName("sales");
+
+        user = new User();
+        user.setId(10L);
+        user.setUsername("jdoe");
+        user.setPassword("{bcrypt}hash");
+        user.setRoles(new ArrayList<>(List.of(admin, sales)));
+    }
+
+    @Test
+    void findAccountShouldMergeRoleRightsKeepingHighestAccessRight() {
+        when(userRepository.findByUsername("jdoe")).thenReturn(Optional.of(user));
+        when(roleRightRepository.findFunctionAccessRightsByRoleId(1L))
+                .thenReturn(List.<Object[]>of(new Object[] { 3L, 1 }, new Object[] { 5L, 2 }));
+        when(roleRightRepository.findFunctionAccessRightsByRoleId(2L))
+                .thenReturn(List.<Object[]>of(new Object[] { 3L, 2 }, new Object[] { 7L, 0 }));
+
+        UserAccount account = userAccountService.findAccount("jdoe").orElseThrow();
+
+        assertEquals(2, account.authorities().size());
+        assertEquals(2, account.rights().getAccessRight(3L));
+        assertTrue(account.rights().hasAccess(5L, 2));
+        assertFalse(account.rights().isGranted(7L));
+        assertFalse(account.rights().isGranted(1000L));
+        assertEquals(2, account.rights().countGranted());
+    }
+
+    @Test
+    void findAccountShouldBeCachedPerUsername() {
+        when(userRepository.findByUsername("jdoe")).thenReturn(Optional.of(user));
+        when(roleRightRepository.findFunctionAccessRightsByRoleId(any())).thenReturn(List.of());
+
+        customUserDetailsService.loadUserByUsername("jdoe");
+        UserDetails details = customUserDetailsService.loadUserByUsername("jdoe");
+
+        assertEquals("{bcrypt}hash", details.getPassword());
+        verify(userRepository, times(1)).findByUsername("jdoe");
+    }
+
+    @Test
+    void findAccountShouldNotCacheUnknownUsername() {
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        assertTrue(userAccountService.findAccount("ghost").isEmpty());
+        assertTrue(userAccountService.findAccount("ghost").isEmpty());
+
+        verify(userRepository, times(2)).findByUsername("ghost");
+    }
+
+    @Test
+    void findAccountShouldGrantDefaultRoleToUserWithoutRoles() {
+        user.setRoles(new ArrayList<>());
+        when(userRepository.findByUsername("jdoe")).thenReturn(Optional.of(user));
+
+        UserAccount account = userAccountService.findAccount("jdoe").orElseThrow();
+
+        assertEquals(UserAccountService.DEFAULT_ROLE, account.authorities().get(0).getAuthority());
+        assertSame(FunctionRights.NONE, account.rights());
+    }
+
+    @Test
+    void userWriteShouldEvictCachedAccounts() {
+        when(userRepository.findByUsername("jdoe")).thenReturn(Optional.of(user));
+        when(roleRightRepository.findFunctionAccessRightsByRoleId(any())).thenReturn(List.of());
+        when(roleRepository.findByUserId(10L)).thenReturn(List.of());
+
+        userAccountService.findAccount("jdoe");
+        userService.delete(10L);
+        userAccountService.findAccount("jdoe");
+
+        verify(userRepository, times(2)).findByUsername("jdoe");
+    }
+
+    @Test
+    void roleRightWriteShouldEvictRolePermissions() {
+        when(userRepository.findByUsername("jdoe")).thenReturn(Optional.of(user));
+        when(roleRightRepository.findFunctionAccessRightsByRoleId(any())).thenReturn(List.of());
+        when(roleRightRepository.existsById(99L)).thenReturn(true);
+
+        userAccountService.findAccount("jdoe");
+        roleRightService.delete(99L);
+        userAccountService.findAccount("jdoe");
+
+        verify(roleRightRepository, times(2)).findFunctionAccessRightsByRoleId(1L);
+        verify(userRepository, times(2)).findByUsername("jdoe");
+    }
+}
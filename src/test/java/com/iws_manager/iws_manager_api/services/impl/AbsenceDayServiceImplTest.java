@@ -1,5 +1,6 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
+import com.iws_manager.iws_manager_api.dtos.absenceday.AbsenceDayBulkResultDTO;
 import com.iws_manager.iws_manager_api.dtos.absenceday.AbsenceDayFilterDTO;
 import com.iws_manager.iws_manager_api.dtos.absenceday.AbsenceDayRequestDTO;
 import com.iws_manager.iws_manager_api.dtos.shared.BasicReferenceDTO;
@@ -499,4 +500,62 @@ class AbsenceDayServiceImplTest {
         
         verify(absenceDayRepository).deleteById(1L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void createBulkFromDTOShouldSaveValidRowsAndReportRejectedOnes() {
+        LocalDate holiday = LocalDate.of(2024, 1, 1);
+        LocalDate taken = LocalDate.of(2024, 1, 16);
+        PublicHoliday newYear = new PublicHoliday();
+        newYear.setDate(holiday);
+        newYear.setName("Neujahr");
+
+        List<AbsenceDayRequestDTO> rows = List.of(
+                requestDTO,
+                new AbsenceDayRequestDTO(holiday, new BasicReferenceDTO(1L, 0), new BasicReferenceDTO(1L, 1)),
+                new AbsenceDayRequestDTO(taken, new BasicReferenceDTO(1L, 0), new BasicReferenceDTO(1L, 1)),
+                requestDTO,
+                new AbsenceDayRequestDTO(null, new BasicReferenceDTO(1L, 0), new BasicReferenceDTO(1L, 1)),
+                new AbsenceDayRequestDTO(testDate, new BasicReferenceDTO(1L, 0), new BasicReferenceDTO(9L, 1)));
+
+        when(publicHolidayRepository.findByDateIn(anyCollection())).thenReturn(List.of(newYear));
+        when(employeeRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L));
+        when(absenceTypeRepository.findAllById(anyCollection())).thenReturn(List.of(absenceType));
+        when(absenceDayRepository.findEmployeeIdAndAbsenceDateByEmployeeIdInAndAbsenceDateBetween(
+                anyCollection(), eq(holiday), eq(taken)))
+                .thenReturn(Collections.singletonList(new Object[] { 1L, taken }));
+        when(employeeRepository.getReferenceById(1L)).thenReturn(employee);
+        when(absenceDayRepository.saveAll(anyList())).thenReturn(List.of(absenceDay));
+
+        AbsenceDayBulkResultDTO result = absenceDayServiceV2.createBulkFromDTO(rows);
+
+        assertEquals(6, result.requested());
+        assertEquals(1, result.created());
+        assertEquals(5, result.failed());
+        assertTrue(result.rows().get(0).created());
+        assertEquals(1L, result.rows().get(0).absenceDayId());
+        assertTrue(result.rows().get(1).error().contains("public holiday"));
+        assertTrue(result.rows().get(2).error().contains("already exists"));
+        assertTrue(result.rows().get(3).error().contains("already exists"));
+        assertEquals("Absence date must be specified", result.rows().get(4).error());
+        assertEquals("Employee not found with id: 9", result.rows().get(5).error());
+        verify(absenceDayRepository, never()).existsByEmployeeIdAndAbsenceDate(any(), any());
+        verify(employeeRepository, never()).findById(any());
+    }
+
+    @Test
+    void createBulkFromDTOShouldSkipLookupsWhenNoRowIsValid() {
+        List<AbsenceDayRequestDTO> rows = List.of(new AbsenceDayRequestDTO(testDate, null, null));
+        when(absenceDayRepository.saveAll(anyList())).thenReturn(List.of());
+
+        AbsenceDayBulkResultDTO result = absenceDayServiceV2.createBulkFromDTO(rows);
+
+        assertEquals(0, result.created());
+        assertEquals("Employee must be specified", result.rows().get(0).error());
+        verifyNoInteractions(publicHolidayRepository, employeeRepository, absenceTypeRepository);
+    }
+
+    @Test
+    void createBulkFromDTOShouldThrowWhenListEmpty() {
+        assertThrows(IllegalArgumentException.class, () -> absenceDayServiceV2.createBulkFromDTO(List.of()));
+    }
+}
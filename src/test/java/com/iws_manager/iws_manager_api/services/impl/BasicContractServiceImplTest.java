@@ -1,10 +1,8 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
 import com.iws_manager.iws_manager_api.models.BasicContract;
-import com.iws_manager.iws_manager_api.models.IwsCommission;
 import com.iws_manager.iws_manager_api.repositories.BasicContractRepository;
-import com.iws_manager.iws_manager_api.repositories.ContractOrderCommissionRepository;
-import com.iws_manager.iws_manager_api.repositories.IwsCommissionRepository;
+import com.iws_manager.iws_manager_api.services.interfaces.CommissionTemplateService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -22,10 +20,7 @@ class BasicContractServiceImplTest {
     private BasicContractRepository basicContractRepository;
 
     @Mock
-    private IwsCommissionRepository iwsCommissionRepository;
-
-    @Mock
-    private ContractOrderCommissionRepository contractOrderCommissionRepository;
+    private CommissionTemplateService commissionTemplateService;
 
 
     @InjectMocks
@@ -59,14 +54,7 @@ class BasicContractServiceImplTest {
         when(basicContractRepository.save(sampleBasicContract))
                 .thenReturn(sampleBasicContract);
 
-        when(iwsCommissionRepository.findAll())
-                .thenReturn(List.of(
-                        new IwsCommission(),
-                        new IwsCommission()
-                ));
-
-        when(contractOrderCommissionRepository.saveAll(anyList()))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(commissionTemplateService.cloneForBasicContract(1L)).thenReturn(2);
 
         // WHEN
         BasicContract result = basicContractService.create(sampleBasicContract);
@@ -76,8 +64,7 @@ class BasicContractServiceImplTest {
         assertEquals(sampleBasicContract, result);
 
         verify(basicContractRepository).save(sampleBasicContract);
-        verify(iwsCommissionRepository).findAll();
-        verify(contractOrderCommissionRepository).saveAll(anyList());
+        verify(commissionTemplateService).cloneForBasicContract(1L);
     }
 
     @Test
@@ -0,0 +1,201 @@
+package com.iws_manager.iws_manager_api.services.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.iws_manager.iws_manager_api.config.CacheNames;
+import com.iws_manager.iws_manager_api.dtos.commission.CommissionResultDTO;
+import com.iws_manager.iws_manager_api.dtos.commission.CommissionTierTable;
+import com.iws_manager.iws_manager_api.repositories.ContractOrderCommissionRepository;
+import com.iws_manager.iws_manager_api.repositories.OrderCommissionRepository;
+import com.iws_manager.iws_manager_api.repositories.OrderRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+class CommissionEngineServiceImplTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderCommissionRepository orderCommissionRepository;
+
+    @Mock
+    private ContractOrderCommissionRepository contractOrderCommissionRepository;
+
+    private CommissionTierCache tierCache;
+
+    private CommissionEngineServiceImpl commissionEngineService;
+
+    @BeforeEach
+    void setUp() {
+        tierCache = new CommissionTierCache(new ConcurrentMapCacheManager(CacheNames.COMMISSION_TIERS));
+        commissionEngineService = new CommissionEngineServiceImpl(orderRepository, orderCommissionRepository,
+                contractOrderCommissionRepository, tierCache);
+    }
+
+    private static BigDecimal bd(String value) {
+        return new BigDecimal(value);
+    }
+
+    private static Object[] tier(Long ownerId, String from, String commission, String minCommission) {
+        return new Object[] { ownerId, bd(from), bd(commission), minCommission != null ? bd(minCommission) : null };
+    }
+
+    private static Object[] order(Long id, String value, String fix, String max, Long basicContractId) {
+        return new Object[] { id, value != null ? bd(value) : null, fix != null ? bd(fix) : null,
+                max != null ? bd(max) : null, basicContractId };
+    }
+
+    // ------------------- TIER TABLE TESTS -------------------
+    @Test
+    void tierTableShouldFindTierByLowerBound() {
+        CommissionTierTable table = CommissionTierTable.builder()
+                .add(bd("10000"), bd("5"), null)
+                .add(bd("0"), bd("10"), bd("100"))
+                .add(bd("50000"), bd("3"), null)
+                .build();
+
+        assertEquals(0, bd("0").compareTo(table.find(bd("9999.99")).fromOrderValue()));
+        assertEquals(0, bd("10000").compareTo(table.find(bd("10000")).fromOrderValue()));
+        assertEquals(0, bd("50000").compareTo(table.find(bd("1000000")).fromOrderValue()));
+        assertNull(table.find(bd("-1")));
+        assertNull(table.find(null));
+    }
+
+    @Test
+    void tierTableShouldApplyMinimumAndCap() {
+        CommissionTierTable table = CommissionTierTable.builder()
+                .add(bd("0"), bd("10"), bd("100"))
+                .add(bd("10000"), bd("5"), null)
+                .build();
+
+        assertEquals(bd("100"), table.calculate(bd("500")));
+        assertEquals(bd("750.00"), table.calculate(bd("15000")));
+        assertEquals(bd("600.00"), table.calculate(bd("15000"), null, bd("600.00")));
+        assertEquals(bd("300.00"), table.calculate(bd("15000"), bd("2"), null));
+        assertNull(CommissionTierTable.EMPTY.calculate(bd("15000")));
+    }
+
+    @Test
+    void tierTableShouldKeepLastTierOfDuplicateBounds() {
+        CommissionTierTable table = CommissionTierTable.builder()
+                .add(bd("0"), bd("10"), null)
+                .add(bd("0.00"), bd("8"), null)
+                .build();
+
+        assertEquals(1, table.getTiers().size());
+        assertEquals(bd("8"), table.find(bd("1")).commission());
+    }
+
+    // ------------------- CALCULATION TESTS -------------------
+    @Test
+    void calculateForOrdersShouldUseOrderTiersAndKeepIdOrder() {
+        when(orderRepository.findCommissionRowsByIds(anyCollection()))
+                .thenReturn(List.of(order(1L, "20000", null, null, 7L), order(2L, "1000", null, null, 7L)));
+        when(orderCommissionRepository.findTierRowsByOrderIds(anyCollection()))
+                .thenReturn(List.of(tier(1L, "0", "5", null), tier(2L, "0", "10", null)));
+
+        List<CommissionResultDTO> results = commissionEngineService.calculateForOrders(List.of(2L, 1L, 99L));
+
+        assertEquals(2, results.size());
+        assertEquals(2L, results.get(0).orderId());
+        assertEquals(bd("100.00"), results.get(0).commission());
+        assertEquals(1L, results.get(1).orderId());
+        assertEquals(bd("1000.00"), results.get(1).commission());
+        verify(orderCommissionRepository, times(1)).findTierRowsByOrderIds(anyCollection());
+        verifyNoInteractions(contractOrderCommissionRepository);
+    }
+
+    @Test
+    void calculateForOrdersShouldFallBackToBasicContractTiers() {
+        when(orderRepository.findCommissionRowsByIds(anyCollection()))
+                .thenReturn(List.<Object[]>of(order(1L, "20000", null, null, 7L)));
+        when(orderCommissionRepository.findTierRowsByOrderIds(anyCollection())).thenReturn(List.of());
+        when(contractOrderCommissionRepository.findTierRowsByBasicContractIds(List.of(7L)))
+                .thenReturn(List.<Object[]>of(tier(7L, "0", "4", null)));
+
+        CommissionResultDTO result = commissionEngineService.calculateForOrder(1L);
+
+        assertEquals(bd("800.00"), result.commission());
+        assertEquals(bd("4"), result.rate());
+        assertEquals(7L, result.basicContractId());
+    }
+
+    @Test
+    void calculateShouldServeCompiledTiersFromCache() {
+        when(orderRepository.findCommissionRowsByIds(anyCollection()))
+                .thenReturn(List.<Object[]>of(order(1L, "20000", null, null, null)));
+        when(orderCommissionRepository.findTierRowsByOrderIds(anyCollection()))
+                .thenReturn(List.<Object[]>of(tier(1L, "0", "5", null)));
+
+        commissionEngineService.calculateForOrder(1L);
+        commissionEngineService.calculateForOrder(1L);
+
+        verify(orderCommissionRepository, times(1)).findTierRowsByOrderIds(anyCollection());
+    }
+
+    @Test
+    void evictingAnOrderShouldRecompileOnlyThatOrder() {
+        when(orderRepository.findCommissionRowsByIds(anyCollection()))
+                .thenReturn(List.of(order(1L, "20000", null, null, null), order(2L, "1000", null, null, null)));
+        when(orderCommissionRepository.findTierRowsByOrderIds(anyCollection()))
+                .thenReturn(List.of(tier(1L, "0", "5", null), tier(2L, "0", "10", null)));
+
+        commissionEngineService.calculateForOrders(List.of(1L, 2L));
+        tierCache.evictOrder(2L);
+        commissionEngineService.calculateForOrders(List.of(1L, 2L));
+
+        verify(orderCommissionRepository).findTierRowsByOrderIds(List.of(1L, 2L));
+        verify(orderCommissionRepository).findTierRowsByOrderIds(List.of(2L));
+    }
+
+    @Test
+    void calculateForOrdersShouldQueryInChunks() {
+        List<Long> ids = java.util.stream.LongStream.rangeClosed(1, CommissionEngineServiceImpl.BATCH_SIZE + 1)
+                .boxed().toList();
+
+        commissionEngineService.calculateForOrders(ids);
+
+        verify(orderRepository, times(2)).findCommissionRowsByIds(anyCollection());
+    }
+
+    @Test
+    void calculateForOrderShouldThrowWhenOrderDoesNotExist() {
+        when(orderRepository.findCommissionRowsByIds(anyCollection())).thenReturn(List.of());
+
+        assertThrows(EntityNotFoundException.class, () -> commissionEngineService.calculateForOrder(1L));
+    }
+
+    @Test
+    void calculateForBasicContractShouldUseContractTiers() {
+        when(contractOrderCommissionRepository.findTierRowsByBasicContractIds(List.of(7L)))
+                .thenReturn(List.<Object[]>of(tier(7L, "0", "10", "50")));
+
+        CommissionResultDTO result = commissionEngineService.calculateForBasicContract(7L, bd("100"));
+
+        assertNull(result.orderId());
+        assertEquals(bd("50"), result.commission());
+        verifyNoInteractions(orderRepository, orderCommissionRepository);
+    }
+
+    @Test
+    void calculateShouldRejectNullIds() {
+        assertThrows(IllegalArgumentException.class, () -> commissionEngineService.calculateForOrder(null));
+        assertThrows(IllegalArgumentException.class, () -> commissionEngineService.calculateForOrders(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> commissionEngineService.calculateForBasicContract(null, BigDecimal.ONE));
+    }
+}
@@ -0,0 +1,199 @@
+package com.iws_manager.iws_manager_api.services.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+import com.iws_manager.iws_manager_api.models.BasicContract;
+import com.iws_manager.iws_manager_api.models.ContractOrderCommission;
+import com.iws_manager.iws_manager_api.models.IwsCommission;
+import com.iws_manager.iws_manager_api.models.Order;
+import com.iws_manager.iws_manager_api.models.OrderCommission;
+import com.iws_manager.iws_manager_api.repositories.BasicContractRepository;
+import com.iws_manager.iws_manager_api.repositories.ContractOrderCommissionRepository;
+import com.iws_manager.iws_manager_api.repositories.IwsCommissionRepository;
+import com.iws_manager.iws_manager_api.repositories.OrderCommissionRepository;
+import com.iws_manager.iws_manager_api.repositories.OrderRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CommissionTemplateServiceImplTest {
+
+    @Mock
+    private ContractOrderCommissionRepository contractOrderCommissionRepository;
+
+    @Mock
+    private OrderCommissionRepository orderCommissionRepository;
+
+    @Mock
+    private IwsCommissionRepository iwsCommissionRepository;
+
+    @Mock
+    private BasicContractRepository basicContractRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private CommissionTierCache commissionTierCache;
+
+    @Mock
+    private Environment environment;
+
+    @InjectMocks
+    private CommissionTemplateServiceImpl commissionTemplateService;
+
+    // ------------------- CLONE TESTS -------------------
+    @Test
+    void cloneForBasicContractShouldCopyIwsCommissions() {
+        when(contractOrderCommissionRepository.cloneIwsCommissions(1L)).thenReturn(3);
+
+        assertEquals(3, commissionTemplateService.cloneForBasicContract(1L));
+
+        verify(contractOrderCommissionRepository, never()).findAll();
+        verify(commissionTierCache).evictBasicContract(1L);
+        verify(commissionTierCache, never()).clear();
+    }
+
+    @Test
+    void cloneForOrderShouldCopyTiersOfItsBasicContract() {
+        when(orderCommissionRepository.cloneContractOrderCommissions(10L, 1L)).thenReturn(2);
+
+        assertEquals(2, commissionTemplateService.cloneForOrder(10L, 1L));
+
+        verify(commissionTierCache).evictOrder(10L);
+        verifyNoMoreInteractions(commissionTierCache);
+        verify(orderCommissionRepository, never()).cloneIwsCommissions(anyLong());
+        verifyNoInteractions(contractOrderCommissionRepository);
+    }
+
+    @Test
+    void cloneForOrderWithoutBasicContractShouldCopyIwsCommissions() {
+        when(orderCommissionRepository.cloneIwsCommissions(10L)).thenReturn(3);
+
+        assertEquals(3, commissionTemplateService.cloneForOrder(10L, null));
+    }
+
+    @Test
+    void cloneShouldRejectNullIds() {
+        assertThrows(IllegalArgumentException.class, () -> commissionTemplateService.cloneForBasicContract(null));
+        assertThrows(IllegalArgumentException.class, () -> commissionTemplateService.cloneForOrder(null, 1L));
+        verifyNoInteractions(contractOrderCommissionRepository, orderCommissionRepository);
+    }
+
+    // ------------------- RECLONE TESTS -------------------
+    @Test
+    void recloneBasicContractsShouldReplaceTiersOfGivenContracts() {
+        List<Long> ids = List.of(1L, 2L);
+        when(contractOrderCommissionRepository.cloneIwsCommissionsForBasicContracts(ids)).thenReturn(6);
+
+        assertEquals(6, commissionTemplateService.recloneBasicContracts(ids));
+
+        var inOrder = inOrder(contractOrderCommissionRepository);
+        inOrder.verify(contractOrderCommissionRepository).deleteAllByBasicContractIdIn(ids);
+        inOrder.verify(contractOrderCommissionRepository).cloneIwsCommissionsForBasicContracts(ids);
+        verify(contractOrderCommissionRepository, never()).deleteAllInBulk();
+        verify(commissionTierCache).evictBasicContract(1L);
+        verify(commissionTierCache).evictBasicContract(2L);
+        verify(commissionTierCache, never()).clear();
+    }
+
+    @Test
+    void recloneBasicContractsShouldRejectMissingIds() {
+        assertThrows(IllegalArgumentException.class, () -> commissionTemplateService.recloneBasicContracts(null));
+        assertThrows(IllegalArgumentException.class, () -> commissionTemplateService.recloneBasicContracts(List.of()));
+
+        verifyNoInteractions(contractOrderCommissionRepository);
+    }
+
+    @Test
+    void recloneAllBasicContractsShouldReplaceAllTiers() {
+        when(contractOrderCommissionRepository.cloneIwsCommissionsForAllBasicContracts()).thenReturn(9);
+
+        assertEquals(9, commissionTemplateService.recloneAllBasicContracts());
+
+        var inOrder = inOrder(contractOrderCommissionRepository);
+        inOrder.verify(contractOrderCommissionRepository).deleteAllInBulk();
+        inOrder.verify(contractOrderCommissionRepository).cloneIwsCommissionsForAllBasicContracts();
+        verify(commissionTierCache).clear();
+        verifyNoInteractions(orderCommissionRepository);
+    }
+
+    // ------------------- POOLED IDS TESTS -------------------
+    @Test
+    void cloneForBasicContractWithPooledIdsShouldSaveCopies() {
+        CommissionTemplateServiceImpl pooledService = pooledService();
+        BasicContract contract = new BasicContract();
+        when(basicContractRepository.getReferenceById(1L)).thenReturn(contract);
+        when(iwsCommissionRepository.findAllByOrderByFromOrderValueAsc())
+                .thenReturn(List.of(iwsTier("1000", "2.50", "50")));
+        when(contractOrderCommissionRepository.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
+
+        assertEquals(1, pooledService.cloneForBasicContract(1L));
+
+        verify(contractOrderCommissionRepository).saveAll(argThat((List<ContractOrderCommission> copies) ->
+                copies.size() == 1 && copies.get(0).getBasicContract() == contract
+                        && new BigDecimal("2.50").equals(copies.get(0).getCommission())
+                        && copies.get(0).getId() == null));
+        verify(contractOrderCommissionRepository, never()).cloneIwsCommissions(anyLong());
+    }
+
+    @Test
+    void cloneForOrderWithPooledIdsShouldSaveCopiesOfContractTiers() {
+        CommissionTemplateServiceImpl pooledService = pooledService();
+        Order order = new Order();
+        ContractOrderCommission tier = new ContractOrderCommission();
+        tier.setCommission(new BigDecimal("3.00"));
+        tier.setFromOrderValue(new BigDecimal("5000"));
+        when(orderRepository.getReferenceById(10L)).thenReturn(order);
+        when(contractOrderCommissionRepository.findByBasicContractIdOrderByFromOrderValueAsc(1L))
+                .thenReturn(List.of(tier));
+        when(orderCommissionRepository.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
+
+        assertEquals(1, pooledService.cloneForOrder(10L, 1L));
+
+        verify(orderCommissionRepository).saveAll(argThat((List<OrderCommission> copies) ->
+                copies.size() == 1 && copies.get(0).getOrder() == order
+                        && new BigDecimal("5000").equals(copies.get(0).getFromOrderValue())));
+        verify(orderCommissionRepository, never()).cloneContractOrderCommissions(anyLong(), anyLong());
+    }
+
+    @Test
+    void recloneAllBasicContractsWithPooledIdsShouldSaveCopiesForEveryContract() {
+        CommissionTemplateServiceImpl pooledService = pooledService();
+        when(basicContractRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+        when(basicContractRepository.getReferenceById(anyLong())).thenReturn(new BasicContract());
+        when(iwsCommissionRepository.findAllByOrderByFromOrderValueAsc())
+                .thenReturn(List.of(iwsTier("0", "2.00", "0"), iwsTier("1000", "2.50", "50")));
+        when(contractOrderCommissionRepository.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
+
+        assertEquals(4, pooledService.recloneAllBasicContracts());
+
+        verify(contractOrderCommissionRepository).deleteAllInBulk();
+        verify(contractOrderCommissionRepository, never()).cloneIwsCommissionsForAllBasicContracts();
+    }
+
+    private CommissionTemplateServiceImpl pooledService() {
+        when(environment.acceptsProfiles(any(Profiles.class))).thenReturn(true);
+        return new CommissionTemplateServiceImpl(contractOrderCommissionRepository, orderCommissionRepository,
+                iwsCommissionRepository, basicContractRepository, orderRepository, commissionTierCache, environment);
+    }
+
+    private static IwsCommission iwsTier(String fromOrderValue, String commission, String minCommission) {
+        IwsCommission tier = new IwsCommission();
+        tier.setFromOrderValue(new BigDecimal(fromOrderValue));
+        tier.setCommission(new BigDecimal(commission));
+        tier.setMinCommission(new BigDecimal(minCommission));
+        return tier;
+    }
+}
@@ -26,6 +26,9 @@ class ContractOrderCommissionServiceImplTest {
     @Mock
     private ContractOrderCommissionRepository contractOrderCommissionRepository;
 
+    @Mock
+    private CommissionTierCache commissionTierCache;
+
     @InjectMocks
     private ContractOrderCommissionServiceImpl contractOrderCommissionService;
 
@@ -134,6 +137,8 @@ class ContractOrderCommissionServiceImplTest {
         assertNotNull(result);
         assertEquals(COMMISSION_15_75, result.getCommission());
         verify(contractOrderCommissionRepository, times(1)).save(commission);
+        verify(commissionTierCache).evictBasicContract(CONTRACT_ID_1);
+        verify(commissionTierCache, never()).clear();
     }
 
     @Test
@@ -158,11 +163,12 @@ class ContractOrderCommissionServiceImplTest {
 
     @Test
     void testDelete() {
-        when(contractOrderCommissionRepository.existsById(CONTRACT_ID_1)).thenReturn(true);
+        when(contractOrderCommissionRepository.findById(CONTRACT_ID_1)).thenReturn(Optional.of(commission));
 
         contractOrderCommissionService.delete(CONTRACT_ID_1);
 
         verify(contractOrderCommissionRepository, times(1)).deleteById(CONTRACT_ID_1);
+        verify(commissionTierCache).evictBasicContract(CONTRACT_ID_1);
     }
 
     @Test
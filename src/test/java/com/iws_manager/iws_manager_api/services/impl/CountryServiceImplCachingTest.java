@@ -0,0 +1,84 @@
+package com.iws_manager.iws_manager_api.services.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.iws_manager.iws_manager_api.config.CacheConfig;
+import com.iws_manager.iws_manager_api.config.CacheNames;
+import com.iws_manager.iws_manager_api.models.Country;
+import com.iws_manager.iws_manager_api.repositories.CountryRepository;
+import com.iws_manager.iws_manager_api.services.interfaces.CountryService;
+
+@SpringJUnitConfig({ CacheConfig.class, CountryServiceImpl.class })
+class CountryServiceImplCachingTest {
+
+    @MockitoBean
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private CountryService countryService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Country country;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheNames.COUNTRIES).clear();
+        country = new Country();
+        country.setId(1L);
+        country.setName("Deutschland");
+        country.setLabel("DE");
+    }
+
+    @Test
+    void findAllShouldHitRepositoryOnlyOnce() {
+        when(countryRepository.findAllByOrderByNameAsc()).thenReturn(List.of(country));
+
+        countryService.findAll();
+        List<Country> result = countryService.findAll();
+
+        assertEquals(1, result.size());
+        verify(countryRepository, times(1)).findAllByOrderByNameAsc();
+    }
+
+    @Test
+    void findByIdShouldBeCachedPerId() {
+        when(countryRepository.findById(1L)).thenReturn(Optional.of(country));
+
+        countryService.findById(1L);
+        Optional<Country> result = countryService.findById(1L);
+
+        assertTrue(result.isPresent());
+        verify(countryRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void writeShouldEvictCachedEntries() {
+        when(countryRepository.findAllByOrderByNameAsc()).thenReturn(List.of(country));
+        when(countryRepository.save(any(Country.class))).thenReturn(country);
+
+        countryService.findAll();
+        countryService.create(country);
+        countryService.findAll();
+
+        verify(countryRepository, times(2)).findAllByOrderByNameAsc();
+    }
+
+    @Test
+    void findByIdShouldStillRejectNullId() {
+        assertThrows(IllegalArgumentException.class, () -> countryService.findById(null));
+    }
+}
@@ -2,6 +2,8 @@ package com.iws_manager.iws_manager_api.services.impl;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDate;
@@ -16,10 +18,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.iws_manager.iws_manager_api.dtos.numbering.NumberScope;
 import com.iws_manager.iws_manager_api.models.EmployeeIws;
 import com.iws_manager.iws_manager_api.models.TeamIws;
 import com.iws_manager.iws_manager_api.models.User;
 import com.iws_manager.iws_manager_api.repositories.EmployeeIwsRepository;
+import com.iws_manager.iws_manager_api.services.interfaces.NumberAllocationService;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeIwsServiceImplTest {
@@ -27,6 +31,9 @@ class EmployeeIwsServiceImplTest {
     @Mock
     private EmployeeIwsRepository employeeIwsRepository;
 
+    @Mock
+    private NumberAllocationService numberAllocationService;
+
     @InjectMocks
     private EmployeeIwsServiceImpl employeeIwsService;
 
@@ -78,6 +85,36 @@ class EmployeeIwsServiceImplTest {
         verify(employeeIwsRepository).save(employeeIws);
     }
 
+    @Test
+    void createShouldAllocateEmployeeNoWhenMissing() {
+        employeeIws.setEmployeeNo(null);
+        when(numberAllocationService.next(eq(NumberScope.EMPLOYEE_IWS_NO), isNull(), any())).thenReturn(1002L);
+        when(employeeIwsRepository.save(any(EmployeeIws.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        EmployeeIws result = employeeIwsService.create(employeeIws);
+
+        assertEquals(1002, result.getEmployeeNo());
+        verify(employeeIwsRepository, never()).findMaxEmployeeNo();
+    }
+
+    @Test
+    void createWithEmployeeNoShouldAdvanceCounterPastIt() {
+        when(employeeIwsRepository.save(any(EmployeeIws.class))).thenReturn(employeeIws);
+
+        employeeIwsService.create(employeeIws);
+
+        verify(numberAllocationService).advancePast(eq(NumberScope.EMPLOYEE_IWS_NO), isNull(), eq(1001L), any());
+        verify(numberAllocationService, never()).next(any(), any(), any());
+    }
+
+    @Test
+    void getNextEmployeeNoShouldPeekWithoutAllocating() {
+        when(numberAllocationService.peek(eq(NumberScope.EMPLOYEE_IWS_NO), isNull(), any())).thenReturn(1002L);
+
+        assertEquals(1002, employeeIwsService.getNextEmployeeNo());
+        verify(numberAllocationService, never()).next(any(), any(), any());
+    }
+
     @Test
     void createWithNullEmployeeIwsShouldThrowException() {
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
@@ -151,6 +188,7 @@ class EmployeeIwsServiceImplTest {
         assertEquals("JohnUpdated", result.getFirstname());
         verify(employeeIwsRepository).findById(EMPLOYEE_ID);
         verify(employeeIwsRepository).save(employeeIws);
+        verify(numberAllocationService).advancePast(eq(NumberScope.EMPLOYEE_IWS_NO), isNull(), eq(1002L), any());
     }
 
     @Test
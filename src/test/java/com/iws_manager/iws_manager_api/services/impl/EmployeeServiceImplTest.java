@@ -1,8 +1,11 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
+import com.iws_manager.iws_manager_api.dtos.numbering.NumberScope;
+import com.iws_manager.iws_manager_api.models.Customer;
 import com.iws_manager.iws_manager_api.models.Employee;
 import com.iws_manager.iws_manager_api.repositories.EmployeeRepository;
 import com.iws_manager.iws_manager_api.services.interfaces.EmployeeService;
+import com.iws_manager.iws_manager_api.services.interfaces.NumberAllocationService;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,6 +33,9 @@ class EmployeeServiceImplTest {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private NumberAllocationService numberAllocationService;
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -58,6 +64,19 @@ class EmployeeServiceImplTest {
         verify(employeeRepository, times(1)).save(sampleEmployee);
     }
 
+    @Test
+    void testCreateAdvancesCustomerCounterPastEmployeeNo() {
+        Customer customer = new Customer();
+        customer.setId(7L);
+        sampleEmployee.setCustomer(customer);
+        when(employeeRepository.save(any(Employee.class))).thenReturn(sampleEmployee);
+
+        employeeService.create(sampleEmployee);
+
+        verify(numberAllocationService).advancePast(eq(NumberScope.CUSTOMER_EMPLOYEE_NO), eq(7L),
+                eq((long) NO), any());
+    }
+
     @Test
     void testFindById() {
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(sampleEmployee));
@@ -0,0 +1,101 @@
+package com.iws_manager.iws_manager_api.services.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.iws_manager.iws_manager_api.dtos.employee.EmployeeDTO;
+import com.iws_manager.iws_manager_api.dtos.employee.EmployeeNameDTO;
+import com.iws_manager.iws_manager_api.dtos.employee.EmployeeNameList;
+import com.iws_manager.iws_manager_api.mappers.EmployeeMapper;
+import com.iws_manager.iws_manager_api.models.Employee;
+import com.iws_manager.iws_manager_api.repositories.EmployeeRepository;
+import com.iws_manager.iws_manager_api.repositories.OrderRepository;
+import com.iws_manager.iws_manager_api.services.interfaces.NumberAllocationService;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeServiceV2ImplTest {
+
+    private static final EmployeeNameDTO MUELLER = new EmployeeNameDTO(1L, 10, "Anna", "Müller", "Müller, Anna");
+    private static final EmployeeNameDTO SCHMIDT = new EmployeeNameDTO(2L, 11, "Jan", "Schmidt", "Schmidt, Jan");
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EmployeeMapper employeeMapper;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private NumberAllocationService numberAllocationService;
+
+    @InjectMocks
+    private EmployeeServiceV2Impl employeeService;
+
+    // ------------------- NAME LOOKUP TESTS -------------------
+    @Test
+    void getEmployeesByCustomerSortedByNameShouldUseProjection() {
+        when(employeeRepository.findNamesByCustomerId(5L)).thenReturn(List.of(MUELLER, SCHMIDT));
+
+        assertEquals(List.of(MUELLER, SCHMIDT), employeeService.getEmployeesByCustomerSortedByName(5L));
+
+        verify(employeeRepository, never()).findByCustomerIdOrderByEmployeenoAsc(any());
+        verifyNoInteractions(employeeMapper);
+    }
+
+    @Test
+    void getEmployeesByCustomerSortedByNameShouldRejectNullId() {
+        assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployeesByCustomerSortedByName(null));
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    void getEmployeesByProjectSortedByNameShouldUseProjection() {
+        when(employeeRepository.findNamesByProjectId(3L)).thenReturn(List.of(SCHMIDT));
+
+        assertEquals(List.of(SCHMIDT), employeeService.getEmployeesByProjectSortedByName(3L));
+
+        verifyNoInteractions(orderRepository, employeeMapper);
+    }
+
+    @Test
+    void getEmployeesByProjectSortedByNameShouldRejectNullId() {
+        assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployeesByProjectSortedByName(null));
+    }
+
+    @Test
+    void findByProjectIdShouldMapEmployeesSortedByFirstname() {
+        Employee employee = new Employee();
+        EmployeeDTO dto = mock(EmployeeDTO.class);
+        when(orderRepository.findEmployeesByProjectIdOrderByFirstnameAsc(3L)).thenReturn(List.of(employee));
+        when(employeeMapper.toDTOList(List.of(employee))).thenReturn(List.of(dto));
+
+        assertEquals(List.of(dto), employeeService.findByProjectId(3L));
+
+        verify(employeeRepository, never()).findNamesByProjectId(any());
+    }
+
+    @Test
+    void getEmployeeNameListByCustomerShouldTagContent() {
+        when(employeeRepository.findNamesByCustomerId(5L)).thenReturn(List.of(MUELLER, SCHMIDT), List.of(MUELLER),
+                List.of(MUELLER));
+
+        EmployeeNameList first = employeeService.getEmployeeNameListByCustomer(5L);
+        EmployeeNameList changed = employeeService.getEmployeeNameListByCustomer(5L);
+        EmployeeNameList unchanged = employeeService.getEmployeeNameListByCustomer(5L);
+
+        assertEquals(List.of(MUELLER, SCHMIDT), first.employees());
+        assertTrue(first.eTag().startsWith("\"employees-5-"));
+        assertNotEquals(first.eTag(), changed.eTag());
+        assertEquals(changed.eTag(), unchanged.eTag());
+    }
+}
@@ -0,0 +1,143 @@
+package com.iws_manager.iws_manager_api.services.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.iws_manager.iws_manager_api.dtos.debt.DebtExportCriteria;
+import com.iws_manager.iws_manager_api.dtos.order.OrderListItemDTO;
+import com.iws_manager.iws_manager_api.dtos.projectcost.ProjectCostListItemDTO;
+import com.iws_manager.iws_manager_api.export.ExportFormat;
+import com.iws_manager.iws_manager_api.repositories.DebtRepository;
+import com.iws_manager.iws_manager_api.repositories.InvoiceRepository;
+import com.iws_manager.iws_manager_api.repositories.OrderRepository;
+import com.iws_manager.iws_manager_api.repositories.ProjectCostRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceImplTest {
+
+    @Mock
+    private InvoiceRepository invoiceRepository;
+
+    @Mock
+    private DebtRepository debtRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ProjectCostRepository projectCostRepository;
+
+    @InjectMocks
+    private ExportServiceImpl exportService;
+
+    private static OrderListItemDTO order(int orderNo, String title) {
+        return new OrderListItemDTO((long) orderNo, orderNo, "L" + orderNo, title, null,
+                LocalDate.of(2025, 1, 15), null, null, new BigDecimal("1000.00"), 5L, "ACME GmbH", null, null,
+                null, null, null, 0);
+    }
+
+    // ------------------- ORDER EXPORT TESTS -------------------
+    @Test
+    void exportOrdersShouldWriteHeaderAndOneLinePerRowAndCloseStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(orderRepository.streamListItems(5L, null)).thenReturn(
+                Stream.of(order(1, "First"), order(2, "Second")).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exportService.exportOrders(5L, null, ExportFormat.CSV, out);
+
+        assertEquals(2, rows);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("\uFEFFOrder No;Label;Title"));
+        assertTrue(lines[1].startsWith("1;L1;First;;2025-01-15;;;1000.00;ACME GmbH"));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void exportOrdersShouldWriteWorkbookForXlsx() {
+        when(orderRepository.streamListItems(null, null)).thenReturn(Stream.of(order(1, "First")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exportService.exportOrders(null, null, ExportFormat.XLSX, out);
+
+        assertEquals(1, rows);
+        byte[] bytes = out.toByteArray();
+        assertEquals('P', bytes[0]);
+        assertEquals('K', bytes[1]);
+    }
+
+    @Test
+    void exportOrdersShouldRequireFormatAndStream() {
+        assertThrows(IllegalArgumentException.class,
+                () -> exportService.exportOrders(null, null, null, new ByteArrayOutputStream()));
+        verifyNoInteractions(orderRepository);
+    }
+
+    // ------------------- DEBT EXPORT TESTS -------------------
+    @Test
+    void exportDebtsShouldPassFiltersToRepository() {
+        DebtExportCriteria criteria = new DebtExportCriteria(1L, 2L, 3L, 4L,
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+        when(debtRepository.streamListItems(1L, 2L, 3L, 4L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)))
+                .thenReturn(Stream.empty());
+
+        long rows = exportService.exportDebts(criteria, ExportFormat.CSV, new ByteArrayOutputStream());
+
+        assertEquals(0, rows);
+    }
+
+    @Test
+    void exportDebtsShouldRejectInvertedDateRange() {
+        DebtExportCriteria criteria = new DebtExportCriteria(null, null, null, null,
+                LocalDate.of(2025, 12, 31), LocalDate.of(2025, 1, 1));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> exportService.exportDebts(criteria, ExportFormat.CSV, new ByteArrayOutputStream()));
+        verifyNoInteractions(debtRepository);
+    }
+
+    // ------------------- PROJECT COST EXPORT TESTS -------------------
+    @Test
+    void exportProjectCostsShouldLabelCostType() {
+        when(projectCostRepository.streamListItems(10L, null, null)).thenReturn(Stream.of(
+                new ProjectCostListItemDTO(1L, 10L, "P-10", 100L, "1", (byte) 1, new BigDecimal("5.00"), 0),
+                new ProjectCostListItemDTO(2L, 10L, "P-10", 100L, "1", (byte) 2, new BigDecimal("7.00"), 0)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.exportProjectCosts(10L, null, null, ExportFormat.CSV, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.contains("P-10;1;Approved;5.00\r\n"));
+        assertTrue(csv.contains("P-10;1;Planned;7.00\r\n"));
+    }
+
+    @Test
+    void exportProjectCostsShouldRejectUnknownCostType() {
+        assertThrows(IllegalArgumentException.class, () -> exportService.exportProjectCosts(10L, null, (byte) 3,
+                ExportFormat.CSV, new ByteArrayOutputStream()));
+        verifyNoInteractions(projectCostRepository);
+    }
+
+    // ------------------- INVOICE EXPORT TESTS -------------------
+    @Test
+    void exportInvoicesShouldRequireCriteria() {
+        assertThrows(IllegalArgumentException.class,
+                () -> exportService.exportInvoices(null, ExportFormat.CSV, new ByteArrayOutputStream()));
+        verify(invoiceRepository, never()).stream(any(), any());
+    }
+}
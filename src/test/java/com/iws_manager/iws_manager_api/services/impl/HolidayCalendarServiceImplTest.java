@@ -0,0 +1,139 @@
+package com.iws_manager.iws_manager_api.services.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.iws_manager.iws_manager_api.dtos.publicholiday.SimpleHolidayDTO;
+import com.iws_manager.iws_manager_api.models.HolidayYear;
+import com.iws_manager.iws_manager_api.models.PublicHoliday;
+import com.iws_manager.iws_manager_api.repositories.HolidayYearRepository;
+import com.iws_manager.iws_manager_api.repositories.PublicHolidayRepository;
+import com.iws_manager.iws_manager_api.services.holiday.HolidayCalendar;
+
+@ExtendWith(MockitoExtension.class)
+class HolidayCalendarServiceImplTest {
+
+    private static final LocalDate START_2024 = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END_2024 = LocalDate.of(2024, 12, 31);
+
+    @Mock
+    private PublicHolidayRepository publicHolidayRepository;
+
+    @Mock
+    private HolidayYearRepository holidayYearRepository;
+
+    @InjectMocks
+    private HolidayCalendarServiceImpl holidayCalendarService;
+
+    private PublicHoliday unityDay;
+    private PublicHoliday easterMonday;
+    private PublicHoliday newYear;
+
+    @BeforeEach
+    void setUp() {
+        unityDay = holiday("Tag der Deutschen Einheit", LocalDate.of(2024, 10, 3));
+        easterMonday = holiday("Ostermontag", LocalDate.of(2023, 4, 10));
+        newYear = holiday("Neujahr", LocalDate.of(2000, 1, 1));
+    }
+
+    private PublicHoliday holiday(String name, LocalDate date) {
+        PublicHoliday holiday = new PublicHoliday();
+        holiday.setName(name);
+        holiday.setDate(date);
+        return holiday;
+    }
+
+    private HolidayCalendar compile() {
+        HolidayYear easter2024 = new HolidayYear();
+        easter2024.setDate(LocalDate.of(2024, 4, 1));
+        easter2024.setPublicHoliday(easterMonday);
+
+        when(publicHolidayRepository.findHolidaysBetweenDates(START_2024, END_2024, 1L)).thenReturn(List.of(unityDay));
+        when(holidayYearRepository.findHolidaysBetweenDates(START_2024, END_2024, 1L)).thenReturn(List.of(easter2024));
+        when(publicHolidayRepository.findAllFixedHolidays(1L)).thenReturn(List.of(newYear));
+
+        return holidayCalendarService.getCalendar(2024, 1L);
+    }
+
+    @Test
+    void getCalendarShouldMergeAllHolidaySources() {
+        HolidayCalendar calendar = compile();
+
+        assertTrue(calendar.isHoliday(LocalDate.of(2024, 10, 3)));
+        assertTrue(calendar.isHoliday(LocalDate.of(2024, 4, 1)));
+        assertTrue(calendar.isHoliday(LocalDate.of(2024, 1, 1)));
+        assertFalse(calendar.isHoliday(LocalDate.of(2024, 10, 4)));
+        assertEquals("Ostermontag", calendar.getHolidayName(LocalDate.of(2024, 4, 1)));
+        assertNull(calendar.getHolidayName(LocalDate.of(2024, 4, 2)));
+    }
+
+    @Test
+    void countWorkingDaysShouldSkipWeekendsAndHolidays() {
+        HolidayCalendar calendar = compile();
+
+        // 2024-09-30 (Mon) .. 2024-10-06 (Sun), with 2024-10-03 a holiday
+        assertEquals(4, calendar.countWorkingDays(LocalDate.of(2024, 9, 30), LocalDate.of(2024, 10, 6)));
+        // 262 weekdays in 2024 minus three weekday holidays
+        assertEquals(259, calendar.countWorkingDays(START_2024, END_2024));
+        assertFalse(calendar.isWorkingDay(LocalDate.of(2024, 10, 5)));
+        assertTrue(calendar.isWorkingDay(LocalDate.of(2024, 10, 4)));
+    }
+
+    @Test
+    void getNonWorkingDaysShouldPreferHolidayNameOverWeekday() {
+        HolidayCalendar calendar = compile();
+
+        List<SimpleHolidayDTO> days = calendar.getNonWorkingDays(LocalDate.of(2024, 10, 1), LocalDate.of(2024, 10, 6));
+
+        assertEquals(List.of(
+                SimpleHolidayDTO.fromHoliday("Tag der Deutschen Einheit", LocalDate.of(2024, 10, 3)),
+                SimpleHolidayDTO.forSaturday(LocalDate.of(2024, 10, 5)),
+                SimpleHolidayDTO.forSunday(LocalDate.of(2024, 10, 6))), days);
+    }
+
+    @Test
+    void getCalendarShouldSkipFebruary29InNonLeapYears() {
+        PublicHoliday leapDay = holiday("Schalttag", LocalDate.of(2024, 2, 29));
+        when(publicHolidayRepository.findHolidaysBetweenDates(any(), any(), isNull())).thenReturn(List.of());
+        when(holidayYearRepository.findHolidaysBetweenDates(any(), any(), isNull())).thenReturn(List.of());
+        when(publicHolidayRepository.findAllFixedHolidays(null)).thenReturn(List.of(leapDay));
+
+        HolidayCalendar calendar = holidayCalendarService.getCalendar(2025, null);
+
+        assertEquals(0, calendar.getHolidays(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)).size());
+    }
+
+    @Test
+    void calendarShouldIgnoreHolidaysWithoutName() {
+        LocalDate date = LocalDate.of(2024, 5, 1);
+        HolidayCalendar calendar = HolidayCalendar.builder(2024, null)
+                .put(date, "Tag der Arbeit")
+                .put(date, null)
+                .put(LocalDate.of(2024, 5, 2), null)
+                .build();
+
+        assertTrue(calendar.isHoliday(date));
+        assertEquals("Tag der Arbeit", calendar.getHolidayName(date));
+        assertFalse(calendar.isHoliday(LocalDate.of(2024, 5, 2)));
+        assertTrue(calendar.isWorkingDay(LocalDate.of(2024, 5, 2)));
+    }
+
+    @Test
+    void calendarShouldRejectDatesOfOtherYears() {
+        HolidayCalendar calendar = HolidayCalendar.builder(2024, null).build();
+
+        assertThrows(IllegalArgumentException.class, () -> calendar.isHoliday(LocalDate.of(2025, 1, 1)));
+    }
+}
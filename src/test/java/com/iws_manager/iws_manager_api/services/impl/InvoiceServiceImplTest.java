@@ -16,7 +16,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import com.iws_manager.iws_manager_api.dtos.invoice.InvoiceListItemDTO;
+import com.iws_manager.iws_manager_api.dtos.invoice.InvoiceSearchCriteria;
 import com.iws_manager.iws_manager_api.models.Invoice;
 import com.iws_manager.iws_manager_api.repositories.InvoiceRepository;
 
@@ -298,4 +304,52 @@ class InvoiceServiceImplTest {
         assertEquals(1, result.size());
         verify(invoiceRepository, times(1)).findByTaxRateBetween(start, end);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFindAllListItems() {
+        InvoiceListItemDTO row = new InvoiceListItemDTO(1L, 1001, INVOICE_TITLE, LocalDate.now(), null, null,
+                new BigDecimal("100.00"), new BigDecimal("19.00"), new BigDecimal("119.00"), BigDecimal.ZERO,
+                new BigDecimal("119.00"), (short) 0, 5L, "Customer", 7L, 2001, "Order", "Rechnung", "Biller", 0);
+        when(invoiceRepository.findAllListItems()).thenReturn(List.of(row));
+
+        List<InvoiceListItemDTO> result = invoiceService.findAllListItems();
+
+        assertEquals(1, result.size());
+        assertEquals("Customer", result.get(0).customerName());
+        verify(invoiceRepository, never()).findAll();
+    }
+
+    @Test
+    void testGetListItemsByCustomerIdShouldThrowWhenIdIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> invoiceService.getListItemsByCustomerId(null));
+        assertThrows(IllegalArgumentException.class, () -> invoiceService.getListItemsByOrderId(null));
+        verifyNoInteractions(invoiceRepository);
+    }
+
+    @Test
+    void testSearchShouldDelegateCriteriaAndPageable() {
+        InvoiceSearchCriteria criteria = searchCriteria(5L, new BigDecimal("100.00"), new BigDecimal("500.00"));
+        Pageable pageable = PageRequest.of(0, 50);
+        when(invoiceRepository.search(criteria, pageable)).thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+        Page<InvoiceListItemDTO> result = invoiceService.search(criteria, pageable);
+
+        assertEquals(0, result.getTotalElements());
+        verify(invoiceRepository, times(1)).search(criteria, pageable);
+    }
+
+    @Test
+    void testSearchShouldRejectInvertedRange() {
+        InvoiceSearchCriteria criteria = searchCriteria(null, new BigDecimal("500.00"), new BigDecimal("100.00"));
+
+        assertThrows(IllegalArgumentException.class, () -> invoiceService.search(criteria, PageRequest.of(0, 50)));
+        verifyNoInteractions(invoiceRepository);
+    }
+
+    private InvoiceSearchCriteria searchCriteria(Long customerId, BigDecimal amountGrossMin,
+            BigDecimal amountGrossMax) {
+        return new InvoiceSearchCriteria(customerId, null, null, null, null, null, null, null, null,
+                null, null, amountGrossMin, amountGrossMax, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, null, null, null);
+    }
+}
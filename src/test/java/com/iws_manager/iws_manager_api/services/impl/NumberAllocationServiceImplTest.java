@@ -0,0 +1,175 @@
+package com.iws_manager.iws_manager_api.services.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.iws_manager.iws_manager_api.dtos.numbering.NumberScope;
+import com.iws_manager.iws_manager_api.repositories.NumberCounterRepository;
+
+@ExtendWith(MockitoExtension.class)
+class NumberAllocationServiceImplTest {
+
+    private static final NumberScope GLOBAL = NumberScope.EMPLOYEE_IWS_NO;
+    private static final NumberScope KEYED = NumberScope.CUSTOMER_EMPLOYEE_NO;
+    private static final LongSupplier NO_SEED = () -> {
+        throw new AssertionError("Seed must not be read when the counter exists");
+    };
+
+    @Mock
+    private NumberCounterRepository numberCounterRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MockEnvironment environment;
+    private NumberAllocationServiceImpl numberAllocationService;
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment();
+        numberAllocationService = new NumberAllocationServiceImpl(numberCounterRepository, transactionManager,
+                environment);
+    }
+
+    // ------------------- NEXT TESTS -------------------
+    @Test
+    void nextShouldReserveOneBlockAndServeItFromMemory() {
+        when(numberCounterRepository.findNextValue(GLOBAL, NumberScope.GLOBAL_KEY)).thenReturn(Optional.of(100L));
+        when(numberCounterRepository.lockNextValue(GLOBAL, NumberScope.GLOBAL_KEY)).thenReturn(Optional.of(100L));
+
+        assertEquals(100L, numberAllocationService.next(GLOBAL, null, NO_SEED));
+        assertEquals(101L, numberAllocationService.next(GLOBAL, null, NO_SEED));
+        assertEquals(102L, numberAllocationService.next(GLOBAL, null, NO_SEED));
+
+        verify(numberCounterRepository, times(1)).lockNextValue(GLOBAL, NumberScope.GLOBAL_KEY);
+        verify(numberCounterRepository).updateNextValue(GLOBAL, NumberScope.GLOBAL_KEY,
+                100L + GLOBAL.defaultBlockSize());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void nextShouldUseConfiguredBlockSize() {
+        environment.setProperty(NumberAllocationServiceImpl.BLOCK_SIZE_PROPERTY + GLOBAL.property(), "50");
+        when(numberCounterRepository.findNextValue(GLOBAL, NumberScope.GLOBAL_KEY)).thenReturn(Optional.of(100L));
+        when(numberCounterRepository.lockNextValue(GLOBAL, NumberScope.GLOBAL_KEY)).thenReturn(Optional.of(100L));
+
+        numberAllocationService.next(GLOBAL, null, NO_SEED);
+
+        verify(numberCounterRepository).updateNextValue(GLOBAL, NumberScope.GLOBAL_KEY, 150L);
+    }
+
+    @Test
+    void nextShouldSeedCounterWhenItDoesNotExist() {
+        when(numberCounterRepository.findNextValue(KEYED, 7L)).thenReturn(Optional.empty());
+        when(numberCounterRepository.lockNextValue(KEYED, 7L)).thenReturn(Optional.of(43L));
+
+        assertEquals(43L, numberAllocationService.next(KEYED, 7L, () -> 43L));
+
+        verify(numberCounterRepository).insertIfAbsent(KEYED, 7L, 43L);
+        verify(numberCounterRepository).updateNextValue(KEYED, 7L, 44L);
+    }
+
+    @Test
+    void nextShouldReserveEveryNumberForKeyedScopes() {
+        when(numberCounterRepository.findNextValue(KEYED, 7L)).thenReturn(Optional.of(5L));
+        when(numberCounterRepository.lockNextValue(KEYED, 7L)).thenReturn(Optional.of(5L), Optional.of(6L));
+
+        assertEquals(5L, numberAllocationService.next(KEYED, 7L, NO_SEED));
+        assertEquals(6L, numberAllocationService.next(KEYED, 7L, NO_SEED));
+
+        verify(numberCounterRepository).updateNextValue(KEYED, 7L, 6L);
+        verify(numberCounterRepository).updateNextValue(KEYED, 7L, 7L);
+    }
+
+    @Test
+    void nextShouldKeepCountersOfDifferentKeysApart() {
+        when(numberCounterRepository.findNextValue(eq(KEYED), anyLong())).thenReturn(Optional.of(1L));
+        when(numberCounterRepository.lockNextValue(eq(KEYED), anyLong())).thenReturn(Optional.of(1L));
+
+        assertEquals(1L, numberAllocationService.next(KEYED, 7L, NO_SEED));
+        assertEquals(1L, numberAllocationService.next(KEYED, 8L, NO_SEED));
+    }
+
+    @Test
+    void nextShouldRequireKeyForKeyedScopes() {
+        assertThrows(IllegalArgumentException.class, () -> numberAllocationService.next(KEYED, null, NO_SEED));
+        verifyNoInteractions(numberCounterRepository);
+    }
+
+    // ------------------- PEEK TESTS -------------------
+    @Test
+    void peekShouldReturnNextNumberOfReservedBlock() {
+        when(numberCounterRepository.findNextValue(GLOBAL, NumberScope.GLOBAL_KEY)).thenReturn(Optional.of(100L));
+        when(numberCounterRepository.lockNextValue(GLOBAL, NumberScope.GLOBAL_KEY)).thenReturn(Optional.of(100L));
+        numberAllocationService.next(GLOBAL, null, NO_SEED);
+
+        assertEquals(101L, numberAllocationService.peek(GLOBAL, null, NO_SEED));
+        assertEquals(101L, numberAllocationService.next(GLOBAL, null, NO_SEED));
+    }
+
+    @Test
+    void peekShouldReadCounterWithoutReserving() {
+        when(numberCounterRepository.findNextValue(KEYED, 7L)).thenReturn(Optional.of(12L));
+
+        assertEquals(12L, numberAllocationService.peek(KEYED, 7L, NO_SEED));
+
+        verify(numberCounterRepository, never()).lockNextValue(any(), anyLong());
+        verify(numberCounterRepository, never()).updateNextValue(any(), anyLong(), anyLong());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void peekShouldFallBackToSeedWhenCounterDoesNotExist() {
+        when(numberCounterRepository.findNextValue(KEYED, 7L)).thenReturn(Optional.empty());
+
+        assertEquals(1L, numberAllocationService.peek(KEYED, 7L, () -> 0L));
+
+        verify(numberCounterRepository, never()).insertIfAbsent(any(), anyLong(), anyLong());
+    }
+
+    // ------------------- ADVANCE PAST TESTS -------------------
+    @Test
+    void advancePastShouldRaiseCounter() {
+        when(numberCounterRepository.findNextValue(KEYED, 7L)).thenReturn(Optional.of(5L));
+
+        numberAllocationService.advancePast(KEYED, 7L, 20L, NO_SEED);
+
+        verify(numberCounterRepository).raiseNextValue(KEYED, 7L, 21L);
+        verify(numberCounterRepository, never()).insertIfAbsent(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void advancePastShouldCreateMissingCounterAboveValueAndData() {
+        when(numberCounterRepository.findNextValue(KEYED, 7L)).thenReturn(Optional.empty());
+
+        numberAllocationService.advancePast(KEYED, 7L, 20L, () -> 30L);
+
+        verify(numberCounterRepository).insertIfAbsent(KEYED, 7L, 30L);
+        verify(numberCounterRepository).raiseNextValue(KEYED, 7L, 21L);
+    }
+
+    @Test
+    void advancePastShouldSkipNumbersOfReservedBlockWithoutDatabaseAccess() {
+        when(numberCounterRepository.findNextValue(GLOBAL, NumberScope.GLOBAL_KEY)).thenReturn(Optional.of(100L));
+        when(numberCounterRepository.lockNextValue(GLOBAL, NumberScope.GLOBAL_KEY)).thenReturn(Optional.of(100L));
+        numberAllocationService.next(GLOBAL, null, NO_SEED);
+
+        numberAllocationService.advancePast(GLOBAL, null, 104L, NO_SEED);
+
+        assertEquals(105L, numberAllocationService.next(GLOBAL, null, NO_SEED));
+        verify(numberCounterRepository, never()).raiseNextValue(any(), anyLong(), anyLong());
+    }
+}
@@ -1,5 +1,6 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
+import com.iws_manager.iws_manager_api.models.Order;
 import com.iws_manager.iws_manager_api.models.OrderCommission;
 import com.iws_manager.iws_manager_api.repositories.OrderCommissionRepository;
 import org.junit.jupiter.api.Test;
@@ -33,6 +34,9 @@ class OrderCommissionServiceImplTest {
     @Mock
     private OrderCommissionRepository orderCommissionRepository;
 
+    @Mock
+    private CommissionTierCache commissionTierCache;
+
     @InjectMocks
     private OrderCommissionServiceImpl orderCommissionService;
 
@@ -197,12 +201,18 @@ class OrderCommissionServiceImplTest {
 
     @Test
     void deleteWithValidIdShouldCallRepository() {
-        when(orderCommissionRepository.existsById(1L)).thenReturn(true);
+        Order order = new Order();
+        order.setId(7L);
+        OrderCommission existing = new OrderCommission();
+        existing.setOrder(order);
+        when(orderCommissionRepository.findById(1L)).thenReturn(Optional.of(existing));
         // Act
         orderCommissionService.delete(1L);
 
         // Assert
         verify(orderCommissionRepository, times(1)).deleteById(1L);
+        verify(commissionTierCache).evictOrder(7L);
+        verify(commissionTierCache, never()).clear();
     }
 
     @Test
@@ -12,8 +12,6 @@ import java.util.Optional;
 
 import com.iws_manager.iws_manager_api.models.BasicContract;
 import com.iws_manager.iws_manager_api.models.ContractOrderCommission;
-import com.iws_manager.iws_manager_api.repositories.ContractOrderCommissionRepository;
-import com.iws_manager.iws_manager_api.repositories.OrderCommissionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,8 +19,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.iws_manager.iws_manager_api.dtos.order.OrderListItemDTO;
 import com.iws_manager.iws_manager_api.models.Order;
 import com.iws_manager.iws_manager_api.repositories.OrderRepository;
+import com.iws_manager.iws_manager_api.services.interfaces.CommissionTemplateService;
 
 @ExtendWith(MockitoExtension.class)
 public class OrderServiceImplTest {
@@ -51,10 +51,7 @@ public class OrderServiceImplTest {
     private OrderRepository orderRepository;
 
     @Mock
-    private OrderCommissionRepository orderCommissionRepository;
-
-    @Mock
-    private ContractOrderCommissionRepository contractOrderCommissionRepository;
+    private CommissionTemplateService commissionTemplateService;
 
     @InjectMocks
     private OrderServiceImpl orderService;
@@ -107,16 +104,23 @@ public class OrderServiceImplTest {
     void createShouldSaveOrder() {
         when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        when(orderCommissionRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
-
         Order result = orderService.create(order1);
 
         verify(orderRepository).save(order1);
-        verify(orderCommissionRepository).saveAll(anyList());
+        verify(commissionTemplateService).cloneForOrder(ORDER_1_ID, 1L);
         assertNotNull(result);
         assertEquals(ORDER_1_ID, result.getId());
     }
 
+    @Test
+    void createShouldCloneIwsCommissionsWhenOrderHasNoBasicContract() {
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        orderService.create(order2);
+
+        verify(commissionTemplateService).cloneForOrder(ORDER_2_ID, null);
+    }
+
     @Test
     void findByIdShouldReturnOrder() {
         when(orderRepository.findById(ORDER_1_ID)).thenReturn(Optional.of(order1));
@@ -284,4 +288,24 @@ public class OrderServiceImplTest {
         assertThrows(IllegalArgumentException.class, () -> 
             orderService.getByCustomerIdOrderByOrderLabelAsc(null));
     }
-}
\ No newline at end of file
+
+    @Test
+    void findAllListItemsShouldReturnProjectedRows() {
+        OrderListItemDTO row = new OrderListItemDTO(ORDER_1_ID, ORDER_NO_1, "Label", "Title", ACRONYM_1,
+                LocalDate.now(), null, null, ORDER_VALUE_1, 1L, "Customer", 2L, "P-1", "Type", "Approved",
+                "Active", 0);
+        when(orderRepository.findAllListItems()).thenReturn(List.of(row));
+
+        List<OrderListItemDTO> result = orderService.findAllListItems();
+
+        assertEquals(1, result.size());
+        assertEquals(ACRONYM_1, result.get(0).acronym());
+        verify(orderRepository, never()).findAll();
+    }
+
+    @Test
+    void getListItemsByCustomerIdShouldThrowExceptionWhenIdIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> orderService.getListItemsByCustomerId(null));
+        assertThrows(IllegalArgumentException.class, () -> orderService.getListItemsByProjectId(null));
+    }
+}
@@ -0,0 +1,172 @@
+package com.iws_manager.iws_manager_api.services.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.iws_manager.iws_manager_api.dtos.pdf.PdfDocumentInfo;
+import com.iws_manager.iws_manager_api.dtos.pdf.PdfDocumentType;
+import com.iws_manager.iws_manager_api.repositories.PdfDocumentRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+class PdfDocumentServiceImplTest {
+
+    private static final byte[] PDF = "%PDF-1.7 test".getBytes(StandardCharsets.US_ASCII);
+
+    @Mock
+    private PdfDocumentRepository pdfDocumentRepository;
+
+    @InjectMocks
+    private PdfDocumentServiceImpl pdfDocumentService;
+
+    // ------------------- GET INFO TESTS -------------------
+    @Test
+    void getInfoShouldReturnInfoWhenPdfIsStored() {
+        PdfDocumentInfo info = new PdfDocumentInfo(PdfDocumentType.INVOICE, 1L, 3, 42L);
+        when(pdfDocumentRepository.findInfo(PdfDocumentType.INVOICE, 1L)).thenReturn(Optional.of(info));
+
+        PdfDocumentInfo result = pdfDocumentService.getInfo(PdfDocumentType.INVOICE, 1L);
+
+        assertEquals(42L, result.length());
+        assertEquals(PdfDocumentType.INVOICE.eTag(1L, 3), result.eTag());
+    }
+
+    @Test
+    void getInfoShouldThrowWhenOwnerDoesNotExist() {
+        when(pdfDocumentRepository.findInfo(PdfDocumentType.ORDER_APPROVAL, 1L)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class,
+                () -> pdfDocumentService.getInfo(PdfDocumentType.ORDER_APPROVAL, 1L));
+    }
+
+    @Test
+    void getInfoShouldThrowWhenNoPdfIsStored() {
+        PdfDocumentInfo info = new PdfDocumentInfo(PdfDocumentType.ORDER_CONTRACT, 1L, 0, null);
+        when(pdfDocumentRepository.findInfo(PdfDocumentType.ORDER_CONTRACT, 1L)).thenReturn(Optional.of(info));
+
+        assertThrows(EntityNotFoundException.class,
+                () -> pdfDocumentService.getInfo(PdfDocumentType.ORDER_CONTRACT, 1L));
+    }
+
+    @Test
+    void getInfoShouldThrowIllegalArgumentExceptionWhenIdIsNull() {
+        assertThrows(IllegalArgumentException.class,
+                () -> pdfDocumentService.getInfo(PdfDocumentType.INVOICE, null));
+        verifyNoInteractions(pdfDocumentRepository);
+    }
+
+    // ------------------- COPY TESTS -------------------
+    @Test
+    void copyToShouldDelegateRangeToRepository() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        pdfDocumentService.copyTo(PdfDocumentType.INVOICE, 1L, 10, 20, out);
+
+        verify(pdfDocumentRepository).copyTo(PdfDocumentType.INVOICE, 1L, 10, 20, out);
+    }
+
+    @Test
+    void copyToShouldRejectNegativeOffset() {
+        assertThrows(IllegalArgumentException.class,
+                () -> pdfDocumentService.copyTo(PdfDocumentType.INVOICE, 1L, -1, 20, new ByteArrayOutputStream()));
+        verifyNoInteractions(pdfDocumentRepository);
+    }
+
+    // ------------------- DOWNLOAD TESTS -------------------
+    @Test
+    void downloadShouldPassInfoAndCopyContentOfSameDocument() throws Exception {
+        PdfDocumentInfo info = new PdfDocumentInfo(PdfDocumentType.INVOICE, 1L, 3, 42L);
+        when(pdfDocumentRepository.findInfo(PdfDocumentType.INVOICE, 1L)).thenReturn(Optional.of(info));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        pdfDocumentService.download(PdfDocumentType.INVOICE, 1L, (received, content) -> {
+            assertEquals(info, received);
+            content.copyTo(0, received.length(), out);
+        });
+
+        verify(pdfDocumentRepository).copyTo(PdfDocumentType.INVOICE, 1L, 0, 42L, out);
+    }
+
+    @Test
+    void downloadShouldNotCallHandlerWhenNoPdfIsStored() {
+        PdfDocumentInfo info = new PdfDocumentInfo(PdfDocumentType.ORDER_CONTRACT, 1L, 0, null);
+        when(pdfDocumentRepository.findInfo(PdfDocumentType.ORDER_CONTRACT, 1L)).thenReturn(Optional.of(info));
+
+        assertThrows(EntityNotFoundException.class, () -> pdfDocumentService.download(
+                PdfDocumentType.ORDER_CONTRACT, 1L, (received, content) -> fail("handler must not be called")));
+        verify(pdfDocumentRepository, never()).copyTo(any(), any(), anyLong(), anyLong(), any());
+    }
+
+    // ------------------- STORE TESTS -------------------
+    @Test
+    void storeShouldWritePdfAndReturnNewVersion() {
+        PdfDocumentInfo before = new PdfDocumentInfo(PdfDocumentType.INVOICE, 1L, 0, null);
+        PdfDocumentInfo after = new PdfDocumentInfo(PdfDocumentType.INVOICE, 1L, 1, (long) PDF.length);
+        when(pdfDocumentRepository.findInfo(PdfDocumentType.INVOICE, 1L))
+                .thenReturn(Optional.of(before), Optional.of(after));
+        when(pdfDocumentRepository.write(eq(PdfDocumentType.INVOICE), eq(1L), any(InputStream.class), anyLong()))
+                .thenReturn(1);
+
+        PdfDocumentInfo result = pdfDocumentService.store(PdfDocumentType.INVOICE, 1L,
+                new ByteArrayInputStream(PDF), PDF.length);
+
+        assertEquals(1, result.version());
+        assertEquals((long) PDF.length, result.length());
+        verify(pdfDocumentRepository).write(eq(PdfDocumentType.INVOICE), eq(1L), any(InputStream.class),
+                eq((long) PDF.length));
+    }
+
+    @Test
+    void storeShouldRejectContentThatIsNotPdf() {
+        PdfDocumentInfo before = new PdfDocumentInfo(PdfDocumentType.INVOICE, 1L, 0, null);
+        when(pdfDocumentRepository.findInfo(PdfDocumentType.INVOICE, 1L)).thenReturn(Optional.of(before));
+        byte[] png = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n' };
+
+        assertThrows(IllegalArgumentException.class, () -> pdfDocumentService.store(PdfDocumentType.INVOICE, 1L,
+                new ByteArrayInputStream(png), png.length));
+        verify(pdfDocumentRepository, never()).write(any(), any(), any(), anyLong());
+    }
+
+    @Test
+    void storeShouldThrowWhenOwnerDoesNotExist() {
+        when(pdfDocumentRepository.findInfo(PdfDocumentType.ORDER_APPROVAL, 99L)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> pdfDocumentService.store(PdfDocumentType.ORDER_APPROVAL,
+                99L, new ByteArrayInputStream(PDF), PDF.length));
+        verify(pdfDocumentRepository, never()).write(any(), any(), any(), anyLong());
+    }
+
+    // ------------------- DELETE TESTS -------------------
+    @Test
+    void deleteShouldClearPdf() {
+        when(pdfDocumentRepository.clear(PdfDocumentType.ORDER_CONTRACT, 1L)).thenReturn(1);
+
+        pdfDocumentService.delete(PdfDocumentType.ORDER_CONTRACT, 1L);
+
+        verify(pdfDocumentRepository).clear(PdfDocumentType.ORDER_CONTRACT, 1L);
+    }
+
+    @Test
+    void deleteShouldThrowWhenOwnerDoesNotExist() {
+        when(pdfDocumentRepository.clear(PdfDocumentType.ORDER_CONTRACT, 99L)).thenReturn(0);
+
+        assertThrows(EntityNotFoundException.class,
+                () -> pdfDocumentService.delete(PdfDocumentType.ORDER_CONTRACT, 99L));
+    }
+}
@@ -1,9 +1,13 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
+import com.iws_manager.iws_manager_api.dtos.projectcost.ProjectCostBulkResultDTO;
+import com.iws_manager.iws_manager_api.dtos.projectcost.ProjectCostEntryDTO;
 import com.iws_manager.iws_manager_api.models.Project;
 import com.iws_manager.iws_manager_api.models.ProjectCost;
 import com.iws_manager.iws_manager_api.models.ProjectPeriod;
 import com.iws_manager.iws_manager_api.repositories.ProjectCostRepository;
+import com.iws_manager.iws_manager_api.repositories.ProjectPeriodRepository;
+import com.iws_manager.iws_manager_api.repositories.ProjectRepository;
 
 import com.iws_manager.iws_manager_api.services.impl.ProjectCostServiceImpl;
 
@@ -13,15 +17,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +40,12 @@ class ProjectCostServiceImplTest {
     @Mock
     private ProjectCostRepository projectCostRepository;
 
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ProjectPeriodRepository projectPeriodRepository;
+
     @InjectMocks
     private ProjectCostServiceImpl projectCostService;
 
@@ -37,6 +53,7 @@ class ProjectCostServiceImplTest {
     private static final Long PROJECT_ID_1 = 1L;
     private static final Long PROJECT_ID_99 = 99L;
     private static final Long PROJECT_PERIOD_ID_2024 = 2024L;
+    private static final Long PROJECT_PERIOD_ID_2025 = 2025L;
     private static final Long PROJECT_COST_ID_1 = 1L;
     private static final Long PROJECT_COST_ID_2 = 2L;
     private static final Long PROJECT_COST_ID_3 = 3L;
@@ -206,7 +223,7 @@ class ProjectCostServiceImplTest {
         ProjectCost cost1 = createValidProjectCost(PROJECT_COST_ID_1, COST_5000_00);
         ProjectCost cost2 = createValidProjectCost(PROJECT_COST_ID_2, COST_10000_00);
 
-        when(projectCostRepository.findByProjectIdOrderByProjectPeriodIdAsc(PROJECT_ID_1))
+        when(projectCostRepository.findByProjectIdOrderByCostsAsc(PROJECT_ID_1))
                 .thenReturn(Arrays.asList(cost1, cost2));
 
         List<ProjectCost> result = projectCostService.getByProjectIdOrderByCostsAsc(PROJECT_ID_1);
@@ -221,8 +238,8 @@ class ProjectCostServiceImplTest {
         ProjectCost cost1 = createValidProjectCost(PROJECT_COST_ID_1, COST_5000_00);
         ProjectCost cost2 = createValidProjectCost(PROJECT_COST_ID_2, COST_10000_00);
 
-        when(projectCostRepository.findByProjectIdOrderByProjectPeriodIdAsc(PROJECT_ID_1))
-                .thenReturn(Arrays.asList(cost1, cost2));
+        when(projectCostRepository.findByProjectIdOrderByCostsDesc(PROJECT_ID_1))
+                .thenReturn(Arrays.asList(cost2, cost1));
 
         List<ProjectCost> result = projectCostService.getByProjectIdOrderByCostsDesc(PROJECT_ID_1);
 
@@ -573,7 +590,7 @@ class ProjectCostServiceImplTest {
         ProjectCost cost1 = createValidProjectCost(PROJECT_COST_ID_1, COST_1000_00);
         ProjectCost cost2 = createValidProjectCost(PROJECT_COST_ID_2, COST_5000_00);
 
-        when(projectCostRepository.findAllByOrderByCostsAsc()).thenReturn(Arrays.asList(cost1, cost2));
+        when(projectCostRepository.findAllByOrderByCostsDesc()).thenReturn(Arrays.asList(cost2, cost1));
 
         List<ProjectCost> result = projectCostService.getAllOrderByCostsDesc();
 
@@ -606,10 +623,9 @@ class ProjectCostServiceImplTest {
 
     @Test
     void getByCostsGreaterThanShouldReturnFilteredList() {
-        ProjectCost cost1 = createValidProjectCost(PROJECT_COST_ID_1, COST_5000_00);
         ProjectCost cost2 = createValidProjectCost(PROJECT_COST_ID_2, COST_10000_00);
 
-        when(projectCostRepository.findAll()).thenReturn(Arrays.asList(cost1, cost2));
+        when(projectCostRepository.findByCostsGreaterThan(COST_6000_00)).thenReturn(List.of(cost2));
 
         List<ProjectCost> result = projectCostService.getByCostsGreaterThan(COST_6000_00);
 
@@ -620,9 +636,8 @@ class ProjectCostServiceImplTest {
     @Test
     void getByCostsLessThanShouldReturnFilteredList() {
         ProjectCost cost1 = createValidProjectCost(PROJECT_COST_ID_1, COST_5000_00);
-        ProjectCost cost2 = createValidProjectCost(PROJECT_COST_ID_2, COST_10000_00);
 
-        when(projectCostRepository.findAll()).thenReturn(Arrays.asList(cost1, cost2));
+        when(projectCostRepository.findByCostsLessThan(COST_6000_00)).thenReturn(List.of(cost1));
 
         List<ProjectCost> result = projectCostService.getByCostsLessThan(COST_6000_00);
 
@@ -632,16 +647,36 @@ class ProjectCostServiceImplTest {
 
     @Test
     void getByCostsBetweenShouldReturnFilteredList() {
-        ProjectCost cost1 = createValidProjectCost(PROJECT_COST_ID_1, COST_5000_00);
         ProjectCost cost2 = createValidProjectCost(PROJECT_COST_ID_2, COST_10000_00);
-        ProjectCost cost3 = createValidProjectCost(PROJECT_COST_ID_3, COST_15000_00);
 
-        when(projectCostRepository.findAll()).thenReturn(Arrays.asList(cost1, cost2, cost3));
+        when(projectCostRepository.findByCostsBetween(COST_6000_00, COST_12000_00)).thenReturn(List.of(cost2));
 
         List<ProjectCost> result = projectCostService.getByCostsBetween(COST_6000_00, COST_12000_00);
 
         assertEquals(1, result.size());
         assertEquals(COST_10000_00, result.get(0).getCosts());
+        verify(projectCostRepository, never()).findAll();
+    }
+
+    @Test
+    void getByCostsGreaterThanPagedShouldDelegateToRepository() {
+        ProjectCost cost2 = createValidProjectCost(PROJECT_COST_ID_2, COST_10000_00);
+        Pageable pageable = PageRequest.of(0, 10);
+
+        when(projectCostRepository.findByCostsGreaterThan(COST_6000_00, pageable))
+                .thenReturn(new PageImpl<>(List.of(cost2), pageable, 1));
+
+        Page<ProjectCost> result = projectCostService.getByCostsGreaterThan(COST_6000_00, pageable);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(COST_10000_00, result.getContent().get(0).getCosts());
+    }
+
+    @Test
+    void getByCostsBetweenPagedShouldThrowWhenMinGreaterThanMax() {
+        Pageable pageable = PageRequest.of(0, 10);
+        assertThrows(IllegalArgumentException.class,
+                () -> projectCostService.getByCostsBetween(COST_10000_00, COST_5000_00, pageable));
     }
 
     @Test
@@ -745,35 +780,144 @@ class ProjectCostServiceImplTest {
 
     @Test
     void deleteByProjectIdShouldDeleteAll() {
-        List<ProjectCost> costs = List.of(projectCost);
-        when(projectCostRepository.findByProjectId(PROJECT_ID_1)).thenReturn(costs);
-        doNothing().when(projectCostRepository).deleteAll(costs);
+        when(projectCostRepository.deleteAllByProjectId(PROJECT_ID_1)).thenReturn(3);
 
         projectCostService.deleteByProjectId(PROJECT_ID_1);
 
-        verify(projectCostRepository).deleteAll(costs);
+        verify(projectCostRepository).deleteAllByProjectId(PROJECT_ID_1);
+        verify(projectCostRepository, never()).findByProjectId(any());
+        verify(projectCostRepository, never()).deleteAll(anyList());
     }
 
     @Test
     void deleteByProjectPeriodIdShouldDeleteAll() {
-        List<ProjectCost> costs = List.of(projectCost);
-        when(projectCostRepository.findByProjectPeriodId(PROJECT_PERIOD_ID_2024)).thenReturn(costs);
-        doNothing().when(projectCostRepository).deleteAll(costs);
+        when(projectCostRepository.deleteAllByProjectPeriodId(PROJECT_PERIOD_ID_2024)).thenReturn(2);
 
         projectCostService.deleteByProjectPeriodId(PROJECT_PERIOD_ID_2024);
 
-        verify(projectCostRepository).deleteAll(costs);
+        verify(projectCostRepository).deleteAllByProjectPeriodId(PROJECT_PERIOD_ID_2024);
+        verify(projectCostRepository, never()).findByProjectPeriodId(any());
+        verify(projectCostRepository, never()).deleteAll(anyList());
+    }
+
+    @Test
+    void deleteAllByProjectIdShouldReportDeletedRows() {
+        when(projectCostRepository.deleteAllByProjectId(PROJECT_ID_1)).thenReturn(3);
+
+        ProjectCostBulkResultDTO result = projectCostService.deleteAllByProjectId(PROJECT_ID_1);
+
+        assertEquals(3, result.deleted());
+    }
+
+    @Test
+    void deleteAllByProjectPeriodIdShouldThrowWhenIdIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> projectCostService.deleteAllByProjectPeriodId(null));
+        verifyNoInteractions(projectCostRepository);
+    }
+
+    // ========== Set-based Bulk Operations Tests ==========
+
+    @Test
+    void replaceProjectCostsShouldDeleteOnceAndInsertEntries() {
+        List<ProjectCostEntryDTO> entries = List.of(
+                new ProjectCostEntryDTO(PROJECT_PERIOD_ID_2024, (byte) 1, COST_10000_00),
+                new ProjectCostEntryDTO(PROJECT_PERIOD_ID_2024, (byte) 2, COST_20000_00));
+        when(projectRepository.existsById(PROJECT_ID_1)).thenReturn(true);
+        when(projectCostRepository.deleteAllByProjectId(PROJECT_ID_1)).thenReturn(5);
+        when(projectCostRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ProjectCostBulkResultDTO result = projectCostService.replaceProjectCosts(PROJECT_ID_1, entries);
+
+        assertEquals(2, result.requested());
+        assertEquals(2, result.inserted());
+        assertEquals(5, result.deleted());
+        verify(projectCostRepository).deleteAllByProjectId(PROJECT_ID_1);
+        verify(projectCostRepository, never()).deleteAll(anyList());
+    }
+
+    @Test
+    void replacePeriodCostsShouldRejectEntriesOfOtherPeriods() {
+        List<ProjectCostEntryDTO> entries = List.of(new ProjectCostEntryDTO(PROJECT_PERIOD_ID_2025, (byte) 1,
+                COST_10000_00));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> projectCostService.replacePeriodCosts(PROJECT_ID_1, PROJECT_PERIOD_ID_2024, entries));
+        verify(projectCostRepository, never()).deleteAllByProjectIdAndProjectPeriodId(any(), any());
+    }
+
+    @Test
+    void replacePeriodCostsShouldUsePathPeriodForEntriesWithoutPeriod() {
+        List<ProjectCostEntryDTO> entries = List.of(new ProjectCostEntryDTO(null, (byte) 2, COST_5000_00));
+        when(projectRepository.existsById(PROJECT_ID_1)).thenReturn(true);
+        when(projectCostRepository.deleteAllByProjectIdAndProjectPeriodId(PROJECT_ID_1, PROJECT_PERIOD_ID_2024))
+                .thenReturn(1);
+        when(projectCostRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ProjectCostBulkResultDTO result = projectCostService.replacePeriodCosts(PROJECT_ID_1,
+                PROJECT_PERIOD_ID_2024, entries);
+
+        assertEquals(1, result.inserted());
+        assertEquals(1, result.deleted());
+        verify(projectPeriodRepository).getReferenceById(PROJECT_PERIOD_ID_2024);
+    }
+
+    @Test
+    void upsertCostMatrixShouldUpdateChangedInsertMissingAndSkipUnchanged() {
+        List<ProjectCostEntryDTO> entries = List.of(
+                new ProjectCostEntryDTO(PROJECT_PERIOD_ID_2024, (byte) 1, COST_15000_00),
+                new ProjectCostEntryDTO(PROJECT_PERIOD_ID_2024, (byte) 2, new BigDecimal("20000")),
+                new ProjectCostEntryDTO(PROJECT_PERIOD_ID_2025, (byte) 1, COST_1000_00));
+        when(projectRepository.existsById(PROJECT_ID_1)).thenReturn(true);
+        when(projectCostRepository.findCostCellsByProjectId(PROJECT_ID_1)).thenReturn(List.of(
+                new Object[] { PROJECT_COST_ID_1, PROJECT_PERIOD_ID_2024, (byte) 1, COST_10000_00 },
+                new Object[] { PROJECT_COST_ID_2, PROJECT_PERIOD_ID_2024, (byte) 2, COST_20000_00 },
+                new Object[] { PROJECT_COST_ID_3, 0L, (byte) 1, COST_5000_00 }));
+        when(projectCostRepository.updateCosts(Map.of(PROJECT_COST_ID_1, COST_15000_00))).thenReturn(1);
+        when(projectCostRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ProjectCostBulkResultDTO result = projectCostService.upsertCostMatrix(PROJECT_ID_1, entries);
+
+        assertEquals(new ProjectCostBulkResultDTO(3, 1, 1, 1, 0), result);
+        verify(projectCostRepository, never()).save(any());
+        verify(projectCostRepository, never()).findByProjectId(any());
+    }
+
+    @Test
+    void upsertCostMatrixShouldRejectDuplicateCells() {
+        List<ProjectCostEntryDTO> entries = List.of(
+                new ProjectCostEntryDTO(PROJECT_PERIOD_ID_2024, (byte) 1, COST_15000_00),
+                new ProjectCostEntryDTO(PROJECT_PERIOD_ID_2024, (byte) 1, COST_1000_00));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> projectCostService.upsertCostMatrix(PROJECT_ID_1, entries));
+        verifyNoInteractions(projectCostRepository);
+    }
+
+    @Test
+    void upsertCostMatrixShouldRejectInvalidType() {
+        List<ProjectCostEntryDTO> entries = List.of(
+                new ProjectCostEntryDTO(PROJECT_PERIOD_ID_2024, (byte) 3, COST_15000_00));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> projectCostService.upsertCostMatrix(PROJECT_ID_1, entries));
+    }
+
+    @Test
+    void upsertCostMatrixShouldThrowWhenProjectDoesNotExist() {
+        List<ProjectCostEntryDTO> entries = List.of(
+                new ProjectCostEntryDTO(PROJECT_PERIOD_ID_2024, (byte) 1, COST_15000_00));
+        when(projectRepository.existsById(PROJECT_ID_99)).thenReturn(false);
+
+        assertThrows(jakarta.persistence.EntityNotFoundException.class,
+                () -> projectCostService.upsertCostMatrix(PROJECT_ID_99, entries));
+        verifyNoInteractions(projectCostRepository);
     }
 
     // ========== Utility Methods Tests ==========
 
     @Test
     void getMaxIdShouldReturnMaximumId() {
-        ProjectCost cost1 = createValidProjectCost(PROJECT_COST_ID_1, COST_1000_00);
-        ProjectCost cost2 = createValidProjectCost(PROJECT_COST_ID_5, COST_5000_00);
-        ProjectCost cost3 = createValidProjectCost(PROJECT_COST_ID_3, COST_3000_00);
-
-        when(projectCostRepository.findAll()).thenReturn(Arrays.asList(cost1, cost2, cost3));
+        when(projectCostRepository.findMaxId()).thenReturn(PROJECT_COST_ID_5);
 
         Long result = projectCostService.getMaxId();
 
@@ -782,7 +926,7 @@ class ProjectCostServiceImplTest {
 
     @Test
     void getMaxIdShouldReturnZeroWhenEmpty() {
-        when(projectCostRepository.findAll()).thenReturn(Collections.emptyList());
+        when(projectCostRepository.findMaxId()).thenReturn(0L);
 
         Long result = projectCostService.getMaxId();
 
@@ -792,10 +936,9 @@ class ProjectCostServiceImplTest {
     @Test
     void getByProjectIdWithNullCostsShouldReturnFilteredList() {
         ProjectCost costWithNull = createValidProjectCost(PROJECT_COST_ID_1, null);
-        ProjectCost costWithValue = createValidProjectCost(PROJECT_COST_ID_2, COST_5000_00);
 
-        when(projectCostRepository.findByProjectId(PROJECT_ID_1))
-                .thenReturn(Arrays.asList(costWithNull, costWithValue));
+        when(projectCostRepository.findByProjectIdAndCostsIsNull(PROJECT_ID_1))
+                .thenReturn(List.of(costWithNull));
 
         List<ProjectCost> result = projectCostService.getByProjectIdWithNullCosts(PROJECT_ID_1);
 
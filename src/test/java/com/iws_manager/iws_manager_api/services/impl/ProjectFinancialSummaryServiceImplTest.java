@@ -0,0 +1,84 @@
+package com.iws_manager.iws_manager_api.services.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.iws_manager.iws_manager_api.dtos.project.PeriodCostSummaryDTO;
+import com.iws_manager.iws_manager_api.dtos.project.ProjectFinancialSummaryDTO;
+import com.iws_manager.iws_manager_api.repositories.ProjectCostRepository;
+import com.iws_manager.iws_manager_api.repositories.ProjectEmployeeRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectFinancialSummaryServiceImplTest {
+
+    private static final Long PROJECT_ID = 1L;
+    private static final Long PERIOD_2024 = 10L;
+    private static final Long PERIOD_2025 = 11L;
+
+    @Mock
+    private ProjectCostRepository projectCostRepository;
+
+    @Mock
+    private ProjectEmployeeRepository projectEmployeeRepository;
+
+    @InjectMocks
+    private ProjectFinancialSummaryServiceImpl summaryService;
+
+    @Test
+    void getSummaryByProjectShouldAggregateGroupedRows() {
+        when(projectCostRepository.sumCostsByProjectGroupedByPeriodAndType(PROJECT_ID)).thenReturn(List.of(
+                new Object[] { PERIOD_2024, (byte) 1, new BigDecimal("1000.00") },
+                new Object[] { PERIOD_2024, (byte) 2, new BigDecimal("1500.00") },
+                new Object[] { PERIOD_2025, (byte) 2, new BigDecimal("500.00") }));
+        List<Object[]> statistics = List.<Object[]>of(
+                new Object[] { 3L, new BigDecimal("120.00"), 45.5, new BigDecimal("5460.00") });
+        when(projectEmployeeRepository.summarizeByProject(PROJECT_ID)).thenReturn(statistics);
+
+        ProjectFinancialSummaryDTO summary = summaryService.getSummaryByProject(PROJECT_ID);
+
+        assertEquals(new BigDecimal("3000.00"), summary.totalCosts());
+        assertEquals(new BigDecimal("1000.00"), summary.totalApprovedCosts());
+        assertEquals(new BigDecimal("2000.00"), summary.totalPlannedCosts());
+        assertEquals(2, summary.periods().size());
+
+        PeriodCostSummaryDTO first = summary.periods().get(0);
+        assertEquals(PERIOD_2024, first.projectPeriodId());
+        assertEquals(new BigDecimal("2500.00"), first.totalCosts());
+        assertEquals(new BigDecimal("1000.00"), first.approvedCosts());
+        assertEquals(new BigDecimal("1500.00"), first.plannedCosts());
+
+        assertEquals(3L, summary.employeeCount());
+        assertEquals(new BigDecimal("120.00"), summary.totalPlannedHours());
+        assertEquals(new BigDecimal("45.50"), summary.averageHourlyRate());
+        assertEquals(new BigDecimal("5460.00"), summary.totalEmployeeCost());
+    }
+
+    @Test
+    void getSummaryByProjectShouldReturnZerosWhenProjectHasNoData() {
+        when(projectCostRepository.sumCostsByProjectGroupedByPeriodAndType(PROJECT_ID)).thenReturn(List.of());
+        List<Object[]> statistics = List.<Object[]>of(new Object[] { 0L, null, null, null });
+        when(projectEmployeeRepository.summarizeByProject(PROJECT_ID)).thenReturn(statistics);
+
+        ProjectFinancialSummaryDTO summary = summaryService.getSummaryByProject(PROJECT_ID);
+
+        assertEquals(BigDecimal.ZERO, summary.totalCosts());
+        assertTrue(summary.periods().isEmpty());
+        assertEquals(0L, summary.employeeCount());
+        assertEquals(BigDecimal.ZERO, summary.totalEmployeeCost());
+        assertEquals(0, summary.averageHourlyRate().compareTo(BigDecimal.ZERO));
+    }
+
+    @Test
+    void getSummaryByProjectShouldThrowWhenProjectIdNull() {
+        assertThrows(IllegalArgumentException.class, () -> summaryService.getSummaryByProject(null));
+    }
+}
@@ -1,10 +1,13 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
+import com.iws_manager.iws_manager_api.dtos.numbering.NumberScope;
 import com.iws_manager.iws_manager_api.models.ProjectPackage;
 import com.iws_manager.iws_manager_api.models.ProjectPeriod;
 import com.iws_manager.iws_manager_api.models.Project;
 import com.iws_manager.iws_manager_api.repositories.ProjectPackageRepository;
 import com.iws_manager.iws_manager_api.repositories.ProjectPeriodRepository;
+import com.iws_manager.iws_manager_api.repositories.ProjectRepository;
+import com.iws_manager.iws_manager_api.services.interfaces.NumberAllocationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,6 +25,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.any;
 import jakarta.persistence.EntityNotFoundException;
@@ -31,6 +35,10 @@ class ProjectPeriodServiceImplTest {
 
     @Mock
     private ProjectPeriodRepository periodRepository;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private NumberAllocationService numberAllocationService;
     @InjectMocks
     private ProjectPeriodServiceImpl projectPeriodService;
     private ProjectPeriod testProjectPeriod;
@@ -59,6 +67,29 @@ class ProjectPeriodServiceImplTest {
         assertThrows(IllegalArgumentException.class, () -> projectPeriodService.create(null));
     }
 
+    @Test
+    void createWithNextYearShouldAllocatePeriodNoForProject() {
+        Project project = new Project();
+        project.setId(5L);
+        when(projectRepository.getReferenceById(5L)).thenReturn(project);
+        when(numberAllocationService.next(eq(NumberScope.PROJECT_PERIOD_NO), eq(5L), any())).thenReturn(3L);
+        when(periodRepository.save(any(ProjectPeriod.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ProjectPeriod result = projectPeriodService.createWithNextYear(new ProjectPeriod(), 5L);
+
+        assertEquals("3", result.getPeriodNo());
+        assertEquals(project, result.getProject());
+        verify(periodRepository, never()).findMaxPeriodNoByProject(anyLong());
+    }
+
+    @Test
+    void getNextYearShouldPeekWithoutAllocating() {
+        when(numberAllocationService.peek(eq(NumberScope.PROJECT_PERIOD_NO), eq(5L), any())).thenReturn(3L);
+
+        assertEquals((short) 3, projectPeriodService.getNextYear(5L));
+        verify(numberAllocationService, never()).next(any(), any(), any());
+    }
+
     @Test
     void findByIdShouldReturnProjectPeriodWhenExists() {
         when(periodRepository.findById(1L)).thenReturn(Optional.of(testProjectPeriod));
@@ -149,6 +180,27 @@ class ProjectPeriodServiceImplTest {
         verify(periodRepository).save(testProjectPeriod);
     }
 
+    @Test
+    void updateWithNewPeriodNoShouldAdvanceCounterPastIt() {
+        Project project = new Project();
+        project.setId(1L);
+        testProjectPeriod.setProject(project);
+        ProjectPeriod updatedDetails = new ProjectPeriod();
+        updatedDetails.setPeriodNo("5");
+        updatedDetails.setStartDate(LocalDate.now());
+        updatedDetails.setEndDate(LocalDate.now().plusDays(1));
+
+        when(periodRepository.findById(1L)).thenReturn(Optional.of(testProjectPeriod));
+        when(periodRepository.save(any(ProjectPeriod.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(periodRepository.existsOverlappingPeriod(anyLong(), any(LocalDate.class),
+                any(LocalDate.class), anyLong())).thenReturn(false);
+
+        ProjectPeriod result = projectPeriodService.update(1L, updatedDetails);
+
+        assertEquals("5", result.getPeriodNo());
+        verify(numberAllocationService).advancePast(eq(NumberScope.PROJECT_PERIOD_NO), eq(1L), eq(5L), any());
+    }
+
     @Test
     void updateShouldThrowExceptionWhenProjectPeriodNotFound() {
         when(projectPeriodService.findById(1L)).thenReturn(Optional.empty());
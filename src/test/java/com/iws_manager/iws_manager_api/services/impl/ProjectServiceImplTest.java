@@ -97,6 +97,7 @@ class ProjectServiceImplTest {
 
         assertEquals(1, result.size());
         verify(projectRepository).findAllByOrderByProjectLabelAsc();
+        verifyNoMoreInteractions(projectRepository);
     }
 
     @Test
@@ -0,0 +1,196 @@
+package com.iws_manager.iws_manager_api.services.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+
+import com.iws_manager.iws_manager_api.config.CacheNames;
+import com.iws_manager.iws_manager_api.dtos.project.ProjectFetchProfile;
+import com.iws_manager.iws_manager_api.dtos.project.ProjectPageDTO;
+import com.iws_manager.iws_manager_api.dtos.project.ProjectRequestDTO;
+import com.iws_manager.iws_manager_api.dtos.project.ProjectResponseDTO;
+import com.iws_manager.iws_manager_api.dtos.project.ProjectSortField;
+import com.iws_manager.iws_manager_api.dtos.project.ProjectSummaryDTO;
+import com.iws_manager.iws_manager_api.models.Customer;
+import com.iws_manager.iws_manager_api.models.Project;
+import com.iws_manager.iws_manager_api.repositories.ProjectRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectServiceImplV2Test {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @InjectMocks
+    private ProjectServiceImplV2 projectService;
+
+    private Project projectA;
+    private Project projectB;
+    private Project projectC;
+
+    @BeforeEach
+    void setUp() {
+        projectA = project(1L, "A-100");
+        projectB = project(2L, "B-200");
+        projectC = project(3L, "C-300");
+    }
+
+    private Project project(Long id, String label) {
+        Project project = new Project();
+        project.setId(id);
+        project.setProjectLabel(label);
+        project.setProjectName("Project " + label);
+        return project;
+    }
+
+    @Test
+    void findByIdShouldLoadMediumFetchProfile() {
+        when(projectRepository.findById(1L, ProjectFetchProfile.MEDIUM)).thenReturn(Optional.of(projectA));
+
+        Optional<ProjectResponseDTO> result = projectService.findById(1L);
+
+        assertTrue(result.isPresent());
+        assertEquals("A-100", result.get().projectLabel());
+        verify(projectRepository, never()).findById(1L);
+    }
+
+    @Test
+    void findAllSummariesShouldMapShallowRows() {
+        Customer customer = new Customer();
+        customer.setId(7L);
+        customer.setCustomername1("ACME");
+        projectA.setCustomer(customer);
+        when(projectRepository.findSummariesOrderByProjectLabelAsc()).thenReturn(List.of(projectA, projectB));
+
+        List<ProjectSummaryDTO> result = projectService.findAllSummaries();
+
+        assertEquals(2, result.size());
+        assertEquals("A-100", result.get(0).projectLabel());
+        assertEquals("ACME", result.get(0).customer().customername1());
+        assertNull(result.get(1).customer());
+        verify(projectRepository, never()).findAllByOrderByProjectLabelAsc();
+    }
+
+    @Test
+    void findAllShouldLoadMediumPlan() {
+        when(projectRepository.findMediumByOrderByProjectLabelAsc()).thenReturn(List.of(projectA, projectB));
+
+        List<ProjectResponseDTO> result = projectService.findAll();
+
+        assertEquals(2, result.size());
+        assertEquals("A-100", result.get(0).projectLabel());
+        verify(projectRepository, never()).findAllByOrderByProjectLabelAsc();
+    }
+
+    @Test
+    void lookupsShouldLoadMediumPlan() {
+        when(projectRepository.findMediumByProjectNameContainingIgnoreCase("proj")).thenReturn(List.of(projectA));
+        when(projectRepository.findMediumByCustomerIdOrderByProjectLabelAsc(7L)).thenReturn(List.of(projectB));
+
+        assertEquals(1L, projectService.getProjectsByProjectNameContainingIgnoreCase("proj").get(0).id());
+        assertEquals(2L, projectService.getProjectsByCustomerId(7L).get(0).id());
+        verify(projectRepository, never()).findByProjectNameContainingIgnoreCase(any());
+        verify(projectRepository, never()).findByCustomerIdOrderByProjectLabelAsc(any());
+    }
+
+    @Test
+    void findPageShouldReturnCursorWhenMoreRowsExist() {
+        when(projectRepository.findPageOrderByProjectLabelAsc(isNull(), isNull(), eq(Limit.of(3))))
+                .thenReturn(List.of(projectA, projectB, projectC));
+
+        ProjectPageDTO page = projectService.findPage(null, 2, ProjectSortField.PROJECT_LABEL, Sort.Direction.ASC);
+
+        assertEquals(2, page.size());
+        assertTrue(page.hasNext());
+        assertEquals(ProjectServiceImplV2.encodeCursor("B-200", 2L), page.nextCursor());
+        assertEquals(1L, page.content().get(0).id());
+        assertEquals(2L, page.content().get(1).id());
+    }
+
+    @Test
+    void findPageShouldContinueAfterDecodedCursor() {
+        String cursor = ProjectServiceImplV2.encodeCursor("B-200", 2L);
+        when(projectRepository.findPageOrderByProjectLabelDesc(eq("B-200"), eq(2L), any(Limit.class)))
+                .thenReturn(List.of(projectA));
+
+        ProjectPageDTO page = projectService.findPage(cursor, 10, ProjectSortField.PROJECT_LABEL,
+                Sort.Direction.DESC);
+
+        assertEquals(1, page.size());
+        assertFalse(page.hasNext());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void findPageShouldKeepNullSortKeyInCursor() {
+        projectA.setProjectName(null);
+        when(projectRepository.findPageOrderByProjectNameAsc(isNull(), any(), eq(Limit.of(2))))
+                .thenReturn(List.of(projectA, projectB));
+
+        ProjectPageDTO page = projectService.findPage(null, 1, ProjectSortField.PROJECT_NAME, Sort.Direction.ASC);
+
+        assertEquals(ProjectServiceImplV2.encodeCursor(null, 1L), page.nextCursor());
+
+        projectService.findPage(page.nextCursor(), 1, ProjectSortField.PROJECT_NAME, Sort.Direction.ASC);
+        verify(projectRepository).findPageOrderByProjectNameAsc(isNull(), eq(1L), eq(Limit.of(2)));
+    }
+
+    @Test
+    void findPageShouldCapPageSize() {
+        when(projectRepository.findPageOrderByProjectLabelAsc(isNull(), isNull(), any(Limit.class)))
+                .thenReturn(List.of());
+
+        projectService.findPage(null, 10_000, null, null);
+
+        verify(projectRepository).findPageOrderByProjectLabelAsc(null, null,
+                Limit.of(ProjectServiceImplV2.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void findPageShouldRejectInvalidInput() {
+        assertThrows(IllegalArgumentException.class,
+                () -> projectService.findPage(null, 0, ProjectSortField.PROJECT_LABEL, Sort.Direction.ASC));
+        assertThrows(IllegalArgumentException.class,
+                () -> projectService.findPage("not-a-cursor!", 10, ProjectSortField.PROJECT_LABEL,
+                        Sort.Direction.ASC));
+    }
+
+    @Test
+    void countAllShouldCountProjects() {
+        when(projectRepository.count()).thenReturn(42L);
+
+        assertEquals(42L, projectService.countAll());
+        verify(projectRepository, times(1)).count();
+    }
+
+    @Test
+    void countAllShouldBeCachedAndEvictedByCreateAndDelete() throws NoSuchMethodException {
+        Cacheable cacheable = ProjectServiceImplV2.class.getMethod("countAll").getAnnotation(Cacheable.class);
+        assertArrayEquals(new String[] { CacheNames.PROJECT_COUNT }, cacheable.cacheNames());
+
+        for (Method write : List.of(
+                ProjectServiceImplV2.class.getMethod("create", ProjectRequestDTO.class),
+                ProjectServiceImplV2.class.getMethod("delete", Long.class))) {
+            CacheEvict evict = write.getAnnotation(CacheEvict.class);
+            assertNotNull(evict, write.getName());
+            assertArrayEquals(new String[] { CacheNames.PROJECT_COUNT }, evict.cacheNames());
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
+import com.iws_manager.iws_manager_api.dtos.numbering.NumberScope;
 import com.iws_manager.iws_manager_api.models.PublicHoliday;
 import com.iws_manager.iws_manager_api.repositories.PublicHolidayRepository;
+import com.iws_manager.iws_manager_api.services.interfaces.NumberAllocationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,6 +30,9 @@ public class PublicHolidayServiceImplTest {
     @Mock
     private PublicHolidayRepository publicHolidayRepository;
 
+    @Mock
+    private NumberAllocationService numberAllocationService;
+
     @InjectMocks
     private PublicHolidayServiceV2Impl publicHolidayService;
     private PublicHoliday samplePublicHoliday;
@@ -51,6 +56,19 @@ public class PublicHolidayServiceImplTest {
         verify(publicHolidayRepository, times(1)).save(any(PublicHoliday.class));
     }
 
+    @Test
+    @DisplayName("Should allocate sequence number when creating publicholiday without one")
+    void createShouldAllocateSequenceNoWhenMissing() {
+        when(numberAllocationService.next(eq(NumberScope.PUBLIC_HOLIDAY_SEQUENCE), isNull(), any()))
+                .thenReturn(7L);
+        when(publicHolidayRepository.save(any(PublicHoliday.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        PublicHoliday result = publicHolidayService.create(samplePublicHoliday);
+
+        assertEquals(7, result.getSequenceNo());
+        verify(publicHolidayRepository, never()).findMaxSequenceNo();
+    }
+
     @Test
     @DisplayName("Should throw exception when creating null publicholiday")
     void createShouldThrowExceptionWhenPublicHolidayIsNull() {
@@ -103,6 +121,22 @@ public class PublicHolidayServiceImplTest {
         verify(publicHolidayRepository, times(1)).save(any(PublicHoliday.class));
     }
 
+    @Test
+    @DisplayName("Should advance sequence counter when update sets a new sequence number")
+    void updateWithNewSequenceNoShouldAdvanceCounterPastIt() {
+        samplePublicHoliday.setSequenceNo(3);
+        PublicHoliday updatedDetails = new PublicHoliday();
+        updatedDetails.setName(NAME_INDAY);
+        updatedDetails.setSequenceNo(40);
+
+        when(publicHolidayRepository.findById(1L)).thenReturn(Optional.of(samplePublicHoliday));
+        when(publicHolidayRepository.save(any(PublicHoliday.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        publicHolidayService.update(1L, updatedDetails);
+
+        verify(numberAllocationService).advancePast(eq(NumberScope.PUBLIC_HOLIDAY_SEQUENCE), isNull(), eq(40L), any());
+    }
+
     @Test
     @DisplayName("Should throw exception when updating non-existent PublicHoliday")
     void updateShouldThrowExceptionWhenPublicHolidayNotFound() {
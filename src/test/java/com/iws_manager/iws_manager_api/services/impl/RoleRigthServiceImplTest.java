@@ -1,5 +1,8 @@
 package com.iws_manager.iws_manager_api.services.impl;
 
+import com.iws_manager.iws_manager_api.dtos.role.RoleRightCellDTO;
+import com.iws_manager.iws_manager_api.dtos.role.RoleRightMatrixDTO;
+import com.iws_manager.iws_manager_api.dtos.role.RoleRightMatrixResultDTO;
 import com.iws_manager.iws_manager_api.models.ApprovalStatus;
 import com.iws_manager.iws_manager_api.models.Role;
 import com.iws_manager.iws_manager_api.models.RoleRight;
@@ -19,8 +22,11 @@ import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import jakarta.persistence.EntityNotFoundException;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -172,4 +178,90 @@ public class RoleRigthServiceImplTest {
         verify(roleRightRepository).findById(roleRightId);
         verify(roleRightRepository).save(any(RoleRight.class));
     }
+
+    @Test
+    @DisplayName("Should write only new, changed and removed matrix cells")
+    void saveMatrixShouldApplyDiff() {
+        RoleRight unchanged = roleRight(10L, 1L, 1);
+        RoleRight changed = roleRight(11L, 2L, 1);
+        RoleRight removed = roleRight(12L, 3L, 1);
+        when(roleRepository.existsById(1L)).thenReturn(true);
+        when(roleRightRepository.findByRoleId(1L)).thenReturn(List.of(unchanged, changed, removed));
+        when(systemFunctionRepository.findExistingIds(any())).thenReturn(List.of(4L));
+
+        RoleRightMatrixResultDTO result = roleRightService.saveMatrix(new RoleRightMatrixDTO(1L, List.of(
+                new RoleRightCellDTO(1L, 1),
+                new RoleRightCellDTO(2L, 3),
+                new RoleRightCellDTO(3L, null),
+                new RoleRightCellDTO(4L, 2))));
+
+        assertEquals(new RoleRightMatrixResultDTO(1L, 1, 1, 1), result);
+        assertEquals(3, changed.getAccessRight());
+        assertEquals(1, unchanged.getAccessRight());
+        verify(roleRightRepository).insertAll(1L, Map.of(4L, 2));
+        verify(roleRightRepository).deleteAllByIdInBatch(List.of(12L));
+        verify(roleRightRepository, never()).findById(anyLong());
+        verify(roleRightRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should reject matrix for unknown role")
+    void saveMatrixShouldThrowWhenRoleNotFound() {
+        when(roleRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> roleRightService.saveMatrix(
+                new RoleRightMatrixDTO(99L, List.of(new RoleRightCellDTO(1L, 1)))));
+        verify(roleRightRepository, never()).insertAll(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject matrix cells of unknown system functions")
+    void saveMatrixShouldThrowWhenSystemFunctionNotFound() {
+        when(roleRepository.existsById(1L)).thenReturn(true);
+        when(roleRightRepository.findByRoleId(1L)).thenReturn(List.of());
+        when(systemFunctionRepository.findExistingIds(any())).thenReturn(List.of());
+
+        assertThrows(EntityNotFoundException.class, () -> roleRightService.saveMatrix(
+                new RoleRightMatrixDTO(1L, List.of(new RoleRightCellDTO(5L, 1)))));
+        verify(roleRightRepository, never()).insertAll(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject duplicate matrix cells")
+    void saveMatrixShouldThrowOnDuplicateCells() {
+        assertThrows(IllegalArgumentException.class, () -> roleRightService.saveMatrix(
+                new RoleRightMatrixDTO(1L, List.of(new RoleRightCellDTO(1L, 1), new RoleRightCellDTO(1L, 2)))));
+        verifyNoInteractions(roleRepository, roleRightRepository);
+    }
+
+    @Test
+    @DisplayName("Should save bulk rights without per-item lookups")
+    void saveAllShouldDiffAgainstStoredRights() {
+        RoleRight stored = roleRight(10L, 1L, 1);
+        RoleRight inserted = roleRight(11L, 2L, 3);
+        when(roleRepository.existsById(1L)).thenReturn(true);
+        when(roleRightRepository.findByRoleId(1L)).thenReturn(List.of(stored), List.of(stored, inserted));
+        when(systemFunctionRepository.findExistingIds(any())).thenReturn(List.of(2L));
+
+        RoleRight update = roleRight(null, 1L, 6);
+        RoleRight insert = roleRight(null, 2L, 3);
+        List<RoleRight> result = roleRightService.saveAll(List.of(update, insert));
+
+        assertEquals(List.of(stored, inserted), result);
+        assertEquals(6, stored.getAccessRight());
+        verify(roleRightRepository).insertAll(1L, Map.of(2L, 3));
+        verify(roleRightRepository, never()).findById(anyLong());
+        verify(systemFunctionRepository, never()).findById(anyLong());
+    }
+
+    private RoleRight roleRight(Long id, Long systemFunctionId, Integer accessRight) {
+        SystemFunction function = new SystemFunction();
+        function.setId(systemFunctionId);
+        RoleRight roleRight = new RoleRight();
+        roleRight.setId(id);
+        roleRight.setRole(sampleRole);
+        roleRight.setSystemFunction(function);
+        roleRight.setAccessRight(accessRight);
+        return roleRight;
+    }
 }
@@ -150,71 +150,71 @@ class SubcontractServiceImplTest {
     }
 
     @Test
-    void testRecalculateWhenNetOrGrossTrue() {
-        sampleSubcontract.setNetOrGross(true);
-        sampleSubcontract.setInvoiceGross(new BigDecimal("500.00")); // init value
-
+    void testRecalculateSubcontractProjectsRunsSetBasedUpdates() {
         SubcontractProject project1 = new SubcontractProject();
         project1.setId(101L);
-        project1.setShare(new BigDecimal("0.5"));
+        project1.setShare(new BigDecimal("25"));
         project1.setAmount(new BigDecimal(AMOUNT_250));
 
-        SubcontractProject project2 = new SubcontractProject();
-        project2.setId(102L);
-        project2.setShare(new BigDecimal("0.5"));
-        project2.setAmount(new BigDecimal(AMOUNT_250));
-
-        List<SubcontractProject> projects = Arrays.asList(project1, project2);
+        List<SubcontractProject> projects = List.of(project1);
 
-        when(subcontractRepository.findById(1L)).thenReturn(Optional.of(sampleSubcontract));
+        when(subcontractRepository.existsById(1L)).thenReturn(true);
+        when(subcontractProjectRepository.recalculateAmounts(1L, null, null)).thenReturn(1);
         when(subcontractProjectRepository.findBySubcontractIdOrdered(1L)).thenReturn(projects);
 
-        subcontractService.recalculateSubcontractProjects(1L);
+        List<SubcontractProject> result = subcontractService.recalculateSubcontractProjects(1L);
 
-        // invoiceGross should be 0
-        assertEquals(BigDecimal.ZERO, sampleSubcontract.getInvoiceGross());
+        assertEquals(projects, result);
 
-        // All amounts should be 0
-        assertEquals(BigDecimal.ZERO, project1.getAmount());
-        assertEquals(BigDecimal.ZERO, project2.getAmount());
-
-        verify(subcontractRepository).save(sampleSubcontract);
-        verify(subcontractProjectRepository).saveAll(projects);
+        InOrder inOrder = inOrder(subcontractRepository, subcontractProjectRepository);
+        inOrder.verify(subcontractRepository).clearInvoiceGrossOfNetSubcontracts(1L, null, null);
+        inOrder.verify(subcontractProjectRepository).recalculateAmounts(1L, null, null);
+        inOrder.verify(subcontractProjectRepository).findBySubcontractIdOrdered(1L);
+        verify(subcontractProjectRepository, never()).saveAll(any());
+        verify(subcontractRepository, never()).save(any());
     }
 
     @Test
-    void testRecalculateWhenNetOrGrossFalse() {
-        sampleSubcontract.setNetOrGross(false);
-        sampleSubcontract.setInvoiceGross(new BigDecimal("1000.00"));
+    void testRecalculateByCustomerIdReturnsChangedRows() {
+        when(subcontractProjectRepository.recalculateAmounts(null, 5L, null)).thenReturn(3);
 
-        SubcontractProject project1 = new SubcontractProject();
-        project1.setId(101L);
-        project1.setShare(new BigDecimal("25"));
+        assertEquals(3, subcontractService.recalculateByCustomerId(5L));
+
+        verify(subcontractRepository).clearInvoiceGrossOfNetSubcontracts(null, 5L, null);
+    }
 
-        SubcontractProject project2 = new SubcontractProject();
-        project2.setId(102L);
-        project2.setShare(new BigDecimal("75"));
+    @Test
+    void testRecalculateByProjectCostCenterIdReturnsChangedRows() {
+        when(subcontractProjectRepository.recalculateAmounts(null, null, 7L)).thenReturn(2);
 
-        List<SubcontractProject> projects = Arrays.asList(project1, project2);
+        assertEquals(2, subcontractService.recalculateByProjectCostCenterId(7L));
 
-        when(subcontractRepository.findById(1L)).thenReturn(Optional.of(sampleSubcontract));
-        when(subcontractProjectRepository.findBySubcontractIdOrdered(1L)).thenReturn(projects);
+        verify(subcontractRepository).clearInvoiceGrossOfNetSubcontracts(null, null, 7L);
+    }
 
-        subcontractService.recalculateSubcontractProjects(1L);
+    @Test
+    void testRecalculateAllCoversEverySubcontract() {
+        when(subcontractProjectRepository.recalculateAmounts(null, null, null)).thenReturn(42);
 
-        // amount debe ser invoiceGross * share
-        assertEquals(0, project1.getAmount().compareTo(new BigDecimal(AMOUNT_250)));
-        assertEquals(0, project2.getAmount().compareTo(new BigDecimal("750.00")));
+        assertEquals(42, subcontractService.recalculateAll());
 
-        verify(subcontractRepository).save(sampleSubcontract);
-        verify(subcontractProjectRepository).saveAll(projects);
+        verify(subcontractRepository).clearInvoiceGrossOfNetSubcontracts(null, null, null);
+    }
+
+    @Test
+    void testRecalculateByScopeRejectsNullIds() {
+        assertThrows(IllegalArgumentException.class, () -> subcontractService.recalculateByCustomerId(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> subcontractService.recalculateByProjectCostCenterId(null));
+        verifyNoInteractions(subcontractProjectRepository);
     }
 
     @Test
     void testRecalculateSubcontractNotFoundThrowsException() {
-        when(subcontractRepository.findById(1L)).thenReturn(Optional.empty());
+        when(subcontractRepository.existsById(1L)).thenReturn(false);
         assertThrows(RuntimeException.class, () -> subcontractService.recalculateSubcontractProjects(1L));
         verify(subcontractProjectRepository, never()).findBySubcontractIdOrdered(anyLong());
+        verify(subcontractProjectRepository, never()).recalculateAmounts(any(), any(), any());
     }
 
     @Test
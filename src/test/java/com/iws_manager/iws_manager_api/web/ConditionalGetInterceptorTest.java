@@ -0,0 +1,213 @@
+package com.iws_manager.iws_manager_api.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.iws_manager.iws_manager_api.models.Customer;
+import com.iws_manager.iws_manager_api.models.Project;
+import com.iws_manager.iws_manager_api.repositories.EntityVersionRepository;
+import com.iws_manager.iws_manager_api.repositories.EntityVersionRepository.RowVersions;
+import com.iws_manager.iws_manager_api.repositories.EntityVersionRepository.TableState;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalGetInterceptorTest {
+
+    private static final String PROJECT_ETAG = "\"project-7-3\"";
+
+    @Mock
+    private EntityVersionRepository entityVersionRepository;
+
+    private ConditionalGetInterceptor interceptor;
+    private MockHttpServletResponse response;
+
+    static class Handlers {
+        @ConditionalGet(value = Project.class, idVariable = "id")
+        public void getById() {
+        }
+
+        @ConditionalGet(Project.class)
+        public void getAll() {
+        }
+
+        @ConditionalGet(value = { Project.class, Customer.class }, idVariable = "id")
+        public void getByIdWithCustomer() {
+        }
+
+        @ConditionalGet({ Project.class, Customer.class })
+        public void getAllWithCustomer() {
+        }
+
+        public void plain() {
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new ConditionalGetInterceptor(entityVersionRepository);
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void shouldAnswerNotModifiedFromVersionWithoutCallingHandler() throws Exception {
+        when(entityVersionRepository.findRowVersions(Project.class, 7L, List.of())).thenReturn(rowVersions(3));
+        MockHttpServletRequest request = request("GET", "7");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, PROJECT_ETAG);
+
+        assertFalse(interceptor.preHandle(request, response, handler("getById")));
+
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), response.getStatus());
+        assertEquals(PROJECT_ETAG, response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void shouldLetHandlerRunWithETagWhenVersionChanged() throws Exception {
+        when(entityVersionRepository.findRowVersions(Project.class, 7L, List.of())).thenReturn(rowVersions(4));
+        MockHttpServletRequest request = request("GET", "7");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, PROJECT_ETAG);
+
+        assertTrue(interceptor.preHandle(request, response, handler("getById")));
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals("\"project-7-4\"", response.getHeader(HttpHeaders.ETAG));
+        assertEquals("no-cache, private", response.getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    void shouldLeaveUnknownIdsToHandler() throws Exception {
+        when(entityVersionRepository.findRowVersions(Project.class, 7L, List.of())).thenReturn(Optional.empty());
+
+        assertTrue(interceptor.preHandle(request("GET", "7"), response, handler("getById")));
+
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void shouldDeriveCollectionETagFromTableState() throws Exception {
+        when(entityVersionRepository.findTableState(Project.class))
+                .thenReturn(new TableState(12, LocalDateTime.of(2024, 5, 1, 10, 30), 40));
+        MockHttpServletRequest first = request("GET", null);
+        assertTrue(interceptor.preHandle(first, response, handler("getAll")));
+        String eTag = response.getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+
+        MockHttpServletRequest poll = request("GET", null);
+        poll.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+        MockHttpServletResponse pollResponse = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(poll, pollResponse, handler("getAll")));
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), pollResponse.getStatus());
+    }
+
+    @Test
+    void shouldChangeCollectionETagWhenRowIsUpdatedWithinSameSecond() throws Exception {
+        LocalDateTime lastUpdated = LocalDateTime.of(2024, 5, 1, 10, 30);
+        when(entityVersionRepository.findTableState(Project.class))
+                .thenReturn(new TableState(12, lastUpdated, 40), new TableState(12, lastUpdated, 41));
+        interceptor.preHandle(request("GET", null), response, handler("getAll"));
+
+        MockHttpServletRequest poll = request("GET", null);
+        poll.addHeader(HttpHeaders.IF_NONE_MATCH, response.getHeader(HttpHeaders.ETAG));
+
+        assertTrue(interceptor.preHandle(poll, new MockHttpServletResponse(), handler("getAll")));
+    }
+
+    @Test
+    void shouldChangeResourceETagWhenEmbeddedEntityChanges() throws Exception {
+        when(entityVersionRepository.findRowVersions(Project.class, 7L, List.of(Customer.class)))
+                .thenReturn(rowVersions(3, 9), rowVersions(3, 10));
+        interceptor.preHandle(request("GET", "7"), response, handler("getByIdWithCustomer"));
+        String eTag = response.getHeader(HttpHeaders.ETAG);
+        assertEquals("\"project-7-3.9\"", eTag);
+
+        MockHttpServletRequest poll = request("GET", "7");
+        poll.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+
+        assertTrue(interceptor.preHandle(poll, new MockHttpServletResponse(), handler("getByIdWithCustomer")));
+        verify(entityVersionRepository, never()).findTableState(any());
+    }
+
+    @Test
+    void shouldChangeResourceETagWhenEmbeddedEntityIsAssigned() throws Exception {
+        when(entityVersionRepository.findRowVersions(Project.class, 7L, List.of(Customer.class)))
+                .thenReturn(rowVersions(3, (Integer) null), rowVersions(3, 1));
+        interceptor.preHandle(request("GET", "7"), response, handler("getByIdWithCustomer"));
+        assertEquals("\"project-7-3.0\"", response.getHeader(HttpHeaders.ETAG));
+
+        MockHttpServletRequest poll = request("GET", "7");
+        poll.addHeader(HttpHeaders.IF_NONE_MATCH, response.getHeader(HttpHeaders.ETAG));
+
+        assertTrue(interceptor.preHandle(poll, new MockHttpServletResponse(), handler("getByIdWithCustomer")));
+    }
+
+    @Test
+    void shouldFallBackToTableStateForEntitiesTheRootDoesNotReference() throws Exception {
+        when(entityVersionRepository.findRowVersions(Project.class, 7L, List.of(Customer.class)))
+                .thenReturn(Optional.of(new RowVersions(List.of(3), Set.of())));
+        when(entityVersionRepository.findTableState(Customer.class))
+                .thenReturn(new TableState(5, null, 9));
+
+        interceptor.preHandle(request("GET", "7"), response, handler("getByIdWithCustomer"));
+
+        assertEquals("\"project-7-3.customer-5-0-9\"", response.getHeader(HttpHeaders.ETAG));
+        verify(entityVersionRepository, never()).findTableState(Project.class);
+    }
+
+    @Test
+    void shouldChangeCollectionETagWhenEmbeddedEntityChanges() throws Exception {
+        LocalDateTime lastUpdated = LocalDateTime.of(2024, 5, 1, 10, 30);
+        when(entityVersionRepository.findTableState(Project.class)).thenReturn(new TableState(12, lastUpdated, 40));
+        when(entityVersionRepository.findTableState(Customer.class))
+                .thenReturn(new TableState(5, lastUpdated, 9), new TableState(5, lastUpdated.plusMinutes(1), 10));
+        interceptor.preHandle(request("GET", null), response, handler("getAllWithCustomer"));
+
+        MockHttpServletRequest poll = request("GET", null);
+        poll.addHeader(HttpHeaders.IF_NONE_MATCH, response.getHeader(HttpHeaders.ETAG));
+
+        assertTrue(interceptor.preHandle(poll, new MockHttpServletResponse(), handler("getAllWithCustomer")));
+    }
+
+    @Test
+    void shouldIgnoreUnannotatedHandlersAndOtherMethods() throws Exception {
+        assertTrue(interceptor.preHandle(request("GET", "7"), response, handler("plain")));
+        assertTrue(interceptor.preHandle(request("PUT", "7"), response, handler("getById")));
+
+        verify(entityVersionRepository, never()).findRowVersions(any(), anyLong(), any());
+        verify(entityVersionRepository, never()).findTableState(any());
+    }
+
+    private static MockHttpServletRequest request(String method, String id) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/v2/projects");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+                id == null ? Map.of() : Map.of("id", id));
+        return request;
+    }
+
+    private static Optional<RowVersions> rowVersions(Integer... versions) {
+        return Optional.of(new RowVersions(Arrays.asList(versions), Set.of(Customer.class)));
+    }
+
+    private static HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new Handlers(), Handlers.class.getMethod(name));
+    }
+}
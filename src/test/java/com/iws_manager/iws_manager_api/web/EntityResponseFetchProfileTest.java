@@ -0,0 +1,99 @@
+package com.iws_manager.iws_manager_api.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.iws_manager.iws_manager_api.models.base.BaseEntity;
+
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+class EntityResponseFetchProfileTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Session session;
+
+    private final EntityResponseFetchProfile fetchProfile = new EntityResponseFetchProfile();
+
+    @EntityResponse
+    static class EntityController {
+        public Object get() {
+            return null;
+        }
+    }
+
+    static class MixedController {
+        @EntityResponse
+        public Object entity() {
+            return null;
+        }
+
+        public Object dto() {
+            return null;
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private void handle(Object controller, String methodName) throws NoSuchMethodException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(controller, controller.getClass().getMethod(methodName)));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @Test
+    void shouldEnableProfileForAnnotatedController() throws Exception {
+        handle(new EntityController(), "get");
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+
+        fetchProfile.accept(entityManager);
+
+        verify(session).enableFetchProfile(BaseEntity.RESPONSE_FETCH_PROFILE);
+    }
+
+    @Test
+    void shouldEnableProfileOnlyForAnnotatedHandlerMethods() throws Exception {
+        handle(new MixedController(), "entity");
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        fetchProfile.accept(entityManager);
+        verify(session).enableFetchProfile(BaseEntity.RESPONSE_FETCH_PROFILE);
+
+        handle(new MixedController(), "dto");
+        assertFalse(EntityResponseFetchProfile.isEntityResponse(RequestContextHolder.getRequestAttributes()));
+    }
+
+    @Test
+    void shouldLeaveEntityManagerAloneOutsideRequests() {
+        fetchProfile.accept(entityManager);
+
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    void shouldLeaveEntityManagerAloneBeforeHandlerIsMapped() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        fetchProfile.accept(entityManager);
+
+        verifyNoInteractions(entityManager);
+    }
+}
@@ -0,0 +1,180 @@
+package com.iws_manager.iws_manager_api.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.hibernate.LazyInitializationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iws_manager.iws_manager_api.controllers.OrderController;
+import com.iws_manager.iws_manager_api.models.Country;
+import com.iws_manager.iws_manager_api.models.Customer;
+import com.iws_manager.iws_manager_api.models.EmployeeIws;
+import com.iws_manager.iws_manager_api.models.Order;
+import com.iws_manager.iws_manager_api.models.Project;
+import com.iws_manager.iws_manager_api.models.Promoter;
+import com.iws_manager.iws_manager_api.models.Role;
+import com.iws_manager.iws_manager_api.models.User;
+import com.iws_manager.iws_manager_api.repositories.CountryRepository;
+import com.iws_manager.iws_manager_api.repositories.CustomerRepository;
+import com.iws_manager.iws_manager_api.repositories.EmployeeIwsRepository;
+import com.iws_manager.iws_manager_api.repositories.OrderRepository;
+import com.iws_manager.iws_manager_api.repositories.ProjectRepository;
+import com.iws_manager.iws_manager_api.repositories.PromoterRepository;
+import com.iws_manager.iws_manager_api.repositories.RoleRepository;
+import com.iws_manager.iws_manager_api.repositories.UserRepository;
+import com.iws_manager.iws_manager_api.services.interfaces.OrderService;
+
+/**
+ * Serializes an order returned by {@link OrderService} after its transaction
+ * has ended, as the MVC message converter does with open-in-view disabled.
+ * The order reaches associations below its entity graph (the employee's user
+ * with roles and rights, the project's promoter country), so the response
+ * only serializes when the entity-response fetch profile loaded them.
+ * Runs against the configured MariaDB database and removes its rows again.
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "DB_URL", matches = ".+")
+class EntityResponseLoadingTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderController orderController;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EmployeeIwsRepository employeeIwsRepository;
+
+    @Autowired
+    private PromoterRepository promoterRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Country country;
+    private Customer customer;
+    private Role role;
+    private User user;
+    private EmployeeIws employeeIws;
+    private Promoter promoter;
+    private Project project;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        country = new Country();
+        country.setName("Fetch plan country");
+        country = countryRepository.save(country);
+
+        customer = new Customer();
+        customer.setCustomername1("Fetch plan customer");
+        customer.setCountry(country);
+        customer = customerRepository.save(customer);
+
+        role = new Role();
+        role.setName("fetch-plan-role-" + System.nanoTime());
+        role = roleRepository.save(role);
+
+        user = new User();
+        user.setUsername("fetch-plan-user-" + System.nanoTime());
+        user.setRoles(List.of(role));
+        user = userRepository.save(user);
+
+        employeeIws = new EmployeeIws();
+        employeeIws.setFirstname("Fetch");
+        employeeIws.setUser(user);
+        employeeIws = employeeIwsRepository.save(employeeIws);
+
+        promoter = new Promoter();
+        promoter.setPromoterName1("Fetch plan promoter");
+        promoter.setCountry(country);
+        promoter = promoterRepository.save(promoter);
+
+        project = new Project();
+        project.setProjectName("Fetch plan project");
+        project.setPromoter(promoter);
+        project = projectRepository.save(project);
+
+        order = new Order();
+        order.setOrderTitle("Fetch plan order");
+        order.setCustomer(customer);
+        order.setEmployeeIws(employeeIws);
+        order.setProject(project);
+        order = orderRepository.save(order);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        orderRepository.deleteById(order.getId());
+        projectRepository.deleteById(project.getId());
+        promoterRepository.deleteById(promoter.getId());
+        employeeIwsRepository.deleteById(employeeIws.getId());
+        userRepository.deleteById(user.getId());
+        roleRepository.deleteById(role.getId());
+        customerRepository.deleteById(customer.getId());
+        countryRepository.deleteById(country.getId());
+    }
+
+    private void handle(String methodName) throws NoSuchMethodException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(orderController, OrderController.class.getMethod(methodName, Long.class)));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @Test
+    void entityResponseShouldSerializeAfterTransaction() throws Exception {
+        handle("getById");
+
+        Order loaded = orderService.findById(order.getId()).orElseThrow();
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(loaded));
+
+        assertEquals(role.getName(), json.at("/employeeIws/user/roles/0/name").asText());
+        assertTrue(json.at("/employeeIws/user/roles/0/roleRights").isArray());
+        assertEquals(country.getName(), json.at("/project/promoter/country/name").asText());
+        assertEquals(country.getName(), json.at("/customer/country/name").asText());
+    }
+
+    @Test
+    void serializationWithoutFetchProfileShouldHitLazyAssociations() {
+        Order loaded = orderService.findById(order.getId()).orElseThrow();
+
+        JsonMappingException exception = assertThrows(JsonMappingException.class,
+                () -> objectMapper.writeValueAsString(loaded));
+        assertInstanceOf(LazyInitializationException.class, exception.getCause());
+    }
+}